@@ -0,0 +1,34 @@
+/*
+ * Copyright 2002-2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.crate;
+
+import org.springframework.dao.TransientDataAccessResourceException;
+
+/**
+ * Thrown if a statement is not sent to the cluster as a limit of the admission control is exceeded or the circuit
+ * breaker is open.
+ * 
+ * @author Hasnain Javed
+ * @since 1.0.0
+ */
+public class AdmissionRejectedException extends TransientDataAccessResourceException {
+	
+	private static final long serialVersionUID = -3866516013434473214L;
+	
+	public AdmissionRejectedException(String msg) {
+		super(msg);
+	}
+}
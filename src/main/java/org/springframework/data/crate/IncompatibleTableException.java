@@ -0,0 +1,37 @@
+/*
+ * Copyright 2002-2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.crate;
+
+import org.springframework.dao.InvalidDataAccessResourceUsageException;
+
+/**
+ * Thrown if an existing table does not match its entity in a way that can not be altered.
+ * 
+ * @author Hasnain Javed
+ * @since 1.0.0
+ */
+public class IncompatibleTableException extends InvalidDataAccessResourceUsageException {
+	
+	private static final long serialVersionUID = -2364125905737915718L;
+	
+	public IncompatibleTableException(String msg) {
+		super(msg);
+	}
+	
+	public IncompatibleTableException(String msg, Throwable cause) {
+		super(msg, cause);
+	}
+}
\ No newline at end of file
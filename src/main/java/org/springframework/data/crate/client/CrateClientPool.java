@@ -0,0 +1,387 @@
+/*
+ * Copyright 2002-2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.crate.client;
+
+import static java.util.Collections.unmodifiableList;
+import static org.springframework.util.Assert.isTrue;
+import static org.springframework.util.Assert.notEmpty;
+import static org.springframework.util.Assert.noNullElements;
+import io.crate.action.sql.SQLBulkRequest;
+import io.crate.action.sql.SQLBulkResponse;
+import io.crate.action.sql.SQLRequest;
+import io.crate.action.sql.SQLResponse;
+import io.crate.client.CrateClient;
+import io.crate.shade.org.elasticsearch.action.ActionFuture;
+import io.crate.shade.org.elasticsearch.action.ActionListener;
+import io.crate.shade.org.elasticsearch.action.support.PlainActionFuture;
+import io.crate.shade.org.elasticsearch.client.transport.NoNodeAvailableException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Distributes requests over a number of {@link CrateClient}s, each with its own transport channels and response
+ * handling threads. A request is sent by the client with the least outstanding requests. A client failing with
+ * {@link NoNodeAvailableException} {@link #setUnhealthyThreshold(int) a number of times} in a row is considered
+ * unhealthy and is skipped while a healthy client is left; it becomes healthy again with its next successful request.
+ * Once the {@link #setRecoveryInterval(long) recovery interval} has passed since its last connection failure, a single
+ * request is sent by the unhealthy client as a probe, letting the client rejoin the pool if it succeeds.
+ * <p>
+ * A pool of a single client hands requests to the client directly and does not track them.
+ *
+ * @author Hasnain Javed
+ * @since 1.0.0
+ */
+public class CrateClientPool {
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	private final List<PooledClient> clients;
+	private final AtomicInteger next;
+
+	private int unhealthyThreshold;
+	private long recoveryInterval;
+
+	/**
+	 * @param clients the pooled clients, must not be empty
+	 */
+	public CrateClientPool(CrateClient... clients) {
+		this(Arrays.asList(clients));
+	}
+
+	/**
+	 * @param clients the pooled clients, must not be empty
+	 */
+	public CrateClientPool(List<CrateClient> clients) {
+		notEmpty(clients);
+		noNullElements(clients.toArray());
+		this.clients = new ArrayList<>(clients.size());
+		for(CrateClient client : clients) {
+			this.clients.add(new PooledClient(client));
+		}
+		this.next = new AtomicInteger();
+		this.unhealthyThreshold = 3;
+		this.recoveryInterval = 5000;
+	}
+
+	/**
+	 * Number of connection failures in a row after which a client is considered unhealthy. Defaults to {@literal 3}.
+	 * @param unhealthyThreshold must be greater than zero
+	 */
+	public void setUnhealthyThreshold(int unhealthyThreshold) {
+		isTrue(unhealthyThreshold > 0, "unhealthyThreshold must be greater than zero");
+		this.unhealthyThreshold = unhealthyThreshold;
+	}
+
+	/**
+	 * Milliseconds after the last connection failure of an unhealthy client before a request is sent by it as a probe.
+	 * Defaults to {@literal 5000}.
+	 * @param recoveryInterval must not be negative
+	 */
+	public void setRecoveryInterval(long recoveryInterval) {
+		isTrue(recoveryInterval >= 0, "recoveryInterval must not be negative");
+		this.recoveryInterval = recoveryInterval;
+	}
+
+	/**
+	 * @return the number of pooled clients
+	 */
+	public int size() {
+		return clients.size();
+	}
+
+	/**
+	 * @return the current health of the pooled clients in pool order
+	 */
+	public List<ClientHealth> getHealth() {
+
+		List<ClientHealth> health = new ArrayList<>(clients.size());
+
+		for(int i = 0; i < clients.size(); i++) {
+			health.add(clients.get(i).health(i));
+		}
+
+		return unmodifiableList(health);
+	}
+
+	/**
+	 * @return the number of requests in flight over all clients
+	 */
+	public int getOutstanding() {
+
+		int outstanding = 0;
+
+		for(PooledClient client : clients) {
+			outstanding += client.outstanding.get();
+		}
+
+		return outstanding;
+	}
+
+	/**
+	 * Sends the request by the least loaded client.
+	 * @see CrateClient#sql(SQLRequest)
+	 */
+	public ActionFuture<SQLResponse> sql(SQLRequest request) {
+
+		if(clients.size() == 1) {
+			return clients.get(0).client.sql(request);
+		}
+
+		PlainActionFuture<SQLResponse> future = PlainActionFuture.newFuture();
+		sql(request, future);
+		return future;
+	}
+
+	/**
+	 * Sends the request by the least loaded client.
+	 * @see CrateClient#sql(SQLRequest, ActionListener)
+	 */
+	public void sql(SQLRequest request, ActionListener<SQLResponse> listener) {
+
+		if(clients.size() == 1) {
+			clients.get(0).client.sql(request, listener);
+			return;
+		}
+
+		PooledClient pooled = select();
+		ActionListener<SQLResponse> tracked = pooled.track(listener);
+
+		try {
+			pooled.client.sql(request, tracked);
+		}catch(RuntimeException e) {
+			pooled.completed(e);
+			throw e;
+		}
+	}
+
+	/**
+	 * Sends the request by the least loaded client.
+	 * @see CrateClient#bulkSql(SQLBulkRequest)
+	 */
+	public ActionFuture<SQLBulkResponse> bulkSql(SQLBulkRequest request) {
+
+		if(clients.size() == 1) {
+			return clients.get(0).client.bulkSql(request);
+		}
+
+		PlainActionFuture<SQLBulkResponse> future = PlainActionFuture.newFuture();
+		PooledClient pooled = select();
+		ActionListener<SQLBulkResponse> tracked = pooled.track(future);
+
+		try {
+			pooled.client.bulkSql(request, tracked);
+		}catch(RuntimeException e) {
+			pooled.completed(e);
+			throw e;
+		}
+
+		return future;
+	}
+
+	/**
+	 * Closes all pooled clients.
+	 */
+	public void close() {
+		for(PooledClient pooled : clients) {
+			pooled.client.close();
+		}
+	}
+
+	/**
+	 * Selects the healthy client with the least outstanding requests, or the least loaded client if none is healthy.
+	 * An unhealthy client due for a probe is selected first. The scan starts at a rotating offset so that idle clients
+	 * are used in turn.
+	 */
+	private PooledClient select() {
+
+		int size = clients.size();
+		int offset = (next.getAndIncrement() & Integer.MAX_VALUE) % size;
+
+		PooledClient selected = null;
+		PooledClient fallback = null;
+
+		for(int i = 0; i < size; i++) {
+
+			PooledClient candidate = clients.get((offset + i) % size);
+
+			if(candidate.startProbe()) {
+				return candidate;
+			}
+
+			if(fallback == null || candidate.outstanding.get() < fallback.outstanding.get()) {
+				fallback = candidate;
+			}
+
+			if(candidate.isHealthy() &&
+			   (selected == null || candidate.outstanding.get() < selected.outstanding.get())) {
+				selected = candidate;
+			}
+		}
+
+		return selected != null ? selected : fallback;
+	}
+
+	/**
+	 * Health of a single pooled client at the time {@link CrateClientPool#getHealth()} was called.
+	 *
+	 * @author Hasnain Javed
+	 * @since 1.0.0
+	 */
+	public static class ClientHealth {
+
+		private final int index;
+		private final boolean healthy;
+		private final int outstanding;
+		private final long requests;
+		private final long failures;
+
+		ClientHealth(int index, boolean healthy, int outstanding, long requests, long failures) {
+			this.index = index;
+			this.healthy = healthy;
+			this.outstanding = outstanding;
+			this.requests = requests;
+			this.failures = failures;
+		}
+
+		/**
+		 * @return the position of the client in the pool
+		 */
+		public int getIndex() {
+			return index;
+		}
+
+		public boolean isHealthy() {
+			return healthy;
+		}
+
+		/**
+		 * @return the number of requests in flight
+		 */
+		public int getOutstanding() {
+			return outstanding;
+		}
+
+		/**
+		 * @return the number of completed requests
+		 */
+		public long getRequests() {
+			return requests;
+		}
+
+		/**
+		 * @return the number of failed requests
+		 */
+		public long getFailures() {
+			return failures;
+		}
+
+		@Override
+		public String toString() {
+			return "ClientHealth [index=" + index + ", healthy=" + healthy + ", outstanding=" + outstanding +
+				   ", requests=" + requests + ", failures=" + failures + "]";
+		}
+	}
+
+	private class PooledClient {
+
+		private final CrateClient client;
+		private final AtomicInteger outstanding;
+		private final AtomicLong requests;
+		private final AtomicLong failures;
+		private final AtomicInteger connectionFailures;
+		private final AtomicBoolean probing;
+		private volatile long lastConnectionFailure;
+
+		PooledClient(CrateClient client) {
+			this.client = client;
+			this.outstanding = new AtomicInteger();
+			this.requests = new AtomicLong();
+			this.failures = new AtomicLong();
+			this.connectionFailures = new AtomicInteger();
+			this.probing = new AtomicBoolean();
+		}
+
+		boolean isHealthy() {
+			return connectionFailures.get() < unhealthyThreshold;
+		}
+
+		/**
+		 * @return {@literal true} if the client is unhealthy, due for a probe and no other probe is in flight
+		 */
+		boolean startProbe() {
+			return !isHealthy() &&
+				   System.currentTimeMillis() - lastConnectionFailure >= recoveryInterval &&
+				   probing.compareAndSet(false, true);
+		}
+
+		ClientHealth health(int index) {
+			return new ClientHealth(index, isHealthy(), outstanding.get(), requests.get(), failures.get());
+		}
+
+		<R> ActionListener<R> track(final ActionListener<R> listener) {
+
+			outstanding.incrementAndGet();
+
+			return new ActionListener<R>() {
+
+				@Override
+				public void onResponse(R response) {
+					completed(null);
+					listener.onResponse(response);
+				}
+
+				@Override
+				public void onFailure(Throwable e) {
+					completed(e);
+					listener.onFailure(e);
+				}
+			};
+		}
+
+		void completed(Throwable failure) {
+
+			outstanding.decrementAndGet();
+			requests.incrementAndGet();
+
+			if(failure == null) {
+				if(connectionFailures.getAndSet(0) >= unhealthyThreshold) {
+					logger.info("crate client {} of pool is healthy again", clients.indexOf(this));
+				}
+				probing.set(false);
+				return;
+			}
+
+			failures.incrementAndGet();
+
+			if(failure instanceof NoNodeAvailableException) {
+				lastConnectionFailure = System.currentTimeMillis();
+				if(connectionFailures.incrementAndGet() == unhealthyThreshold) {
+					logger.warn("crate client {} of pool is unhealthy: {}", clients.indexOf(this), failure.getMessage());
+				}
+			}
+
+			probing.set(false);
+		}
+	}
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2002-2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.crate.client;
+
+import static org.springframework.util.Assert.hasText;
+import static org.springframework.util.Assert.isTrue;
+import io.crate.client.CrateClient;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.FactoryBean;
+import org.springframework.beans.factory.InitializingBean;
+
+/**
+ * {@link FactoryBean} creating a {@link CrateClientPool} of {@link #setSize(int) a number of} {@link CrateClient}s
+ * connected to the same servers.
+ *
+ * @author Hasnain Javed
+ * @since 1.0.0
+ */
+public class CrateClientPoolFactoryBean implements FactoryBean<CrateClientPool>, InitializingBean, DisposableBean {
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+	
+	private CrateClientPool pool;
+	private String servers = "localhost:4300";
+	private int size = 1;
+	
+	@Override
+	public CrateClientPool getObject() throws Exception {
+		return pool;
+	}
+	
+	@Override
+	public Class<CrateClientPool> getObjectType() {
+		return CrateClientPool.class;
+	}
+	
+	@Override
+	public boolean isSingleton() {
+		return true;
+	}
+	
+	@Override
+	public void afterPropertiesSet() {
+		
+		hasText(servers, "[Assertion failed] servers settings missing.");
+		
+		List<CrateClient> clients = new ArrayList<>(size);
+		
+		for(int i = 0; i < size; i++) {
+			clients.add(new CrateClient(servers));
+		}
+		
+		pool = new CrateClientPool(clients);
+	}
+	
+	@Override
+	public void destroy() throws Exception {
+		logger.info("closing {} crate client(s) of pool", pool.size());
+		pool.close();
+	}
+	
+	public void setServers(String servers) {
+		this.servers = servers;
+	}
+	
+	/**
+	 * Number of clients in the pool. Defaults to {@literal 1}.
+	 * @param size must be greater than zero
+	 */
+	public void setSize(int size) {
+		isTrue(size > 0, "size must be greater than zero");
+		this.size = size;
+	}
+}
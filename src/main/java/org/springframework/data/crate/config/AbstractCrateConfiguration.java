@@ -15,11 +15,15 @@
  */
 package org.springframework.data.crate.config;
 
+import static java.lang.String.format;
 import static java.util.Collections.emptyList;
 import static org.springframework.util.StringUtils.hasText;
 import io.crate.client.CrateClient;
 
+import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.springframework.beans.factory.config.BeanDefinition;
@@ -28,12 +32,15 @@ import org.springframework.context.annotation.ClassPathScanningCandidateComponen
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.type.filter.AnnotationTypeFilter;
 import org.springframework.data.annotation.Persistent;
+import org.springframework.data.crate.client.CrateClientPool;
 import org.springframework.data.crate.core.CrateTemplate;
+import org.springframework.data.crate.core.CrateTemplateWarmer;
 import org.springframework.data.crate.core.convert.CustomConversions;
 import org.springframework.data.crate.core.convert.MappingCrateConverter;
 import org.springframework.data.crate.core.mapping.CrateMappingContext;
 import org.springframework.data.crate.core.mapping.annotations.Table;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
 
 /**
  * Base class for Spring Data Crate configuration using JavaConfig.
@@ -50,7 +57,14 @@ public abstract class AbstractCrateConfiguration {
 	 */
 	@Bean
 	public CrateTemplate crateTemplate() throws Exception {
-		return new CrateTemplate(crateClient(), mappingCrateConverter());
+		
+		CrateTemplate crateTemplate = new CrateTemplate(crateClientPool(), mappingCrateConverter());
+		
+		if(isWarmUpEnabled()) {
+			new CrateTemplateWarmer(crateTemplate).warmUp();
+		}
+		
+		return crateTemplate;
 	}
 
 	/**
@@ -59,7 +73,43 @@ public abstract class AbstractCrateConfiguration {
 	 */
 	@Bean
 	public CrateClient crateClient() {
-		return new CrateClient("localhost:4300");
+		return newCrateClient();
+	}
+	
+	/**
+	 * Creates the {@link CrateClientPool} used by {@link CrateTemplate}. The pool holds {@link #crateClient()} and
+	 * another {@link #getClientPoolSize()} - 1 clients created by {@link #newCrateClient()}. Closing the pool closes
+	 * its additional clients only, {@link #crateClient()} is closed as a bean of its own.
+	 * @return
+	 * @throws IllegalStateException if {@link #crateClient()} is overridden without {@link #newCrateClient()} for a 
+	 *         pool of several clients, as the additional clients would connect to other servers
+	 */
+	@Bean
+	public CrateClientPool crateClientPool() {
+		
+		if(getClientPoolSize() > 1 && overrides("crateClient") && !overrides("newCrateClient")) {
+			throw new IllegalStateException(format("%s overrides crateClient() but not newCrateClient(), which creates the " + 
+												   "additional clients of the pool. Override newCrateClient() or getServers() instead", 
+												   ClassUtils.getUserClass(getClass()).getName()));
+		}
+		
+		List<CrateClient> clients = new ArrayList<>();
+		clients.add(crateClient());
+		
+		for(int i = 1; i < getClientPoolSize(); i++) {
+			clients.add(newCrateClient());
+		}
+		
+		final List<CrateClient> additional = clients.subList(1, clients.size());
+		
+		return new CrateClientPool(clients) {
+			@Override
+			public void close() {
+				for(CrateClient client : additional) {
+					client.close();
+				}
+			}
+		};
 	}
 	
 	/**
@@ -101,9 +151,12 @@ public abstract class AbstractCrateConfiguration {
 	}
 	
 	/**
-	 * Scans the mapping base package for classes annotated with {@link Table}.
+	 * Returns the classes annotated with {@link Table} in the mapping base package. The {@link CrateEntityIndex} written
+	 * at compile time by {@link CrateEntityIndexProcessor} is used when present and every classpath root holding the
+	 * mapping base package has been indexed, otherwise the mapping base package is scanned.
 	 * 
 	 * @see #getMappingBasePackage()
+	 * @see #isEntityIndexEnabled()
 	 * @return
 	 * @throws ClassNotFoundException
 	 */
@@ -112,13 +165,27 @@ public abstract class AbstractCrateConfiguration {
 		String basePackage = getMappingBasePackage();
 		Set<Class<?>> initialEntitySet = new HashSet<>();
 
-		if (hasText(basePackage)) {
+		if (!hasText(basePackage)) {
+			return initialEntitySet;
+		}
+		
+		ClassLoader classLoader = AbstractCrateConfiguration.class.getClassLoader();
+		CrateEntityIndex index = isEntityIndexEnabled() ? CrateEntityIndex.load(classLoader) : null;
+		
+		// an index of another module sharing the package does not list the entities of modules without an index
+		if (index != null && index.covers(basePackage, classLoader)) {
+			for (String className : index.getClassNames(basePackage)) {
+				initialEntitySet.add(ClassUtils.forName(className, classLoader));
+			}
+		}
+		
+		if (initialEntitySet.isEmpty()) {
 			ClassPathScanningCandidateComponentProvider componentProvider = new ClassPathScanningCandidateComponentProvider(false);
 			componentProvider.addIncludeFilter(new AnnotationTypeFilter(Table.class));
 			componentProvider.addIncludeFilter(new AnnotationTypeFilter(Persistent.class));
 
 			for (BeanDefinition candidate : componentProvider.findCandidateComponents(basePackage)) {
-				initialEntitySet.add(ClassUtils.forName(candidate.getBeanClassName(), AbstractCrateConfiguration.class.getClassLoader()));
+				initialEntitySet.add(ClassUtils.forName(candidate.getBeanClassName(), classLoader));
 			}
 		}
 
@@ -137,4 +204,62 @@ public abstract class AbstractCrateConfiguration {
 	protected String getMappingBasePackage() {
 		return getClass().getPackage() == null ? null : getClass().getPackage().getName();
 	}
+	
+	/**
+	 * Flag to look up the entities of the mapping base package in the {@link CrateEntityIndex}. Enabled by default,
+	 * disable to always scan the mapping base package, e.g. when the index on the classpath is outdated.
+	 * 
+	 * @see #getInitialEntitySet()
+	 * @return {@literal false} to ignore the entity index
+	 */
+	protected boolean isEntityIndexEnabled() {
+		return true;
+	}
+	
+	/**
+	 * Flag to warm up the mapping metadata and statements of all entities in {@link #crateMappingContext()} when the
+	 * {@link CrateTemplate} is created. Disabled by default.
+	 * 
+	 * @see CrateTemplateWarmer
+	 * @return {@literal true} to warm up entities before the context is ready
+	 */
+	protected boolean isWarmUpEnabled() {
+		return false;
+	}
+	
+	/**
+	 * Number of clients in {@link #crateClientPool()}. Defaults to {@literal 1}, i.e. all statements are sent by
+	 * {@link #crateClient()}.
+	 * 
+	 * @return the number of pooled clients, must be greater than zero
+	 */
+	protected int getClientPoolSize() {
+		return 1;
+	}
+	
+	/**
+	 * The servers {@link #crateClient()} and the clients of {@link #crateClientPool()} connect to. Defaults to
+	 * {@code localhost:4300}.
+	 * 
+	 * @return the servers as {@code host:port}
+	 */
+	protected String[] getServers() {
+		return new String[]{"localhost:4300"};
+	}
+	
+	/**
+	 * Creates a new {@link CrateClient} connected to {@link #getServers()}. Used for {@link #crateClient()} as well as
+	 * for the additional clients of {@link #crateClientPool()}, override to configure all of them alike.
+	 * 
+	 * @return a new client
+	 */
+	protected CrateClient newCrateClient() {
+		return new CrateClient(getServers());
+	}
+	
+	private boolean overrides(String methodName) {
+		// @Bean methods are overridden by the configuration class proxy as well
+		Method method = ReflectionUtils.findMethod(ClassUtils.getUserClass(getClass()), methodName);
+		return method != null && method.getDeclaringClass() != AbstractCrateConfiguration.class;
+	}
 }
\ No newline at end of file
@@ -23,6 +23,7 @@ package org.springframework.data.crate.config;
 public abstract class BeanNames {
 	
 	public static final String SCHEMA_EXPORT_MANAGER = "cratePersistentEntitySchemaManager";
+	public static final String PARTITION_RETENTION_MANAGER = "cratePartitionRetentionManager";
 
 	private BeanNames() {}
 }
\ No newline at end of file
@@ -20,20 +20,31 @@ import org.springframework.beans.factory.support.BeanDefinitionBuilder;
 import org.springframework.beans.factory.xml.AbstractBeanDefinitionParser;
 import org.springframework.beans.factory.xml.ParserContext;
 import org.springframework.data.crate.client.CrateClientFactoryBean;
+import org.springframework.data.crate.client.CrateClientPoolFactoryBean;
+import org.springframework.util.StringUtils;
 import org.w3c.dom.Element;
 
 /**
- * CrateClientBeanDefinitionParser
+ * CrateClientBeanDefinitionParser. Parses the {@code client} element into a single client and the {@code client-pool}
+ * element into a {@link org.springframework.data.crate.client.CrateClientPool}.
  *
  * @author Rizwan Idrees
+ * @author Hasnain Javed
  */
 
 public class CrateClientBeanDefinitionParser extends AbstractBeanDefinitionParser {
 
+	static final String CLIENT_POOL = "client-pool";
+
 	@Override
 	protected AbstractBeanDefinition parseInternal(Element element, ParserContext parserContext) {
-		BeanDefinitionBuilder builder = BeanDefinitionBuilder.rootBeanDefinition(CrateClientFactoryBean.class);
+		boolean pool = CLIENT_POOL.equals(parserContext.getDelegate().getLocalName(element));
+		BeanDefinitionBuilder builder = BeanDefinitionBuilder.rootBeanDefinition(pool ? CrateClientPoolFactoryBean.class
+																					  : CrateClientFactoryBean.class);
 		setConfigurations(element, builder);
+		if(pool && StringUtils.hasText(element.getAttribute("size"))) {
+			builder.addPropertyValue("size", element.getAttribute("size"));
+		}
 		return getSourcedBeanDefinition(builder, element, parserContext);
 	}
 
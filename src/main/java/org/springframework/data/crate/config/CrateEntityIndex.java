@@ -0,0 +1,172 @@
+/*
+ * Copyright 2002-2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.crate.config;
+
+import static java.lang.String.format;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.Charset;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Index of entity class names written at compile time by {@link CrateEntityIndexProcessor}. All index resources
+ * visible to the class loader are merged.
+ *
+ * @author Hasnain Javed
+ * @since 1.0.0
+ */
+public class CrateEntityIndex {
+
+	/**
+	 * Location of the index resource(s).
+	 */
+	public static final String INDEX_LOCATION = "META-INF/spring-data-crate.entities";
+
+	static final Charset UTF_8 = Charset.forName("UTF-8");
+
+	private final Set<String> classNames;
+	private final Set<String> roots;
+
+	CrateEntityIndex(Set<String> classNames) {
+		this(classNames, Collections.<String>emptySet());
+	}
+
+	/**
+	 * @param roots the locations of the classpath roots holding an index resource
+	 */
+	CrateEntityIndex(Set<String> classNames, Set<String> roots) {
+		this.classNames = Collections.unmodifiableSet(classNames);
+		this.roots = Collections.unmodifiableSet(roots);
+	}
+
+	/**
+	 * Loads the entity index from all {@link #INDEX_LOCATION} resources visible to the given class loader.
+	 *
+	 * @param classLoader the class loader to use
+	 * @return the index or {@literal null} if no index resource is present
+	 */
+	public static CrateEntityIndex load(ClassLoader classLoader) {
+
+		try {
+			Enumeration<URL> resources = classLoader.getResources(INDEX_LOCATION);
+
+			if(!resources.hasMoreElements()) {
+				return null;
+			}
+
+			Set<String> classNames = new LinkedHashSet<>();
+			Set<String> roots = new LinkedHashSet<>();
+
+			while(resources.hasMoreElements()) {
+				URL resource = resources.nextElement();
+				classNames.addAll(read(resource.openStream()));
+				roots.add(getRoot(resource, INDEX_LOCATION));
+			}
+
+			return new CrateEntityIndex(classNames, roots);
+		}catch(IOException e) {
+			throw new IllegalStateException(format("unable to load entity index from '%s'", INDEX_LOCATION), e);
+		}
+	}
+
+	private static String getRoot(URL resource, String path) {
+		String location = resource.toString();
+		return location.substring(0, location.lastIndexOf(path));
+	}
+
+	/**
+	 * Reads one class name per line ignoring blank lines and lines starting with '#'.
+	 */
+	static Set<String> read(InputStream stream) throws IOException {
+
+		Set<String> classNames = new LinkedHashSet<>();
+
+		BufferedReader reader = new BufferedReader(new InputStreamReader(stream, UTF_8));
+
+		try {
+			String line;
+			while((line = reader.readLine()) != null) {
+				line = line.trim();
+				if(!line.isEmpty() && !line.startsWith("#")) {
+					classNames.add(line);
+				}
+			}
+		}finally {
+			reader.close();
+		}
+
+		return classNames;
+	}
+
+	/**
+	 * @return all indexed entity class names
+	 */
+	public Set<String> getClassNames() {
+		return classNames;
+	}
+
+	/**
+	 * Determines whether every classpath root holding the given package has been indexed. A root without an index
+	 * resource, e.g. a module of a package shared with other modules compiled without {@link CrateEntityIndexProcessor},
+	 * may hold entities of the package which are not listed by the index.
+	 *
+	 * @param basePackage the package to look up
+	 * @param classLoader the class loader the index has been loaded with
+	 * @return {@literal true} if the index lists all entities of the package
+	 */
+	public boolean covers(String basePackage, ClassLoader classLoader) {
+
+		String path = basePackage.replace('.', '/');
+
+		try {
+			Enumeration<URL> packages = classLoader.getResources(path);
+
+			while(packages.hasMoreElements()) {
+				if(!roots.contains(getRoot(packages.nextElement(), path))) {
+					return false;
+				}
+			}
+
+			return true;
+		}catch(IOException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * @param basePackage the package to filter by. Sub packages are included.
+	 * @return the indexed entity class names in the given package
+	 */
+	public Set<String> getClassNames(String basePackage) {
+
+		Set<String> candidates = new LinkedHashSet<>();
+
+		for(String className : classNames) {
+			if(className.startsWith(basePackage.concat("."))) {
+				candidates.add(className);
+			}
+		}
+
+		return candidates;
+	}
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2002-2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.crate.config;
+
+import static java.lang.String.format;
+import static javax.lang.model.element.ElementKind.CLASS;
+import static javax.lang.model.element.Modifier.ABSTRACT;
+import static javax.lang.model.element.Modifier.STATIC;
+import static javax.tools.Diagnostic.Kind.WARNING;
+import static javax.tools.StandardLocation.CLASS_OUTPUT;
+import static org.springframework.data.crate.config.CrateEntityIndex.INDEX_LOCATION;
+import static org.springframework.data.crate.config.CrateEntityIndex.UTF_8;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.file.NoSuchFileException;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import javax.tools.FileObject;
+
+/**
+ * Annotation processor writing the names of all concrete classes annotated with
+ * {@link org.springframework.data.crate.core.mapping.annotations.Table} or
+ * {@link org.springframework.data.annotation.Persistent} to {@link CrateEntityIndex#INDEX_LOCATION}.
+ * Entries of a previous compilation are kept as long as the class still exists and is still annotated, so that
+ * incremental compilation does not drop entities.
+ *
+ * @author Hasnain Javed
+ * @since 1.0.0
+ */
+@SupportedAnnotationTypes({ CrateEntityIndexProcessor.TABLE, CrateEntityIndexProcessor.PERSISTENT })
+public class CrateEntityIndexProcessor extends AbstractProcessor {
+
+	static final String TABLE = "org.springframework.data.crate.core.mapping.annotations.Table";
+	static final String PERSISTENT = "org.springframework.data.annotation.Persistent";
+
+	private final Set<String> classNames = new TreeSet<>();
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+
+		if(roundEnv.processingOver()) {
+			if(!classNames.isEmpty()) {
+				readPreviousIndex();
+				writeIndex();
+			}
+			return false;
+		}
+
+		for(TypeElement annotation : annotations) {
+			for(Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+				if(isCandidate(element)) {
+					classNames.add(processingEnv.getElementUtils().getBinaryName((TypeElement)element).toString());
+				}
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Mirrors the rules of classpath scanning: only concrete top level or static nested classes are entities.
+	 */
+	private boolean isCandidate(Element element) {
+
+		if(element.getKind() != CLASS || element.getModifiers().contains(ABSTRACT)) {
+			return false;
+		}
+
+		Element enclosing = element.getEnclosingElement();
+
+		return enclosing == null || !(enclosing instanceof TypeElement) || element.getModifiers().contains(STATIC);
+	}
+
+	private void readPreviousIndex() {
+
+		try {
+			FileObject resource = processingEnv.getFiler().getResource(CLASS_OUTPUT, "", INDEX_LOCATION);
+			Elements elements = processingEnv.getElementUtils();
+
+			for(String className : CrateEntityIndex.read(resource.openInputStream())) {
+				TypeElement type = elements.getTypeElement(className.replace('$', '.'));
+				if(type != null && isCandidate(type) && isAnnotated(type)) {
+					classNames.add(className);
+				}
+			}
+		}catch(FileNotFoundException | NoSuchFileException e) {
+			// first compilation
+		}catch(IOException | IllegalArgumentException e) {
+			processingEnv.getMessager().printMessage(WARNING, format("unable to read previous entity index: %s", e.getMessage()));
+		}
+	}
+
+	private boolean isAnnotated(TypeElement type) {
+
+		for(AnnotationMirror mirror : processingEnv.getElementUtils().getAllAnnotationMirrors(type)) {
+
+			String name = mirror.getAnnotationType().toString();
+
+			if(TABLE.equals(name) || PERSISTENT.equals(name)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private void writeIndex() {
+
+		try {
+			FileObject resource = processingEnv.getFiler().createResource(CLASS_OUTPUT, "", INDEX_LOCATION);
+
+			try(Writer writer = new OutputStreamWriter(resource.openOutputStream(), UTF_8)) {
+				writer.write("# generated by ");
+				writer.write(getClass().getName());
+				writer.write("\n");
+				for(String className : classNames) {
+					writer.write(className);
+					writer.write("\n");
+				}
+			}
+		}catch(IOException e) {
+			processingEnv.getMessager().printMessage(WARNING, format("unable to write entity index: %s", e.getMessage()));
+		}
+	}
+}
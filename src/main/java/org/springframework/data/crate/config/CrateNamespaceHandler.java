@@ -36,6 +36,8 @@ public class CrateNamespaceHandler extends NamespaceHandlerSupport {
 
         registerBeanDefinitionParser("repositories", parser);
         registerBeanDefinitionParser("client", new CrateClientBeanDefinitionParser());
+        registerBeanDefinitionParser(CrateClientBeanDefinitionParser.CLIENT_POOL, new CrateClientBeanDefinitionParser());
         registerBeanDefinitionParser("schema-export", new CratePersistentEntitySchemaManagerBeanDefinitionParser());
+        registerBeanDefinitionParser("partition-retention", new CratePartitionRetentionManagerBeanDefinitionParser());
     }
 }
\ No newline at end of file
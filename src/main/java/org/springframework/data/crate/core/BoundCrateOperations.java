@@ -0,0 +1,168 @@
+/*
+ * Copyright 2002-2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.crate.core;
+
+import java.util.Date;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+
+import org.springframework.data.crate.core.mapping.CratePersistentEntity;
+
+/**
+ * Operations bound to a single entity type and table. The persistent entity, the id and version properties and the
+ * sql statements are resolved once when the instance is created and reused for every call.
+ * Implementations are thread safe.
+ *
+ * @author Hasnain Javed
+ * @since 1.0.0
+ * @param <T> the entity type
+ */
+public interface BoundCrateOperations<T> {
+
+	/**
+	 * @return the entity type the operations are bound to
+	 */
+	Class<T> getEntityClass();
+
+	/**
+	 * @return the name of the table the operations are bound to
+	 */
+	String getTableName();
+
+	/**
+	 * @return the backing {@link CratePersistentEntity}
+	 */
+	CratePersistentEntity<?> getPersistentEntity();
+
+	/**
+	 * Insert the given object. If the object defines an id (primary key), it must not be null.
+	 * @param entity the object to store in the table.
+	 */
+	void insert(T entity);
+
+	/**
+	 * Update the given object. The object must define an id (primary key) and the value must not be null.
+	 * @param entity the object to store in the table.
+	 */
+	void update(T entity);
+
+	/**
+	 * Insert the given list of objects.
+	 * @param entities the list of objects to store in the table.
+	 * @return Results containing the details of the bulk operation
+	 */
+	BulkOperartionResult<T> bulkInsert(List<T> entities);
+
+	/**
+	 * Update the given list of objects. The object must define an id (primary key).
+	 * @param entities the list of objects to store in the table.
+	 * @return Results containing the details of the bulk operation
+	 */
+	BulkOperartionResult<T> bulkUpdate(List<T> entities);
+
+	/**
+	 * @return all rows of the table converted to the bound entity type
+	 */
+	List<T> findAll();
+
+	/**
+	 * Reads the rows of a single partition. Crate only searches the shards of that partition.
+	 * 
+	 * @param partitionValues the values of the partition columns in the order they are declared in
+	 * {@link org.springframework.data.crate.core.mapping.annotations.Table#partitionedBy()}
+	 * @return the rows of the partition converted to the bound entity type
+	 */
+	List<T> findAllInPartition(Object... partitionValues);
+
+	/**
+	 * Full text search using the crate {@code MATCH} predicate. Hits are ordered by relevance, followed by the sort 
+	 * of the given page, and only the requested page is read. The column should be defined with a 
+	 * {@link org.springframework.data.crate.core.mapping.schema.IndexType#FULLTEXT} index.
+	 * 
+	 * @param column the column to search, nested columns may be given as dot path
+	 * @param term the search term, analyzed with the analyzer of the column
+	 * @param pageable the page of hits to read, must not be {@literal null}.
+	 * @return the matching entities with their score
+	 */
+	List<SearchHit<T>> match(String column, String term, Pageable pageable);
+
+	/**
+	 * @param id the id of the row to return, must not be {@literal null}.
+	 * @return the row with the given id converted to the bound entity type or {@literal null} if none was found
+	 */
+	T findById(Object id);
+
+	/**
+	 * Looks the id up in a single partition instead of every partition of the table.
+	 * 
+	 * @param id the id of the row to return, must not be {@literal null}.
+	 * @param partitionValues the values of the partition columns in the order they are declared in
+	 * {@link org.springframework.data.crate.core.mapping.annotations.Table#partitionedBy()}
+	 * @return the row with the given id converted to the bound entity type or {@literal null} if none was found
+	 */
+	T findByIdInPartition(Object id, Object... partitionValues);
+
+	/**
+	 * @return the number of rows in the table
+	 */
+	long count();
+
+	/**
+	 * Remove the row with the given id.
+	 * @param id the id to be used
+	 * @return {@literal true} if a row was removed
+	 */
+	boolean delete(Object id);
+
+	/**
+	 * Delete the rows with the given ids.
+	 * @param ids the list of ids.
+	 * @return Results containing the details of the bulk operation
+	 */
+	BulkOperartionResult<Object> bulkDelete(List<Object> ids);
+
+	/**
+	 * Remove all rows from the table.
+	 */
+	void deleteAll();
+
+	/**
+	 * Drops the partitions whose retention column (see
+	 * {@link org.springframework.data.crate.core.mapping.annotations.PartitionRetention}) or single partition column
+	 * is older than the given cutoff. Crate drops whole partitions for a condition on partition columns only, which is
+	 * far cheaper than deleting the rows.
+	 * 
+	 * @param cutoff must not be {@literal null}.
+	 * @return the row count reported by crate, {@literal -1} if unknown
+	 */
+	long dropPartitionsOlderThan(Date cutoff);
+	
+	/**
+	 * Runs the given callback with the table in bulk load mode. Periodic refreshes and replicas are suspended while
+	 * the callback runs, the original refresh interval and number of replicas are restored afterwards, also if the
+	 * callback fails, and the table is refreshed once on success.
+	 * 
+	 * @param callback loads the rows, must not be {@literal null}.
+	 * @return the result of the callback
+	 */
+	<R> R bulkLoad(BulkLoadCallback<T, R> callback);
+
+	/**
+	 * Refreshes the table making all changes available to all further commands.
+	 */
+	void refreshTable();
+}
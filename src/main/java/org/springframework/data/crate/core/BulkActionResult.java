@@ -30,6 +30,11 @@ import java.util.List;
  */
 public class BulkActionResult<T> implements BulkOperartionResult<T> {
 	
+	/**
+	 * Row count crate reports for failed rows of a bulk operation.
+	 */
+	static final long FAILED_ROW_COUNT = -2L;
+	
 	private List<ActionResult<T>> results;
 	
 	public BulkActionResult() {
@@ -42,6 +47,17 @@ public class BulkActionResult<T> implements BulkOperartionResult<T> {
 		return actionResult;
 	}
 	
+	/**
+	 * Adds a failure for a source that has not been sent to crate, e.g. because it has been rejected by a listener.
+	 * 
+	 * @param source must not be {@literal null}.
+	 * @param errorMessage the reason of the failure
+	 * @return the failed result
+	 */
+	public ActionResult<T> addFailure(T source, String errorMessage) {
+		return addResult(new Result(errorMessage, FAILED_ROW_COUNT), source);
+	}
+	
 	@Override
 	public List<ActionResult<T>> getResults() {
 		return results;
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2002-2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.crate.core;
+
+/**
+ * Callback loading the rows of a single table while the table is in bulk load mode.
+ *
+ * @see CrateOperations#bulkLoad(Class, BulkLoadCallback)
+ * @author Hasnain Javed
+ * @since 1.0.0
+ */
+public interface BulkLoadCallback<T, R> {
+
+	/**
+	 * Loads the rows, usually with one or more {@link BoundCrateOperations#bulkInsert(java.util.List)} calls. Rows
+	 * are not visible to searches before the load completes.
+	 *
+	 * @param operations the operations bound to the table being loaded
+	 * @return a result object or {@literal null}
+	 */
+	R doInBulkLoad(BoundCrateOperations<T> operations);
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2002-2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.crate.core;
+
+import static org.springframework.util.Assert.isTrue;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Options of a {@code COPY FROM} import. Options which are not set use the crate defaults.
+ *
+ * @see CrateOperations#copyFrom(String, String, CopyFromOptions)
+ * @author Hasnain Javed
+ * @since 1.0.0
+ */
+public class CopyFromOptions {
+
+	private int bulkSize;
+	private int numReaders;
+	private Boolean shared;
+	private boolean compressed;
+
+	/**
+	 * Number of rows imported by a single bulk request on a node.
+	 * @param bulkSize must be greater than zero
+	 */
+	public void setBulkSize(int bulkSize) {
+		isTrue(bulkSize > 0, "bulkSize must be greater than zero");
+		this.bulkSize = bulkSize;
+	}
+
+	/**
+	 * Number of nodes reading the files.
+	 * @param numReaders must be greater than zero
+	 */
+	public void setNumReaders(int numReaders) {
+		isTrue(numReaders > 0, "numReaders must be greater than zero");
+		this.numReaders = numReaders;
+	}
+
+	/**
+	 * Flag to indicate whether the files are on a location shared by all nodes, e.g. a network file system. Each file
+	 * is read once only for a shared location, otherwise every node imports its local copy of the files.
+	 * @param shared {@code true} for a shared location
+	 */
+	public void setShared(boolean shared) {
+		this.shared = shared;
+	}
+
+	/**
+	 * Flag to indicate the files are gzip compressed, as are the files written by {@link NdjsonFileStager}.
+	 * @param compressed {@code true} for gzip compressed files
+	 */
+	public void setCompressed(boolean compressed) {
+		this.compressed = compressed;
+	}
+
+	/**
+	 * @return the parameters of the {@code WITH} clause of the copy statement
+	 */
+	public Map<String, Object> getParameters() {
+
+		Map<String, Object> parameters = new LinkedHashMap<>();
+
+		if(bulkSize > 0) {
+			parameters.put("bulk_size", bulkSize);
+		}
+
+		if(numReaders > 0) {
+			parameters.put("num_readers", numReaders);
+		}
+
+		if(shared != null) {
+			parameters.put("shared", shared);
+		}
+
+		if(compressed) {
+			parameters.put("compression", "gzip");
+		}
+
+		return parameters;
+	}
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2002-2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.crate.core;
+
+import static org.springframework.util.Assert.hasText;
+import static org.springframework.util.Assert.isTrue;
+import static org.springframework.util.Assert.notNull;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Options of a server side table copy. All columns of all rows are copied in a single statement by default. With a
+ * {@link #setKeyColumn(String) key column} the rows are copied in batches of key ranges.
+ *
+ * @see CrateOperations#copyTable(String, String, CopyTableOptions)
+ * @author Hasnain Javed
+ * @since 1.0.0
+ */
+public class CopyTableOptions {
+
+	private static final int DEFAULT_BATCH_SIZE = 100000;
+
+	private Map<String, String> columnMapping;
+	private String criteria;
+	private Object[] args;
+	private String keyColumn;
+	private int batchSize;
+	private Object resumeAfter;
+	private TableCopyListener listener;
+
+	public CopyTableOptions() {
+		this.columnMapping = Collections.emptyMap();
+		this.args = new Object[0];
+		this.batchSize = DEFAULT_BATCH_SIZE;
+	}
+
+	/**
+	 * The columns to copy. Columns of the target table which are not mapped are left empty.
+	 * @param columnMapping target columns mapped to the source columns they are copied from, nested source columns may
+	 * be given as dot path. Must not be {@literal null}.
+	 */
+	public void setColumnMapping(Map<String, String> columnMapping) {
+		notNull(columnMapping);
+		this.columnMapping = new LinkedHashMap<>(columnMapping);
+	}
+
+	/**
+	 * Condition selecting the rows to copy.
+	 * @param criteria condition of the {@code WHERE} clause, may contain {@code ?} placeholders. Must not be 
+	 * {@literal null} or empty.
+	 * @param args the arguments of the placeholders
+	 */
+	public void setCriteria(String criteria, Object... args) {
+		hasText(criteria);
+		notNull(args);
+		this.criteria = criteria;
+		this.args = args;
+	}
+
+	/**
+	 * Copies the rows in batches of ranges of the given column, usually the primary key. The column must be unique 
+	 * for every batch to hold the {@link #setBatchSize(int) batch size} rows at most.
+	 * @param keyColumn must not be {@literal null} or empty.
+	 */
+	public void setKeyColumn(String keyColumn) {
+		hasText(keyColumn);
+		this.keyColumn = keyColumn;
+	}
+
+	/**
+	 * Number of rows copied by a single statement of a batched copy. Defaults to 100000.
+	 * @param batchSize must be greater than zero
+	 */
+	public void setBatchSize(int batchSize) {
+		isTrue(batchSize > 0, "batchSize must be greater than zero");
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Resumes a batched copy after the last key reported to the {@link TableCopyListener}.
+	 * @param resumeAfter the key to resume after or {@literal null} to copy from the start
+	 */
+	public void setResumeAfter(Object resumeAfter) {
+		this.resumeAfter = resumeAfter;
+	}
+
+	/**
+	 * @param listener receives a checkpoint after each batch, may be {@literal null}.
+	 */
+	public void setListener(TableCopyListener listener) {
+		this.listener = listener;
+	}
+
+	public Map<String, String> getColumnMapping() {
+		return columnMapping;
+	}
+
+	public String getCriteria() {
+		return criteria;
+	}
+
+	public Object[] getArgs() {
+		return args;
+	}
+
+	public String getKeyColumn() {
+		return keyColumn;
+	}
+
+	public boolean isBatched() {
+		return keyColumn != null;
+	}
+
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	public Object getResumeAfter() {
+		return resumeAfter;
+	}
+
+	public TableCopyListener getListener() {
+		return listener;
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2002-2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.crate.core;
+
+import static org.springframework.util.Assert.hasText;
+import static org.springframework.util.Assert.notNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Options of a {@code COPY TO} export. All columns of all partitions are exported uncompressed by default.
+ *
+ * @see CrateOperations#copyTo(String, String, CopyToOptions)
+ * @author Hasnain Javed
+ * @since 1.0.0
+ */
+public class CopyToOptions {
+
+	private List<String> columns;
+	private Map<String, Object> partition;
+	private boolean compressed;
+
+	public CopyToOptions() {
+		this.columns = Collections.emptyList();
+		this.partition = Collections.emptyMap();
+	}
+
+	/**
+	 * The columns to export. Nested columns may be given as dot path.
+	 * @param columns must not be {@literal null}.
+	 */
+	public void setColumns(List<String> columns) {
+		notNull(columns);
+		for(String column : columns) {
+			hasText(column);
+		}
+		this.columns = new ArrayList<>(columns);
+	}
+
+	/**
+	 * The partition to export identified by the values of all partition columns.
+	 * @param partition partition column names mapped to their values, must not be {@literal null}.
+	 */
+	public void setPartition(Map<String, Object> partition) {
+		notNull(partition);
+		this.partition = new LinkedHashMap<>(partition);
+	}
+
+	/**
+	 * Flag to gzip compress the exported files.
+	 * @param compressed {@code true} to compress the files
+	 */
+	public void setCompressed(boolean compressed) {
+		this.compressed = compressed;
+	}
+
+	public List<String> getColumns() {
+		return columns;
+	}
+
+	public Map<String, Object> getPartition() {
+		return partition;
+	}
+
+	/**
+	 * @return the parameters of the {@code WITH} clause of the copy statement
+	 */
+	public Map<String, Object> getParameters() {
+
+		Map<String, Object> parameters = new LinkedHashMap<>();
+
+		if(compressed) {
+			parameters.put("compression", "gzip");
+		}
+
+		return parameters;
+	}
+}
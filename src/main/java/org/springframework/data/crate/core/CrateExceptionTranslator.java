@@ -39,6 +39,7 @@ import static org.springframework.data.crate.core.CrateErrorCodes.UNKNOWN_TYPE;
 import static org.springframework.data.crate.core.CrateErrorCodes.VERSION_CONFLICT;
 import io.crate.action.sql.SQLActionException;
 
+import io.crate.shade.org.elasticsearch.ElasticsearchTimeoutException;
 import io.crate.shade.org.elasticsearch.client.transport.NoNodeAvailableException;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.DataAccessResourceFailureException;
@@ -46,6 +47,7 @@ import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.dao.InvalidDataAccessResourceUsageException;
 import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.dao.support.PersistenceExceptionTranslator;
 import org.springframework.data.crate.DuplicateTableException;
 import org.springframework.data.crate.NoSuchTableException;
@@ -68,6 +70,10 @@ public class CrateExceptionTranslator implements PersistenceExceptionTranslator
 			return new DataAccessResourceFailureException(ex.getMessage(), ex);
 		}
 		
+		if(ex instanceof ElasticsearchTimeoutException) {
+			return new QueryTimeoutException(ex.getMessage(), ex);
+		}
+		
 		if(ex instanceof SQLActionException) {
 			
 			int errorCode = ((SQLActionException)ex).errorCode();
@@ -18,12 +18,18 @@ package org.springframework.data.crate.core;
 
 import io.crate.action.sql.SQLResponse;
 
+import java.io.OutputStream;
+import java.nio.channels.WritableByteChannel;
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.crate.CrateSQLActionException;
 import org.springframework.data.crate.core.convert.CrateConverter;
 import org.springframework.data.crate.core.mapping.SimpleCratePersistentEntity;
+import org.springframework.data.domain.Pageable;
 
 /**
  * 
@@ -62,6 +68,89 @@ public interface CrateOperations {
      */
     <T> BulkOperartionResult<T> execute(CrateBulkAction action, CrateBulkActionResponseHandler<T> handler) throws DataAccessException, CrateSQLActionException;
     
+    /**
+     * Executes the given callback with a deadline. All statements sent on the calling thread by the callback share 
+     * the deadline, a statement which does not complete before the deadline fails with a 
+     * {@link org.springframework.dao.QueryTimeoutException}. Nested deadlines can only shorten the deadline.
+     * 
+     * @param timeout the time the callback may take, must be greater than zero
+     * @param unit the unit of the timeout, must not be {@literal null}.
+     * @param callback must not be {@literal null}.
+     * @return the result of the callback
+     */
+    <T> T withTimeout(long timeout, TimeUnit unit, DeadlineCallback<T> callback);
+
+    /**
+     * Returns operations bound to the given entity class. The table name will be determined by the backing
+     * {@link SimpleCratePersistentEntity} instance. The returned instance is thread safe and should be reused.
+     *
+     * @param entityClass the type of entity, must not be {@literal null}.
+     * @return operations bound to the entity class and its table
+     */
+    <T> BoundCrateOperations<T> forEntity(Class<T> entityClass);
+
+    /**
+     * Returns operations bound to the given entity class and table. The returned instance is thread safe and should be reused.
+     *
+     * @param entityClass the type of entity, must not be {@literal null}.
+     * @param tableName name of the table, must not be {@literal null} or empty.
+     * @return operations bound to the entity class and the table
+     */
+    <T> BoundCrateOperations<T> forEntity(Class<T> entityClass, String tableName);
+    
+    /**
+     * Switches the given table name to the target table. Operations bound to the table name, including those obtained
+     * before the switch and held by repositories, use the target table from their next operation on.
+     * 
+     * @param tableName the table name used by the bound operations, must not be {@literal null} or empty.
+     * @param targetTableName name of the table to use instead, must not be {@literal null} or empty.
+     */
+    void switchTable(String tableName, String targetTableName);
+    
+    /**
+     * @param tableName must not be {@literal null} or empty.
+     * @return the name of the table the given table name is switched to, or the given name if it is not switched
+     * @see #switchTable(String, String)
+     */
+    String resolveTableName(String tableName);
+    
+    /**
+     * Mirrors all writes through the bound operations of a table to a second table, e.g. while the table is copied
+     * into a rebuilt table. Inserts and updates are mirrored as upserts. Failed mirror writes are logged and counted, 
+     * they do not fail the write to the table itself.
+     * 
+     * @param tableName the name of the table written to, must not be {@literal null} or empty.
+     * @param mirrorTableName the name of the table writes are mirrored to, must not be {@literal null} or empty.
+     */
+    void mirrorWrites(String tableName, String mirrorTableName);
+    
+    /**
+     * @param tableName the name of the mirrored table, must not be {@literal null} or empty.
+     * @return the number of rows which failed to be mirrored since the writes of the table are mirrored
+     * @see #mirrorWrites(String, String)
+     */
+    int getMirrorFailures(String tableName);
+    
+    /**
+     * Stops mirroring the writes of the given table.
+     * 
+     * @param tableName must not be {@literal null} or empty.
+     * @see #mirrorWrites(String, String)
+     */
+    void stopMirroringWrites(String tableName);
+    
+    /**
+     * Deletes the rows deleted through the bound operations of a mirrored table once more from the table writes are 
+     * mirrored to. A copy of the table may read a row before its delete is visible and copy it after the mirrored
+     * delete has been applied. Rows written again after their delete are not deleted.
+     * 
+     * @param entityClass the entity stored in both tables, must define an id
+     * @param tableName the name of the mirrored table, must not be {@literal null} or empty.
+     * @return the number of rows deleted
+     * @see #mirrorWrites(String, String)
+     */
+    int reapplyMirroredDeletes(Class<?> entityClass, String tableName);
+
     /**
      * Insert the given object. If the object defines an id (primary key), it must not be null.
      * The Table name will be determined by the backing {@link SimpleCratePersistentEntity} instance.
@@ -171,6 +260,29 @@ public interface CrateOperations {
 	 * @return the converted collection
 	 */
 	<T> List<T> findAll(Class<T> entityClass, String tableName);
+	
+	/**
+	 * Query for the list of objects of type T stored in a single partition of the table used by the entity class. 
+	 * Crate only searches the shards of that partition.
+	 * 
+	 * @param entityClass the parameterized type of the returned list, must be partitioned.
+	 * @param partitionValues the values of the partition columns in the order they are declared
+	 * @return the converted collection
+	 */
+	<T> List<T> findAllInPartition(Class<T> entityClass, Object... partitionValues);
+	
+	/**
+	 * Full text search in the table used by the entity class. Hits are ordered by relevance and only the requested 
+	 * page is read.
+	 * 
+	 * @param entityClass the parameterized type of the returned hits.
+	 * @param column the column to search
+	 * @param term the search term
+	 * @param pageable the page of hits to read, must not be {@literal null}.
+	 * @return the matching entities with their score
+	 * @see BoundCrateOperations#match(String, String, Pageable)
+	 */
+	<T> List<SearchHit<T>> match(Class<T> entityClass, String column, String term, Pageable pageable);
     
     /**
 	 * Returns a document with the given id mapped onto the given target class. The table the query is ran against will be
@@ -201,6 +313,153 @@ public interface CrateOperations {
 	 */
 	<T> void deleteAll(Class<T> entityClass);
 	
+	/**
+	 * Drop the partitions of the table used by the entity class that are older than the given cutoff. 
+	 * 
+	 * @param entityClass the type of entity, must be partitioned.
+	 * @param cutoff partitions with a retention column value before the cutoff are dropped
+	 * @return the row count reported by crate, {@literal -1} if unknown
+	 * @see BoundCrateOperations#dropPartitionsOlderThan(Date)
+	 */
+	<T> long dropPartitionsOlderThan(Class<T> entityClass, Date cutoff);
+	
+	/**
+	 * Loads the table used by the entity class with periodic refreshes and replicas suspended for the duration of the
+	 * load. Intended for large imports into fresh tables.
+	 * 
+	 * @param entityClass the type of entity to load
+	 * @param callback loads the rows, must not be {@literal null}.
+	 * @return the result of the callback
+	 * @see BoundCrateOperations#bulkLoad(BulkLoadCallback)
+	 */
+	<T, R> R bulkLoad(Class<T> entityClass, BulkLoadCallback<T, R> callback);
+	
+	/**
+	 * Imports JSON files, one object per line, with {@code COPY FROM}. The files are read by the crate nodes directly,
+	 * avoiding the per row overhead of bulk requests. Files can be written with the {@link NdjsonFileStager}.
+	 * 
+	 * @param tableName name of the table to import into
+	 * @param uri uri of the files readable by the crate nodes, may contain wildcards, e.g. {@code file:///tmp/*.json.gz}
+	 * @param options the import options, must not be {@literal null}.
+	 * @return the number of rows imported
+	 */
+	long copyFrom(String tableName, String uri, CopyFromOptions options);
+	
+	/**
+	 * Exports the table used by the entity class with {@code COPY TO DIRECTORY}.
+	 * 
+	 * @param entityClass the type of entity to export
+	 * @param directoryUri uri of the directory the crate nodes write the files to
+	 * @param options the export options, the partition must be identified by values of all partition columns of the
+	 * entity. Must not be {@literal null}.
+	 * @return the number of rows exported
+	 * @see #copyTo(String, String, CopyToOptions)
+	 */
+	<T> long copyTo(Class<T> entityClass, String directoryUri, CopyToOptions options);
+	
+	/**
+	 * Exports a table, or a single partition of it, with {@code COPY TO DIRECTORY}. Every crate node writes the rows
+	 * of its shards to files in the given directory, no rows are transferred to the client.
+	 * 
+	 * @param tableName name of the table to export
+	 * @param directoryUri uri of the directory the crate nodes write the files to, e.g. {@code file:///tmp/export}
+	 * @param options the export options, must not be {@literal null}.
+	 * @return the number of rows exported
+	 */
+	long copyTo(String tableName, String directoryUri, CopyToOptions options);
+	
+	/**
+	 * Copies rows between tables on the server with {@code INSERT INTO ... SELECT}, e.g. to re partition or re shard a 
+	 * table. No rows are transferred to the client.
+	 * 
+	 * @param sourceTable name of the table to copy from
+	 * @param targetTable name of the table to copy into
+	 * @param columnMapping target columns mapped to source columns, all columns are copied if empty
+	 * @param criteria condition selecting the rows to copy, may contain {@code ?} placeholders
+	 * @param args the arguments of the placeholders
+	 * @return the number of rows copied
+	 * @see #copyTable(String, String, CopyTableOptions)
+	 */
+	long copyTable(String sourceTable, String targetTable, Map<String, String> columnMapping, String criteria, Object... args);
+	
+	/**
+	 * Copies rows between tables on the server with {@code INSERT INTO ... SELECT}. With a key column the rows are 
+	 * copied in batches of key ranges, reporting the last key of each batch to the listener of the options so that a 
+	 * failed copy can be resumed.
+	 * 
+	 * @param sourceTable name of the table to copy from
+	 * @param targetTable name of the table to copy into
+	 * @param options the copy options, must not be {@literal null}.
+	 * @return the number of rows copied
+	 */
+	long copyTable(String sourceTable, String targetTable, CopyTableOptions options);
+	
+	/**
+	 * @see #exportTo(String, Object[], WritableByteChannel, ExportFormat)
+	 */
+	long exportTo(String statement, Object[] args, OutputStream outputStream, ExportFormat format);
+	
+	/**
+	 * Writes the rows of a query to the given channel, for exports {@code COPY TO} can not express, e.g. joined or
+	 * aggregated rows. The statement is sent as given and the rows are encoded straight from the response without
+	 * creating entities. All rows are read by a single request, large results are exported page by page with
+	 * {@link #exportTo(String, String, Object[], WritableByteChannel, ExportFormat)}. The channel is not closed.
+	 * 
+	 * @param statement the select statement
+	 * @param args the arguments of the statement, must not be {@literal null}.
+	 * @param channel must not be {@literal null}.
+	 * @param format must not be {@literal null}.
+	 * @return the number of rows exported
+	 */
+	long exportTo(String statement, Object[] args, WritableByteChannel channel, ExportFormat format);
+	
+	/**
+	 * @see #exportTo(String, String, Object[], WritableByteChannel, ExportFormat)
+	 */
+	long exportTo(String statement, String keyColumn, Object[] args, OutputStream outputStream, ExportFormat format);
+	
+	/**
+	 * Writes the rows of a query to the given channel page by page in the order of the key column. Each page appends
+	 * {@code key > ?} with the last key of the previous page to the condition of the statement, followed by 
+	 * {@code ORDER BY key LIMIT n}, so memory use does not grow with the number of rows. The statement must therefore 
+	 * not group, order or limit its rows, and the key column must be one of its columns holding unique values. The 
+	 * channel is not closed.
+	 * 
+	 * @param statement the select statement
+	 * @param keyColumn the unique column the rows are paged by, must not be {@literal null} or empty.
+	 * @param args the arguments of the statement, must not be {@literal null}.
+	 * @param channel must not be {@literal null}.
+	 * @param format must not be {@literal null}.
+	 * @return the number of rows exported
+	 * @throws org.springframework.dao.InvalidDataAccessApiUsageException if the statement groups, orders or limits its 
+	 *         rows, or the key column is not a column of the rows or is not unique
+	 */
+	long exportTo(String statement, String keyColumn, Object[] args, WritableByteChannel channel, ExportFormat format);
+	
+	/**
+	 * @see #exportTable(String, String, String, Object[], WritableByteChannel, ExportFormat)
+	 */
+	long exportTable(String tableName, String keyColumn, String criteria, Object[] args, OutputStream outputStream, 
+					 ExportFormat format);
+	
+	/**
+	 * Streams all columns of the rows of a table to the given channel. Rows are read page by page in the order of the
+	 * key column, each page starting after the last key of the previous page, and are encoded straight from the
+	 * response without creating entities, so memory use does not grow with the number of rows. The key column must
+	 * hold unique values, usually it is the primary key. The channel is not closed.
+	 * 
+	 * @param tableName the name of the table to export
+	 * @param keyColumn the unique column the rows are paged by, must not be {@literal null} or empty.
+	 * @param criteria the condition of the rows to export or {@literal null} to export all rows
+	 * @param args the arguments of the criteria, must not be {@literal null}.
+	 * @param channel must not be {@literal null}.
+	 * @param format must not be {@literal null}.
+	 * @return the number of rows exported
+	 * @throws org.springframework.dao.InvalidDataAccessApiUsageException if the key column is not a column of the table or is not unique
+	 */
+	long exportTable(String tableName, String keyColumn, String criteria, Object[] args, WritableByteChannel channel, 
+					 ExportFormat format);
+	
 	/**
 	 * Remove all rows from the table.
 	 * 
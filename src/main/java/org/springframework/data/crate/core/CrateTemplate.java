@@ -20,6 +20,8 @@ import static java.lang.String.format;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.unmodifiableCollection;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.apache.commons.lang3.ArrayUtils.add;
 import static org.apache.commons.lang3.ArrayUtils.addAll;
 import static org.apache.commons.lang3.ArrayUtils.isEmpty;
@@ -31,7 +33,11 @@ import static org.springframework.data.crate.core.ActionType.values;
 import static org.springframework.data.crate.core.convert.CrateTypeMapper.DEFAULT_TYPE_KEY;
 import static org.springframework.data.crate.core.mapping.CratePersistentProperty.INITIAL_VERSION_VALUE;
 import static org.springframework.data.crate.core.mapping.CratePersistentProperty.RESERVED_VESRION_FIELD_NAME;
+import static org.springframework.data.crate.core.mapping.schema.ColumnPloicy.DYNAMIC;
+import static org.springframework.data.crate.core.sql.CrateSQLStatement.NO_OF_REPLICAS;
+import static org.springframework.data.crate.core.sql.CrateSQLStatement.REFRESH_INTERVAL;
 import static org.springframework.util.Assert.hasText;
+import static org.springframework.util.Assert.isTrue;
 import static org.springframework.util.Assert.notEmpty;
 import static org.springframework.util.Assert.notNull;
 import io.crate.action.sql.SQLActionException;
@@ -41,28 +47,63 @@ import io.crate.action.sql.SQLBulkResponse.Result;
 import io.crate.action.sql.SQLRequest;
 import io.crate.action.sql.SQLResponse;
 import io.crate.client.CrateClient;
+import io.crate.shade.org.elasticsearch.ElasticsearchTimeoutException;
+import io.crate.shade.org.elasticsearch.action.ActionFuture;
+import io.crate.shade.org.elasticsearch.action.ActionListener;
+import io.crate.shade.org.elasticsearch.action.support.PlainActionFuture;
+import io.crate.shade.org.elasticsearch.client.transport.NoNodeAvailableException;
 import io.crate.types.DataType;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Date;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.slf4j.Logger;
 import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.dao.support.PersistenceExceptionTranslator;
 import org.springframework.data.crate.CrateSQLActionException;
+import org.springframework.data.crate.NoSuchTableException;
+import org.springframework.data.crate.client.CrateClientPool;
 import org.springframework.data.crate.core.BulkActionResult.ActionResult;
+import org.springframework.data.crate.core.admission.AdmissionControl;
+import org.springframework.data.crate.core.admission.AdmissionControl.Admission;
 import org.springframework.data.crate.core.convert.CrateConverter;
 import org.springframework.data.crate.core.convert.CrateDocumentConverter;
 import org.springframework.data.crate.core.convert.MappingCrateConverter;
@@ -70,19 +111,36 @@ import org.springframework.data.crate.core.mapping.CrateDocument;
 import org.springframework.data.crate.core.mapping.CrateMappingContext;
 import org.springframework.data.crate.core.mapping.CratePersistentEntity;
 import org.springframework.data.crate.core.mapping.CratePersistentProperty;
+import org.springframework.data.crate.core.mapping.event.AfterBulkSaveEvent;
 import org.springframework.data.crate.core.mapping.event.AfterConvertEvent;
 import org.springframework.data.crate.core.mapping.event.AfterDeleteEvent;
 import org.springframework.data.crate.core.mapping.event.AfterLoadEvent;
 import org.springframework.data.crate.core.mapping.event.AfterSaveEvent;
+import org.springframework.data.crate.core.mapping.event.AsyncCrateEventDispatcher;
+import org.springframework.data.crate.core.mapping.event.BeforeBulkConvertEvent;
+import org.springframework.data.crate.core.mapping.event.BeforeBulkSaveEvent;
 import org.springframework.data.crate.core.mapping.event.BeforeConvertEvent;
 import org.springframework.data.crate.core.mapping.event.BeforeDeleteEvent;
 import org.springframework.data.crate.core.mapping.event.BeforeSaveEvent;
 import org.springframework.data.crate.core.mapping.event.CrateMappingEvent;
+import org.springframework.data.crate.core.mapping.event.CrateMappingEventListenerDetector;
+import org.springframework.data.crate.core.mapping.schema.AlterTableDefinition.AlterTableParameterDefinition;
+import org.springframework.data.crate.core.mapping.schema.TableParameters;
 import org.springframework.data.crate.core.sql.AbstractStatement;
+import org.springframework.data.crate.core.sql.AlterTableParameter;
+import org.springframework.data.crate.core.sql.CopyFrom;
+import org.springframework.data.crate.core.sql.CopyTo;
 import org.springframework.data.crate.core.sql.CrateSQLStatement;
+import org.springframework.data.crate.core.sql.CrateSQLUtil;
 import org.springframework.data.crate.core.sql.Insert;
+import org.springframework.data.crate.core.sql.InsertFromSelect;
+import org.springframework.data.crate.core.sql.KillJob;
 import org.springframework.data.crate.core.sql.RefreshTable;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort.Order;
 import org.springframework.data.mapping.model.MappingException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
 
 /**
@@ -90,14 +148,36 @@ import org.springframework.util.StringUtils;
  * @author Rizwan Idrees
  * @since 1.0.0
  */
-public class CrateTemplate implements CrateOperations, ApplicationContextAware {
+public class CrateTemplate implements CrateOperations, ApplicationContextAware, DisposableBean {
 
     private final Logger logger = getLogger(CrateTemplate.class);
     
-	private final CrateClient client;
+	private final CrateClientPool clientPool;
 	private final PersistenceExceptionTranslator exceptionTranslator;
     private CrateConverter crateConverter;
     private ApplicationEventPublisher eventPublisher;
+    private CrateMappingEventListenerDetector listenerDetector;
+    private AsyncCrateEventDispatcher eventDispatcher;
+    private int bulkConversionParallelism;
+    private int bulkConversionThreshold;
+    private int bulkChunkSize;
+    private ExecutorService bulkConversionExecutor;
+    private int readConversionParallelism;
+    private int readConversionThreshold;
+    private ForkJoinPool readConversionPool;
+    private int exportPageSize;
+    private long defaultTimeout;
+    private boolean killOnTimeout;
+    private RetryPolicy retryPolicy;
+    private AdmissionControl admissionControl;
+    private HedgingPolicy hedgingPolicy;
+    
+    private final ThreadLocal<Long> deadlines;
+    private final ConcurrentMap<Class<?>, ConcurrentMap<String, BoundCrateOperations<?>>> boundOperations;
+    private final ConcurrentMap<String, String> switchedTables;
+    private final ConcurrentMap<String, String> mirroredTables;
+    private final ConcurrentMap<String, Set<Object>> mirroredDeletes;
+    private final ConcurrentMap<String, AtomicInteger> mirrorFailures;
     
     private static final Collection<ActionType> ALLOWED_BULK_OPERATIONS;
     
@@ -106,6 +186,20 @@ public class CrateTemplate implements CrateOperations, ApplicationContextAware {
     private static final String NO_ID_WARNING = "Persitent Entity '{}' has no id property defined. Saving the same instance will result in a duplicate row";
     private static final String BULK_ACTION = "Invalid bulk sql action type '%s'. Allowed types are '%s'";
     private static final String ID_COLUMN = "Persistent Entity '%s' must define an id column";
+    private static final int DEFAULT_BULK_CONVERSION_THRESHOLD = 1000;
+    private static final int DEFAULT_BULK_CHUNK_SIZE = 1000;
+    private static final int DEFAULT_READ_CONVERSION_THRESHOLD = 10000;
+    private static final int READ_CONVERSION_CHUNK_SIZE = 1024;
+    private static final String SCORE_COLUMN = "_score";
+    private static final int DEFAULT_REFRESH_INTERVAL = 1000;
+    private static final int DEFAULT_EXPORT_PAGE_SIZE = 10000;
+    private static final String TIMEOUT = "statement '%s' did not complete within %d ms";
+    private static final String JOBS_OF_STATEMENT = "SELECT id FROM sys.jobs WHERE stmt = ?";
+    private static final String TAGGED_STATEMENT = "/* %s */ %s";
+    private static final Pattern WHERE_CLAUSE = Pattern.compile("\\bWHERE\\b", Pattern.CASE_INSENSITIVE);
+    private static final Pattern UNPAGED_CLAUSES = Pattern.compile("\\b(GROUP\\s+BY|ORDER\\s+BY|LIMIT)\\b", 
+    															   Pattern.CASE_INSENSITIVE);
+    private static final String[] UNWRITTEN_ROW_ERRORS = {"UnavailableShardsException", "EsRejectedExecutionException"};
     
     static {
         ALLOWED_BULK_OPERATIONS = unmodifiableCollection(asList(INSERT, UPDATE, DELETE));
@@ -116,16 +210,210 @@ public class CrateTemplate implements CrateOperations, ApplicationContextAware {
 	}
 
     public CrateTemplate(CrateClient client, CrateConverter crateConverter) {
-        this.client  = client;
+        this(new CrateClientPool(client), crateConverter);
+    }
+    
+    public CrateTemplate(CrateClientPool clientPool) {
+    	this(clientPool, null);
+    }
+    
+    /**
+     * Creates a {@link CrateTemplate} sending statements by the least loaded client of the given pool.
+     * 
+     * @param clientPool must not be {@literal null}.
+     * @param crateConverter the converter or {@literal null} for a default {@link MappingCrateConverter}
+     */
+    public CrateTemplate(CrateClientPool clientPool, CrateConverter crateConverter) {
+    	notNull(clientPool);
+        this.clientPool = clientPool;
         this.crateConverter = crateConverter == null ? new MappingCrateConverter(new CrateMappingContext()) 
         											 : crateConverter;
         this.exceptionTranslator = new CrateExceptionTranslator();
+        this.boundOperations = new ConcurrentHashMap<>();
+        this.switchedTables = new ConcurrentHashMap<>();
+        this.mirroredTables = new ConcurrentHashMap<>();
+        this.mirroredDeletes = new ConcurrentHashMap<>();
+        this.mirrorFailures = new ConcurrentHashMap<>();
+        this.bulkConversionParallelism = 1;
+        this.bulkConversionThreshold = DEFAULT_BULK_CONVERSION_THRESHOLD;
+        this.bulkChunkSize = DEFAULT_BULK_CHUNK_SIZE;
+        this.readConversionParallelism = 1;
+        this.readConversionThreshold = DEFAULT_READ_CONVERSION_THRESHOLD;
+        this.exportPageSize = DEFAULT_EXPORT_PAGE_SIZE;
+        this.deadlines = new ThreadLocal<>();
     }
     
     @Override
 	public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
     	this.eventPublisher = applicationContext;
+    	this.listenerDetector = new CrateMappingEventListenerDetector(applicationContext);
+    	
+    	if(applicationContext instanceof ConfigurableApplicationContext) {
+    		((ConfigurableApplicationContext)applicationContext).addApplicationListener(listenerDetector);
+    	}
 	}
+    
+    /**
+     * Configures an {@link AsyncCrateEventDispatcher} to publish post operation events on background threads.
+     * {@code Before*} events are always published on the calling thread.
+     * 
+     * @param eventDispatcher the dispatcher to use or {@literal null} to publish all events synchronously
+     */
+    public void setEventDispatcher(AsyncCrateEventDispatcher eventDispatcher) {
+    	this.eventDispatcher = eventDispatcher;
+    }
+    
+    /**
+     * Number of threads converting the entities of large bulk inserts and updates to documents. Defaults to 1, i.e.
+     * entities are converted on the calling thread. With a parallelism greater than 1 bulk operations of at least
+     * {@link #setBulkConversionThreshold(int) threshold} entities are converted in chunks and each chunk is sent as soon
+     * as it has been converted. {@link BeforeConvertEvent}s and {@link BeforeSaveEvent}s of those entities are published
+     * on the conversion threads.
+     * 
+     * @param bulkConversionParallelism must be greater than zero
+     */
+    public synchronized void setBulkConversionParallelism(int bulkConversionParallelism) {
+    	
+    	isTrue(bulkConversionParallelism > 0, "bulkConversionParallelism must be greater than zero");
+    	
+    	this.bulkConversionParallelism = bulkConversionParallelism;
+    	
+    	if(bulkConversionExecutor != null) {
+    		bulkConversionExecutor.shutdown();
+    		bulkConversionExecutor = null;
+    	}
+    }
+    
+    /**
+     * Minimum number of entities of a bulk operation to be converted in parallel. Defaults to 1000.
+     * 
+     * @param bulkConversionThreshold must be greater than zero
+     */
+    public void setBulkConversionThreshold(int bulkConversionThreshold) {
+    	isTrue(bulkConversionThreshold > 0, "bulkConversionThreshold must be greater than zero");
+    	this.bulkConversionThreshold = bulkConversionThreshold;
+    }
+    
+    /**
+     * Number of entities sent with a single request when a bulk operation is converted in parallel. Defaults to 1000.
+     * 
+     * @param bulkChunkSize must be greater than zero
+     */
+    public void setBulkChunkSize(int bulkChunkSize) {
+    	isTrue(bulkChunkSize > 0, "bulkChunkSize must be greater than zero");
+    	this.bulkChunkSize = bulkChunkSize;
+    }
+    
+    /**
+     * Number of threads converting the rows of large query results to entities. Defaults to 1, i.e. rows are converted
+     * on the calling thread. With a parallelism greater than 1 results of at least 
+     * {@link #setReadConversionThreshold(int) threshold} rows are converted on a {@link ForkJoinPool}. The order of 
+     * the rows is preserved and {@link AfterLoadEvent}s and {@link AfterConvertEvent}s are still published on the 
+     * calling thread in the order of the rows. A change takes effect with a new pool, the pool in use is left to queries
+     * still converting on it and its idle threads end on their own.
+     * 
+     * @param readConversionParallelism must be greater than zero
+     */
+    public synchronized void setReadConversionParallelism(int readConversionParallelism) {
+    	
+    	isTrue(readConversionParallelism > 0, "readConversionParallelism must be greater than zero");
+    	
+    	this.readConversionParallelism = readConversionParallelism;
+    	
+    	// not shut down, concurrent queries may still invoke conversions on the pool
+    	readConversionPool = null;
+    }
+    
+    /**
+     * Minimum number of rows of a query result to be converted in parallel. Defaults to 10000.
+     * 
+     * @param readConversionThreshold must be greater than zero
+     */
+    public void setReadConversionThreshold(int readConversionThreshold) {
+    	isTrue(readConversionThreshold > 0, "readConversionThreshold must be greater than zero");
+    	this.readConversionThreshold = readConversionThreshold;
+    }
+    
+    /**
+     * Number of rows read by a single request of a table export. Defaults to 10000.
+     * 
+     * @param exportPageSize must be greater than zero
+     * @see #exportTable(String, String, String, Object[], WritableByteChannel, ExportFormat)
+     */
+    public void setExportPageSize(int exportPageSize) {
+    	isTrue(exportPageSize > 0, "exportPageSize must be greater than zero");
+    	this.exportPageSize = exportPageSize;
+    }
+    
+    /**
+     * Time to wait for the response of a statement. Defaults to {@literal 0}, i.e. no timeout. Operations sending
+     * several statements, e.g. chunked bulk operations and exports, have to complete within the timeout as a whole.
+     * A statement which does not complete in time fails with a {@link QueryTimeoutException}.
+     * 
+     * @param defaultTimeout timeout in milliseconds
+     * @see #withTimeout(long, TimeUnit, DeadlineCallback)
+     */
+    public void setDefaultTimeout(long defaultTimeout) {
+    	isTrue(defaultTimeout >= 0, "defaultTimeout must not be negative");
+    	this.defaultTimeout = defaultTimeout;
+    }
+    
+    /**
+     * Flag to cancel the job of a statement which timed out with a {@code KILL} statement, so that the cluster stops 
+     * working on a result nobody waits for. Statements sent with a timeout are prefixed with a comment holding a unique
+     * tag, by which the job is looked up in {@code sys.jobs}. This requires job statistics to be enabled on the cluster.
+     * Defaults to {@code false}.
+     * 
+     * @param killOnTimeout {@code true} to cancel jobs which timed out
+     */
+    public void setKillOnTimeout(boolean killOnTimeout) {
+    	this.killOnTimeout = killOnTimeout;
+    }
+    
+    /**
+     * Configures a {@link RetryPolicy} to send statements which failed with a transient failure again. Bulk statements
+     * are only sent again with the rows which failed. Retries wait no longer than the deadline of the calling thread.
+     * 
+     * @param retryPolicy the policy to use or {@literal null} to never retry statements
+     * @see ExponentialBackoffRetryPolicy
+     */
+    public void setRetryPolicy(RetryPolicy retryPolicy) {
+    	this.retryPolicy = retryPolicy;
+    }
+    
+    /**
+     * Configures an {@link AdmissionControl} limiting the statements in flight per table and operation class, the rows
+     * written by bulk statements per second and rejecting statements while the cluster fails. Rejected statements 
+     * fail fast with an {@link org.springframework.data.crate.AdmissionRejectedException}.
+     * 
+     * @param admissionControl the admission control to use or {@literal null} to admit all statements
+     */
+    public void setAdmissionControl(AdmissionControl admissionControl) {
+    	this.admissionControl = admissionControl;
+    }
+    
+    /**
+     * Configures a {@link HedgingPolicy} to send point reads, i.e. {@code findById} and {@code count}, a second time 
+     * if the first request is slow, using the response arriving first. Hedges are sent by the least loaded client of 
+     * the {@link CrateClientPool}.
+     * 
+     * @param hedgingPolicy the policy to use or {@literal null} to never hedge reads
+     */
+    public void setHedgingPolicy(HedgingPolicy hedgingPolicy) {
+    	this.hedgingPolicy = hedgingPolicy;
+    }
+    
+    @Override
+    public synchronized void destroy() throws Exception {
+    	
+    	if(bulkConversionExecutor != null) {
+    		bulkConversionExecutor.shutdown();
+    	}
+    	
+    	if(readConversionPool != null) {
+    		readConversionPool.shutdown();
+    	}
+    }
 
     @Override
     public CrateConverter getConverter() {
@@ -144,6 +432,17 @@ public class CrateTemplate implements CrateOperations, ApplicationContextAware {
     
     @Override
 	public <T> T execute(CrateAction action, CrateActionResponseHandler<T> handler) throws DataAccessException {
+    	return execute(action, handler, false);
+    }
+    
+    /**
+     * Executes a point read, which is hedged if a {@link HedgingPolicy} is configured.
+     */
+    private <T> T executeRead(CrateAction action, CrateActionResponseHandler<T> handler) {
+    	return execute(action, handler, true);
+    }
+    
+    private <T> T execute(CrateAction action, CrateActionResponseHandler<T> handler, boolean hedgeable) {
     	
     	notNull(action, "An implementation of CrateAction is required");
     	notNull(handler, "An implementation of CrateActionResponseHandler<T> is required");
@@ -151,12 +450,288 @@ public class CrateTemplate implements CrateOperations, ApplicationContextAware {
     	try {
     		SQLRequest request = action.getSQLRequest();
     		logger.debug(SQL_STATEMENT, request.stmt(), Arrays.toString(request.args()));
-    		return (T)handler.handle(client.sql(request).actionGet());
+    		return (T)handler.handle(executeWithRetries(request, hedgeable));
     	}catch(SQLActionException e) {
     		throw tryConvertingRuntimeException(e);
 		}
     }
     
+    private SQLResponse executeWithRetries(SQLRequest request, boolean hedgeable) {
+    	
+    	for(int attempt = 1; ; attempt++) {
+    		try {
+    			return executeRequest(request, hedgeable);
+    		}catch(SQLActionException | NoNodeAvailableException e) {
+    			
+    			RuntimeException failure = tryConvertingRuntimeException(e);
+    			
+    			if(!canRetry(request.stmt(), failure, attempt)) {
+    				throw failure;
+    			}
+    		}
+    	}
+    }
+    
+    private boolean canRetry(String statement, RuntimeException failure, int attempt) {
+    	return retryPolicy != null && retryPolicy.isIdempotent(statement) && retryPolicy.isTransient(failure) && 
+    		   awaitRetry(statement, attempt);
+    }
+    
+    /**
+     * Waits for the backoff of the retry policy unless the policy gives up or the deadline of the calling thread 
+     * passes before.
+     * 
+     * @return {@code true} if the statement should be sent again
+     */
+    private boolean awaitRetry(String statement, int attempt) {
+    	
+    	long backoff = retryPolicy.getBackoff(attempt);
+    	
+    	if(backoff < 0) {
+    		return false;
+    	}
+    	
+    	Long deadline = deadlines.get();
+    	
+    	if(deadline != null && System.currentTimeMillis() + backoff >= deadline) {
+    		return false;
+    	}
+    	
+    	logger.warn("attempt {} of statement '{}' failed, retrying in {} ms", new Object[]{attempt, statement, backoff});
+    	
+    	try {
+    		Thread.sleep(backoff);
+    	}catch(InterruptedException e) {
+    		Thread.currentThread().interrupt();
+    		return false;
+    	}
+    	
+    	return true;
+    }
+    
+    private SQLResponse executeRequest(SQLRequest request, boolean hedgeable) {
+    	
+    	Admission admission = admit(request.stmt(), 1, false);
+    	RuntimeException failure = null;
+    	HedgingPolicy policy = hedgingPolicy;
+    	
+    	try {
+    		return hedgeable && policy != null ? awaitHedgedResponse(request, policy) : awaitResponse(request);
+    	}catch(RuntimeException e) {
+    		failure = tryConvertingRuntimeException(e);
+    		throw e;
+    	}finally {
+    		if(admission != null) {
+    			admission.complete(failure);
+    		}
+    	}
+    }
+    
+    private SQLResponse awaitResponse(SQLRequest request) {
+    	
+    	long timeout = getRequestTimeout(request.stmt());
+    	SQLRequest sent = tagged(request, timeout);
+    	
+    	ActionFuture<SQLResponse> future = clientPool.sql(sent);
+    	
+    	if(timeout == 0) {
+    		return future.actionGet();
+    	}
+    	
+    	try {
+    		return future.actionGet(timeout, MILLISECONDS);
+    	}catch(ElasticsearchTimeoutException e) {
+    		throw timedOut(request.stmt(), sent.stmt(), timeout, e);
+    	}
+    }
+    
+    /**
+     * Sends the request and, if no response arrives within the delay of the policy, sends it a second time. The 
+     * response arriving first is used and the other one is discarded, the request fails only if both fail.
+     */
+    private SQLResponse awaitHedgedResponse(SQLRequest request, HedgingPolicy policy) {
+    	
+    	long timeout = getRequestTimeout(request.stmt());
+    	long started = System.currentTimeMillis();
+    	SQLRequest sent = tagged(request, timeout);
+    	
+    	HedgedRead read = new HedgedRead(policy, started);
+    	clientPool.sql(sent, read.listener(false));
+    	
+    	long delay = policy.readStarted();
+    	
+    	try {
+    		if(delay >= 0 && (timeout == 0 || delay < timeout)) {
+    			try {
+    				return read.response.actionGet(delay, MILLISECONDS);
+    			}catch(ElasticsearchTimeoutException e) {
+    				if(policy.tryHedge()) {
+    					logger.debug("hedging statement '{}' after {} ms", request.stmt(), delay);
+    					clientPool.sql(sent, read.listener(true));
+    				}
+    			}
+    		}
+    		
+    		if(timeout == 0) {
+    			return read.response.actionGet();
+    		}
+    		
+    		long remaining = Math.max(1, timeout - (System.currentTimeMillis() - started));
+    		
+    		return read.response.actionGet(remaining, MILLISECONDS);
+    	}catch(ElasticsearchTimeoutException e) {
+    		throw timedOut(request.stmt(), sent.stmt(), timeout, e);
+    	}
+    }
+    
+    @Override
+    public <T> T withTimeout(long timeout, TimeUnit unit, DeadlineCallback<T> callback) {
+    	
+    	isTrue(timeout > 0, "timeout must be greater than zero");
+    	notNull(unit);
+    	notNull(callback);
+    	
+    	Long outer = beginDeadline(unit.toMillis(timeout));
+    	
+    	try {
+    		return callback.doWithinDeadline(this);
+    	}finally {
+    		endDeadline(outer);
+    	}
+    }
+    
+    /**
+     * Starts a deadline for the statements sent on the calling thread, unless an earlier deadline is in place.
+     * 
+     * @param timeout the time until the deadline or {@literal 0} for no deadline
+     * @return the deadline in place before, to be restored with {@link #endDeadline(Long)}
+     */
+    private Long beginDeadline(long timeout) {
+    	
+    	Long outer = deadlines.get();
+    	
+    	if(timeout > 0) {
+    		
+    		long deadline = System.currentTimeMillis() + timeout;
+    		
+    		if(outer == null || deadline < outer) {
+    			deadlines.set(deadline);
+    		}
+    	}
+    	
+    	return outer;
+    }
+    
+    private void endDeadline(Long outer) {
+    	
+    	if(outer == null) {
+    		deadlines.remove();
+    	}else {
+    		deadlines.set(outer);
+    	}
+    }
+    
+    /**
+     * @return the time left until the deadline of the calling thread, the default timeout without deadline
+     */
+    private long getRequestTimeout(String statement) {
+    	
+    	Long deadline = deadlines.get();
+    	
+    	if(deadline == null) {
+    		return defaultTimeout;
+    	}
+    	
+    	long remaining = deadline - System.currentTimeMillis();
+    	
+    	if(remaining <= 0) {
+    		throw new QueryTimeoutException(format("deadline passed before statement '%s' was sent", statement));
+    	}
+    	
+    	return remaining;
+    }
+    
+    /**
+     * @return a copy of the request with its statement tagged by a unique comment if jobs of statements timing out are 
+     * cancelled, the request itself otherwise
+     */
+    private SQLRequest tagged(SQLRequest request, long timeout) {
+    	
+    	if(!killOnTimeout || timeout == 0) {
+    		return request;
+    	}
+    	
+    	SQLRequest tagged = new SQLRequest(tag(request.stmt()), request.args());
+    	tagged.includeTypesOnResponse(request.includeTypesOnResponse());
+    	
+    	return tagged;
+    }
+    
+    private SQLBulkRequest tagged(SQLBulkRequest request, long timeout) {
+    	
+    	if(!killOnTimeout || timeout == 0) {
+    		return request;
+    	}
+    	
+    	return new SQLBulkRequest(tag(request.stmt()), request.bulkArgs());
+    }
+    
+    private String tag(String statement) {
+    	return format(TAGGED_STATEMENT, UUID.randomUUID(), statement);
+    }
+    
+    /**
+     * @param statement the statement as given, used in the failure message
+     * @param sent the statement as sent, tagged if jobs of statements timing out are cancelled
+     */
+    private QueryTimeoutException timedOut(String statement, String sent, long timeout, Exception cause) {
+    	
+    	if(killOnTimeout) {
+    		killJobs(sent);
+    	}
+    	
+    	return new QueryTimeoutException(format(TIMEOUT, statement, timeout), cause);
+    }
+    
+    /**
+     * Cancels the jobs of the given tagged statement. Jobs are looked up and cancelled asynchronously, failures are 
+     * logged only.
+     */
+    private void killJobs(final String statement) {
+    	
+    	clientPool.sql(new SQLRequest(JOBS_OF_STATEMENT, new Object[]{statement}), new ActionListener<SQLResponse>() {
+    		
+			@Override
+			public void onResponse(SQLResponse response) {
+				
+				for(Object[] row : response.rows()) {
+					
+					String kill = new KillJob(String.valueOf(row[0])).createStatement();
+					
+					logger.info("cancelling job '{}' of statement '{}' after timeout", row[0], statement);
+					
+					clientPool.sql(new SQLRequest(kill), new ActionListener<SQLResponse>() {
+						
+						@Override
+						public void onResponse(SQLResponse response) {
+							// no op
+						}
+						
+						@Override
+						public void onFailure(Throwable e) {
+							logger.warn("failed to cancel job of statement '{}': {}", statement, e.getMessage());
+						}
+					});
+				}
+			}
+			
+			@Override
+			public void onFailure(Throwable e) {
+				logger.warn("failed to look up job of statement '{}': {}", statement, e.getMessage());
+			}
+		});
+    }
+    
 	@Override
 	public <T> BulkOperartionResult<T> execute(CrateBulkAction action, CrateBulkActionResponseHandler<T> handler) throws DataAccessException {
 		
@@ -169,371 +744,2126 @@ public class CrateTemplate implements CrateOperations, ApplicationContextAware {
 													              ALLOWED_BULK_OPERATIONS));
 		}
 		
-    	try {
-    		SQLBulkRequest request = action.getSQLRequest();
-    		if(logger.isDebugEnabled()) {
-    			logger.debug(SQL_STATEMENT, request.stmt(), Arrays.deepToString(request.bulkArgs()));
-    		}
-    		return handler.handle(client.bulkSql(request).get());
-    	}catch(SQLActionException e) {
-    		throw tryConvertingRuntimeException(e);
-    	}catch(InterruptedException e) {
-    		throw new CrateSQLActionException(e.getMessage(), e);
-		}catch(ExecutionException e) {
-			throw new CrateSQLActionException(e.getMessage(), e);
-		}
+    	return handler.handle(executeBulkRequest(action.getSQLRequest()));
 	}
 	
-    @Override
-	public void insert(Object entity) {
-    	
-    	notNull(entity);
-    	insert(entity, getTableName(entity.getClass()));
-	}
-
-	@Override
-	public void insert(Object entity, String tableName) {
+	private SQLBulkResponse executeBulkRequest(SQLBulkRequest request) {
 		
-		notNull(entity);
-		hasText(tableName);
+		if(logger.isDebugEnabled()) {
+			logger.debug(SQL_STATEMENT, request.stmt(), Arrays.deepToString(request.bulkArgs()));
+		}
 		
-		executeInternal(new InsertAction(entity, tableName));
+		for(int attempt = 1; ; attempt++) {
+			try {
+				return retryFailedRows(request, sendBulkRequest(request));
+			}catch(SQLActionException | NoNodeAvailableException e) {
+				
+				RuntimeException failure = tryConvertingRuntimeException(e);
+				
+				if(!canRetry(request.stmt(), failure, attempt)) {
+					throw failure;
+				}
+			}
+		}
 	}
 	
-	@Override
-	public <T> BulkOperartionResult<T> bulkInsert(List<T> entities, Class<T> entityClass) {
+	/**
+	 * Sends the rows of the given request which failed with a transient failure again, until all rows succeeded or 
+	 * the retry policy gives up. The results of the response are replaced with the results of the rows sent again.
+	 * Rows of statements which are not idempotent are only sent again if their error guarantees that they have not
+	 * been written, as a row failing e.g. on a lost node connection may have been applied.
+	 */
+	private SQLBulkResponse retryFailedRows(SQLBulkRequest request, SQLBulkResponse response) {
 		
-		notNull(entityClass);
-		return bulkInsert(entities, entityClass, getTableName(entityClass));
+		if(retryPolicy == null) {
+			return response;
+		}
+		
+		Result[] results = response.results();
+		boolean idempotent = retryPolicy.isIdempotent(request.stmt());
+		
+		for(int attempt = 1; ; attempt++) {
+			
+			List<Integer> failed = new ArrayList<>();
+			
+			for(int index = 0; index < results.length; index++) {
+				
+				String error = results[index].errorMessage();
+				
+				if(StringUtils.hasText(error) && retryPolicy.isTransient(error) && (idempotent || isUnwritten(error))) {
+					failed.add(index);
+				}
+			}
+			
+			if(failed.isEmpty() || !awaitRetry(request.stmt(), attempt)) {
+				return response;
+			}
+			
+			Object[][] rows = new Object[failed.size()][];
+			
+			for(int index = 0; index < rows.length; index++) {
+				rows[index] = request.bulkArgs()[failed.get(index)];
+			}
+			
+			Result[] retried;
+			
+			try {
+				retried = sendBulkRequest(new SQLBulkRequest(request.stmt(), rows)).results();
+			}catch(SQLActionException | NoNodeAvailableException e) {
+				logger.warn("failed to retry {} rows of statement '{}': {}", new Object[]{rows.length, request.stmt(), 
+																						 e.getMessage()});
+				return response;
+			}
+			
+			for(int index = 0; index < rows.length && index < retried.length; index++) {
+				results[failed.get(index)] = retried[index];
+			}
+		}
 	}
-
-	@Override
-	public <T> BulkOperartionResult<T> bulkInsert(List<T> entities, Class<T> entityClass, String tableName) {
+	
+	private static boolean isUnwritten(String rowError) {
 		
-		boolean hasId = isIdPropertyDefined(entityClass);
-
-		if(!hasId) {
-			logger.warn(NO_ID_WARNING, entityClass.getName());
+		for(String error : UNWRITTEN_ROW_ERRORS) {
+			if(rowError.contains(error)) {
+				return true;
+			}
 		}
 		
-		return executeBulkInternal(new BulkInsertOperation<T>(entityClass, tableName, entities));
+		return false;
 	}
 	
-	@Override
-	public void update(Object entity) {
+	private SQLBulkResponse sendBulkRequest(SQLBulkRequest request) {
 		
-		notNull(entity);
-		update(entity, getTableName(entity.getClass()));
+		Admission admission = admit(request.stmt(), request.bulkArgs().length, true);
+		RuntimeException failure = null;
+		
+		try {
+			return awaitBulkResponse(request);
+		}catch(RuntimeException e) {
+			failure = tryConvertingRuntimeException(e);
+			throw e;
+		}finally {
+			if(admission != null) {
+				admission.complete(failure);
+			}
+		}
 	}
 	
-	@Override
-	public void update(Object entity, String tableName) {
+	private Admission admit(String statement, int rows, boolean bulk) {
 		
-		notNull(entity);
-		hasText(tableName);
+		AdmissionControl control = admissionControl;
 		
-		executeInternal(new WholesaleUpdateByIdAction(entity, tableName));
+		return control != null ? control.admit(statement, rows, bulk) : null;
 	}
 	
-	@Override
-	public <T> BulkOperartionResult<T> bulkUpdate(List<T> entities, Class<T> entityClass) {
+	private SQLBulkResponse awaitBulkResponse(SQLBulkRequest request) {
 		
-		notNull(entityClass);
-		return bulkUpdate(entities, entityClass, getTableName(entityClass));
+    	try {
+    		long timeout = getRequestTimeout(request.stmt());
+    		SQLBulkRequest sent = tagged(request, timeout);
+    		
+    		ActionFuture<SQLBulkResponse> future = clientPool.bulkSql(sent);
+    		
+    		if(timeout == 0) {
+    			return future.get();
+    		}
+    		
+    		try {
+    			return future.get(timeout, MILLISECONDS);
+    		}catch(TimeoutException e) {
+    			throw timedOut(request.stmt(), sent.stmt(), timeout, e);
+    		}
+    	}catch(InterruptedException e) {
+    		throw new CrateSQLActionException(e.getMessage(), e);
+		}catch(ExecutionException e) {
+			
+			// server and connection failures are translated by the caller
+			if(e.getCause() instanceof SQLActionException) {
+				throw (SQLActionException)e.getCause();
+			}
+			
+			if(e.getCause() instanceof NoNodeAvailableException) {
+				throw (NoNodeAvailableException)e.getCause();
+			}
+			
+			throw new CrateSQLActionException(e.getMessage(), e);
+		}
 	}
-
-	@Override
-	public <T> BulkOperartionResult<T> bulkUpdate(List<T> entities, Class<T> entityClass, String tableName) {
+	
+    @Override
+	public <T> BoundCrateOperations<T> forEntity(Class<T> entityClass) {
 		
 		notNull(entityClass);
-		notEmpty(entities);
-		
-		return executeBulkInternal(new BulkUpdateOperation<T>(entityClass, tableName, entities));
+		return forEntity(entityClass, getTableName(entityClass));
 	}
 	
 	@Override
-	public <T> List<T> findAll(Class<T> entityClass) {
+	@SuppressWarnings("unchecked")
+	public <T> BoundCrateOperations<T> forEntity(Class<T> entityClass, String tableName) {
 		
 		notNull(entityClass);
-		return findAll(entityClass, getTableName(entityClass));
+		hasText(tableName);
+		
+		ConcurrentMap<String, BoundCrateOperations<?>> tables = boundOperations.get(entityClass);
+		
+		if(tables == null) {
+			ConcurrentMap<String, BoundCrateOperations<?>> created = new ConcurrentHashMap<>();
+			tables = boundOperations.putIfAbsent(entityClass, created);
+			if(tables == null) {
+				tables = created;
+			}
+		}
+		
+		BoundCrateOperations<?> operations = tables.get(tableName);
+		
+		if(operations == null) {
+			// guards against a concurrent switch of the table while the operations are being created
+			synchronized (switchedTables) {
+				BoundCrateOperations<?> created = new SwitchableBoundOperations<>(entityClass, resolveTableName(tableName));
+				operations = tables.putIfAbsent(tableName, created);
+				if(operations == null) {
+					operations = created;
+				}
+			}
+		}
+		
+		return (BoundCrateOperations<T>)operations;
 	}
-
+	
 	@Override
-	public <T> List<T> findAll(Class<T> entityClass, String tableName) {
+	public String resolveTableName(String tableName) {
 		
-		notNull(entityClass);
 		hasText(tableName);
 		
-		return execute(new SelectAction(entityClass, tableName, null),
-					   new ReadDbHandler<T>(entityClass));
+		String switchedTable = switchedTables.get(tableName);
+		
+		return switchedTable != null ? switchedTable : tableName;
 	}
 	
 	@Override
-	public <T> T findById(Object id, Class<T> entityClass) {
+	public void switchTable(String tableName, String targetTableName) {
 		
-    	notNull(id);
-		return findById(id, entityClass, getTableName(entityClass));
+		hasText(tableName);
+		hasText(targetTableName);
+		
+		synchronized (switchedTables) {
+			
+			switchedTables.put(tableName, targetTableName);
+			
+			for(ConcurrentMap<String, BoundCrateOperations<?>> tables : boundOperations.values()) {
+				
+				BoundCrateOperations<?> operations = tables.get(tableName);
+				
+				if(operations != null) {
+					((SwitchableBoundOperations<?>)operations).switchTo(targetTableName);
+				}
+			}
+		}
+		
+		logger.info("switched table '{}' to '{}'", tableName, targetTableName);
 	}
-
-	// TODO: re factor when the Criteria API is in place
+	
 	@Override
-	public <T> T findById(Object id, Class<T> entityClass, String tableName) {
+	public void mirrorWrites(String tableName, String mirrorTableName) {
 		
-		notNull(id);
+		hasText(tableName);
+		hasText(mirrorTableName);
+		isTrue(!tableName.equals(mirrorTableName), "a table can not be mirrored to itself");
 		
-		if(!isIdPropertyDefined(entityClass)) {
-			throw new MappingException(format("Entity '%s' has no id property defined", entityClass.getName()));
-		}
+		mirroredDeletes.put(tableName, Collections.newSetFromMap(new ConcurrentHashMap<Object, Boolean>()));
+		mirrorFailures.put(tableName, new AtomicInteger());
+		mirroredTables.put(tableName, mirrorTableName);
 		
-		List<T> dbEntity = execute(new SelectAction(entityClass, tableName, id),
-	   						 	   new ReadDbHandler<T>(entityClass));
-		if(dbEntity.isEmpty()) {
-			logger.info("No row found with id '{}'", id);
-			return null;
-		}else {
-			return dbEntity.iterator().next();
-		}
+		logger.info("mirroring writes of table '{}' to '{}'", tableName, mirrorTableName);
 	}
 	
 	@Override
-	public <T> void deleteAll(Class<T> entityClass) {
+	public int reapplyMirroredDeletes(Class<?> entityClass, String tableName) {
 		
 		notNull(entityClass);
-		deleteAll(getTableName(entityClass));
+		hasText(tableName);
+		
+		String mirrorTableName = mirroredTables.get(tableName);
+		Set<Object> deletes = mirroredDeletes.get(tableName);
+		
+		if(mirrorTableName == null || deletes == null || deletes.isEmpty()) {
+			return 0;
+		}
+		
+		List<Object> ids = new ArrayList<Object>(deletes);
+		
+		BulkOperartionResult<Object> result = new EntityBoundOperations<>(entityClass, mirrorTableName, false).bulkDelete(ids);
+		
+		deletes.removeAll(ids);
+		
+		logger.info("deleted {} rows of table '{}' again in '{}'", new Object[]{result.getSuccesses().size(), tableName, 
+																			   mirrorTableName});
+		
+		return result.getSuccesses().size();
 	}
-
-	// TODO: re factor when the Criteria API is in place
+	
 	@Override
-	public void deleteAll(String tableName) {
+	public int getMirrorFailures(String tableName) {
 		
 		hasText(tableName);
 		
-		final String name = tableName;
+		AtomicInteger failures = mirrorFailures.get(tableName);
 		
-		execute(new CrateAction() {
-			
-			@Override
-			public String getSQLStatement() {
-				return format("DELETE FROM %s", name);
-			}
-			
-			@Override
-			public SQLRequest getSQLRequest() {
-				return new SQLRequest(getSQLStatement());
-			}
-		});
+		return failures != null ? failures.get() : 0;
 	}
 	
 	@Override
-	public <T> boolean delete(Object id, Class<T> entityClass) {
+	public void stopMirroringWrites(String tableName) {
 		
-		notNull(entityClass);
-		return delete(id, entityClass, getTableName(entityClass));
+		hasText(tableName);
+		
+		String mirrorTableName = mirroredTables.remove(tableName);
+		mirroredDeletes.remove(tableName);
+		mirrorFailures.remove(tableName);
+		
+		if(mirrorTableName != null) {
+			logger.info("stopped mirroring writes of table '{}' to '{}'", tableName, mirrorTableName);
+		}
+	}
+	
+    @Override
+	public void insert(Object entity) {
+    	
+    	notNull(entity);
+    	insert(entity, getTableName(entity.getClass()));
 	}
 
 	@Override
-	public <T> boolean delete(Object id, Class<T> entityClass, String tableName) {
+	public void insert(Object entity, String tableName) {
 		
-		notNull(entityClass);
+		notNull(entity);
 		hasText(tableName);
 		
-		if(id == null) {
-			return false;
-		}
+		boundTo(entity, tableName).insert(entity);
+	}
+	
+	@Override
+	public <T> BulkOperartionResult<T> bulkInsert(List<T> entities, Class<T> entityClass) {
 		
-		DeleteByIdActionHandler actionHandler = new DeleteByIdActionHandler(tableName, entityClass, id);
+		notNull(entityClass);
+		return bulkInsert(entities, entityClass, getTableName(entityClass));
+	}
+
+	@Override
+	public <T> BulkOperartionResult<T> bulkInsert(List<T> entities, Class<T> entityClass, String tableName) {
+		return forEntity(entityClass, tableName).bulkInsert(entities);
+	}
+	
+	@Override
+	public void update(Object entity) {
 		
-		return execute(actionHandler, actionHandler);
+		notNull(entity);
+		update(entity, getTableName(entity.getClass()));
 	}
 	
 	@Override
-	public <T> BulkOperartionResult<Object> bulkDelete(List<Object> ids, Class<T> entityClass) {
+	public void update(Object entity, String tableName) {
 		
-		notEmpty(ids);
-		notNull(entityClass);
-		return bulkDelete(ids, entityClass, getTableName(entityClass));
+		notNull(entity);
+		hasText(tableName);
+		
+		boundTo(entity, tableName).update(entity);
 	}
 	
 	@Override
-	public <T> BulkOperartionResult<Object> bulkDelete(List<Object> ids, Class<T> entityClass, String tableName) {
+	public <T> BulkOperartionResult<T> bulkUpdate(List<T> entities, Class<T> entityClass) {
 		
-		notEmpty(ids);
 		notNull(entityClass);
-		hasText(tableName);
+		return bulkUpdate(entities, entityClass, getTableName(entityClass));
+	}
+
+	@Override
+	public <T> BulkOperartionResult<T> bulkUpdate(List<T> entities, Class<T> entityClass, String tableName) {
 		
-		BulkDeleteOperation actionHandler = new BulkDeleteOperation(entityClass, tableName, ids); 
+		notNull(entityClass);
+		notEmpty(entities);
 		
-		return execute(actionHandler, actionHandler);
+		return forEntity(entityClass, tableName).bulkUpdate(entities);
 	}
 	
 	@Override
-	public <T> void refreshTable(Class<T> entityClass) {
+	public <T> List<T> findAll(Class<T> entityClass) {
 		
 		notNull(entityClass);
-		refreshTable(getTableName(entityClass));
+		return findAll(entityClass, getTableName(entityClass));
 	}
 
 	@Override
-	public void refreshTable(String tableName) {
+	public <T> List<T> findAll(Class<T> entityClass, String tableName) {
 		
+		notNull(entityClass);
 		hasText(tableName);
 		
-		logger.info("refreshing table '{}'", tableName);
-		this.execute(new RefreshTableAction(tableName));
+		return forEntity(entityClass, tableName).findAll();
 	}
 	
-	protected <T> void maybeEmitEvent(CrateMappingEvent<T> event) {
-		if (eventPublisher != null) {
-			eventPublisher.publishEvent(event);
-		}
+	@Override
+	public <T> List<T> findAllInPartition(Class<T> entityClass, Object... partitionValues) {
+		
+		notNull(entityClass);
+		return forEntity(entityClass).findAllInPartition(partitionValues);
 	}
 	
-	private void executeInternal(WriteDbAction action) {
-		action.beforeSave();
-		execute(action, action);
+	@Override
+	public <T> List<SearchHit<T>> match(Class<T> entityClass, String column, String term, Pageable pageable) {
+		
+		notNull(entityClass);
+		return forEntity(entityClass).match(column, term, pageable);
 	}
 	
-	private <T> BulkOperartionResult<T> executeBulkInternal(BaseSQLBulkOperation<T> op) {
-		op.beforeSave();
-		return execute(op, op);
+	@Override
+	public <T> T findById(Object id, Class<T> entityClass) {
+		
+    	notNull(id);
+		return findById(id, entityClass, getTableName(entityClass));
+	}
+
+	// TODO: re factor when the Criteria API is in place
+	@Override
+	public <T> T findById(Object id, Class<T> entityClass, String tableName) {
+		
+		notNull(id);
+		return forEntity(entityClass, tableName).findById(id);
 	}
 	
-	private String getTableName(Class<?> clazz) {
-		return getPersistentEntityFor(clazz).getTableName();
+	@Override
+	public <T> void deleteAll(Class<T> entityClass) {
+		
+		notNull(entityClass);
+		forEntity(entityClass).deleteAll();
 	}
 	
-    private CratePersistentEntity<?> getPersistentEntityFor(Class<?> clazz) {
-    	notNull(clazz, "Class parameter provided can not be null");
-        return crateConverter.getMappingContext().getPersistentEntity(clazz);
-    }
-    
-    /**
-	 * Tries to convert the given {@link RuntimeException} into a {@link DataAccessException}. The original
-	 * exception is returned if the conversion fails.
-	 * 
-	 * @param ex
-	 * @return the translated exception or the thrown exception
-	 */
-	private RuntimeException tryConvertingRuntimeException(RuntimeException ex) {
-		RuntimeException resolved = exceptionTranslator.translateExceptionIfPossible(ex);
-		return resolved == null ? ex : resolved;
+	@Override
+	public <T> long dropPartitionsOlderThan(Class<T> entityClass, Date cutoff) {
+		
+		notNull(entityClass);
+		return forEntity(entityClass).dropPartitionsOlderThan(cutoff);
 	}
 
-	private boolean isIdPropertyDefined(Class<?> clazz) {
-		return getPersistentEntityFor(clazz).hasIdProperty();
-	}
-	
-	private boolean isVersionPropertyDefined(Class<?> clazz) {
-		return getPersistentEntityFor(clazz).hasVersionProperty();
+	@Override
+	public <T, R> R bulkLoad(Class<T> entityClass, BulkLoadCallback<T, R> callback) {
+		
+		notNull(entityClass);
+		return forEntity(entityClass).bulkLoad(callback);
 	}
-	
-	private CratePersistentProperty getIdPropertyFor(Class<?> type) {
-		return getPersistentEntityFor(type).getIdProperty();
+
+	@Override
+	public long copyFrom(String tableName, String uri, CopyFromOptions options) {
+		
+		hasText(tableName);
+		hasText(uri);
+		notNull(options);
+		
+		CopyFromAction actionHandler = new CopyFromAction(resolveTableName(tableName), uri, options);
+		
+		return execute(actionHandler, actionHandler);
 	}
-	
-	private Object getIdPropertyValue(Object object) {
+
+	@Override
+	public <T> long copyTo(Class<T> entityClass, String directoryUri, CopyToOptions options) {
+		
+		notNull(entityClass);
+		notNull(options);
 		
-		CratePersistentEntity<?> entity = getPersistentEntityFor(object.getClass());
+		CratePersistentEntity<?> entity = getPersistentEntityFor(entityClass);
 		
-		if(entity.hasIdProperty()) {
-			return entity.getPropertyAccessor(object).getProperty(entity.getIdProperty());
-		}else {
-			return null;
+		if(!options.getPartition().isEmpty()) {
+			
+			TableParameters parameters = entity.getTableParameters();
+			
+			List<String> partitionedBy = parameters != null ? parameters.getPartitionedBy() : Collections.<String>emptyList();
+			
+			if(!options.getPartition().keySet().equals(new HashSet<>(partitionedBy))) {
+				throw new MappingException(format("partition of '%s' must be identified by values of the partition columns %s", 
+												  entityClass.getName(), partitionedBy));
+			}
 		}
+		
+		return copyTo(resolveTableName(entity.getTableName()), directoryUri, options);
 	}
 	
-	private Long getVersionPropertyValue(Object object) {
+	@Override
+	public long copyTo(String tableName, String directoryUri, CopyToOptions options) {
 		
-		CratePersistentEntity<?> entity = getPersistentEntityFor(object.getClass());
+		hasText(tableName);
+		hasText(directoryUri);
+		notNull(options);
 		
-		if(entity.hasVersionProperty()) {
-			return (Long)entity.getPropertyAccessor(object).getProperty(entity.getVersionProperty());
-		}else {
-			return null;
-		}
+		CopyToAction actionHandler = new CopyToAction(resolveTableName(tableName), directoryUri, options);
+		
+		return execute(actionHandler, actionHandler);
 	}
-	
-	private void setVersionPropertyValue(Object object, Long versionValue) {
+
+	@Override
+	public long copyTable(String sourceTable, String targetTable, Map<String, String> columnMapping, String criteria, 
+						  Object... args) {
 		
-		CratePersistentEntity<?> entity = getPersistentEntityFor(object.getClass());
+		notNull(columnMapping);
 		
-		if(entity.hasVersionProperty()) {
-			entity.getPropertyAccessor(object).setProperty(entity.getVersionProperty(), versionValue);
+		CopyTableOptions options = new CopyTableOptions();
+		options.setColumnMapping(columnMapping);
+		
+		if(StringUtils.hasText(criteria)) {
+			options.setCriteria(criteria, args);
 		}
+		
+		return copyTable(sourceTable, targetTable, options);
 	}
 	
-	private void validateIdValue(Object entity) {
+	@Override
+	public long copyTable(String sourceTable, String targetTable, CopyTableOptions options) {
+		
+		hasText(sourceTable);
+		hasText(targetTable);
+		notNull(options);
+		
+		String physicalSourceTable = resolveTableName(sourceTable);
+		String physicalTargetTable = resolveTableName(targetTable);
+		
+		List<String> conditions = new ArrayList<>();
+		List<Object> args = new ArrayList<>(asList(options.getArgs()));
 		
-		Object idValue = getIdPropertyValue(entity);
+		if(options.getCriteria() != null) {
+			conditions.add(format("(%s)", options.getCriteria()));
+		}
+		
+		if(!options.isBatched()) {
+			return copyRows(physicalSourceTable, physicalTargetTable, options.getColumnMapping(), conditions, args);
+		}
+		
+		String keyColumn = CrateSQLUtil.dotToSqlPath(options.getKeyColumn());
+		Object lowerKey = options.getResumeAfter();
+		long total = 0;
 		
-		if(idValue == null) {
-			throw new MappingException(PRIMARY_KEY);
+		while(true) {
+			
+			List<String> batchConditions = new ArrayList<>(conditions);
+			List<Object> batchArgs = new ArrayList<>(args);
+			
+			if(lowerKey != null) {
+				batchConditions.add(format("%s > ?", keyColumn));
+				batchArgs.add(lowerKey);
+			}
+			
+			Object upperKey = findBatchUpperKey(physicalSourceTable, keyColumn, options.getBatchSize(), batchConditions, batchArgs);
+			
+			if(upperKey != null) {
+				batchConditions.add(format("%s <= ?", keyColumn));
+				batchArgs.add(upperKey);
+			}
+			
+			long rows = copyRows(physicalSourceTable, physicalTargetTable, options.getColumnMapping(), batchConditions, batchArgs);
+			
+			total += rows;
+			
+			if(options.getListener() != null) {
+				options.getListener().onBatchCopied(upperKey, rows);
+			}
+			
+			if(upperKey == null) {
+				return total;
+			}
+			
+			lowerKey = upperKey;
 		}
 	}
 	
-	private <T> void doBeforeSave(T entity, CrateDocument document) {
+	@Override
+	public long exportTo(String statement, Object[] args, OutputStream outputStream, ExportFormat format) {
 		
-		notNull(document);
+		notNull(outputStream);
+		return exportTo(statement, args, Channels.newChannel(outputStream), format);
+	}
+	
+	@Override
+	public long exportTo(String statement, Object[] args, WritableByteChannel channel, ExportFormat format) {
 		
-		maybeEmitEvent(new BeforeConvertEvent<T>(entity));
+		hasText(statement);
+		notNull(args);
+		notNull(channel);
+		notNull(format);
 		
-		crateConverter.write(entity, document);
+		ExportWriter writer = new ExportWriter(channel, format);
+		
+		try {
+			
+			SQLResponse response = execute(new SelectAction(statement, args));
+			
+			writer.write(response.cols(), response.rows());
+			writer.flush();
+			
+		}catch(IOException e) {
+			throw new DataAccessResourceFailureException(format("unable to export rows of statement '%s'", statement), e);
+		}
 		
-		maybeEmitEvent(new BeforeSaveEvent<Object>(entity, document));
+		logger.info("exported {} rows of statement '{}' as {}", new Object[]{writer.getRows(), statement, format});
+		
+		return writer.getRows();
 	}
 	
-	private <T> void doAfterSave(T entity, CrateDocument document) {
+	@Override
+	public long exportTo(String statement, String keyColumn, Object[] args, OutputStream outputStream, ExportFormat format) {
 		
-		notNull(document);
+		notNull(outputStream);
+		return exportTo(statement, keyColumn, args, Channels.newChannel(outputStream), format);
+	}
+	
+	@Override
+	public long exportTo(String statement, String keyColumn, Object[] args, WritableByteChannel channel, ExportFormat format) {
+		
+		hasText(statement);
+		
+		if(UNPAGED_CLAUSES.matcher(statement).find()) {
+			throw new InvalidDataAccessApiUsageException(format("statement '%s' paged by key column '%s' must not group, " + 
+																"order or limit its rows", statement, keyColumn));
+		}
+		
+		Matcher where = WHERE_CLAUSE.matcher(statement);
 		
-		if(isVersionPropertyDefined(entity.getClass())) {
-			setVersionPropertyValue(entity, INITIAL_VERSION_VALUE);
+		if(!where.find()) {
+			return exportPages(statement.trim(), null, keyColumn, args, channel, format, format("statement '%s'", statement));
 		}
 		
-		maybeEmitEvent(new AfterSaveEvent<T>(entity, document));
+		return exportPages(statement.substring(0, where.start()).trim(), statement.substring(where.end()).trim(), keyColumn, 
+						   args, channel, format, format("statement '%s'", statement));
 	}
 	
-	@SuppressWarnings("unchecked")
-	private <T> void doAfterUpdate(T entity, CrateDocument document) {
+	@Override
+	public long exportTable(String tableName, String keyColumn, String criteria, Object[] args, OutputStream outputStream, 
+							ExportFormat format) {
+		
+		notNull(outputStream);
+		return exportTable(tableName, keyColumn, criteria, args, Channels.newChannel(outputStream), format);
+	}
+	
+	@Override
+	public long exportTable(String tableName, String keyColumn, String criteria, Object[] args, WritableByteChannel channel, 
+							ExportFormat format) {
+		
+		hasText(tableName);
+		
+		String physicalTableName = resolveTableName(tableName);
+		
+		return exportPages(format("SELECT * FROM %s", physicalTableName), criteria, keyColumn, args, channel, format, 
+						   format("table '%s'", physicalTableName));
+	}
+	
+	/**
+	 * Reads the rows of the given select page by page in the order of the key column, each page starting after the 
+	 * last key of the previous page.
+	 * 
+	 * @param select the select statement without a where clause
+	 * @param criteria the condition of the rows to export or {@literal null} to export all rows
+	 * @param source the exported table or statement to log
+	 */
+	private long exportPages(String select, String criteria, String keyColumn, Object[] args, WritableByteChannel channel, 
+							 ExportFormat format, String source) {
+		
+		hasText(keyColumn);
+		notNull(args);
+		notNull(channel);
+		notNull(format);
+		
+		String key = CrateSQLUtil.dotToSqlPath(keyColumn);
+		
+		ExportWriter writer = new ExportWriter(channel, format);
+		
+		// all pages share the timeout of the export
+		Long outerDeadline = beginDeadline(defaultTimeout);
+		
+		try {
+			
+			Object lastKey = null;
+			int pageRows;
+			
+			do {
+				
+				StringBuilder statement = new StringBuilder(select);
+				List<Object> pageArgs = new ArrayList<>(asList(args));
+				List<String> conditions = new ArrayList<>();
+				
+				if(criteria != null) {
+					conditions.add(format("(%s)", criteria));
+				}
+				
+				if(lastKey != null) {
+					conditions.add(format("%s > ?", key));
+					pageArgs.add(lastKey);
+				}
+				
+				for(int index = 0; index < conditions.size(); index++) {
+					statement.append(index == 0 ? " WHERE " : " AND ").append(conditions.get(index));
+				}
+				
+				statement.append(format(" ORDER BY %s LIMIT %d", key, exportPageSize));
+				
+				SQLResponse response = execute(new SelectAction(statement.toString(), pageArgs.toArray()));
+				
+				pageRows = response.rows().length;
+				
+				if(pageRows > 0) {
+					lastKey = getLastKey(response, keyColumn, key);
+				}
+				
+				writer.write(response.cols(), response.rows());
+				
+			}while(pageRows == exportPageSize);
+			
+			writer.flush();
+			
+		}catch(IOException e) {
+			throw new DataAccessResourceFailureException(format("unable to export rows of %s", source), e);
+		}finally {
+			endDeadline(outerDeadline);
+		}
+		
+		logger.info("exported {} rows of {} as {}", new Object[]{writer.getRows(), source, format});
+		
+		return writer.getRows();
+	}
+	
+	/**
+	 * @return the key of the last row of a page ordered by the key column
+	 * @throws InvalidDataAccessApiUsageException if the key column is missing or does not hold unique values, as 
+	 *         rows would be skipped by the following pages
+	 */
+	private Object getLastKey(SQLResponse response, String keyColumn, String key) {
+		
+		int column = asList(response.cols()).indexOf(keyColumn);
+		
+		if(column < 0) {
+			column = asList(response.cols()).indexOf(key);
+		}
+		
+		if(column < 0) {
+			throw new InvalidDataAccessApiUsageException(format("key column '%s' is not a column of the exported rows", 
+																keyColumn));
+		}
+		
+		Object[][] rows = response.rows();
+		
+		for(int index = 1; index < rows.length; index++) {
+			if(ObjectUtils.nullSafeEquals(rows[index - 1][column], rows[index][column])) {
+				throw new InvalidDataAccessApiUsageException(format("key column '%s' must hold unique values", keyColumn));
+			}
+		}
+		
+		return rows[rows.length - 1][column];
+	}
+
+	// TODO: re factor when the Criteria API is in place
+	@Override
+	public void deleteAll(String tableName) {
+		
+		hasText(tableName);
+		
+		execute(new DeleteAllAction(resolveTableName(tableName)));
+	}
+	
+	@Override
+	public <T> boolean delete(Object id, Class<T> entityClass) {
+		
+		notNull(entityClass);
+		return delete(id, entityClass, getTableName(entityClass));
+	}
+
+	@Override
+	public <T> boolean delete(Object id, Class<T> entityClass, String tableName) {
+		
+		notNull(entityClass);
+		hasText(tableName);
+		
+		if(id == null) {
+			return false;
+		}
+		
+		return forEntity(entityClass, tableName).delete(id);
+	}
+	
+	@Override
+	public <T> BulkOperartionResult<Object> bulkDelete(List<Object> ids, Class<T> entityClass) {
+		
+		notEmpty(ids);
+		notNull(entityClass);
+		return bulkDelete(ids, entityClass, getTableName(entityClass));
+	}
+	
+	@Override
+	public <T> BulkOperartionResult<Object> bulkDelete(List<Object> ids, Class<T> entityClass, String tableName) {
+		
+		notEmpty(ids);
+		notNull(entityClass);
+		hasText(tableName);
+		
+		return forEntity(entityClass, tableName).bulkDelete(ids);
+	}
+	
+	@Override
+	public <T> void refreshTable(Class<T> entityClass) {
+		
+		notNull(entityClass);
+		refreshTable(getTableName(entityClass));
+	}
+
+	@Override
+	public void refreshTable(String tableName) {
+		
+		hasText(tableName);
+		
+		String physicalTableName = resolveTableName(tableName);
+		
+		logger.info("refreshing table '{}'", physicalTableName);
+		this.execute(new RefreshTableAction(physicalTableName));
+	}
+	
+	private long copyRows(String sourceTable, String targetTable, Map<String, String> columnMapping, List<String> conditions, 
+						  List<Object> args) {
+		
+		CopyTableAction actionHandler = new CopyTableAction(new InsertFromSelect(targetTable, sourceTable, columnMapping, 
+																				 conditions), args.toArray());
+		
+		return execute(actionHandler, actionHandler);
+	}
+	
+	/**
+	 * @return the key of the last row of the next batch or {@literal null} if less than a batch of rows remains
+	 */
+	private Object findBatchUpperKey(String sourceTable, String keyColumn, int batchSize, List<String> conditions, 
+									 List<Object> args) {
+		
+		StringBuilder statement = new StringBuilder(format("SELECT %s FROM %s", keyColumn, sourceTable));
+		
+		for(int index = 0; index < conditions.size(); index++) {
+			statement.append(index == 0 ? " WHERE " : " AND ").append(conditions.get(index));
+		}
+		
+		statement.append(format(" ORDER BY %s LIMIT 1 OFFSET %d", keyColumn, batchSize - 1));
+		
+		SQLResponse response = execute(new SelectAction(statement.toString(), args.toArray()));
+		
+		return response.rows().length > 0 ? response.rows()[0][0] : null;
+	}
+	
+	protected <T> void maybeEmitEvent(CrateMappingEvent<T> event) {
+		maybeEmitEvent(event, null);
+	}
+	
+	/**
+	 * Publishes the given event. Events configured to be dispatched asynchronously are ordered by the given key.
+	 * 
+	 * @param event the event to publish
+	 * @param orderingKey the key to order asynchronously dispatched events by, usually the entity id
+	 */
+	protected <T> void maybeEmitEvent(CrateMappingEvent<T> event, Object orderingKey) {
+		if (eventPublisher != null) {
+			if (eventDispatcher != null) {
+				eventDispatcher.dispatch(eventPublisher, event, orderingKey);
+			} else {
+				eventPublisher.publishEvent(event);
+			}
+		}
+	}
+	
+	/**
+	 * Checks whether an event of the given type published for the given domain type would be handled by any listener.
+	 * Callers skip creating the event if not.
+	 * 
+	 * @param eventType the type of the event
+	 * @param domainType the type of the entity, id or document the event is published for
+	 * @return {@literal true} if the event should be published
+	 */
+	protected boolean hasListeners(Class<?> eventType, Class<?> domainType) {
+		return hasListeners(eventType, domainType, false);
+	}
+	
+	/**
+	 * @param partOfBulk whether the event is published for a single row of a bulk operation
+	 * @see #hasListeners(Class, Class)
+	 */
+	protected boolean hasListeners(Class<?> eventType, Class<?> domainType, boolean partOfBulk) {
+		return eventPublisher != null && (listenerDetector == null || 
+										  listenerDetector.hasListeners(eventType, domainType, partOfBulk));
+	}
+	
+	private void executeInternal(WriteDbAction action) {
+		action.beforeSave();
+		execute(action, action);
+	}
+	
+	private <T> BulkOperartionResult<T> executeBulkInternal(BaseSQLBulkOperation<T> op) {
+		
+		boolean parallel = bulkConversionParallelism > 1 && op.entities.size() >= bulkConversionThreshold;
+		
+		if(parallel || op.bound.isPartitioned()) {
+			return executeBulkInChunks(op, parallel);
+		}
+		
+		op.beforeSave();
+		
+		if(op.isEmpty()) {
+			// all entities have been rejected by listeners
+			return op.handleResults(new Result[0]);
+		}
+		
+		return execute(op, op);
+	}
+	
+	/**
+	 * Sends the entities of the given operation in chunks. Chunks never span partitions, i.e. the rows of a chunk are
+	 * written to the shards of a single partition. If the conversion is parallel each chunk is sent as soon as it has 
+	 * been converted while the following chunks are still being converted, unless listeners of the 
+	 * {@link BeforeBulkSaveEvent} require all chunks to be converted first. Chunks which have already been sent remain 
+	 * written if a following chunk fails.
+	 */
+	private <T> BulkOperartionResult<T> executeBulkInChunks(final BaseSQLBulkOperation<T> op, boolean parallel) {
+		
+		op.prepare();
+		
+		if(op.isEmpty()) {
+			// all entities have been rejected by listeners
+			return op.handleResults(new Result[0]);
+		}
+		
+		List<int[]> ranges = op.getChunks(parallel ? bulkChunkSize : Integer.MAX_VALUE);
+		
+		List<Future<?>> chunks = new ArrayList<>(ranges.size());
+		
+		// all chunks share the timeout of the operation
+		Long outerDeadline = beginDeadline(defaultTimeout);
+		
+		try {
+			if(parallel) {
+				
+				ExecutorService executor = getBulkConversionExecutor();
+				
+				for(final int[] range : ranges) {
+					chunks.add(executor.submit(new Runnable() {
+						@Override
+						public void run() {
+							op.convert(range[0], range[1]);
+						}
+					}));
+				}
+			}else {
+				op.convert(0, op.size());
+			}
+			
+			if(!parallel || op.hasBulkSaveListeners()) {
+				for(Future<?> chunk : chunks) {
+					awaitConversion(chunk);
+				}
+				op.afterConvert();
+				
+				if(op.isEmpty()) {
+					// all entities have been rejected by listeners
+					return op.handleResults(new Result[0]);
+				}
+			}
+			
+			Result[] results = new Result[op.size()];
+			
+			for(int chunk = 0; chunk < ranges.size(); chunk++) {
+				
+				if(parallel) {
+					awaitConversion(chunks.get(chunk));
+				}
+				
+				int from = ranges.get(chunk)[0];
+				int to = ranges.get(chunk)[1];
+				
+				SQLBulkRequest request = op.getSQLRequest(from, to);
+				
+				if(request.bulkArgs().length > 0) {
+					op.collectResults(executeBulkRequest(request).results(), from, to, results);
+				}
+			}
+			
+			return op.handleResults(results);
+		}finally {
+			endDeadline(outerDeadline);
+			// no op for chunks which have been converted already
+			for(Future<?> chunk : chunks) {
+				chunk.cancel(true);
+			}
+		}
+	}
+	
+	private void awaitConversion(Future<?> chunk) {
+		
+		try {
+			chunk.get();
+		}catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CrateSQLActionException(e.getMessage(), e);
+		}catch(ExecutionException e) {
+			
+			Throwable cause = e.getCause();
+			
+			if(cause instanceof RuntimeException) {
+				throw (RuntimeException)cause;
+			}
+			
+			if(cause instanceof Error) {
+				throw (Error)cause;
+			}
+			
+			throw new CrateSQLActionException(cause.getMessage(), cause);
+		}
+	}
+	
+	private synchronized ExecutorService getBulkConversionExecutor() {
+		
+		if(bulkConversionExecutor == null) {
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("crate-bulk-conversion-");
+			threadFactory.setDaemon(true);
+			bulkConversionExecutor = newFixedThreadPool(bulkConversionParallelism, threadFactory);
+		}
+		
+		return bulkConversionExecutor;
+	}
+	
+	private synchronized ForkJoinPool getReadConversionPool() {
+		
+		if(readConversionPool == null) {
+			readConversionPool = new ForkJoinPool(readConversionParallelism);
+		}
+		
+		return readConversionPool;
+	}
+	
+	private static String conditions(List<String> columns) {
+		
+		StringBuilder conditions = new StringBuilder();
+		
+		Iterator<String> iterator = columns.iterator();
+		
+		while(iterator.hasNext()) {
+			conditions.append(CrateSQLUtil.doubleQuote(iterator.next()))
+					  .append(" = ?");
+			if(iterator.hasNext()) {
+				conditions.append(" AND ");
+			}
+		}
+		
+		return conditions.toString();
+	}
+	
+	@SuppressWarnings("unchecked")
+	private <T> BoundCrateOperations<T> boundTo(T entity, String tableName) {
+		return forEntity((Class<T>)entity.getClass(), tableName);
+	}
+	
+	private String getTableName(Class<?> clazz) {
+		return getPersistentEntityFor(clazz).getTableName();
+	}
+	
+    private CratePersistentEntity<?> getPersistentEntityFor(Class<?> clazz) {
+    	notNull(clazz, "Class parameter provided can not be null");
+        return crateConverter.getMappingContext().getPersistentEntity(clazz);
+    }
+    
+    /**
+	 * Tries to convert the given {@link RuntimeException} into a {@link DataAccessException}. The original
+	 * exception is returned if the conversion fails.
+	 * 
+	 * @param ex
+	 * @return the translated exception or the thrown exception
+	 */
+	private RuntimeException tryConvertingRuntimeException(RuntimeException ex) {
+		RuntimeException resolved = exceptionTranslator.translateExceptionIfPossible(ex);
+		return resolved == null ? ex : resolved;
+	}
+	
+	private <T> void doBeforeSave(T entity, CrateDocument document, EntityBoundOperations<?> bound) {
+		doBeforeSave(entity, document, bound, false);
+	}
+	
+	private <T> void doBeforeSave(T entity, CrateDocument document, EntityBoundOperations<?> bound, boolean partOfBulk) {
 		
 		notNull(document);
 		
-		if(isVersionPropertyDefined(entity.getClass())) {
-			
-			T dbEntity = findById(getIdPropertyValue(entity), (Class<T>)entity.getClass());
-			
-			setVersionPropertyValue(entity, getVersionPropertyValue(dbEntity));
+		if(bound.emitsEvents() && hasListeners(BeforeConvertEvent.class, entity.getClass(), partOfBulk)) {
+			maybeEmitEvent(new BeforeConvertEvent<T>(entity, partOfBulk));
+		}
+		
+		crateConverter.write(entity, document);
+		
+		if(bound.emitsEvents() && hasListeners(BeforeSaveEvent.class, entity.getClass(), partOfBulk)) {
+			maybeEmitEvent(new BeforeSaveEvent<Object>(entity, document, partOfBulk));
+		}
+	}
+	
+	private <T> void doAfterSave(T entity, CrateDocument document, EntityBoundOperations<?> bound) {
+		
+		notNull(document);
+		
+		bound.setVersionValue(entity, INITIAL_VERSION_VALUE);
+		
+		if(bound.emitsEvents() && hasListeners(AfterSaveEvent.class, entity.getClass())) {
+			maybeEmitEvent(new AfterSaveEvent<T>(entity, document), bound.getIdValue(entity));
+		}
+	}
+	
+	private <T> void doAfterUpdate(T entity, CrateDocument document, EntityBoundOperations<?> bound) {
+		
+		notNull(document);
+		
+		if(!bound.emitsEvents()) {
+			// mirrored writes keep the versions of the entities
+			return;
+		}
+		
+		if(bound.isVersioned()) {
+			
+			Object dbEntity = bound.findStored(entity);
+			
+			bound.setVersionValue(entity, bound.getVersionValue(dbEntity));
+		}
+		
+		if(hasListeners(AfterConvertEvent.class, entity.getClass())) {
+			maybeEmitEvent(new AfterConvertEvent<T>(document, entity), bound.getIdValue(entity));
+		}
+	}
+	
+	private void doBeforeDelete(Object id, EntityBoundOperations<?> bound) {
+		
+		notNull(id);
+		
+		if(bound.emitsEvents() && hasListeners(BeforeDeleteEvent.class, id.getClass())) {
+			maybeEmitEvent(new BeforeDeleteEvent<Object>(id));
+		}
+	}
+	
+	/**
+	 * @param id the id as sent to crate
+	 * @param orderingKey the id as given, so that the event is ordered like the other events of the entity
+	 */
+	private void doAfterDelete(Object id, Object orderingKey, EntityBoundOperations<?> bound) {
+		
+		notNull(id);
+		
+		if(bound.emitsEvents() && hasListeners(AfterDeleteEvent.class, id.getClass())) {
+			maybeEmitEvent(new AfterDeleteEvent<Object>(id), orderingKey);
+		}
+	}
+	
+	/**
+	 * {@link BoundCrateOperations} implementation resolving the persistent entity, the id/version properties and the
+	 * sql statements once. Statements depending on the columns present in a converted document are cached per column set.
+	 * 
+	 * @author Hasnain Javed
+	 * @since 1.0.0
+	 * @param <T>
+	 */
+	private class EntityBoundOperations<T> implements BoundCrateOperations<T> {
+		
+		private final Class<T> entityClass;
+		private final String tableName;
+		private final CratePersistentEntity<?> persistentEntity;
+		private final CratePersistentProperty idProperty;
+		private final CratePersistentProperty versionProperty;
+		private final List<CratePersistentProperty> partitionProperties;
+		private final Set<String> selectColumns;
+		private final List<String> updateConditionColumns;
+		
+		private final String selectAllStatement;
+		private final String selectByIdStatement;
+		private final String selectInPartitionStatement;
+		private final String selectByIdInPartitionStatement;
+		private final String deleteByIdStatement;
+		private final String bulkInsertStatement;
+		private final String bulkUpsertStatement;
+		private final String bulkUpdateStatement;
+		private final String countStatement;
+		
+		private final ConcurrentMap<Set<String>, String> insertStatements;
+		private final ConcurrentMap<Set<String>, String> upsertStatements;
+		private final Set<String> keyColumns;
+		private final ConcurrentMap<Set<String>, String> updateStatements;
+		private final AtomicInteger bulkLoads;
+		private TableParameters loadParameters;
+		private final boolean emitEvents;
+		private volatile EntityBoundOperations<T> mirror;
+		
+		public EntityBoundOperations(Class<T> entityClass, String tableName) {
+			this(entityClass, tableName, true);
+		}
+		
+		/**
+		 * @param emitEvents {@literal false} for operations publishing no mapping events, e.g. to mirror writes
+		 */
+		public EntityBoundOperations(Class<T> entityClass, String tableName, boolean emitEvents) {
+			
+			notNull(entityClass);
+			hasText(tableName);
+			
+			this.entityClass = entityClass;
+			this.tableName = tableName;
+			this.emitEvents = emitEvents;
+			this.bulkLoads = new AtomicInteger();
+			this.persistentEntity = getPersistentEntityFor(entityClass);
+			this.idProperty = persistentEntity.hasIdProperty() ? persistentEntity.getIdProperty() : null;
+			this.versionProperty = persistentEntity.hasVersionProperty() ? persistentEntity.getVersionProperty() : null;
+			
+			this.partitionProperties = resolvePartitionProperties();
+			
+			String idColumn = idProperty != null ? idProperty.getFieldName() : null;
+			String[] partitionColumns = getPartitionColumns();
+			
+			this.selectColumns = versionProperty != null ? persistentEntity.getPropertyNames(versionProperty.getFieldName()) :
+														   persistentEntity.getPropertyNames();
+			
+			Set<String> insertColumns = new TreeSet<>();
+			insertColumns.add(DEFAULT_TYPE_KEY);
+			insertColumns.addAll(getColumns());
+			
+			// partition columns can not be updated but prune the partitions to be searched for the id
+			Set<String> updateColumns = idColumn != null ? getColumns(addAll(new String[]{idColumn}, partitionColumns)) : 
+														   Collections.<String>emptySet();
+			
+			// the id is a condition of its own, also if the table is partitioned by the id column
+			this.updateConditionColumns = idColumn != null ? asList(addAll(new String[]{idColumn}, getConditionPartitionColumns())) :
+															 Collections.<String>emptyList();
+			
+			// the columns of the primary key can not be updated by an upsert
+			this.keyColumns = new HashSet<>(updateConditionColumns);
+			
+			TableParameters parameters = persistentEntity.getTableParameters();
+			
+			if(idColumn != null && parameters != null && parameters.getClusteredBy() != null) {
+				keyColumns.add(parameters.getClusteredBy());
+			}
+			
+			this.selectAllStatement = new Select(tableName, selectColumns).createStatement();
+			this.selectByIdStatement = idColumn != null ? new Select(tableName, selectColumns, idColumn).createStatement() : null;
+			this.selectInPartitionStatement = partitionColumns.length > 0 ? new Select(tableName, selectColumns, partitionColumns).createStatement() : null;
+			this.selectByIdInPartitionStatement = partitionColumns.length > 0 && idColumn != null ? 
+												  new Select(tableName, selectColumns, updateConditionColumns.toArray(new String[0])).createStatement() : null;
+			this.deleteByIdStatement = idColumn != null ? new Delete(tableName, idColumn).createStatement() : null;
+			this.bulkInsertStatement = new Insert(tableName, insertColumns).createStatement();
+			this.bulkUpsertStatement = new Insert(tableName, insertColumns, getUpsertColumns(insertColumns)).createStatement();
+			this.bulkUpdateStatement = !updateColumns.isEmpty() ? new Update(tableName, updateConditionColumns, updateColumns).createStatement() : null;
+			this.countStatement = format("SELECT count(*) FROM %s", tableName);
+			
+			this.insertStatements = new ConcurrentHashMap<>();
+			this.upsertStatements = new ConcurrentHashMap<>();
+			this.updateStatements = new ConcurrentHashMap<>();
+		}
+		
+		@Override
+		public Class<T> getEntityClass() {
+			return entityClass;
+		}
+		
+		@Override
+		public String getTableName() {
+			return tableName;
+		}
+		
+		@Override
+		public CratePersistentEntity<?> getPersistentEntity() {
+			return persistentEntity;
+		}
+		
+		@Override
+		public void insert(final T entity) {
+			
+			notNull(entity);
+			executeInternal(new InsertAction(entity, this));
+			
+			// the row may have been copied to the mirror table already
+			mirror(new MirroredWrite<T>(entity) {
+				@Override
+				int apply(EntityBoundOperations<T> mirror) {
+					mirror.upsert(entity);
+					return 0;
+				}
+			});
+		}
+		
+		@Override
+		public void update(final T entity) {
+			
+			notNull(entity);
+			executeInternal(new WholesaleUpdateByIdAction(entity, this));
+			
+			// the row is replaced as a whole as the version of the mirrored row is unrelated to the version of the entity
+			mirror(new MirroredWrite<T>(entity) {
+				@Override
+				int apply(EntityBoundOperations<T> mirror) {
+					mirror.upsert(entity);
+					return 0;
+				}
+			});
+		}
+		
+		@Override
+		public BulkOperartionResult<T> bulkInsert(List<T> entities) {
+			
+			if(idProperty == null) {
+				logger.warn(NO_ID_WARNING, entityClass.getName());
+			}
+			
+			BulkOperartionResult<T> result = executeBulkInternal(new BulkInsertOperation<T>(this, entities));
+			
+			final List<T> inserted = getSources(result.getSuccesses());
+			
+			if(!inserted.isEmpty()) {
+				mirror(new MirroredWrite<T>(inserted) {
+					@Override
+					int apply(EntityBoundOperations<T> mirror) {
+						return mirror.bulkUpsert(inserted).getFailures().size();
+					}
+				});
+			}
+			
+			return result;
+		}
+		
+		@Override
+		public BulkOperartionResult<T> bulkUpdate(List<T> entities) {
+			
+			notEmpty(entities);
+			
+			BulkOperartionResult<T> result = executeBulkInternal(new BulkUpdateOperation<T>(this, entities));
+			
+			final List<T> updated = getSources(result.getSuccesses());
+			
+			if(!updated.isEmpty()) {
+				mirror(new MirroredWrite<T>(updated) {
+					@Override
+					int apply(EntityBoundOperations<T> mirror) {
+						return mirror.bulkUpsert(updated).getFailures().size();
+					}
+				});
+			}
+			
+			return result;
+		}
+		
+		@Override
+		public List<T> findAll() {
+			return execute(new SelectAction(this, null), new ReadDbHandler<T>(entityClass));
+		}
+		
+		@Override
+		public List<SearchHit<T>> match(String column, String term, Pageable pageable) {
+			
+			hasText(column);
+			hasText(term);
+			notNull(pageable);
+			
+			String statement = new Match(tableName, selectColumns, column, pageable).createStatement();
+			
+			return execute(new SelectAction(statement, term), new SearchHitsHandler<T>(entityClass));
+		}
+		
+		@Override
+		public List<T> findAllInPartition(Object... partitionValues) {
+			
+			validatePartitionValues(partitionValues);
+			
+			return execute(new SelectAction(selectInPartitionStatement, partitionValues), new ReadDbHandler<T>(entityClass));
+		}
+		
+		@Override
+		public T findById(Object id) {
+			
+			notNull(id);
+			
+			if(idProperty == null) {
+				throw new MappingException(format("Entity '%s' has no id property defined", entityClass.getName()));
+			}
+			
+			return findOne(new SelectAction(this, id), id);
+		}
+		
+		@Override
+		public T findByIdInPartition(Object id, Object... partitionValues) {
+			
+			notNull(id);
+			
+			if(idProperty == null) {
+				throw new MappingException(format("Entity '%s' has no id property defined", entityClass.getName()));
+			}
+			
+			validatePartitionValues(partitionValues);
+			
+			List<Object> args = new ArrayList<>(updateConditionColumns.size());
+			args.add(id);
+			
+			for(int index = 0; index < partitionValues.length; index++) {
+				if(!partitionProperties.get(index).equals(idProperty)) {
+					args.add(partitionValues[index]);
+				}
+			}
+			
+			return findOne(new SelectAction(selectByIdInPartitionStatement, args.toArray()), id);
+		}
+		
+		/**
+		 * Reads the stored state of the given entity, restricting the lookup to the entity's partition.
+		 */
+		Object findStored(Object entity) {
+			
+			Object id = getIdValue(entity);
+			
+			return isPartitioned() ? findByIdInPartition(id, getPartitionValues(entity).toArray()) : findById(id);
+		}
+		
+		private T findOne(SelectAction action, Object id) {
+			
+			List<T> dbEntity = executeRead(action, new ReadDbHandler<T>(entityClass));
+			
+			if(dbEntity.isEmpty()) {
+				logger.info("No row found with id '{}'", id);
+				return null;
+			}else {
+				return dbEntity.iterator().next();
+			}
+		}
+		
+		@Override
+		public long count() {
+			
+			return executeRead(new CrateAction() {
+				
+				@Override
+				public String getSQLStatement() {
+					return countStatement;
+				}
+				
+				@Override
+				public SQLRequest getSQLRequest() {
+					return new SQLRequest(getSQLStatement());
+				}
+			}, new CrateActionResponseHandler<Long>() {
+				
+				@Override
+				public Long handle(SQLResponse response) {
+					
+					Long total = 0L;
+					
+					if(response.hasRowCount()) {
+						total = (Long)response.rows()[0][0];
+					}
+					
+					return total;
+				}
+			});
+		}
+		
+		@Override
+		public boolean delete(final Object id) {
+			
+			if(id == null) {
+				return false;
+			}
+			
+			DeleteByIdActionHandler actionHandler = new DeleteByIdActionHandler(this, id);
+			
+			boolean deleted = execute(actionHandler, actionHandler);
+			
+			mirror(new MirroredWrite<T>() {
+				@Override
+				int apply(EntityBoundOperations<T> mirror) {
+					mirror.delete(id);
+					return 0;
+				}
+			});
+			
+			recordMirroredDeletes(Collections.singletonList(id));
+			
+			return deleted;
+		}
+		
+		@Override
+		public BulkOperartionResult<Object> bulkDelete(final List<Object> ids) {
+			
+			notEmpty(ids);
+			
+			BulkDeleteOperation actionHandler = new BulkDeleteOperation(this, ids);
+			
+			BulkOperartionResult<Object> result = execute(actionHandler, actionHandler);
+			
+			mirror(new MirroredWrite<T>() {
+				@Override
+				int apply(EntityBoundOperations<T> mirror) {
+					return mirror.bulkDelete(ids).getFailures().size();
+				}
+			});
+			
+			recordMirroredDeletes(ids);
+			
+			return result;
+		}
+		
+		@Override
+		public void deleteAll() {
+			
+			execute(new DeleteAllAction(tableName));
+			
+			mirror(new MirroredWrite<T>() {
+				@Override
+				int apply(EntityBoundOperations<T> mirror) {
+					mirror.deleteAll();
+					return 0;
+				}
+			});
+		}
+		
+		@Override
+		public long dropPartitionsOlderThan(Date cutoff) {
+			
+			notNull(cutoff);
+			
+			DropPartitionsAction actionHandler = new DropPartitionsAction(tableName, getRetentionColumn(), 
+																		  crateConverter.convertToCrateType(cutoff, null));
+			
+			return execute(actionHandler, actionHandler);
+		}
+		
+		@Override
+		public <R> R bulkLoad(BulkLoadCallback<T, R> callback) {
+			
+			notNull(callback);
+			
+			beginBulkLoad();
+			
+			R result;
+			
+			try {
+				result = callback.doInBulkLoad(this);
+			}catch(RuntimeException | Error e) {
+				try {
+					endBulkLoad();
+				}catch(RuntimeException restoreFailure) {
+					logger.error(format("failed to restore parameters of table '%s' after bulk load failure", tableName), 
+								 restoreFailure);
+				}
+				throw e;
+			}
+			
+			endBulkLoad();
+			refreshTable();
+			
+			return result;
+		}
+		
+		@Override
+		public void refreshTable() {
+			CrateTemplate.this.refreshTable(tableName);
+		}
+		
+		/**
+		 * @return operations of the given mirror table publishing no mapping events, as listeners have been notified
+		 *         of the write to this table
+		 */
+		private EntityBoundOperations<T> getMirror(String mirrorTableName) {
+			
+			EntityBoundOperations<T> current = mirror;
+			
+			if(current == null || !current.tableName.equals(mirrorTableName)) {
+				current = new EntityBoundOperations<>(entityClass, mirrorTableName, false);
+				mirror = current;
+			}
+			
+			return current;
+		}
+		
+		/**
+		 * Applies the given write to the table the writes of this table are mirrored to, if any. The versions of the
+		 * written entities are kept as a write to the mirror table does not change the row of this table. Failures do
+		 * not fail the write to this table which succeeded, they are logged and counted for the mirrored table.
+		 * 
+		 * @see CrateOperations#getMirrorFailures(String)
+		 */
+		private void mirror(MirroredWrite<T> write) {
+			
+			String mirrorTableName = mirroredTables.get(tableName);
+			
+			if(mirrorTableName == null) {
+				return;
+			}
+			
+			List<Long> versions = new ArrayList<>(write.entities.size());
+			
+			for(T entity : write.entities) {
+				versions.add(getVersionValue(entity));
+			}
+			
+			int failures;
+			
+			try {
+				failures = write.apply(getMirror(mirrorTableName));
+			}catch(RuntimeException e) {
+				failures = Math.max(write.entities.size(), 1);
+				logger.warn("failed to mirror write of table '{}' to '{}': {}", new Object[]{tableName, mirrorTableName, 
+																						   e.getMessage()});
+			}finally {
+				for(int index = 0; index < versions.size(); index++) {
+					setVersionValue(write.entities.get(index), versions.get(index));
+				}
+			}
+			
+			if(failures > 0) {
+				
+				AtomicInteger counter = mirrorFailures.get(tableName);
+				
+				if(counter != null) {
+					counter.addAndGet(failures);
+				}
+				
+				logger.warn("failed to mirror {} rows of table '{}' to '{}'", new Object[]{failures, tableName, mirrorTableName});
+			}
+			
+			Set<Object> deletes = mirroredDeletes.get(tableName);
+			
+			if(deletes != null && !deletes.isEmpty() && idProperty != null) {
+				// rows written again after a delete must not be deleted again
+				for(T entity : write.entities) {
+					deletes.remove(getIdValue(entity));
+				}
+			}
+		}
+		
+		/**
+		 * Inserts the entity or replaces the row with the same primary key. Writes are mirrored as upserts, as an insert
+		 * may follow the copy of the row to the mirror table and an update must replace the mirrored row atomically.
+		 */
+		void upsert(T entity) {
+			notNull(entity);
+			executeInternal(new UpsertAction(entity, this));
+		}
+		
+		BulkOperartionResult<T> bulkUpsert(List<T> entities) {
+			notEmpty(entities);
+			return executeBulkInternal(new BulkUpsertOperation<T>(this, entities));
+		}
+		
+		/**
+		 * Records the ids deleted while writes are mirrored, so that rows a copy of this table read before the delete
+		 * became visible can be deleted again from the mirror table.
+		 * 
+		 * @see CrateOperations#reapplyMirroredDeletes(Class, String)
+		 */
+		private void recordMirroredDeletes(List<Object> ids) {
+			
+			Set<Object> deletes = mirroredDeletes.get(tableName);
+			
+			if(deletes != null) {
+				deletes.addAll(ids);
+			}
+		}
+		
+		private List<T> getSources(List<ActionResult<T>> results) {
+			
+			List<T> sources = new ArrayList<>(results.size());
+			
+			for(ActionResult<T> result : results) {
+				sources.add(result.getSource());
+			}
+			
+			return sources;
+		}
+		
+		boolean hasId() {
+			return idProperty != null;
+		}
+		
+		boolean emitsEvents() {
+			return emitEvents;
+		}
+		
+		/**
+		 * @return {@literal true} while a {@link #bulkLoad(BulkLoadCallback) bulk load} of this table is in progress
+		 */
+		boolean isBulkLoading() {
+			return bulkLoads.get() > 0;
+		}
+		
+		boolean isVersioned() {
+			return versionProperty != null;
+		}
+		
+		boolean isPartitioned() {
+			return !partitionProperties.isEmpty();
+		}
+		
+		/**
+		 * @return the values of the partition columns of the given entity, converted to crate types
+		 */
+		List<Object> getPartitionValues(Object entity) {
+			
+			List<Object> values = new ArrayList<>(partitionProperties.size());
+			
+			for(CratePersistentProperty property : partitionProperties) {
+				Object value = persistentEntity.getPropertyAccessor(entity).getProperty(property);
+				values.add(crateConverter.convertToCrateType(value, null));
+			}
+			
+			return values;
+		}
+		
+		/**
+		 * @return the values of the partition columns other than the id column of the given entity, which follow the 
+		 *         value of the id in the conditions of updates
+		 */
+		List<Object> getConditionPartitionValues(Object entity) {
+			
+			List<Object> values = getPartitionValues(entity);
+			
+			for(int index = partitionProperties.size() - 1; index >= 0; index--) {
+				if(partitionProperties.get(index).equals(idProperty)) {
+					values.remove(index);
+				}
+			}
+			
+			return values;
+		}
+		
+		private String[] getConditionPartitionColumns() {
+			
+			List<String> columns = new ArrayList<>(partitionProperties.size());
+			
+			for(CratePersistentProperty property : partitionProperties) {
+				if(!property.equals(idProperty)) {
+					columns.add(property.getFieldName());
+				}
+			}
+			
+			return columns.toArray(new String[columns.size()]);
+		}
+		
+		String[] getPartitionColumns() {
+			
+			String[] columns = new String[partitionProperties.size()];
+			
+			for(int index = 0; index < columns.length; index++) {
+				columns[index] = partitionProperties.get(index).getFieldName();
+			}
+			
+			return columns;
+		}
+		
+		CratePersistentProperty getIdProperty() {
+			
+			if(idProperty == null) {
+				throw new MappingException(format(ID_COLUMN, entityClass.getName()));
+			}
+			
+			return idProperty;
+		}
+		
+		Object getIdValue(Object entity) {
+			return idProperty != null ? persistentEntity.getPropertyAccessor(entity).getProperty(idProperty) : null;
+		}
+		
+		Long getVersionValue(Object entity) {
+			return versionProperty != null ? (Long)persistentEntity.getPropertyAccessor(entity).getProperty(versionProperty) : null;
+		}
+		
+		void setVersionValue(Object entity, Long versionValue) {
+			if(versionProperty != null) {
+				persistentEntity.getPropertyAccessor(entity).setProperty(versionProperty, versionValue);
+			}
+		}
+		
+		void validateIdValue(Object entity) {
+			if(getIdValue(entity) == null) {
+				throw new MappingException(PRIMARY_KEY);
+			}
+		}
+		
+		String getSelectStatement(boolean byId) {
+			return byId ? selectByIdStatement : selectAllStatement;
+		}
+		
+		String getDeleteByIdStatement() {
+			getIdProperty();
+			return deleteByIdStatement;
+		}
+		
+		String getBulkInsertStatement() {
+			return bulkInsertStatement;
+		}
+		
+		String getBulkUpsertStatement() {
+			return bulkUpsertStatement;
+		}
+		
+		String getBulkUpdateStatement() {
+			getIdProperty();
+			return bulkUpdateStatement;
+		}
+		
+		String getInsertStatement(Set<String> columns) {
+			
+			String statement = insertStatements.get(columns);
+			
+			if(statement == null) {
+				Set<String> key = new TreeSet<>(columns);
+				statement = new Insert(tableName, key).createStatement();
+				insertStatements.putIfAbsent(key, statement);
+			}
+			
+			return statement;
+		}
+		
+		String getUpsertStatement(Set<String> columns) {
+			
+			String statement = upsertStatements.get(columns);
+			
+			if(statement == null) {
+				Set<String> key = new TreeSet<>(columns);
+				statement = new Insert(tableName, key, getUpsertColumns(key)).createStatement();
+				upsertStatements.putIfAbsent(key, statement);
+			}
+			
+			return statement;
+		}
+		
+		/**
+		 * @return the given columns without the columns of the primary key, none if the table has no primary key
+		 */
+		private Set<String> getUpsertColumns(Set<String> columns) {
+			
+			if(keyColumns.isEmpty()) {
+				return Collections.emptySet();
+			}
+			
+			Set<String> upsertColumns = new TreeSet<>(columns);
+			upsertColumns.removeAll(keyColumns);
+			
+			return upsertColumns;
+		}
+		
+		String getUpdateStatement(Set<String> columns) {
+			
+			String statement = updateStatements.get(columns);
+			
+			if(statement == null) {
+				Set<String> key = new TreeSet<>(columns);
+				getIdProperty();
+				statement = new Update(tableName, updateConditionColumns, key).createStatement();
+				updateStatements.putIfAbsent(key, statement);
+			}
+			
+			return statement;
+		}
+		
+		/**
+		 * @return the retention column of the entity or the partition column if the table is partitioned by a single column
+		 */
+		private String getRetentionColumn() {
+			
+			if(persistentEntity.getRetentionColumn() != null) {
+				return persistentEntity.getRetentionColumn();
+			}
+			
+			if(partitionProperties.size() != 1) {
+				throw new MappingException(format("Entity '%s' must be partitioned by a single column or define a partition retention", 
+												  entityClass.getName()));
+			}
+			
+			return partitionProperties.get(0).getFieldName();
+		}
+		
+		private void validatePartitionValues(Object... partitionValues) {
+			
+			if(!isPartitioned()) {
+				throw new MappingException(format("Entity '%s' is not partitioned", entityClass.getName()));
+			}
+			
+			notNull(partitionValues);
+			isTrue(partitionValues.length == partitionProperties.size(), format("expected values for partition columns %s", 
+																				 asList(getPartitionColumns())));
+		}
+		
+		/**
+		 * Suspends refresh and replicas of the table for the first of overlapping bulk loads only, as the parameters read
+		 * by the others would be the suspended ones. Bulk writes skip their refresh while loading.
+		 */
+		private void beginBulkLoad() {
+			
+			synchronized(bulkLoads) {
+				
+				if(bulkLoads.get() == 0) {
+					
+					TableParameters original = getCurrentLoadParameters();
+					
+					logger.info("suspending refresh and replicas of table '{}' for bulk load", tableName);
+					
+					try {
+						alterTableParameter(REFRESH_INTERVAL, 0);
+						alterTableParameter(NO_OF_REPLICAS, 0);
+					}catch(RuntimeException e) {
+						try {
+							restoreLoadParameters(original);
+						}catch(RuntimeException restoreFailure) {
+							logger.error(format("failed to restore parameters of table '%s' after bulk load failure", tableName), 
+										 restoreFailure);
+						}
+						throw e;
+					}
+					
+					loadParameters = original;
+				}
+				
+				bulkLoads.incrementAndGet();
+			}
+		}
+		
+		/**
+		 * Restores the parameters of the table once the last of overlapping bulk loads has ended.
+		 */
+		private void endBulkLoad() {
+			
+			synchronized(bulkLoads) {
+				
+				if(bulkLoads.decrementAndGet() == 0) {
+					TableParameters original = loadParameters;
+					loadParameters = null;
+					restoreLoadParameters(original);
+				}
+			}
+		}
+		
+		/**
+		 * Crate does not expose the refresh interval in information_schema.tables. It is therefore taken from the
+		 * entity, while the number of replicas is read from the table.
+		 */
+		private TableParameters getCurrentLoadParameters() {
+			
+			TableParameters parameters = persistentEntity.getTableParameters();
+			
+			TableReplicasAction actionHandler = new TableReplicasAction(tableName);
+			
+			return new TableParameters(execute(actionHandler, actionHandler), 
+									   parameters != null ? parameters.getRefreshInterval() : DEFAULT_REFRESH_INTERVAL, 
+									   parameters != null ? parameters.getColumnPloicy() : DYNAMIC);
+		}
+		
+		private void restoreLoadParameters(TableParameters parameters) {
+			
+			alterTableParameter(NO_OF_REPLICAS, parameters.getNumberOfReplicas());
+			alterTableParameter(REFRESH_INTERVAL, parameters.getRefreshInterval());
+			
+			logger.info("restored refresh interval '{}' and replicas '{}' of table '{}'", new Object[]{parameters.getRefreshInterval(), 
+																									  parameters.getNumberOfReplicas(), 
+																									  tableName});
+		}
+		
+		private void alterTableParameter(String name, Object value) {
+			execute(new AlterTableParameterAction(tableName, new AlterTableParameterDefinition(name, value)));
+		}
+		
+		private List<CratePersistentProperty> resolvePartitionProperties() {
+			
+			TableParameters parameters = persistentEntity.getTableParameters();
+			
+			if(parameters == null || !parameters.isPartitioned()) {
+				return Collections.emptyList();
+			}
+			
+			List<CratePersistentProperty> properties = new ArrayList<>(parameters.getPartitionedBy().size());
+			
+			for(String column : parameters.getPartitionedBy()) {
+				for(CratePersistentProperty property : persistentEntity.getPersistentProperties()) {
+					if(property.getFieldName().equals(column)) {
+						properties.add(property);
+					}
+				}
+			}
+			
+			return properties;
+		}
+		
+		/**
+		 * @param exclude the field(s) to be removed from the set. The version field if defined will be
+		 * removed by default as the crate system column "_version" is readonly 
+		 * @return set of fields 
+		 */
+		private Set<String> getColumns(String... exclude) {
+			
+			String[] excludes = exclude;
+			
+			if(versionProperty != null) {
+				excludes = (String[])add(exclude, versionProperty.getFieldName());
+			}
+			
+			return isEmpty(excludes) ? persistentEntity.getPropertyNames() :
+									   persistentEntity.getPropertyNames(excludes);
+		}
+	}
+	
+	/**
+	 * Write applied to the table the writes of a table are mirrored to.
+	 * 
+	 * @author Hasnain Javed
+	 * @since 1.0.0
+	 * @param <T>
+	 */
+	private abstract static class MirroredWrite<T> {
+		
+		private final List<T> entities;
+		
+		public MirroredWrite() {
+			this.entities = emptyList();
+		}
+		
+		public MirroredWrite(T entity) {
+			this.entities = Collections.singletonList(entity);
+		}
+		
+		public MirroredWrite(List<T> entities) {
+			this.entities = entities;
+		}
+		
+		/**
+		 * @return the number of rows which failed to be written to the mirror table
+		 */
+		abstract int apply(EntityBoundOperations<T> mirror);
+	}
+	
+	/**
+	 * {@link BoundCrateOperations} delegating to the {@link EntityBoundOperations} of the table a logical table name
+	 * currently resolves to. Switching the table replaces the delegate and with it all cached statements, so callers 
+	 * holding on to the bound operations, e.g. repositories, use the new table with their next operation.
+	 * 
+	 * @author Hasnain Javed
+	 * @since 1.0.0
+	 * @param <T>
+	 */
+	private class SwitchableBoundOperations<T> implements BoundCrateOperations<T> {
+		
+		private final Class<T> entityClass;
+		private volatile EntityBoundOperations<T> target;
+		
+		public SwitchableBoundOperations(Class<T> entityClass, String tableName) {
+			this.entityClass = entityClass;
+			this.target = new EntityBoundOperations<>(entityClass, tableName);
+		}
+		
+		void switchTo(String tableName) {
+			this.target = new EntityBoundOperations<>(entityClass, tableName);
+		}
+		
+		@Override
+		public Class<T> getEntityClass() {
+			return entityClass;
+		}
+		
+		@Override
+		public String getTableName() {
+			return target.getTableName();
+		}
+		
+		@Override
+		public CratePersistentEntity<?> getPersistentEntity() {
+			return target.getPersistentEntity();
+		}
+		
+		@Override
+		public void insert(T entity) {
+			target.insert(entity);
+		}
+		
+		@Override
+		public void update(T entity) {
+			target.update(entity);
+		}
+		
+		@Override
+		public BulkOperartionResult<T> bulkInsert(List<T> entities) {
+			return target.bulkInsert(entities);
+		}
+		
+		@Override
+		public BulkOperartionResult<T> bulkUpdate(List<T> entities) {
+			return target.bulkUpdate(entities);
+		}
+		
+		@Override
+		public List<T> findAll() {
+			return target.findAll();
+		}
+		
+		@Override
+		public List<SearchHit<T>> match(String column, String term, Pageable pageable) {
+			return target.match(column, term, pageable);
+		}
+		
+		@Override
+		public List<T> findAllInPartition(Object... partitionValues) {
+			return target.findAllInPartition(partitionValues);
+		}
+		
+		@Override
+		public T findById(Object id) {
+			return target.findById(id);
+		}
+		
+		@Override
+		public T findByIdInPartition(Object id, Object... partitionValues) {
+			return target.findByIdInPartition(id, partitionValues);
+		}
+		
+		@Override
+		public long count() {
+			return target.count();
+		}
+		
+		@Override
+		public boolean delete(Object id) {
+			return target.delete(id);
+		}
+		
+		@Override
+		public BulkOperartionResult<Object> bulkDelete(List<Object> ids) {
+			return target.bulkDelete(ids);
+		}
+		
+		@Override
+		public void deleteAll() {
+			target.deleteAll();
 		}
 		
-		maybeEmitEvent(new AfterConvertEvent<T>(document, entity));
-	}
-	
-	private void doBeforeDelete(Object id) {
+		@Override
+		public long dropPartitionsOlderThan(Date cutoff) {
+			return target.dropPartitionsOlderThan(cutoff);
+		}
 		
-		notNull(id);
-		maybeEmitEvent(new BeforeDeleteEvent<Object>(id));
-	}
-	
-	private void doAfterDelete(Object id) {
+		@Override
+		public <R> R bulkLoad(BulkLoadCallback<T, R> callback) {
+			return target.bulkLoad(callback);
+		}
 		
-		notNull(id);
-		maybeEmitEvent(new AfterDeleteEvent<Object>(id));
+		@Override
+		public void refreshTable() {
+			target.refreshTable();
+		}
 	}
 	
 	// TODO: create a generic select statement in sql package when Criteria API is in place
 	private class Select extends AbstractStatement {
 		
-		private String idColumn;
 		private String tableName;
 		private Set<String> columns;
+		private String[] conditionColumns;
 		
-		public Select(String idColumn, String tableName, Set<String> columns) {
+		public Select(String tableName, Set<String> columns, String... conditionColumns) {
 			
 			hasText(tableName);
 
-			this.idColumn = idColumn;
 			this.tableName = tableName;
 			this.columns = columns != null ? columns : Collections.<String>emptySet();
+			this.conditionColumns = conditionColumns;
 		}
 		
 		@Override
@@ -560,11 +2890,69 @@ public class CrateTemplate implements CrateOperations, ApplicationContextAware {
 			StringBuilder sql = new StringBuilder(format("SELECT %s, %s FROM %s", colNames,
 																				  doubleQuote(RESERVED_VESRION_FIELD_NAME),
 																				  tableName));
-			if(StringUtils.hasText(idColumn)) {
+			if(conditionColumns.length > 0) {
 				sql.append(SPACE)
-				   .append(format("WHERE %s = ?", doubleQuote(idColumn)));
+				   .append(format("WHERE %s", conditions(asList(conditionColumns))));
+			}
+			
+			statement = sql.toString();
+			
+			return statement;
+		}
+	}
+		
+	/**
+	 * Full text search ordered by relevance. Only the requested page of hits is read from crate.
+	 */
+	private class Match extends AbstractStatement {
+		
+		private String tableName;
+		private Set<String> columns;
+		private String matchColumn;
+		private Pageable pageable;
+		
+		public Match(String tableName, Set<String> columns, String matchColumn, Pageable pageable) {
+			
+			hasText(tableName);
+			hasText(matchColumn);
+			notNull(pageable);
+			
+			this.tableName = tableName;
+			this.columns = columns;
+			this.matchColumn = matchColumn;
+			this.pageable = pageable;
+		}
+		
+		@Override
+		public String createStatement() {
+			
+			if(StringUtils.hasText(statement)) {
+				return statement;
+			}
+			
+			StringBuilder sql = new StringBuilder("SELECT ");
+			
+			for(String column : columns) {
+				sql.append(doubleQuote(column))
+				   .append(", ");
+			}
+			
+			sql.append(format("%s, %s FROM %s WHERE match(%s, ?) ORDER BY %s DESC", doubleQuote(RESERVED_VESRION_FIELD_NAME),
+																					   doubleQuote(SCORE_COLUMN), 
+																					   tableName,
+																					   CrateSQLUtil.dotToSqlPath(matchColumn),
+																					   doubleQuote(SCORE_COLUMN)));
+			if(pageable.getSort() != null) {
+				for(Order order : pageable.getSort()) {
+					sql.append(", ")
+					   .append(CrateSQLUtil.dotToSqlPath(order.getProperty()))
+					   .append(SPACE)
+					   .append(order.getDirection().name());
+				}
 			}
 			
+			sql.append(format(" LIMIT %d OFFSET %d", pageable.getPageSize(), pageable.getOffset()));
+			
 			statement = sql.toString();
 			
 			return statement;
@@ -575,16 +2963,16 @@ public class CrateTemplate implements CrateOperations, ApplicationContextAware {
 	private class Update extends AbstractStatement {
 
 		private String tableName;
-		private String idColumn;
+		private List<String> conditionColumns;
 		private Set<String> columns;
 		
-		public Update(String tableName, String idColumn, Set<String> columns) {
+		public Update(String tableName, List<String> conditionColumns, Set<String> columns) {
 			
 			hasText(tableName);
-			hasText(idColumn);
+			notEmpty(conditionColumns);
 			notEmpty(columns);
 			
-			this.idColumn = idColumn;
+			this.conditionColumns = conditionColumns;
 			this.tableName = tableName;
 			this.columns = columns;
 		}
@@ -609,7 +2997,7 @@ public class CrateTemplate implements CrateOperations, ApplicationContextAware {
 				}
 			}
 			
-			statement = format("UPDATE %s set %s WHERE %s = ?", tableName, cols.toString(), doubleQuote(idColumn));
+			statement = format("UPDATE %s set %s WHERE %s", tableName, cols.toString(), conditions(conditionColumns));
 			
 			return statement;
 		}
@@ -650,15 +3038,23 @@ public class CrateTemplate implements CrateOperations, ApplicationContextAware {
 	 */
 	private class SelectAction implements CrateAction {
 		
-		private CrateSQLStatement select;
-		private Object id;
+		private String statement;
+		private Object[] args;
+		
+		public SelectAction(EntityBoundOperations<?> bound, Object id) {
+			this(bound.getSelectStatement(id != null), id != null ? new Object[]{id} : new Object[0]);
+		}
 		
-		public SelectAction(Class<?> entityClass, String tableName, Object id) {
+		public SelectAction(String statement, Object... args) {
 			
-			notNull(entityClass);
+			hasText(statement);
 			
-			this.id = crateConverter.convertToCrateType(id, null);
-			this.select = initSelectStatement(entityClass, tableName);
+			this.statement = statement;
+			this.args = new Object[args.length];
+			
+			for(int index = 0; index < args.length; index++) {
+				this.args[index] = crateConverter.convertToCrateType(args[index], null);
+			}
 		}
 		
 		@Override
@@ -667,8 +3063,8 @@ public class CrateTemplate implements CrateOperations, ApplicationContextAware {
 			SQLRequest request = new SQLRequest(getSQLStatement());
 			request.includeTypesOnResponse(true);
 			
-			if(id != null) {
-				request.args(new Object[]{id});
+			if(args.length > 0) {
+				request.args(args);
 			}
 			
 			return request;
@@ -676,21 +3072,7 @@ public class CrateTemplate implements CrateOperations, ApplicationContextAware {
 
 		@Override
 		public String getSQLStatement() {
-			return select.createStatement();
-		}
-		
-		private CrateSQLStatement initSelectStatement(Class<?> entityClass, String tableName) {
-			
-			CratePersistentEntity<?> entity = getPersistentEntityFor(entityClass);
-			
-			boolean isVersioned = entity.hasVersionProperty();
-			
-			Set<String> columns = isVersioned ? entity.getPropertyNames(entity.getVersionProperty().getFieldName()) :
-												entity.getPropertyNames();
-			
-			String idColumn = id != null ? entity.getIdProperty().getFieldName() : null;
-			
-			return new Select(idColumn, tableName, columns);
+			return statement;
 		}
 	}
 	
@@ -701,40 +3083,41 @@ public class CrateTemplate implements CrateOperations, ApplicationContextAware {
 	private class WholesaleUpdateByIdAction extends WriteDbAction {
 		
 		private Object idValue;
+		private List<Object> partitionValues;
 		
-		public WholesaleUpdateByIdAction(Object entity, String tableName) {
+		public WholesaleUpdateByIdAction(Object entity, EntityBoundOperations<?> bound) {
 			
-			super(entity, tableName, UPDATE);
+			super(entity, bound, UPDATE);
 			validateEntity();
 			
-			this.idValue = crateConverter.convertToCrateType(getIdPropertyValue(entity), null);
+			this.idValue = crateConverter.convertToCrateType(bound.getIdValue(entity), null);
+			this.partitionValues = bound.getConditionPartitionValues(entity);
 		}
 		
 		private void validateEntity() {
-			
-			if(!persistentEntity.hasIdProperty()) {
-				throw new MappingException(format(ID_COLUMN, entity.getClass().getName()));
-			}
-			
-			validateIdValue(entity);
+			bound.getIdProperty();
+			bound.validateIdValue(entity);
 		}
 		
 		@Override
 		protected void processDocument(CrateDocument document) {
-			document.remove(persistentEntity.getIdProperty().getFieldName());
+			
+			document.remove(bound.getIdProperty().getFieldName());
 			document.remove(DEFAULT_TYPE_KEY);
+			
+			for(String partitionColumn : bound.getPartitionColumns()) {
+				document.remove(partitionColumn);
+			}
 		}
 
 		@Override
 		protected Object[] getArguments() {
-			return add(document.values().toArray(), idValue);
+			return addAll(add(document.values().toArray(), idValue), partitionValues.toArray());
 		}
 		
 		@Override
 		public String getSQLStatement() {
-			return new Update(tableName,
-							  persistentEntity.getIdProperty().getFieldName(),
-					  		  document.keySet()).createStatement();
+			return bound.getUpdateStatement(document.keySet());
 		}
 	}
 	
@@ -745,18 +3128,18 @@ public class CrateTemplate implements CrateOperations, ApplicationContextAware {
 	 */
 	private class InsertAction extends WriteDbAction {
 		
-		public InsertAction(Object entity, String tableName) {
+		public InsertAction(Object entity, EntityBoundOperations<?> bound) {
 			
-			super(entity, tableName, INSERT);
+			super(entity, bound, INSERT);
 			validateEntity();
 		}
 		
 		private void validateEntity() {
 			
-			if(!isIdPropertyDefined(entity.getClass())) {
+			if(!bound.hasId()) {
 				logger.warn(NO_ID_WARNING, entity.getClass().getName());
 			}else {
-				validateIdValue(entity);
+				bound.validateIdValue(entity);
 			}
 		}
 		
@@ -772,7 +3155,25 @@ public class CrateTemplate implements CrateOperations, ApplicationContextAware {
 		
 		@Override
 		public String getSQLStatement() {
-			return new Insert(tableName, document.keySet()).createStatement();
+			return bound.getInsertStatement(document.keySet());
+		}
+	}
+	
+	/**
+	 * Inserts the entity or replaces the columns of an existing row with the same primary key.
+	 * 
+	 * @author Hasnain Javed
+	 * @since 1.0.0
+	 */
+	private class UpsertAction extends InsertAction {
+		
+		public UpsertAction(Object entity, EntityBoundOperations<?> bound) {
+			super(entity, bound);
+		}
+		
+		@Override
+		public String getSQLStatement() {
+			return bound.getUpsertStatement(document.keySet());
 		}
 	}
 	
@@ -783,19 +3184,22 @@ public class CrateTemplate implements CrateOperations, ApplicationContextAware {
 	 */
 	private class DeleteByIdActionHandler implements CrateAction, CrateActionResponseHandler<Boolean> {
 		
-		private CrateSQLStatement delete;
+		private String statement;
+		private Object id;
 		private Object idValue;
+		private EntityBoundOperations<?> bound;
 
-		public DeleteByIdActionHandler(String table, Class<?> entityClass, Object id) {
+		public DeleteByIdActionHandler(EntityBoundOperations<?> bound, Object id) {
 			
-			notNull(entityClass);
+			notNull(bound);
 			notNull(id);
-			validateEntity(entityClass);
 
+			this.statement = bound.getDeleteByIdStatement();
+			this.id = id;
 			this.idValue = crateConverter.convertToCrateType(id, null);
-			this.delete = new Delete(table, getIdPropertyFor(entityClass).getFieldName());
+			this.bound = bound;
 			
-			doBeforeDelete(id);
+			doBeforeDelete(id, bound);
 		}
 		
 		@Override
@@ -807,7 +3211,7 @@ public class CrateTemplate implements CrateOperations, ApplicationContextAware {
 
 		@Override
 		public String getSQLStatement() {
-			return delete.createStatement();
+			return statement;
 		}
 		
 		@Override
@@ -817,22 +3221,13 @@ public class CrateTemplate implements CrateOperations, ApplicationContextAware {
 			
 			if(removed) {
 				logger.info("Removed row with id '{}'", idValue);
-				doAfterDelete(idValue);
+				doAfterDelete(idValue, id, bound);
 			}else {
 				logger.info("No row removed with id '{}'", idValue);
 			}
 			
 			return removed;
 		}
-		
-		private void validateEntity(Class<?> entityClass) {
-			
-			CratePersistentProperty idProperty = getIdPropertyFor(entityClass);
-			
-			if (idProperty == null) {
-				throw new MappingException("No id property found for object of type " + entityClass);
-			}
-		}
 	}
 	
 	/**
@@ -863,20 +3258,42 @@ public class CrateTemplate implements CrateOperations, ApplicationContextAware {
 				
 				List<T> entities = new ArrayList<>(rows.intValue());
 				
-				for(Object[] row : payload) {
+				boolean afterLoad = hasListeners(AfterLoadEvent.class, type);
+				
+				CratePersistentEntity<?> persistentEntity = getPersistentEntityFor(type);
+				
+				CrateDocument[] sources = new CrateDocument[payload.length];
+				Object[] converted = new Object[payload.length];
+				
+				ReadConversion conversion = new ReadConversion(columns, types, payload, sources, converted, 0, payload.length);
+				
+				if(readConversionParallelism > 1 && payload.length >= readConversionThreshold) {
+					getReadConversionPool().invoke(conversion);
+				}else {
+					conversion.convert();
+				}
+				
+				// events are published on the calling thread in the order of the rows
+				for(int index = 0; index < payload.length; index++) {
 					
-					CrateDocument source = new CrateDocumentConverter(columns, types, row).toDocument();
+					CrateDocument source = sources[index];
 					
-					T entity = null;
+					@SuppressWarnings("unchecked")
+					T entity = (T)converted[index];
+					Object id = null;
 						
 					if(!source.isEmpty()) {
-						entity = crateConverter.read(type, source);
-						maybeEmitEvent(new AfterLoadEvent<>(source, type));
+						id = getIdValue(persistentEntity, entity);
+						if(afterLoad) {
+							maybeEmitEvent(new AfterLoadEvent<>(source, type), id);
+						}
 					}
 					
 					if (entity != null) {
-						maybeEmitEvent(new AfterConvertEvent<>(source, entity));
-						entities.add(entity);
+						if(hasListeners(AfterConvertEvent.class, entity.getClass())) {
+							maybeEmitEvent(new AfterConvertEvent<>(source, entity), id);
+						}
+						collect(entities, entity, source);
 					}
 				}
 				
@@ -885,8 +3302,108 @@ public class CrateTemplate implements CrateOperations, ApplicationContextAware {
 				return emptyList();
 			}
 		}
+		
+		protected void collect(List<T> entities, T entity, CrateDocument source) {
+			entities.add(entity);
+		}
+		
+		private Object getIdValue(CratePersistentEntity<?> persistentEntity, Object entity) {
+			
+			if(eventDispatcher == null || entity == null || !persistentEntity.hasIdProperty()) {
+				return null;
+			}
+			
+			return persistentEntity.getPropertyAccessor(entity).getProperty(persistentEntity.getIdProperty());
+		}
+		
+		/**
+		 * Converts a range of rows to {@link CrateDocument}s and entities, splitting it while it is larger than
+		 * 1024 rows.
+		 */
+		private class ReadConversion extends RecursiveAction {
+			
+			private static final long serialVersionUID = -6245212939335574869L;
+			
+			private final String[] columns;
+			private final DataType<?>[] types;
+			private final Object[][] payload;
+			private final CrateDocument[] sources;
+			private final Object[] converted;
+			private final int from;
+			private final int to;
+			
+			public ReadConversion(String[] columns, DataType<?>[] types, Object[][] payload, CrateDocument[] sources, 
+								  Object[] converted, int from, int to) {
+				this.columns = columns;
+				this.types = types;
+				this.payload = payload;
+				this.sources = sources;
+				this.converted = converted;
+				this.from = from;
+				this.to = to;
+			}
+			
+			@Override
+			protected void compute() {
+				
+				if(to - from > READ_CONVERSION_CHUNK_SIZE) {
+					int middle = (from + to) >>> 1;
+					invokeAll(new ReadConversion(columns, types, payload, sources, converted, from, middle), 
+							  new ReadConversion(columns, types, payload, sources, converted, middle, to));
+				}else {
+					convert();
+				}
+			}
+			
+			void convert() {
+				
+				for(int index = from; index < to; index++) {
+					
+					CrateDocument source = new CrateDocumentConverter(columns, types, payload[index]).toDocument();
+					
+					sources[index] = source;
+					
+					if(!source.isEmpty()) {
+						converted[index] = crateConverter.read(type, source);
+					}
+				}
+			}
+		}
 	}
 
+	/**
+	 * Reads the rows of a full text search and pairs the entities with the value of the {@code _score} column.
+	 * 
+	 * @author Hasnain Javed
+	 * @since 1.0.0
+	 * @param <T>
+	 */
+	private class SearchHitsHandler<T> implements CrateActionResponseHandler<List<SearchHit<T>>> {
+		
+		private final Class<T> type;
+		
+		public SearchHitsHandler(Class<T> type) {
+			notNull(type);
+			this.type = type;
+		}
+		
+		@Override
+		public List<SearchHit<T>> handle(SQLResponse response) {
+			
+			final List<SearchHit<T>> hits = new ArrayList<>(response.rows().length);
+			
+			new ReadDbHandler<T>(type) {
+				@Override
+				protected void collect(List<T> entities, T entity, CrateDocument source) {
+					Object score = source.get(SCORE_COLUMN);
+					hits.add(new SearchHit<>(entity, score != null ? ((Number)score).floatValue() : 0f));
+				}
+			}.handle(response);
+			
+			return hits;
+		}
+	}
+	
 	/**
 	 * @author Hasnain Javed
 	 * @since 1.0.0
@@ -898,15 +3415,14 @@ public class CrateTemplate implements CrateOperations, ApplicationContextAware {
 		
 		private ActionType actionType;
 		
-		protected String tableName;
 		protected Object entity;
-		protected CratePersistentEntity<?> persistentEntity;
+		protected EntityBoundOperations<?> bound;
 		protected CrateDocument document;
 		
-		public WriteDbAction(Object entity, String tableName, ActionType actionType) {
+		public WriteDbAction(Object entity, EntityBoundOperations<?> bound, ActionType actionType) {
 			
-			hasText(tableName);
 			notNull(entity);
+			notNull(bound);
 			notNull(actionType);
 			
 			allowedTypes = new HashSet<>(asList(INSERT, UPDATE));
@@ -916,19 +3432,18 @@ public class CrateTemplate implements CrateOperations, ApplicationContextAware {
 	    																										 allowedTypes));
 			}
 			
-			this.tableName = tableName;
 			this.entity = entity;
-			this.persistentEntity = getPersistentEntityFor(entity.getClass());
+			this.bound = bound;
 			this.document = new CrateDocument();
 			this.actionType = actionType;
 		}
 		
 		final void beforeSave() {
 			
-			doBeforeSave(entity, document);
+			doBeforeSave(entity, document, bound);
 			
-			if(persistentEntity.hasVersionProperty()) {
-				document.remove(persistentEntity.getVersionProperty().getFieldName());
+			if(bound.isVersioned()) {
+				document.remove(bound.getPersistentEntity().getVersionProperty().getFieldName());
 			}
 			
 			processDocument(document);
@@ -948,18 +3463,18 @@ public class CrateTemplate implements CrateOperations, ApplicationContextAware {
 			
 			switch(actionType) {
 			case INSERT:
-				doAfterSave(entity, document);
+				doAfterSave(entity, document, bound);
 				break;
 			case UPDATE:
-				Object id = getIdPropertyValue(entity);
+				Object id = bound.getIdValue(entity);
 				if(response.rowCount() > 0) {
 					logger.info("Updated row with id '{}'", id);
 					
-					if(persistentEntity.hasVersionProperty()) {
+					if(bound.isVersioned()) {
 						// crate is eventually consistent. Data written with a former statement is not guaranteed to be fetched.
-						refreshTable(persistentEntity.getType());
+						bound.refreshTable();
 					}
-					doAfterUpdate(entity, document);
+					doAfterUpdate(entity, document, bound);
 				}else {
 					logger.info("No row updated with id '{}'", id);
 				}
@@ -983,46 +3498,208 @@ public class CrateTemplate implements CrateOperations, ApplicationContextAware {
 	 */
 	private abstract class BaseSQLBulkOperation<T> implements CrateBulkAction, CrateBulkActionResponseHandler<T> {
 		
-		protected String tableName;
-		protected List<T> entities;		
-		protected List<CrateDocument> documents;		
-		protected CratePersistentEntity<?> persistentEntity;
+		protected List<T> entities;
+		protected List<T> accepted;
+		protected EntityBoundOperations<T> bound;
 		
 		private ActionType actionType;
+		private SortedMap<Integer, String> rejections;
+		private CrateDocument[] documents;
+		private Object[][] rows;
+		private int[] positions;
+		private int[] indexes;
+		private boolean[] excluded;
+		private int excludedCount;
+		private List<Integer> partitionOffsets;
 
-		public BaseSQLBulkOperation(String tableName, Class<T> entityClass, List<T> entities, ActionType actionType) {
+		public BaseSQLBulkOperation(EntityBoundOperations<T> bound, List<T> entities, ActionType actionType) {
 			
-			hasText(tableName);
-			notNull(entityClass);
+			notNull(bound);
 			notNull(actionType);			
 			notEmpty(entities);
 			
-			this.tableName = tableName;
-			this.persistentEntity = getPersistentEntityFor(entityClass);
+			this.bound = bound;
 			this.actionType = actionType;
 			
 			// preserve order
 			this.entities = new ArrayList<>(entities);
-			this.documents = new ArrayList<>(this.entities.size());
+			this.accepted = new ArrayList<>(this.entities.size());
+			this.rejections = new TreeMap<>();
+			this.documents = new CrateDocument[0];
+			this.rows = new Object[0][];
+			this.positions = new int[0];
+			this.indexes = new int[0];
+			this.excluded = new boolean[0];
+			this.partitionOffsets = new ArrayList<>();
 		}
 		
 		/**
-		 * Converts entities to {@link CrateDocument}s and calls lifecycle callback method(s). 
+		 * Converts entities to {@link CrateDocument}s and calls lifecycle callback method(s).
 		 */
 		final void beforeSave() {
+			prepare();
+			convert(0, size());
+			afterConvert();
+		}
+		
+		/**
+		 * Determines the entities to be converted. Entities rejected by listeners of the {@link BeforeBulkConvertEvent} 
+		 * are neither converted nor sent to crate. Entities of partitioned tables are grouped by partition.
+		 */
+		final void prepare() {
+			
+			if(bound.emitsEvents() && hasListeners(BeforeBulkConvertEvent.class, bound.getEntityClass())) {
+				BeforeBulkConvertEvent<T> event = new BeforeBulkConvertEvent<>(entities, bound.getEntityClass());
+				maybeEmitEvent(event);
+				rejections = event.getRejections();
+			}
+			
+			Map<List<Object>, List<Integer>> partitions = new LinkedHashMap<>();
+			
+			for(int index = 0; index < entities.size(); index++) {
+				
+				if(rejections.containsKey(index)) {
+					continue;
+				}
+				
+				List<Object> partition = bound.isPartitioned() ? bound.getPartitionValues(entities.get(index)) : 
+																 Collections.emptyList();
+				
+				List<Integer> indexes = partitions.get(partition);
+				
+				if(indexes == null) {
+					indexes = new ArrayList<>();
+					partitions.put(partition, indexes);
+				}
+				
+				indexes.add(index);
+			}
+			
+			positions = new int[entities.size()];
+			Arrays.fill(positions, -1);
+			
+			for(List<Integer> indexes : partitions.values()) {
+				
+				partitionOffsets.add(accepted.size());
+				
+				for(Integer index : indexes) {
+					positions[index] = accepted.size();
+					accepted.add(entities.get(index));
+				}
+			}
+			
+			if(!rejections.isEmpty()) {
+				logger.info("{} of {} entities rejected before bulk {}", rejections.size(), entities.size(), actionType);
+			}
+			
+			indexes = new int[accepted.size()];
+			
+			for(int index = 0; index < positions.length; index++) {
+				if(positions[index] >= 0) {
+					indexes[positions[index]] = index;
+				}
+			}
+			
+			documents = new CrateDocument[accepted.size()];
+			rows = new Object[accepted.size()][];
+			excluded = new boolean[accepted.size()];
+		}
+		
+		/**
+		 * Converts the accepted entities within the given range to {@link CrateDocument}s and builds their argument rows.
+		 * Disjoint ranges may be converted concurrently.
+		 * 
+		 * @param from index of the first accepted entity, inclusive
+		 * @param to index of the last accepted entity, exclusive
+		 */
+		final void convert(int from, int to) {
 			
-			for(T entity : entities) {
+			for(int index = from; index < to; index++) {
+				
+				T entity = accepted.get(index);
 				
 				CrateDocument document = new CrateDocument();
 				
-				doBeforeSave(entity, document);
+				doBeforeSave(entity, document, bound, true);
 				
 				processDocument(document);
 				
 				document.remove(RESERVED_VESRION_FIELD_NAME);
 				
-				documents.add(document);
+				documents[index] = document;
+				rows[index] = toRow(entity, document);
+			}
+		}
+		
+		/**
+		 * Publishes the {@link BeforeBulkSaveEvent} once all accepted entities have been converted. Entities rejected by
+		 * its listeners are not sent to crate.
+		 */
+		final void afterConvert() {
+			
+			if(!isEmpty() && hasBulkSaveListeners()) {
+				
+				BeforeBulkSaveEvent<T> event = new BeforeBulkSaveEvent<>(accepted, asList(documents), bound.getEntityClass());
+				maybeEmitEvent(event);
+				
+				for(Map.Entry<Integer, String> rejection : event.getRejections().entrySet()) {
+					excluded[rejection.getKey()] = true;
+					excludedCount++;
+					rejections.put(indexes[rejection.getKey()], rejection.getValue());
+				}
+				
+				if(excludedCount > 0) {
+					logger.info("{} of {} entities rejected after conversion for bulk {}", 
+								new Object[]{excludedCount, entities.size(), actionType});
+				}
+				
+				// listeners may have modified the documents
+				for(int index = 0; index < documents.length; index++) {
+					if(!excluded[index]) {
+						rows[index] = toRow(accepted.get(index), documents[index]);
+					}
+				}
+			}
+		}
+		
+		final boolean hasBulkSaveListeners() {
+			return bound.emitsEvents() && hasListeners(BeforeBulkSaveEvent.class, bound.getEntityClass());
+		}
+		
+		/**
+		 * @return the number of entities to be sent to crate
+		 */
+		final int size() {
+			return accepted.size();
+		}
+		
+		/**
+		 * Splits the accepted entities into ranges of at most the given size. A range never spans partitions.
+		 * 
+		 * @param chunkSize maximum number of entities per range
+		 * @return ranges of the accepted entities as pairs of {@code from} (inclusive) and {@code to} (exclusive)
+		 */
+		final List<int[]> getChunks(int chunkSize) {
+			
+			List<int[]> chunks = new ArrayList<>();
+			
+			for(int partition = 0; partition < partitionOffsets.size(); partition++) {
+				
+				int end = partition + 1 < partitionOffsets.size() ? partitionOffsets.get(partition + 1) : accepted.size();
+				
+				for(int from = partitionOffsets.get(partition); from < end; from += chunkSize) {
+					chunks.add(new int[]{from, (int)Math.min((long)from + chunkSize, end)});
+				}
 			}
+			
+			return chunks;
+		}
+		
+		/**
+		 * @return {@literal true} if there is nothing to be sent to crate
+		 */
+		final boolean isEmpty() {
+			return accepted.size() == excludedCount;
 		}
 		
 		@Override
@@ -1032,60 +3709,113 @@ public class CrateTemplate implements CrateOperations, ApplicationContextAware {
 		
 		@Override
 		public SQLBulkRequest getSQLRequest() {
+			return getSQLRequest(0, rows.length);
+		}
+		
+		/**
+		 * @param from index of the first accepted entity, inclusive
+		 * @param to index of the last accepted entity, exclusive
+		 * @return the request for the accepted entities within the given range which have not been rejected
+		 */
+		final SQLBulkRequest getSQLRequest(int from, int to) {
 			
-			Object[][] bulkArgs = new Object[documents.size()][];
+			if(excludedCount == 0) {
+				return new SQLBulkRequest(getSQLStatement(), Arrays.copyOfRange(rows, from, to));
+			}
 			
-			for (int index = 0; index < documents.size(); index++) {
-				
-				Object entity = entities.get(index);
-				CrateDocument document = documents.get(index);
-				
-				List<Object> extraArgs = appendArgs(entity);
-				
-				Object[] args;
-				
-				if(!extraArgs.isEmpty()) {
-					args = addAll(document.values().toArray(), extraArgs.toArray());
-				}else {
-					args = document.values().toArray();
+			List<Object[]> sent = new ArrayList<>(to - from);
+			
+			for(int index = from; index < to; index++) {
+				if(!excluded[index]) {
+					sent.add(rows[index]);
 				}
-				
-				bulkArgs[index] = args;
 			}
 			
-			SQLBulkRequest request = new SQLBulkRequest(getSQLStatement(), bulkArgs);
+			return new SQLBulkRequest(getSQLStatement(), sent.toArray(new Object[sent.size()][]));
+		}
+		
+		/**
+		 * Copies the results of the rows sent for the given range to the positions of their entities.
+		 * 
+		 * @param sent the results of the request returned by {@link #getSQLRequest(int, int)}
+		 * @param from index of the first accepted entity, inclusive
+		 * @param to index of the last accepted entity, exclusive
+		 * @param results the results of all accepted entities
+		 */
+		final void collectResults(Result[] sent, int from, int to, Result[] results) {
+			
+			for(int index = from, row = 0; index < to && row < sent.length; index++) {
+				if(!excluded[index]) {
+					results[index] = sent[row++];
+				}
+			}
+		}
+		
+		@Override
+		public BulkOperartionResult<T> handle(SQLBulkResponse response) {
+			
+			if(excludedCount == 0) {
+				return handleResults(response.results());
+			}
+			
+			Result[] results = new Result[size()];
+			collectResults(response.results(), 0, size(), results);
 			
-			return request;
+			return handleResults(results);
 		}
 		
-		@Override
-		public BulkOperartionResult<T> handle(SQLBulkResponse response) {
-
-			Result[] results = response.results();
+		/**
+		 * Builds the results in the order the entities have been given. Rejected entities are reported as failures.
+		 */
+		final BulkOperartionResult<T> handleResults(Result[] results) {
 			
 			BulkActionResult<T> actionResults = new BulkActionResult<>();
 			
-			if(persistentEntity.hasIdProperty()) {
+			if(bound.hasId() && results.length > 0 && !bound.isBulkLoading()) {
 				// crate is eventually consistent. Data written with a former statement is not guaranteed to be fetched.
-				refreshTable(persistentEntity.getType());
+				bound.refreshTable();
 			}
 			
-			for(int index = 0; index < results.length; index++) {
+			boolean afterBulkSave = bound.emitsEvents() && hasListeners(AfterBulkSaveEvent.class, bound.getEntityClass());
+			
+			List<T> saved = afterBulkSave ? new ArrayList<T>(results.length) : Collections.<T>emptyList();
+			List<CrateDocument> savedDocuments = afterBulkSave ? new ArrayList<CrateDocument>(results.length) 
+															   : Collections.<CrateDocument>emptyList();
+			
+			for(int index = 0; index < entities.size(); index++) {
 				
 				T entity = entities.get(index);
 				
-				CrateDocument document = documents.get(index);
+				String rejection = rejections.get(index);
+				
+				if(rejection != null) {
+					actionResults.addFailure(entity, rejection);
+					continue;
+				}
+				
+				int position = positions[index];
+				
+				if(position >= results.length || results[position] == null) {
+					continue;
+				}
+				
+				CrateDocument document = documents[position];
 				
-				ActionResult<T> actionResult = actionResults.addResult(results[index], entity);
+				ActionResult<T> actionResult = actionResults.addResult(results[position], entity);
 				
 				if(actionResult.isSuccess()) {
 					
+					if(afterBulkSave) {
+						saved.add(entity);
+						savedDocuments.add(document);
+					}
+					
 					switch(actionType) {
 					case INSERT:
-						doAfterSave(entity, document);
+						doAfterSave(entity, document, bound);
 						break;
 					case UPDATE:
-						doAfterUpdate(entity, document);
+						doAfterUpdate(entity, document, bound);
 						break;
 					default:
 						throw new IllegalArgumentException(format(BULK_ACTION, actionType,
@@ -1094,25 +3824,20 @@ public class CrateTemplate implements CrateOperations, ApplicationContextAware {
 				}
 			}
 			
+			if(afterBulkSave) {
+				maybeEmitEvent(new AfterBulkSaveEvent<>(saved, savedDocuments, bound.getEntityClass()));
+			}
+			
 			return actionResults;
 		}
-
-		/**
-		 * 
-		 * @param exclude the field(s) to be removed from the set. The version field if defined will be
-		 * removed by default as the crate system column "_version" is readonly 
-		 * @return set of fields 
-		 */
-		protected Set<String> getColumns(String... exclude) {
+		
+		private Object[] toRow(T entity, CrateDocument document) {
 			
-			String[] excludes = exclude;
+			List<Object> extraArgs = appendArgs(entity);
 			
-			if(persistentEntity.hasVersionProperty()) {
-				excludes = (String[])add(exclude, persistentEntity.getVersionProperty().getFieldName());
-			}
+			Object[] args = document.values().toArray();
 			
-			return isEmpty(excludes) ? persistentEntity.getPropertyNames() :
-									   persistentEntity.getPropertyNames(excludes);
+			return extraArgs.isEmpty() ? args : addAll(args, extraArgs.toArray());
 		}
 		
 		/**
@@ -1136,18 +3861,13 @@ public class CrateTemplate implements CrateOperations, ApplicationContextAware {
 	 */
 	private class BulkInsertOperation<T> extends BaseSQLBulkOperation<T> {
 		
-		private final Set<String> columns;
-		
-		public BulkInsertOperation(Class<T> entityClass, String tableName, List<T> entities) {
-			super(tableName, entityClass, entities, INSERT);
-			columns = new TreeSet<>();
-			columns.add(DEFAULT_TYPE_KEY);
-			columns.addAll(getColumns());
+		public BulkInsertOperation(EntityBoundOperations<T> bound, List<T> entities) {
+			super(bound, entities, INSERT);
 		}
 		
 		@Override
 		public String getSQLStatement() {
-			return new Insert(tableName, columns).createStatement();
+			return bound.getBulkInsertStatement();
 		}
 
 		@Override
@@ -1156,6 +3876,25 @@ public class CrateTemplate implements CrateOperations, ApplicationContextAware {
 		}
 	}
 	
+	/**
+	 * Inserts the entities or replaces the columns of existing rows with the same primary key.
+	 * 
+	 * @author Hasnain Javed
+	 * @since 1.0.0
+	 * @param <T>
+	 */
+	private class BulkUpsertOperation<T> extends BulkInsertOperation<T> {
+		
+		public BulkUpsertOperation(EntityBoundOperations<T> bound, List<T> entities) {
+			super(bound, entities);
+		}
+		
+		@Override
+		public String getSQLStatement() {
+			return bound.getBulkUpsertStatement();
+		}
+	}
+	
 	/**
 	 * 
 	 * @author Hasnain Javed
@@ -1164,35 +3903,40 @@ public class CrateTemplate implements CrateOperations, ApplicationContextAware {
 	 */
 	private class BulkUpdateOperation<T> extends BaseSQLBulkOperation<T> {
 		
-		public BulkUpdateOperation(Class<T> entityClass, String tableName, List<T> entities) {
+		private final String idColumn;
+		private final String[] partitionColumns;
+		
+		public BulkUpdateOperation(EntityBoundOperations<T> bound, List<T> entities) {
 			
-			super(tableName, entityClass, entities, UPDATE);
+			super(bound, entities, UPDATE);
 			
-			validateEntity(entityClass);
+			this.idColumn = bound.getIdProperty().getFieldName();
+			this.partitionColumns = bound.getPartitionColumns();
 		}
 		
 		@Override
 		public String getSQLStatement() {
-			return new Update(tableName,
-					 		  persistentEntity.getIdProperty().getFieldName(), 
-					 		  getColumns(persistentEntity.getIdProperty().getFieldName())).createStatement();
+			return bound.getBulkUpdateStatement();
 		}
 		
 		@Override
 		protected List<Object> appendArgs(Object entity) {
-			return asList(getIdPropertyValue(entity));
+			
+			List<Object> args = new ArrayList<>(1 + partitionColumns.length);
+			args.add(bound.getIdValue(entity));
+			args.addAll(bound.getConditionPartitionValues(entity));
+			
+			return args;
 		}
 		
 		@Override
 		protected void processDocument(CrateDocument document) {
+			
 			document.remove(DEFAULT_TYPE_KEY);
-			document.remove(persistentEntity.getIdProperty().getFieldName());
-		}
-		
-		private void validateEntity(Class<T> entityClass) {
+			document.remove(idColumn);
 			
-			if(!persistentEntity.hasIdProperty()) {
-				throw new MappingException(format(ID_COLUMN, entityClass.getName()));
+			for(String partitionColumn : partitionColumns) {
+				document.remove(partitionColumn);
 			}
 		}
 	}
@@ -1204,24 +3948,25 @@ public class CrateTemplate implements CrateOperations, ApplicationContextAware {
 	 */
 	private class BulkDeleteOperation implements CrateBulkAction, CrateBulkActionResponseHandler<Object> {
 
-		private CrateSQLStatement delete;
+		private String statement;
+		private List<Object> ids;
 		private List<Object> convertedIds;
+		private EntityBoundOperations<?> bound;
 		
-		public BulkDeleteOperation(Class<?> entityClass, String tableName, List<Object> ids) {
+		public BulkDeleteOperation(EntityBoundOperations<?> bound, List<Object> ids) {
 			
-			notNull(entityClass);
+			notNull(bound);
 			notEmpty(ids);
-			validateEntity(entityClass);
 			
-			this.delete = new Delete(tableName, getPersistentEntityFor(entityClass)
-												.getIdProperty()
-												.getFieldName());
+			this.statement = bound.getDeleteByIdStatement();
+			this.bound = bound;
+			this.ids = ids;
 			
 			this.convertedIds = new ArrayList<>(ids.size());
 			
 			for(Object id : ids) {
 				convertedIds.add(crateConverter.convertToCrateType(id, null));
-				doBeforeDelete(id);
+				doBeforeDelete(id, bound);
 			}
 		}
 		
@@ -1232,7 +3977,7 @@ public class CrateTemplate implements CrateOperations, ApplicationContextAware {
 
 		@Override
 		public String getSQLStatement() {
-			return delete.createStatement();
+			return statement;
 		}
 
 		@Override
@@ -1249,7 +3994,7 @@ public class CrateTemplate implements CrateOperations, ApplicationContextAware {
 				ActionResult<Object> actionResult = actionResults.addResult(results[index], id);
 				
 				if(actionResult.isSuccess()) {
-					doAfterDelete(id);
+					doAfterDelete(id, ids.get(index), bound);
 				}
 			}
 			
@@ -1267,14 +4012,268 @@ public class CrateTemplate implements CrateOperations, ApplicationContextAware {
 			
 			return new SQLBulkRequest(getSQLStatement(), bulkArgs);
 		}
+	}
+	
+	/**
+	 * 
+	 * @author Hasnain Javed
+	 * @since 1.0.0
+	 */
+	private class DeleteAllAction implements CrateAction {
+		
+		private final String tableName;
+		
+		public DeleteAllAction(String tableName) {
+			hasText(tableName);
+			this.tableName = tableName;
+		}
+		
+		@Override
+		public String getSQLStatement() {
+			return format("DELETE FROM %s", tableName);
+		}
+		
+		@Override
+		public SQLRequest getSQLRequest() {
+			return new SQLRequest(getSQLStatement());
+		}
+	}
+	
+	/**
+	 * Deletes the rows of a partitioned table by a condition on a partition column only. Crate drops whole partitions
+	 * for such a condition instead of deleting rows one by one.
+	 * 
+	 * @author Hasnain Javed
+	 * @since 1.0.0
+	 */
+	private class DropPartitionsAction implements CrateAction, CrateActionResponseHandler<Long> {
+		
+		private final String tableName;
+		private final String column;
+		private final Object cutoff;
+		
+		public DropPartitionsAction(String tableName, String column, Object cutoff) {
+			hasText(tableName);
+			hasText(column);
+			notNull(cutoff);
+			this.tableName = tableName;
+			this.column = column;
+			this.cutoff = cutoff;
+		}
+		
+		@Override
+		public String getSQLStatement() {
+			return format("DELETE FROM %s WHERE %s < ?", tableName, doubleQuote(column));
+		}
+		
+		@Override
+		public SQLRequest getSQLRequest() {
+			return new SQLRequest(getSQLStatement(), new Object[]{cutoff});
+		}
 		
-		public void validateEntity(Class<?> entityClass) {
+		@Override
+		public Long handle(SQLResponse response) {
 			
-			CratePersistentEntity<?> persistentEntity = getPersistentEntityFor(entityClass);
+			long rows = response.rowCount();
 			
-			if(!persistentEntity.hasIdProperty()) {
-				throw new MappingException(format(ID_COLUMN, entityClass.getName()));
+			logger.info("dropped partitions of table '{}' with '{}' older than '{}'", new Object[]{tableName, column, cutoff});
+			
+			return rows;
+		}
+	}
+	
+	/**
+	 * 
+	 * @author Hasnain Javed
+	 * @since 1.0.0
+	 */
+	private class CopyFromAction implements CrateAction, CrateActionResponseHandler<Long> {
+		
+		private final String tableName;
+		private final String uri;
+		private final CrateSQLStatement copyFrom;
+		
+		public CopyFromAction(String tableName, String uri, CopyFromOptions options) {
+			this.tableName = tableName;
+			this.uri = uri;
+			this.copyFrom = new CopyFrom(tableName, uri, options.getParameters());
+		}
+		
+		@Override
+		public String getSQLStatement() {
+			return copyFrom.createStatement();
+		}
+		
+		@Override
+		public SQLRequest getSQLRequest() {
+			return new SQLRequest(getSQLStatement());
+		}
+		
+		@Override
+		public Long handle(SQLResponse response) {
+			
+			long rows = response.rowCount();
+			
+			logger.info("copied {} rows from '{}' into table '{}'", new Object[]{rows, uri, tableName});
+			
+			return rows;
+		}
+	}
+	
+	/**
+	 * 
+	 * @author Hasnain Javed
+	 * @since 1.0.0
+	 */
+	private class CopyToAction implements CrateAction, CrateActionResponseHandler<Long> {
+		
+		private final String tableName;
+		private final String directoryUri;
+		private final Object[] partitionValues;
+		private final CrateSQLStatement copyTo;
+		
+		public CopyToAction(String tableName, String directoryUri, CopyToOptions options) {
+			
+			this.tableName = tableName;
+			this.directoryUri = directoryUri;
+			this.partitionValues = new Object[options.getPartition().size()];
+			
+			int index = 0;
+			
+			for(Object value : options.getPartition().values()) {
+				partitionValues[index++] = crateConverter.convertToCrateType(value, null);
+			}
+			
+			this.copyTo = new CopyTo(tableName, directoryUri, new ArrayList<>(options.getPartition().keySet()), 
+									 options.getColumns(), options.getParameters());
+		}
+		
+		@Override
+		public String getSQLStatement() {
+			return copyTo.createStatement();
+		}
+		
+		@Override
+		public SQLRequest getSQLRequest() {
+			return new SQLRequest(getSQLStatement(), partitionValues);
+		}
+		
+		@Override
+		public Long handle(SQLResponse response) {
+			
+			long rows = response.rowCount();
+			
+			logger.info("copied {} rows of table '{}' to '{}'", new Object[]{rows, tableName, directoryUri});
+			
+			return rows;
+		}
+	}
+	
+	/**
+	 * 
+	 * @author Hasnain Javed
+	 * @since 1.0.0
+	 */
+	private class CopyTableAction implements CrateAction, CrateActionResponseHandler<Long> {
+		
+		private final CrateSQLStatement insertFromSelect;
+		private final Object[] args;
+		
+		public CopyTableAction(CrateSQLStatement insertFromSelect, Object[] args) {
+			
+			this.insertFromSelect = insertFromSelect;
+			this.args = new Object[args.length];
+			
+			for(int index = 0; index < args.length; index++) {
+				this.args[index] = crateConverter.convertToCrateType(args[index], null);
+			}
+		}
+		
+		@Override
+		public String getSQLStatement() {
+			return insertFromSelect.createStatement();
+		}
+		
+		@Override
+		public SQLRequest getSQLRequest() {
+			return new SQLRequest(getSQLStatement(), args);
+		}
+		
+		@Override
+		public Long handle(SQLResponse response) {
+			
+			long rows = response.rowCount();
+			
+			logger.info("copied {} rows with '{}'", rows, getSQLStatement());
+			
+			return rows;
+		}
+	}
+	
+	/**
+	 * Reads the current number of replicas of a table.
+	 * 
+	 * @author Hasnain Javed
+	 * @since 1.0.0
+	 */
+	private class TableReplicasAction implements CrateAction, CrateActionResponseHandler<String> {
+		
+		private final String tableName;
+		private final String schema;
+		private final String table;
+		
+		public TableReplicasAction(String tableName) {
+			hasText(tableName);
+			this.tableName = tableName;
+			// unqualified table names belong to the default schema of crate
+			int separator = tableName.indexOf('.');
+			this.schema = separator > 0 ? tableName.substring(0, separator) : "doc";
+			this.table = separator > 0 ? tableName.substring(separator + 1) : tableName;
+		}
+		
+		@Override
+		public String getSQLStatement() {
+			return "SELECT number_of_replicas FROM information_schema.tables WHERE table_schema = ? AND table_name = ?";
+		}
+		
+		@Override
+		public SQLRequest getSQLRequest() {
+			return new SQLRequest(getSQLStatement(), new Object[]{schema.toLowerCase(), table.toLowerCase()});
+		}
+		
+		@Override
+		public String handle(SQLResponse response) {
+			
+			if(response.rows().length == 0) {
+				throw new NoSuchTableException(format("Table '%s' has no entry in 'information_schema.tables'. Table does not exist", 
+													  tableName));
 			}
+			
+			return String.valueOf(response.rows()[0][0]);
+		}
+	}
+	
+	/**
+	 * 
+	 * @author Hasnain Javed
+	 * @since 1.0.0
+	 */
+	private class AlterTableParameterAction implements CrateAction {
+		
+		private final CrateSQLStatement alterTable;
+		
+		public AlterTableParameterAction(String tableName, AlterTableParameterDefinition definition) {
+			this.alterTable = new AlterTableParameter(tableName, definition);
+		}
+		
+		@Override
+		public String getSQLStatement() {
+			return alterTable.createStatement();
+		}
+		
+		@Override
+		public SQLRequest getSQLRequest() {
+			return new SQLRequest(getSQLStatement());
 		}
 	}
 	
@@ -1301,4 +4300,63 @@ public class CrateTemplate implements CrateOperations, ApplicationContextAware {
 			return new SQLRequest(getSQLStatement());
 		}
 	}
+	
+	/**
+	 * Responses of a read and its hedge. The first response completes the read, a failure only once all requests
+	 * failed. The latency of the read is recorded when its own response arrives, even if the hedge answered first.
+	 * 
+	 * @author Hasnain Javed
+	 * @since 1.0.0
+	 */
+	private static class HedgedRead {
+		
+		private final HedgingPolicy policy;
+		private final long started;
+		private final PlainActionFuture<SQLResponse> response;
+		private final AtomicInteger pending;
+		
+		public HedgedRead(HedgingPolicy policy, long started) {
+			this.policy = policy;
+			this.started = started;
+			this.response = PlainActionFuture.newFuture();
+			this.pending = new AtomicInteger();
+		}
+		
+		ActionListener<SQLResponse> listener(final boolean hedge) {
+			
+			pending.incrementAndGet();
+			
+			return new ActionListener<SQLResponse>() {
+				
+				@Override
+				public void onResponse(SQLResponse sqlResponse) {
+					
+					boolean first = !response.isDone();
+					
+					if(!hedge) {
+						// latencies of hedges, or of the first response only, would hide slow reads from the delay
+						policy.recordLatency(System.currentTimeMillis() - started);
+					}
+					
+					response.onResponse(sqlResponse);
+					
+					if(hedge) {
+						policy.hedgeCompleted(first);
+					}
+				}
+				
+				@Override
+				public void onFailure(Throwable e) {
+					
+					if(pending.decrementAndGet() == 0) {
+						response.onFailure(e);
+					}
+					
+					if(hedge) {
+						policy.hedgeCompleted(false);
+					}
+				}
+			};
+		}
+	}
 }
\ No newline at end of file
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2002-2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.crate.core;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.slf4j.LoggerFactory.getLogger;
+import static org.springframework.util.Assert.isTrue;
+import static org.springframework.util.Assert.notNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.slf4j.Logger;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.data.crate.core.mapping.CratePersistentEntity;
+import org.springframework.data.crate.core.mapping.CratePersistentProperty;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.scheduling.concurrent.ConcurrentTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Builds the mapping metadata, converter type information and the {@link BoundCrateOperations} statements of entities
+ * ahead of the first request. Entities are warmed up in parallel and the time spent on each entity is reported. The
+ * threads are taken from the {@link #setTaskExecutor(AsyncTaskExecutor) given executor} or else from a pool created
+ * once per warmer, whose idle threads end on their own.
+ *
+ * @author Hasnain Javed
+ * @since 1.0.0
+ */
+public class CrateTemplateWarmer {
+
+	private final Logger logger = getLogger(getClass());
+
+	private final CrateOperations crateOperations;
+	private final MappingContext<? extends CratePersistentEntity<?>, CratePersistentProperty> mappingContext;
+
+	private int parallelism;
+	private AsyncTaskExecutor taskExecutor;
+
+	/**
+	 * Creates a new {@link CrateTemplateWarmer} for the given {@link CrateOperations}
+	 *
+	 * @param crateOperations must not be {@literal null}.
+	 */
+	public CrateTemplateWarmer(CrateOperations crateOperations) {
+		super();
+		notNull(crateOperations);
+		this.crateOperations = crateOperations;
+		this.mappingContext = crateOperations.getConverter().getMappingContext();
+		this.parallelism = Runtime.getRuntime().availableProcessors();
+	}
+
+	/**
+	 * Number of threads of the pool used to warm up entities when no {@link #setTaskExecutor(AsyncTaskExecutor)
+	 * executor} is given. Defaults to the number of available processors.
+	 * @param parallelism must be greater than zero
+	 */
+	public synchronized void setParallelism(int parallelism) {
+		isTrue(parallelism > 0, "parallelism must be greater than zero");
+		this.parallelism = parallelism;
+	}
+
+	/**
+	 * Executor used to warm up entities, e.g. the task executor of the application. It is not shut down by the warmer.
+	 * @param taskExecutor must not be {@literal null}.
+	 */
+	public synchronized void setTaskExecutor(AsyncTaskExecutor taskExecutor) {
+		notNull(taskExecutor);
+		this.taskExecutor = taskExecutor;
+	}
+
+	/**
+	 * Warms up all entities known to the mapping context.
+	 * @return the warm up time in milliseconds per entity type
+	 */
+	public Map<Class<?>, Long> warmUp() {
+
+		Set<Class<?>> types = new LinkedHashSet<>();
+
+		for(CratePersistentEntity<?> entity : mappingContext.getPersistentEntities()) {
+			types.add(entity.getType());
+		}
+
+		return warmUp(types);
+	}
+
+	/**
+	 * Warms up the given entity types.
+	 * @param types must not be {@literal null}.
+	 * @return the warm up time in milliseconds per entity type
+	 */
+	public Map<Class<?>, Long> warmUp(Collection<Class<?>> types) {
+
+		notNull(types);
+
+		Map<Class<?>, Long> timings = new LinkedHashMap<>();
+
+		if(types.isEmpty()) {
+			return timings;
+		}
+
+		long start = System.nanoTime();
+
+		if(types.size() == 1) {
+			timings.put(types.iterator().next(), warmUp(types.iterator().next()));
+		}else {
+			warmUp(types, timings);
+		}
+
+		logger.info("warmed up {} entities in {} ms", timings.size(), NANOSECONDS.toMillis(System.nanoTime() - start));
+
+		return timings;
+	}
+
+	private void warmUp(Collection<Class<?>> types, Map<Class<?>, Long> timings) {
+
+		AsyncTaskExecutor executor = getTaskExecutor();
+
+		List<Future<Long>> futures = new ArrayList<>(types.size());
+
+		for(final Class<?> type : types) {
+			futures.add(executor.submit(new Callable<Long>() {
+				@Override
+				public Long call() throws Exception {
+					return warmUp(type);
+				}
+			}));
+		}
+
+		int index = 0;
+
+		try {
+			for(Class<?> type : types) {
+				timings.put(type, futures.get(index++).get());
+			}
+		}catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+			logger.warn("warm up was interrupted after {} entities", timings.size());
+			cancel(futures);
+		}catch(ExecutionException e) {
+			cancel(futures);
+			if(e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException)e.getCause();
+			}
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	private static void cancel(List<Future<Long>> futures) {
+		for(Future<Long> future : futures) {
+			future.cancel(false);
+		}
+	}
+
+	/**
+	 * The pool created when no executor is given keeps no thread alive once idle, so it needs no shutdown and is
+	 * reused by later warm ups of this warmer.
+	 */
+	private synchronized AsyncTaskExecutor getTaskExecutor() {
+
+		if(taskExecutor == null) {
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("crate-warm-up-");
+			threadFactory.setDaemon(true);
+			ThreadPoolExecutor pool = new ThreadPoolExecutor(parallelism, parallelism, 1, SECONDS,
+															 new LinkedBlockingQueue<Runnable>(), threadFactory);
+			pool.allowCoreThreadTimeOut(true);
+			taskExecutor = new ConcurrentTaskExecutor(pool);
+		}
+
+		return taskExecutor;
+	}
+
+	private long warmUp(Class<?> type) {
+
+		long start = System.nanoTime();
+
+		CratePersistentEntity<?> entity = mappingContext.getPersistentEntity(type);
+
+		entity.doWithProperties(new PropertyHandler<CratePersistentProperty>() {
+			@Override
+			public void doWithPersistentProperty(CratePersistentProperty property) {
+				// resolves the type information used by the converter when reading and writing the property
+				property.getTypeInformation().getActualType();
+				if(property.isEntity()) {
+					mappingContext.getPersistentEntity(property);
+				}
+			}
+		});
+
+		BoundCrateOperations<?> operations = crateOperations.forEntity(type);
+
+		long elapsed = NANOSECONDS.toMillis(System.nanoTime() - start);
+
+		logger.info("warmed up entity '{}' bound to table '{}' in {} ms", type.getName(), operations.getTableName(), elapsed);
+
+		return elapsed;
+	}
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2002-2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.crate.core;
+
+/**
+ * Callback executing one or more operations which have to complete before a common deadline.
+ *
+ * @see CrateOperations#withTimeout(long, java.util.concurrent.TimeUnit, DeadlineCallback)
+ * @author Hasnain Javed
+ * @since 1.0.0
+ */
+public interface DeadlineCallback<T> {
+
+	/**
+	 * Executes the operations. Each statement sent waits at most for the time left until the deadline.
+	 *
+	 * @param operations the operations to use
+	 * @return a result object or {@literal null}
+	 */
+	T doWithinDeadline(CrateOperations operations);
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2002-2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.crate.core;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.slf4j.LoggerFactory.getLogger;
+import static org.springframework.util.Assert.isTrue;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.slf4j.Logger;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+/**
+ * {@link RetryPolicy} retrying resource failures, e.g. unavailable shards or nodes, with an exponentially growing 
+ * backoff. Each backoff is randomized between half and the full backoff so that clients failing at the same time do
+ * not retry at the same time. The retries of all statements within a time window are limited by a budget, so that a
+ * cluster which is down is not flooded with retries.
+ * <p>
+ * Reads, deletes, upserts ({@code INSERT ... ON DUPLICATE KEY UPDATE}) and {@code REFRESH} are considered idempotent.
+ * Plain inserts and updates are not retried unless configured.
+ *
+ * @author Hasnain Javed
+ * @since 1.0.0
+ */
+public class ExponentialBackoffRetryPolicy implements RetryPolicy {
+
+	private static final String[] TRANSIENT_ROW_ERRORS = {"UnavailableShardsException", 
+														  "NoShardAvailableActionException",
+														  "IllegalIndexShardStateException",
+														  "NoNodeAvailableException",
+														  "NodeNotConnectedException",
+														  "NodeDisconnectedException",
+														  "NodeClosedException",
+														  "ConnectTransportException",
+														  "EsRejectedExecutionException"};
+
+	private final Logger logger = getLogger(getClass());
+
+	private int maxAttempts;
+	private long initialBackoff;
+	private double multiplier;
+	private long maxBackoff;
+	private int budget;
+	private long budgetWindow;
+	private boolean retryInserts;
+	private boolean retryUpdates;
+
+	private long windowStart;
+	private int retriesInWindow;
+
+	public ExponentialBackoffRetryPolicy() {
+		this.maxAttempts = 3;
+		this.initialBackoff = 100;
+		this.multiplier = 2;
+		this.maxBackoff = SECONDS.toMillis(5);
+		this.budget = 100;
+		this.budgetWindow = SECONDS.toMillis(10);
+	}
+
+	/**
+	 * Number of attempts including the first one. Defaults to {@literal 3}.
+	 * @param maxAttempts must be greater than zero
+	 */
+	public void setMaxAttempts(int maxAttempts) {
+		isTrue(maxAttempts > 0, "maxAttempts must be greater than zero");
+		this.maxAttempts = maxAttempts;
+	}
+
+	/**
+	 * Backoff after the first attempt. Defaults to {@literal 100} milliseconds.
+	 * @param initialBackoff backoff in milliseconds, must be greater than zero
+	 */
+	public void setInitialBackoff(long initialBackoff) {
+		isTrue(initialBackoff > 0, "initialBackoff must be greater than zero");
+		this.initialBackoff = initialBackoff;
+	}
+
+	/**
+	 * Factor the backoff grows by with each attempt. Defaults to {@literal 2}.
+	 * @param multiplier must not be less than one
+	 */
+	public void setMultiplier(double multiplier) {
+		isTrue(multiplier >= 1, "multiplier must not be less than one");
+		this.multiplier = multiplier;
+	}
+
+	/**
+	 * Upper limit of the backoff. Defaults to {@literal 5} seconds.
+	 * @param maxBackoff backoff in milliseconds, must be greater than zero
+	 */
+	public void setMaxBackoff(long maxBackoff) {
+		isTrue(maxBackoff > 0, "maxBackoff must be greater than zero");
+		this.maxBackoff = maxBackoff;
+	}
+
+	/**
+	 * Number of retries of all statements allowed within the {@link #setBudgetWindow(long) budget window}. Defaults to
+	 * {@literal 100}.
+	 * @param budget must be greater than zero
+	 */
+	public void setBudget(int budget) {
+		isTrue(budget > 0, "budget must be greater than zero");
+		this.budget = budget;
+	}
+
+	/**
+	 * Time window of the retry budget. Defaults to {@literal 10} seconds.
+	 * @param budgetWindow window in milliseconds, must be greater than zero
+	 */
+	public void setBudgetWindow(long budgetWindow) {
+		isTrue(budgetWindow > 0, "budgetWindow must be greater than zero");
+		this.budgetWindow = budgetWindow;
+	}
+
+	/**
+	 * Flag to retry plain inserts, which fail with a duplicate key if the failed attempt has been applied. Defaults to
+	 * {@code false}.
+	 * @param retryInserts {@code true} to retry plain inserts
+	 */
+	public void setRetryInserts(boolean retryInserts) {
+		this.retryInserts = retryInserts;
+	}
+
+	/**
+	 * Flag to retry updates, which are idempotent unless they compute values from the current values of the row.
+	 * Defaults to {@code false}.
+	 * @param retryUpdates {@code true} to retry updates
+	 */
+	public void setRetryUpdates(boolean retryUpdates) {
+		this.retryUpdates = retryUpdates;
+	}
+
+	@Override
+	public boolean isIdempotent(String statement) {
+
+		String normalized = statement.trim().toUpperCase();
+
+		if(normalized.startsWith("SELECT") || normalized.startsWith("DELETE") || normalized.startsWith("REFRESH")) {
+			return true;
+		}
+
+		if(normalized.startsWith("INSERT")) {
+			return retryInserts || normalized.contains("ON DUPLICATE KEY UPDATE");
+		}
+
+		if(normalized.startsWith("UPDATE")) {
+			return retryUpdates;
+		}
+
+		return false;
+	}
+
+	@Override
+	public boolean isTransient(RuntimeException failure) {
+		return failure instanceof DataAccessResourceFailureException;
+	}
+
+	/**
+	 * Only row errors caused by unavailable shards or nodes are transient, the row level counterparts of the
+	 * {@link CrateErrorCodes#SHARDS_NOT_AVAILABLE} and {@link CrateErrorCodes#QUERY_FAILED_ON_SHARDS} failures of a
+	 * statement. Any other row error, e.g. a validation failure, a conflict or an unknown column, fails again when the
+	 * row is sent again.
+	 */
+	@Override
+	public boolean isTransient(String rowError) {
+
+		for(String error : TRANSIENT_ROW_ERRORS) {
+			if(rowError.contains(error)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	@Override
+	public long getBackoff(int attempt) {
+
+		if(attempt >= maxAttempts || !acquireRetry()) {
+			return -1;
+		}
+
+		long backoff = (long)Math.min(maxBackoff, initialBackoff * Math.pow(multiplier, attempt - 1));
+
+		return backoff / 2 + ThreadLocalRandom.current().nextLong(backoff - backoff / 2 + 1);
+	}
+
+	private synchronized boolean acquireRetry() {
+
+		long now = System.currentTimeMillis();
+
+		if(now - windowStart >= budgetWindow) {
+			windowStart = now;
+			retriesInWindow = 0;
+		}
+
+		if(retriesInWindow >= budget) {
+			logger.warn("retry budget of {} retries per {} ms is exhausted", budget, budgetWindow);
+			return false;
+		}
+
+		retriesInWindow++;
+
+		return true;
+	}
+}
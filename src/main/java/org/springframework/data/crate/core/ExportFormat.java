@@ -0,0 +1,226 @@
+/*
+ * Copyright 2002-2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.crate.core;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Formats of rows exported with {@link CrateOperations#exportTo(String, Object[], java.nio.channels.WritableByteChannel, ExportFormat)}.
+ * Rows are encoded directly from the values of the response, nested objects and arrays are encoded as JSON.
+ * 
+ * @author Hasnain Javed
+ * @since 1.0.0
+ */
+public enum ExportFormat {
+	
+	/**
+	 * One JSON object per line, the format imported by {@code COPY FROM}.
+	 */
+	NDJSON {
+		
+		@Override
+		void appendHeader(String[] columns, StringBuilder builder) {
+		}
+		
+		@Override
+		void appendRow(String[] columns, Object[] row, StringBuilder builder) {
+			
+			builder.append('{');
+			
+			for(int index = 0; index < columns.length; index++) {
+				
+				if(index > 0) {
+					builder.append(',');
+				}
+				
+				appendJsonString(columns[index], builder);
+				builder.append(':');
+				appendJson(row[index], builder);
+			}
+			
+			builder.append('}').append('\n');
+		}
+	},
+	
+	/**
+	 * Comma separated values with a header line of the column names. Values containing separators, quotes or line 
+	 * breaks are quoted, {@literal null} values are empty.
+	 */
+	CSV {
+		
+		@Override
+		void appendHeader(String[] columns, StringBuilder builder) {
+			appendRow(columns, columns, builder);
+		}
+		
+		@Override
+		void appendRow(String[] columns, Object[] row, StringBuilder builder) {
+			
+			for(int index = 0; index < row.length; index++) {
+				
+				if(index > 0) {
+					builder.append(',');
+				}
+				
+				Object value = row[index];
+				
+				if(value == null) {
+					continue;
+				}
+				
+				if(value instanceof Map || value instanceof Collection || value instanceof Object[]) {
+					StringBuilder json = new StringBuilder();
+					appendJson(value, json);
+					appendCsvValue(json, builder);
+				}else {
+					appendCsvValue(value.toString(), builder);
+				}
+			}
+			
+			builder.append('\n');
+		}
+	};
+	
+	/**
+	 * Appends the line preceding the first row, if any.
+	 */
+	abstract void appendHeader(String[] columns, StringBuilder builder);
+	
+	/**
+	 * Appends a single row including the line break.
+	 */
+	abstract void appendRow(String[] columns, Object[] row, StringBuilder builder);
+	
+	private static void appendCsvValue(CharSequence value, StringBuilder builder) {
+		
+		boolean quote = false;
+		
+		for(int index = 0; index < value.length() && !quote; index++) {
+			char c = value.charAt(index);
+			quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+		}
+		
+		if(!quote) {
+			builder.append(value);
+			return;
+		}
+		
+		builder.append('"');
+		
+		for(int index = 0; index < value.length(); index++) {
+			
+			char c = value.charAt(index);
+			
+			if(c == '"') {
+				builder.append('"');
+			}
+			
+			builder.append(c);
+		}
+		
+		builder.append('"');
+	}
+	
+	private static void appendJson(Object value, StringBuilder builder) {
+		
+		if(value == null) {
+			builder.append("null");
+		}else if(value instanceof Number || value instanceof Boolean) {
+			builder.append(value);
+		}else if(value instanceof Map) {
+			
+			builder.append('{');
+			
+			Iterator<? extends Entry<?, ?>> entries = ((Map<?, ?>)value).entrySet().iterator();
+			
+			while(entries.hasNext()) {
+				
+				Entry<?, ?> entry = entries.next();
+				
+				appendJsonString(String.valueOf(entry.getKey()), builder);
+				builder.append(':');
+				appendJson(entry.getValue(), builder);
+				
+				if(entries.hasNext()) {
+					builder.append(',');
+				}
+			}
+			
+			builder.append('}');
+		}else if(value instanceof Collection) {
+			appendJsonArray(((Collection<?>)value).toArray(), builder);
+		}else if(value instanceof Object[]) {
+			appendJsonArray((Object[])value, builder);
+		}else {
+			appendJsonString(value.toString(), builder);
+		}
+	}
+	
+	private static void appendJsonArray(Object[] values, StringBuilder builder) {
+		
+		builder.append('[');
+		
+		for(int index = 0; index < values.length; index++) {
+			
+			if(index > 0) {
+				builder.append(',');
+			}
+			
+			appendJson(values[index], builder);
+		}
+		
+		builder.append(']');
+	}
+	
+	private static void appendJsonString(String value, StringBuilder builder) {
+		
+		builder.append('"');
+		
+		for(int index = 0; index < value.length(); index++) {
+			
+			char c = value.charAt(index);
+			
+			switch(c) {
+				case '"':
+					builder.append("\\\"");
+					break;
+				case '\\':
+					builder.append("\\\\");
+					break;
+				case '\n':
+					builder.append("\\n");
+					break;
+				case '\r':
+					builder.append("\\r");
+					break;
+				case '\t':
+					builder.append("\\t");
+					break;
+				default:
+					if(c < 0x20) {
+						builder.append(String.format("\\u%04x", (int)c));
+					}else {
+						builder.append(c);
+					}
+			}
+		}
+		
+		builder.append('"');
+	}
+}
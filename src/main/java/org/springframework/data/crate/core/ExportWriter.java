@@ -0,0 +1,129 @@
+/*
+ * Copyright 2002-2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.crate.core;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.springframework.util.Assert.notNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+
+/**
+ * Encodes the rows of query responses into a {@link WritableByteChannel}. A single character and byte buffer are
+ * reused for all rows, so memory use is independent of the number of rows exported.
+ * 
+ * @author Hasnain Javed
+ * @since 1.0.0
+ */
+class ExportWriter {
+	
+	private static final int BUFFER_SIZE = 64 * 1024;
+	
+	private final WritableByteChannel channel;
+	private final ExportFormat format;
+	private final CharsetEncoder encoder;
+	private final StringBuilder chars;
+	private final ByteBuffer bytes;
+	
+	private boolean headerWritten;
+	private long rows;
+	
+	public ExportWriter(WritableByteChannel channel, ExportFormat format) {
+		
+		notNull(channel);
+		notNull(format);
+		
+		this.channel = channel;
+		this.format = format;
+		this.encoder = UTF_8.newEncoder();
+		this.chars = new StringBuilder(BUFFER_SIZE);
+		this.bytes = ByteBuffer.allocate(BUFFER_SIZE);
+	}
+	
+	/**
+	 * Writes the given rows, preceded by the header of the format for the first rows written.
+	 */
+	public void write(String[] columns, Object[][] payload) throws IOException {
+		
+		if(!headerWritten) {
+			format.appendHeader(columns, chars);
+			headerWritten = true;
+		}
+		
+		for(Object[] row : payload) {
+			
+			format.appendRow(columns, row, chars);
+			rows++;
+			
+			if(chars.length() >= BUFFER_SIZE) {
+				encode();
+			}
+		}
+	}
+	
+	/**
+	 * Writes all buffered rows to the channel. The channel is not closed.
+	 */
+	public void flush() throws IOException {
+		encode();
+		drain();
+	}
+	
+	public long getRows() {
+		return rows;
+	}
+	
+	private void encode() throws IOException {
+		
+		CharBuffer input = CharBuffer.wrap(chars);
+		
+		encoder.reset();
+		
+		while(true) {
+			
+			CoderResult result = encoder.encode(input, bytes, true);
+			
+			if(result.isOverflow()) {
+				drain();
+			}else if(result.isUnderflow()) {
+				break;
+			}else {
+				result.throwException();
+			}
+		}
+		
+		while(encoder.flush(bytes).isOverflow()) {
+			drain();
+		}
+		
+		chars.setLength(0);
+	}
+	
+	private void drain() throws IOException {
+		
+		bytes.flip();
+		
+		while(bytes.hasRemaining()) {
+			channel.write(bytes);
+		}
+		
+		bytes.clear();
+	}
+}
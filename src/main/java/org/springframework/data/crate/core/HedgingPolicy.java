@@ -0,0 +1,224 @@
+/*
+ * Copyright 2002-2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.crate.core;
+
+import static org.springframework.util.Assert.isTrue;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Policy to hedge point reads, i.e. {@code findById} and {@code count}: if a read has not completed within the
+ * {@link #setPercentile(double) percentile} of the latencies of recent reads, the same statement is sent a second
+ * time, usually by another client of the {@link org.springframework.data.crate.client.CrateClientPool}, and the
+ * response arriving first is used.
+ * <p>
+ * Hedges are limited to a {@link #setMaxHedgeRatio(double) ratio} of the hedgeable reads and a
+ * {@link #setMaxConcurrentHedges(int) number of hedges in flight}, so that a slow cluster is not loaded further by
+ * hedges. Reads are not hedged before {@link #setMinSamples(int) enough latencies} have been recorded.
+ *
+ * @see CrateTemplate#setHedgingPolicy(HedgingPolicy)
+ * @author Hasnain Javed
+ * @since 1.0.0
+ */
+public class HedgingPolicy {
+
+	private static final int RECALCULATION_INTERVAL = 64;
+
+	private final long[] samples;
+	private final AtomicInteger concurrentHedges;
+	private final AtomicLong hedges;
+	private final AtomicLong hedgeWins;
+
+	private double percentile;
+	private long minDelay;
+	private int minSamples;
+	private double maxHedgeRatio;
+	private double maxBurst;
+	private int maxConcurrentHedges;
+
+	private long recorded;
+	private double credits;
+	private volatile long delay;
+
+	public HedgingPolicy() {
+		this(1024);
+	}
+
+	/**
+	 * @param sampleSize number of recent latencies the delay is calculated from, must be greater than zero
+	 */
+	public HedgingPolicy(int sampleSize) {
+		isTrue(sampleSize > 0, "sampleSize must be greater than zero");
+		this.samples = new long[sampleSize];
+		this.concurrentHedges = new AtomicInteger();
+		this.hedges = new AtomicLong();
+		this.hedgeWins = new AtomicLong();
+		this.percentile = 95;
+		this.minDelay = 5;
+		this.minSamples = Math.min(100, sampleSize);
+		this.maxHedgeRatio = 0.05;
+		this.maxBurst = 10;
+		this.maxConcurrentHedges = 10;
+		this.delay = -1;
+	}
+
+	/**
+	 * Percentile of the recent latencies a read waits for before it is hedged. Defaults to {@literal 95}.
+	 * @param percentile must be greater than zero and less than {@literal 100}
+	 */
+	public void setPercentile(double percentile) {
+		isTrue(percentile > 0 && percentile < 100, "percentile must be between 0 and 100");
+		this.percentile = percentile;
+	}
+
+	/**
+	 * Lower bound of the delay before a read is hedged. Defaults to {@literal 5} milliseconds.
+	 * @param minDelay delay in milliseconds
+	 */
+	public void setMinDelay(long minDelay) {
+		isTrue(minDelay >= 0, "minDelay must not be negative");
+		this.minDelay = minDelay;
+	}
+
+	/**
+	 * Number of latencies recorded before reads are hedged. Defaults to {@literal 100}.
+	 * @param minSamples must be greater than zero and not exceed the sample size
+	 */
+	public void setMinSamples(int minSamples) {
+		isTrue(minSamples > 0 && minSamples <= samples.length, "minSamples must be between 1 and the sample size");
+		this.minSamples = minSamples;
+	}
+
+	/**
+	 * Maximum share of the hedgeable reads that are hedged. Defaults to {@literal 0.05}, i.e. one hedge every twenty
+	 * reads.
+	 * @param maxHedgeRatio must be greater than zero and not exceed {@literal 1}
+	 */
+	public void setMaxHedgeRatio(double maxHedgeRatio) {
+		isTrue(maxHedgeRatio > 0 && maxHedgeRatio <= 1, "maxHedgeRatio must be between 0 and 1");
+		this.maxHedgeRatio = maxHedgeRatio;
+	}
+
+	/**
+	 * Number of hedges that may be sent at once after a period without hedges. Defaults to {@literal 10}.
+	 * @param maxBurst must be greater than zero
+	 */
+	public void setMaxBurst(int maxBurst) {
+		isTrue(maxBurst > 0, "maxBurst must be greater than zero");
+		this.maxBurst = maxBurst;
+	}
+
+	/**
+	 * Number of hedges in flight. Defaults to {@literal 10}.
+	 * @param maxConcurrentHedges must be greater than zero
+	 */
+	public void setMaxConcurrentHedges(int maxConcurrentHedges) {
+		isTrue(maxConcurrentHedges > 0, "maxConcurrentHedges must be greater than zero");
+		this.maxConcurrentHedges = maxConcurrentHedges;
+	}
+
+	/**
+	 * @return the number of hedges sent
+	 */
+	public long getHedges() {
+		return hedges.get();
+	}
+
+	/**
+	 * @return the number of hedges which answered before the read they were sent for
+	 */
+	public long getHedgeWins() {
+		return hedgeWins.get();
+	}
+
+	/**
+	 * @return the number of reads whose latency has been recorded
+	 */
+	public synchronized long getRecordedReads() {
+		return recorded;
+	}
+
+	/**
+	 * @return the current delay in milliseconds before a read is hedged or {@literal -1} while too few latencies are
+	 *         recorded
+	 */
+	public long getDelay() {
+		return delay;
+	}
+
+	/**
+	 * Registers a hedgeable read, adding to the hedges it may send.
+	 *
+	 * @return the delay before the read is hedged or {@literal -1} if it is not hedged
+	 */
+	synchronized long readStarted() {
+		credits = Math.min(maxBurst, credits + maxHedgeRatio);
+		return delay;
+	}
+
+	/**
+	 * @return {@code true} if a hedge may be sent, the hedge has to be {@link #hedgeCompleted(boolean) completed}
+	 */
+	synchronized boolean tryHedge() {
+
+		if(credits < 1 || concurrentHedges.get() >= maxConcurrentHedges) {
+			return false;
+		}
+
+		credits -= 1;
+		concurrentHedges.incrementAndGet();
+		hedges.incrementAndGet();
+
+		return true;
+	}
+
+	void hedgeCompleted(boolean won) {
+
+		concurrentHedges.decrementAndGet();
+
+		if(won) {
+			hedgeWins.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Records the latency of the first request of a completed read, whether or not a hedge answered before, and
+	 * recalculates the delay every few reads.
+	 * @param latency latency in milliseconds
+	 */
+	void recordLatency(long latency) {
+
+		long[] snapshot = null;
+
+		synchronized(this) {
+
+			samples[(int)(recorded % samples.length)] = latency;
+			recorded++;
+
+			if(recorded >= minSamples && (recorded == minSamples || recorded % RECALCULATION_INTERVAL == 0)) {
+				snapshot = Arrays.copyOf(samples, (int)Math.min(recorded, samples.length));
+			}
+		}
+
+		if(snapshot != null) {
+			Arrays.sort(snapshot);
+			int index = (int)Math.ceil(percentile / 100 * snapshot.length) - 1;
+			delay = Math.max(minDelay, snapshot[Math.max(0, index)]);
+		}
+	}
+}
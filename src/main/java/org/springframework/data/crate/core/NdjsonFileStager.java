@@ -0,0 +1,190 @@
+/*
+ * Copyright 2002-2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.crate.core;
+
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.slf4j.LoggerFactory.getLogger;
+import static org.springframework.data.crate.core.mapping.CratePersistentProperty.RESERVED_VESRION_FIELD_NAME;
+import static org.springframework.util.Assert.hasText;
+import static org.springframework.util.Assert.isTrue;
+import static org.springframework.util.Assert.notNull;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import org.slf4j.Logger;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.crate.core.convert.CrateConverter;
+import org.springframework.data.crate.core.mapping.CrateDocument;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Writes entities converted by a {@link CrateConverter} to gzip compressed files with one JSON object per line, the
+ * format imported by {@link CrateOperations#copyFrom(String, String, CopyFromOptions)}. Entities are converted and
+ * written one at a time through a buffer of bounded size, so the entities may be streamed from any source without
+ * holding them in memory. Mapping events are not published for staged entities.
+ * 
+ * @author Hasnain Javed
+ * @since 1.0.0
+ */
+public class NdjsonFileStager {
+	
+	private final Logger logger = getLogger(getClass());
+	
+	private static final String FILE_NAME = "%s-%05d.json.gz";
+	private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+	private static final long DEFAULT_MAX_ROWS_PER_FILE = 1000000;
+	
+	private final CrateConverter converter;
+	private final File directory;
+	private final String prefix;
+	private final ObjectMapper mapper;
+	
+	private int bufferSize;
+	private long maxRowsPerFile;
+	
+	/**
+	 * @param converter must not be {@literal null}.
+	 * @param directory the directory to write the files to, must not be {@literal null}.
+	 * @param prefix the prefix of the file names, must not be {@literal null} or empty.
+	 */
+	public NdjsonFileStager(CrateConverter converter, File directory, String prefix) {
+		
+		notNull(converter);
+		notNull(directory);
+		hasText(prefix);
+		
+		this.converter = converter;
+		this.directory = directory;
+		this.prefix = prefix;
+		this.mapper = new ObjectMapper();
+		this.bufferSize = DEFAULT_BUFFER_SIZE;
+		this.maxRowsPerFile = DEFAULT_MAX_ROWS_PER_FILE;
+	}
+	
+	/**
+	 * Size of the buffer rows are written through. Defaults to 64 KB.
+	 * @param bufferSize size in characters, must be greater than zero
+	 */
+	public void setBufferSize(int bufferSize) {
+		isTrue(bufferSize > 0, "bufferSize must be greater than zero");
+		this.bufferSize = bufferSize;
+	}
+	
+	/**
+	 * Maximum number of rows written to a single file before the next file is started. Defaults to 1,000,000. Several
+	 * smaller files can be imported by several nodes in parallel.
+	 * @param maxRowsPerFile must be greater than zero
+	 */
+	public void setMaxRowsPerFile(long maxRowsPerFile) {
+		isTrue(maxRowsPerFile > 0, "maxRowsPerFile must be greater than zero");
+		this.maxRowsPerFile = maxRowsPerFile;
+	}
+	
+	/**
+	 * @see #stage(Iterator)
+	 */
+	public List<StagedFile> stage(Iterable<?> entities) {
+		notNull(entities);
+		return stage(entities.iterator());
+	}
+	
+	/**
+	 * Writes the given entities to one or more files. Entities which can not be converted are skipped and counted as
+	 * errors of the file being written.
+	 * 
+	 * @param entities must not be {@literal null}.
+	 * @return the files written with their row and error counts
+	 */
+	public List<StagedFile> stage(Iterator<?> entities) {
+		
+		notNull(entities);
+		
+		if(!directory.isDirectory() && !directory.mkdirs()) {
+			throw new DataAccessResourceFailureException(format("unable to create staging directory '%s'", directory));
+		}
+		
+		List<StagedFile> files = new ArrayList<>();
+		
+		while(entities.hasNext()) {
+			files.add(stageFile(new File(directory, format(FILE_NAME, prefix, files.size())), entities));
+		}
+		
+		return files;
+	}
+	
+	private StagedFile stageFile(File file, Iterator<?> entities) {
+		
+		long rows = 0;
+		long errors = 0;
+		
+		try(Writer writer = new BufferedWriter(new OutputStreamWriter(new GZIPOutputStream(new FileOutputStream(file)), UTF_8), 
+											   bufferSize)) {
+			
+			while(rows < maxRowsPerFile && entities.hasNext()) {
+				
+				Object entity = entities.next();
+				
+				String json = toJson(entity);
+				
+				if(json == null) {
+					errors++;
+				}else {
+					writer.write(json);
+					writer.write('\n');
+					rows++;
+				}
+			}
+		}catch(IOException e) {
+			throw new DataAccessResourceFailureException(format("unable to write staging file '%s'", file), e);
+		}
+		
+		StagedFile stagedFile = new StagedFile(file, rows, errors);
+		
+		logger.debug("staged {}", stagedFile);
+		
+		return stagedFile;
+	}
+	
+	private String toJson(Object entity) {
+		
+		try {
+			
+			CrateDocument document = new CrateDocument();
+			
+			converter.write(entity, document);
+			
+			document.remove(RESERVED_VESRION_FIELD_NAME);
+			
+			return mapper.writeValueAsString(document);
+			
+		}catch(RuntimeException | JsonProcessingException e) {
+			logger.warn("unable to stage entity '{}': {}", entity, e.getMessage());
+			return null;
+		}
+	}
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2002-2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.crate.core;
+
+/**
+ * Policy deciding whether a failed statement is sent again, e.g. while nodes of the cluster restart.
+ *
+ * @see CrateTemplate#setRetryPolicy(RetryPolicy)
+ * @see ExponentialBackoffRetryPolicy
+ * @author Hasnain Javed
+ * @since 1.0.0
+ */
+public interface RetryPolicy {
+
+	/**
+	 * Statements which failed as a whole may have been applied before the failure and are only sent again if sending
+	 * them twice does not change the result.
+	 *
+	 * @param statement the statement which failed
+	 * @return {@code true} if the statement may be sent again
+	 */
+	boolean isIdempotent(String statement);
+
+	/**
+	 * @param failure the translated failure of a statement
+	 * @return {@code true} if the statement may succeed when sent again
+	 */
+	boolean isTransient(RuntimeException failure);
+
+	/**
+	 * Failed rows of a bulk statement are sent again if the failure is transient and either the statement is
+	 * idempotent or the error guarantees that the row has not been written, i.e. unavailable shards or a rejected
+	 * execution.
+	 *
+	 * @param rowError the error message reported for a row of a bulk statement
+	 * @return {@code true} if the row may be written when sent again
+	 */
+	boolean isTransient(String rowError);
+
+	/**
+	 * @param attempt the number of the attempt which failed, starting with {@literal 1}
+	 * @return the time to wait in milliseconds before the next attempt or a negative value to give up
+	 */
+	long getBackoff(int attempt);
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2002-2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.crate.core;
+
+import static org.springframework.util.Assert.notNull;
+
+/**
+ * An entity matching a full text search together with its relevance score.
+ * 
+ * @author Hasnain Javed
+ * @since 1.0.0
+ * @param <T> the entity type
+ */
+public class SearchHit<T> {
+	
+	private final T entity;
+	private final float score;
+	
+	public SearchHit(T entity, float score) {
+		notNull(entity);
+		this.entity = entity;
+		this.score = score;
+	}
+	
+	public T getEntity() {
+		return entity;
+	}
+	
+	/**
+	 * @return the value of the crate system column {@code _score}. Higher values indicate a better match.
+	 */
+	public float getScore() {
+		return score;
+	}
+	
+	@Override
+	public String toString() {
+		return "score=".concat(String.valueOf(score))
+					   .concat(", ")
+					   .concat("entity=")
+					   .concat(String.valueOf(entity));
+	}
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2002-2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.crate.core;
+
+import static org.springframework.util.Assert.notNull;
+
+import java.io.File;
+
+/**
+ * A file written by the {@link NdjsonFileStager} with the number of rows written to it and the number of entities
+ * which could not be written.
+ *
+ * @author Hasnain Javed
+ * @since 1.0.0
+ */
+public class StagedFile {
+
+	private final File file;
+	private final long rows;
+	private final long errors;
+
+	public StagedFile(File file, long rows, long errors) {
+		notNull(file);
+		this.file = file;
+		this.rows = rows;
+		this.errors = errors;
+	}
+
+	public File getFile() {
+		return file;
+	}
+
+	/**
+	 * @return the uri of the file as expected by {@code COPY FROM}, e.g. {@code file:///tmp/import-00000.json.gz}
+	 */
+	public String getUri() {
+		return file.getAbsoluteFile().toPath().toUri().toString();
+	}
+
+	public long getRows() {
+		return rows;
+	}
+
+	public long getErrors() {
+		return errors;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s [rows=%d, errors=%d]", file, rows, errors);
+	}
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright 2002-2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.crate.core;
+
+/**
+ * Receives a checkpoint after each batch of a batched table copy. A copy that failed may be resumed after the last
+ * checkpoint with {@link CopyTableOptions#setResumeAfter(Object)}.
+ *
+ * @author Hasnain Javed
+ * @since 1.0.0
+ */
+public interface TableCopyListener {
+
+	/**
+	 * @param lastKey the greatest key of the batch copied or {@literal null} for the last batch
+	 * @param rows the number of rows copied by the batch
+	 */
+	void onBatchCopied(Object lastKey, long rows);
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2002-2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.crate.core.admission;
+
+import static org.springframework.util.Assert.hasText;
+import static org.springframework.util.Assert.notNull;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Admission control in front of the statements sent by a {@link org.springframework.data.crate.core.CrateTemplate}.
+ * Statements are admitted by the {@link CircuitBreaker}, the {@link RowRateLimiter} for bulk statements and the
+ * {@link Bulkhead}s of their table and {@link OperationClass}, in this order. A statement rejected by any of them 
+ * fails fast with an {@link org.springframework.data.crate.AdmissionRejectedException} without being sent.
+ * 
+ * @author Hasnain Javed
+ * @since 1.0.0
+ */
+public class AdmissionControl {
+	
+	private static final Pattern TABLE = Pattern.compile("\\b(?:FROM|INTO|UPDATE|TABLE)\\s+\"?([\\w.]+)", 
+														 Pattern.CASE_INSENSITIVE);
+	
+	private final Map<String, Bulkhead> tableBulkheads;
+	private final Map<OperationClass, Bulkhead> operationBulkheads;
+	
+	private RowRateLimiter bulkRateLimiter;
+	private CircuitBreaker circuitBreaker;
+	
+	public AdmissionControl() {
+		this.tableBulkheads = new ConcurrentHashMap<>();
+		this.operationBulkheads = new EnumMap<>(OperationClass.class);
+	}
+	
+	/**
+	 * @param tableName must not be {@literal null} or empty.
+	 * @param bulkhead limit of the statements of the table in flight, must not be {@literal null}.
+	 */
+	public void setTableBulkhead(String tableName, Bulkhead bulkhead) {
+		hasText(tableName);
+		notNull(bulkhead);
+		tableBulkheads.put(tableName.toLowerCase(), bulkhead);
+	}
+	
+	/**
+	 * @param operationClass must not be {@literal null}.
+	 * @param bulkhead limit of the statements of the operation class in flight, must not be {@literal null}.
+	 */
+	public synchronized void setOperationBulkhead(OperationClass operationClass, Bulkhead bulkhead) {
+		notNull(operationClass);
+		notNull(bulkhead);
+		operationBulkheads.put(operationClass, bulkhead);
+	}
+	
+	/**
+	 * @param bulkRateLimiter limit of the rows written by bulk statements or {@literal null} for no limit
+	 */
+	public void setBulkRateLimiter(RowRateLimiter bulkRateLimiter) {
+		this.bulkRateLimiter = bulkRateLimiter;
+	}
+	
+	/**
+	 * @param circuitBreaker the circuit breaker or {@literal null} to never reject statements of a failing cluster
+	 */
+	public void setCircuitBreaker(CircuitBreaker circuitBreaker) {
+		this.circuitBreaker = circuitBreaker;
+	}
+	
+	/**
+	 * @param tableName must not be {@literal null} or empty.
+	 * @return the bulkhead of the table or {@literal null}
+	 */
+	public Bulkhead getTableBulkhead(String tableName) {
+		hasText(tableName);
+		return tableBulkheads.get(tableName.toLowerCase());
+	}
+	
+	/**
+	 * @param operationClass must not be {@literal null}.
+	 * @return the bulkhead of the operation class or {@literal null}
+	 */
+	public synchronized Bulkhead getOperationBulkhead(OperationClass operationClass) {
+		notNull(operationClass);
+		return operationBulkheads.get(operationClass);
+	}
+	
+	public RowRateLimiter getBulkRateLimiter() {
+		return bulkRateLimiter;
+	}
+	
+	public CircuitBreaker getCircuitBreaker() {
+		return circuitBreaker;
+	}
+	
+	/**
+	 * Admits the given statement, waiting for the limits if necessary. The returned admission must be completed once
+	 * the statement completed.
+	 * 
+	 * @param statement the statement to send, must not be {@literal null} or empty.
+	 * @param rows the number of rows of a bulk statement
+	 * @param bulk {@code true} for a bulk statement
+	 * @return the admission of the statement
+	 */
+	public Admission admit(String statement, int rows, boolean bulk) {
+		
+		hasText(statement);
+		
+		CircuitBreaker breaker = circuitBreaker;
+		
+		if(breaker != null) {
+			breaker.acquire();
+		}
+		
+		List<Bulkhead> acquired = new ArrayList<>(2);
+		
+		try {
+			
+			RowRateLimiter rateLimiter = bulkRateLimiter;
+			
+			if(bulk && rateLimiter != null) {
+				rateLimiter.acquire(rows);
+			}
+			
+			String tableName = getTableName(statement);
+			Bulkhead tableBulkhead = tableName != null ? tableBulkheads.get(tableName) : null;
+			
+			if(tableBulkhead != null) {
+				tableBulkhead.acquire(tableName);
+				acquired.add(tableBulkhead);
+			}
+			
+			OperationClass operationClass = OperationClass.of(statement, bulk);
+			Bulkhead operationBulkhead = getOperationBulkhead(operationClass);
+			
+			if(operationBulkhead != null) {
+				operationBulkhead.acquire(operationClass.name());
+				acquired.add(operationBulkhead);
+			}
+		}catch(RuntimeException e) {
+			
+			for(Bulkhead bulkhead : acquired) {
+				bulkhead.release();
+			}
+			
+			if(breaker != null) {
+				breaker.cancel();
+			}
+			
+			throw e;
+		}
+		
+		return new Admission(breaker, acquired);
+	}
+	
+	static String getTableName(String statement) {
+		
+		Matcher matcher = TABLE.matcher(statement);
+		
+		return matcher.find() ? matcher.group(1).toLowerCase() : null;
+	}
+	
+	/**
+	 * Admission of a single statement.
+	 * 
+	 * @author Hasnain Javed
+	 * @since 1.0.0
+	 */
+	public static class Admission {
+		
+		private final CircuitBreaker breaker;
+		private final List<Bulkhead> bulkheads;
+		
+		Admission(CircuitBreaker breaker, List<Bulkhead> bulkheads) {
+			this.breaker = breaker;
+			this.bulkheads = bulkheads;
+		}
+		
+		/**
+		 * Releases the limits held by the statement and reports its outcome to the circuit breaker.
+		 * 
+		 * @param failure the translated failure of the statement or {@literal null} if it succeeded
+		 */
+		public void complete(RuntimeException failure) {
+			
+			for(Bulkhead bulkhead : bulkheads) {
+				bulkhead.release();
+			}
+			
+			if(breaker != null) {
+				if(failure == null) {
+					breaker.onSuccess();
+				}else {
+					breaker.onFailure(failure);
+				}
+			}
+		}
+	}
+}
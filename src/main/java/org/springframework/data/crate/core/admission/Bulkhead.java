@@ -0,0 +1,142 @@
+/*
+ * Copyright 2002-2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.crate.core.admission;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.springframework.util.Assert.isTrue;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.data.crate.AdmissionRejectedException;
+
+/**
+ * Limits the number of statements of a table or an {@link OperationClass} in flight. Statements exceeding the limit
+ * wait for a statement to complete, up to the {@link #setMaxWait(long) maximum wait time}, and are rejected if no 
+ * statement completes in time.
+ * 
+ * @author Hasnain Javed
+ * @since 1.0.0
+ */
+public class Bulkhead {
+	
+	private final int maxConcurrent;
+	private final Semaphore permits;
+	
+	private final AtomicLong admitted;
+	private final AtomicLong rejected;
+	private final AtomicLong queueNanos;
+	private final AtomicLong maxQueueNanos;
+	
+	private long maxWait;
+	
+	/**
+	 * @param maxConcurrent number of statements in flight, must be greater than zero
+	 */
+	public Bulkhead(int maxConcurrent) {
+		isTrue(maxConcurrent > 0, "maxConcurrent must be greater than zero");
+		this.maxConcurrent = maxConcurrent;
+		this.permits = new Semaphore(maxConcurrent, true);
+		this.admitted = new AtomicLong();
+		this.rejected = new AtomicLong();
+		this.queueNanos = new AtomicLong();
+		this.maxQueueNanos = new AtomicLong();
+	}
+	
+	/**
+	 * Time a statement waits for a statement in flight to complete. Defaults to {@literal 0}, i.e. statements
+	 * exceeding the limit are rejected immediately.
+	 * @param maxWait time in milliseconds
+	 */
+	public void setMaxWait(long maxWait) {
+		isTrue(maxWait >= 0, "maxWait must not be negative");
+		this.maxWait = maxWait;
+	}
+	
+	void acquire(String name) {
+		
+		long started = System.nanoTime();
+		boolean acquired;
+		
+		try {
+			acquired = maxWait == 0 ? permits.tryAcquire() : permits.tryAcquire(maxWait, MILLISECONDS);
+		}catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+			acquired = false;
+		}
+		
+		long queued = System.nanoTime() - started;
+		
+		queueNanos.addAndGet(queued);
+		
+		long max = maxQueueNanos.get();
+		
+		while(queued > max && !maxQueueNanos.compareAndSet(max, queued)) {
+			max = maxQueueNanos.get();
+		}
+		
+		if(!acquired) {
+			rejected.incrementAndGet();
+			throw new AdmissionRejectedException(String.format("more than %d statements of '%s' in flight", maxConcurrent, 
+																name));
+		}
+		
+		admitted.incrementAndGet();
+	}
+	
+	void release() {
+		permits.release();
+	}
+	
+	/**
+	 * @return the number of statements in flight
+	 */
+	public int getActive() {
+		return maxConcurrent - permits.availablePermits();
+	}
+	
+	/**
+	 * @return the number of statements admitted
+	 */
+	public long getAdmitted() {
+		return admitted.get();
+	}
+	
+	/**
+	 * @return the number of statements rejected
+	 */
+	public long getRejected() {
+		return rejected.get();
+	}
+	
+	/**
+	 * @return the time statements waited for admission in milliseconds, on average
+	 */
+	public double getAverageQueueTime() {
+		
+		long total = admitted.get() + rejected.get();
+		
+		return total == 0 ? 0 : (double)NANOSECONDS.toMicros(queueNanos.get()) / total / 1000;
+	}
+	
+	/**
+	 * @return the longest time a statement waited for admission in milliseconds
+	 */
+	public long getMaxQueueTime() {
+		return NANOSECONDS.toMillis(maxQueueNanos.get());
+	}
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2002-2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.crate.core.admission;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.slf4j.LoggerFactory.getLogger;
+import static org.springframework.util.Assert.isTrue;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.crate.AdmissionRejectedException;
+
+/**
+ * Rejects all statements for a while after consecutive statements failed as the cluster is unavailable or 
+ * overloaded, i.e. failed with a {@link DataAccessResourceFailureException} or a {@link QueryTimeoutException}. Any
+ * other failure, e.g. a duplicate key, does not count. Once the open duration elapsed a single trial statement is
+ * admitted which closes the breaker on success and opens it again on failure.
+ * 
+ * @author Hasnain Javed
+ * @since 1.0.0
+ */
+public class CircuitBreaker {
+	
+	public enum State {
+		CLOSED, OPEN, HALF_OPEN
+	}
+	
+	private final Logger logger = getLogger(getClass());
+	
+	private final AtomicLong rejected;
+	
+	private int failureThreshold;
+	private long openDuration;
+	
+	private State state;
+	private int failures;
+	private long openedAt;
+	private boolean trialInFlight;
+	
+	public CircuitBreaker() {
+		this.failureThreshold = 5;
+		this.openDuration = SECONDS.toMillis(10);
+		this.state = State.CLOSED;
+		this.rejected = new AtomicLong();
+	}
+	
+	/**
+	 * Number of consecutive failures opening the breaker. Defaults to {@literal 5}.
+	 * @param failureThreshold must be greater than zero
+	 */
+	public void setFailureThreshold(int failureThreshold) {
+		isTrue(failureThreshold > 0, "failureThreshold must be greater than zero");
+		this.failureThreshold = failureThreshold;
+	}
+	
+	/**
+	 * Time statements are rejected once the breaker opened. Defaults to {@literal 10} seconds.
+	 * @param openDuration time in milliseconds, must be greater than zero
+	 */
+	public void setOpenDuration(long openDuration) {
+		isTrue(openDuration > 0, "openDuration must be greater than zero");
+		this.openDuration = openDuration;
+	}
+	
+	synchronized void acquire() {
+		
+		if(state == State.OPEN && System.currentTimeMillis() - openedAt >= openDuration) {
+			state = State.HALF_OPEN;
+		}
+		
+		if(state == State.OPEN || (state == State.HALF_OPEN && trialInFlight)) {
+			rejected.incrementAndGet();
+			throw new AdmissionRejectedException("circuit breaker is open");
+		}
+		
+		if(state == State.HALF_OPEN) {
+			trialInFlight = true;
+		}
+	}
+	
+	/**
+	 * Releases the admission of a statement which has not been sent.
+	 */
+	synchronized void cancel() {
+		trialInFlight = false;
+	}
+	
+	synchronized void onSuccess() {
+		
+		if(state == State.HALF_OPEN) {
+			logger.info("closing circuit breaker after successful trial statement");
+		}
+		
+		state = State.CLOSED;
+		failures = 0;
+		trialInFlight = false;
+	}
+	
+	synchronized void onFailure(RuntimeException failure) {
+		
+		if(!(failure instanceof DataAccessResourceFailureException) && !(failure instanceof QueryTimeoutException)) {
+			// the cluster responded, the statement itself failed
+			onSuccess();
+			return;
+		}
+		
+		failures++;
+		trialInFlight = false;
+		
+		if(state == State.HALF_OPEN || failures >= failureThreshold) {
+			
+			if(state != State.OPEN) {
+				logger.warn("opening circuit breaker after {} consecutive failures: {}", failures, failure.getMessage());
+			}
+			
+			state = State.OPEN;
+			openedAt = System.currentTimeMillis();
+		}
+	}
+	
+	/**
+	 * @return the current state
+	 */
+	public synchronized State getState() {
+		return state;
+	}
+	
+	/**
+	 * @return the number of statements rejected while the breaker was open
+	 */
+	public long getRejected() {
+		return rejected.get();
+	}
+}
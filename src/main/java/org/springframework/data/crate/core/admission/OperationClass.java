@@ -0,0 +1,64 @@
+/*
+ * Copyright 2002-2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.crate.core.admission;
+
+/**
+ * Class of a statement admission limits can be defined for.
+ * 
+ * @author Hasnain Javed
+ * @since 1.0.0
+ */
+public enum OperationClass {
+	
+	/**
+	 * Queries.
+	 */
+	READ,
+	
+	/**
+	 * Inserts, updates and deletes of single rows or by condition.
+	 */
+	WRITE,
+	
+	/**
+	 * Bulk inserts, updates and deletes.
+	 */
+	BULK,
+	
+	/**
+	 * Schema changes, imports, exports and any other statement.
+	 */
+	OTHER;
+	
+	static OperationClass of(String statement, boolean bulk) {
+		
+		if(bulk) {
+			return BULK;
+		}
+		
+		String normalized = statement.trim().toUpperCase();
+		
+		if(normalized.startsWith("SELECT")) {
+			return READ;
+		}
+		
+		if(normalized.startsWith("INSERT") || normalized.startsWith("UPDATE") || normalized.startsWith("DELETE")) {
+			return WRITE;
+		}
+		
+		return OTHER;
+	}
+}
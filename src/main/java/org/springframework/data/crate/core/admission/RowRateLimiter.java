@@ -0,0 +1,147 @@
+/*
+ * Copyright 2002-2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.crate.core.admission;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.springframework.util.Assert.isTrue;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.data.crate.AdmissionRejectedException;
+
+/**
+ * Token bucket limiting the rows written by bulk statements per second. A bulk statement takes a token per row and
+ * waits until enough tokens are available, up to the {@link #setMaxWait(long) maximum wait time}. Statements which
+ * would wait longer are rejected. Unused tokens accumulate up to the {@link #setBurst(long) burst size}.
+ * 
+ * @author Hasnain Javed
+ * @since 1.0.0
+ */
+public class RowRateLimiter {
+	
+	private final double rowsPerNano;
+	private final AtomicLong throttled;
+	private final AtomicLong throttleNanos;
+	private final AtomicLong rejected;
+	
+	private long burst;
+	private long maxWait;
+	
+	private double tokens;
+	private long refilled;
+	
+	/**
+	 * @param rowsPerSecond rows written per second, must be greater than zero
+	 */
+	public RowRateLimiter(double rowsPerSecond) {
+		isTrue(rowsPerSecond > 0, "rowsPerSecond must be greater than zero");
+		this.rowsPerNano = rowsPerSecond / SECONDS.toNanos(1);
+		this.burst = (long)Math.ceil(rowsPerSecond);
+		this.maxWait = SECONDS.toMillis(10);
+		this.tokens = burst;
+		this.refilled = System.nanoTime();
+		this.throttled = new AtomicLong();
+		this.throttleNanos = new AtomicLong();
+		this.rejected = new AtomicLong();
+	}
+	
+	/**
+	 * Number of rows which can be written at once after a pause. Defaults to the rows of one second.
+	 * @param burst must be greater than zero
+	 */
+	public synchronized void setBurst(long burst) {
+		isTrue(burst > 0, "burst must be greater than zero");
+		this.burst = burst;
+		this.tokens = Math.min(tokens, burst);
+	}
+	
+	/**
+	 * Time a bulk statement waits for tokens. Defaults to {@literal 10} seconds.
+	 * @param maxWait time in milliseconds
+	 */
+	public void setMaxWait(long maxWait) {
+		isTrue(maxWait >= 0, "maxWait must not be negative");
+		this.maxWait = maxWait;
+	}
+	
+	void acquire(int rows) {
+		
+		long wait = reserve(rows);
+		
+		if(wait < 0) {
+			rejected.incrementAndGet();
+			throw new AdmissionRejectedException(String.format("writing %d rows exceeds the rate limit", rows));
+		}
+		
+		if(wait > 0) {
+			
+			throttled.incrementAndGet();
+			throttleNanos.addAndGet(wait);
+			
+			try {
+				NANOSECONDS.sleep(wait);
+			}catch(InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new AdmissionRejectedException("interrupted while waiting for the rate limit");
+			}
+		}
+	}
+	
+	/**
+	 * Takes the tokens of the given rows, going into debt if not enough tokens are available. 
+	 * 
+	 * @return the time to wait in nanoseconds or a negative value if the wait would exceed the maximum wait time
+	 */
+	private synchronized long reserve(int rows) {
+		
+		long now = System.nanoTime();
+		
+		tokens = Math.min(burst, tokens + (now - refilled) * rowsPerNano);
+		refilled = now;
+		
+		long wait = tokens >= rows ? 0 : (long)Math.ceil((rows - tokens) / rowsPerNano);
+		
+		if(NANOSECONDS.toMillis(wait) > maxWait) {
+			return -1;
+		}
+		
+		tokens -= rows;
+		
+		return wait;
+	}
+	
+	/**
+	 * @return the number of bulk statements which had to wait for tokens
+	 */
+	public long getThrottled() {
+		return throttled.get();
+	}
+	
+	/**
+	 * @return the total time bulk statements waited for tokens in milliseconds
+	 */
+	public long getThrottleTime() {
+		return NANOSECONDS.toMillis(throttleNanos.get());
+	}
+	
+	/**
+	 * @return the number of bulk statements rejected
+	 */
+	public long getRejected() {
+		return rejected.get();
+	}
+}
@@ -0,0 +1,396 @@
+/*
+ * Copyright 2002-2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.crate.core.ingest;
+
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.READ;
+import static org.slf4j.LoggerFactory.getLogger;
+import static org.springframework.util.Assert.isTrue;
+import static org.springframework.util.Assert.notNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+import org.slf4j.Logger;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.crate.core.BoundCrateOperations;
+import org.springframework.data.crate.core.BulkActionResult.ActionResult;
+import org.springframework.data.crate.core.BulkOperartionResult;
+import org.springframework.data.crate.core.CrateOperations;
+import org.springframework.data.crate.core.mapping.CrateDocument;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Streams the records of a file into the table of an entity. The file is read sequentially from a channel and split 
+ * into chunks of lines. Each chunk is parsed, mapped to entities and sent as bulk insert by a worker thread, so 
+ * several bulk requests are in flight concurrently. At most {@link #setMaxChunksInFlight(int) maxChunksInFlight} chunks
+ * are held in memory, reading blocks until a chunk has been sent.
+ * <p/>
+ * Records that can not be parsed, mapped or inserted are reported by line number instead of aborting the ingestion.
+ * 
+ * @author Hasnain Javed
+ * @since 1.0.0
+ */
+public class FileIngester<T> {
+	
+	private final Logger logger = getLogger(getClass());
+	
+	private static final int READ_BUFFER_SIZE = 64 * 1024;
+	private static final int DEFAULT_CHUNK_SIZE = 1000;
+	private static final int DEFAULT_MAX_RECORDED_FAILURES = 1000;
+	
+	private final BoundCrateOperations<T> operations;
+	
+	private RecordFormat format;
+	private RecordMapper<T> recordMapper;
+	private IngestionListener listener;
+	private int parallelism;
+	private int chunkSize;
+	private int maxChunksInFlight;
+	private int maxRecordedFailures;
+	
+	/**
+	 * Creates a new {@link FileIngester} mapping records to entities of the given type with the
+	 * {@link org.springframework.data.crate.core.convert.CrateConverter} of the given {@link CrateOperations}.
+	 * 
+	 * @param crateOperations must not be {@literal null}.
+	 * @param entityClass must not be {@literal null}.
+	 */
+	public FileIngester(CrateOperations crateOperations, final Class<T> entityClass) {
+		
+		notNull(crateOperations);
+		notNull(entityClass);
+		
+		final CrateOperations template = crateOperations;
+		
+		this.operations = crateOperations.forEntity(entityClass);
+		this.format = RecordFormat.NDJSON;
+		this.recordMapper = new RecordMapper<T>() {
+			@Override
+			public T map(CrateDocument record) {
+				return template.getConverter().read(entityClass, record);
+			}
+		};
+		this.parallelism = Runtime.getRuntime().availableProcessors();
+		this.chunkSize = DEFAULT_CHUNK_SIZE;
+		this.maxChunksInFlight = 2 * parallelism;
+		this.maxRecordedFailures = DEFAULT_MAX_RECORDED_FAILURES;
+	}
+	
+	/**
+	 * Format of the files. Defaults to {@link RecordFormat#NDJSON}.
+	 * @param format must not be {@literal null}.
+	 */
+	public void setFormat(RecordFormat format) {
+		notNull(format);
+		this.format = format;
+	}
+	
+	/**
+	 * Maps parsed records to entities. Defaults to reading the record with the
+	 * {@link org.springframework.data.crate.core.convert.CrateConverter}. A custom mapper is usually required for
+	 * {@link RecordFormat#CSV} records as all their values are strings.
+	 * @param recordMapper must not be {@literal null}.
+	 */
+	public void setRecordMapper(RecordMapper<T> recordMapper) {
+		notNull(recordMapper);
+		this.recordMapper = recordMapper;
+	}
+	
+	/**
+	 * @param listener receives the progress after each chunk, may be {@literal null}.
+	 */
+	public void setListener(IngestionListener listener) {
+		this.listener = listener;
+	}
+	
+	/**
+	 * Number of worker threads parsing chunks and sending bulk requests. Defaults to the number of processors.
+	 * @param parallelism must be greater than zero
+	 */
+	public void setParallelism(int parallelism) {
+		isTrue(parallelism > 0, "parallelism must be greater than zero");
+		this.parallelism = parallelism;
+	}
+	
+	/**
+	 * Number of records sent by a single bulk request. Defaults to 1000.
+	 * @param chunkSize must be greater than zero
+	 */
+	public void setChunkSize(int chunkSize) {
+		isTrue(chunkSize > 0, "chunkSize must be greater than zero");
+		this.chunkSize = chunkSize;
+	}
+	
+	/**
+	 * Maximum number of chunks read but not yet sent. Defaults to twice the number of processors.
+	 * @param maxChunksInFlight must be greater than zero
+	 */
+	public void setMaxChunksInFlight(int maxChunksInFlight) {
+		isTrue(maxChunksInFlight > 0, "maxChunksInFlight must be greater than zero");
+		this.maxChunksInFlight = maxChunksInFlight;
+	}
+	
+	/**
+	 * Maximum number of failed records kept for the report, further failures are counted only. Defaults to 1000.
+	 * @param maxRecordedFailures must not be negative
+	 */
+	public void setMaxRecordedFailures(int maxRecordedFailures) {
+		isTrue(maxRecordedFailures >= 0, "maxRecordedFailures must not be negative");
+		this.maxRecordedFailures = maxRecordedFailures;
+	}
+	
+	/**
+	 * @see #ingest(ReadableByteChannel)
+	 */
+	public IngestionReport ingest(Path file) {
+		
+		notNull(file);
+		
+		try(FileChannel channel = FileChannel.open(file, READ)) {
+			return ingest(channel);
+		}catch(IOException e) {
+			throw new DataAccessResourceFailureException(format("unable to read file '%s'", file), e);
+		}
+	}
+	
+	/**
+	 * Reads all records of the given channel and inserts them. Returns once all chunks have been sent. The channel is
+	 * not closed.
+	 * 
+	 * @param channel UTF-8 encoded records, must not be {@literal null}.
+	 * @return the counts and failures of the ingestion
+	 */
+	public IngestionReport ingest(ReadableByteChannel channel) {
+		
+		notNull(channel);
+		
+		Progress progress = new Progress();
+		
+		ExecutorService executor = Executors.newFixedThreadPool(parallelism, newThreadFactory());
+		Semaphore chunksInFlight = new Semaphore(maxChunksInFlight);
+		
+		try {
+			
+			BufferedReader reader = new BufferedReader(Channels.newReader(channel, UTF_8.newDecoder(), READ_BUFFER_SIZE), 
+													   READ_BUFFER_SIZE);
+			
+			String[] header = null;
+			long lineNumber = 0;
+			
+			if(format.hasHeader()) {
+				
+				String line = reader.readLine();
+				lineNumber++;
+				
+				if(line == null) {
+					return progress.report();
+				}
+				
+				header = format.parseHeader(line);
+			}
+			
+			Chunk chunk = new Chunk(header, progress);
+			String line;
+			
+			while((line = reader.readLine()) != null) {
+				
+				lineNumber++;
+				
+				if(line.trim().isEmpty()) {
+					continue;
+				}
+				
+				chunk.add(lineNumber, line);
+				
+				if(chunk.size() == chunkSize) {
+					submit(executor, chunksInFlight, chunk);
+					chunk = new Chunk(header, progress);
+				}
+			}
+			
+			if(chunk.size() > 0) {
+				submit(executor, chunksInFlight, chunk);
+			}
+			
+			// all permits are available again once every chunk has been sent
+			chunksInFlight.acquire(maxChunksInFlight);
+			
+		}catch(IOException e) {
+			throw new DataAccessResourceFailureException("unable to read records", e);
+		}catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new DataAccessResourceFailureException("interrupted while ingesting records", e);
+		}finally {
+			executor.shutdownNow();
+		}
+		
+		IngestionReport report = progress.report();
+		
+		logger.info("ingested records into table '{}': {}", operations.getTableName(), report);
+		
+		return report;
+	}
+	
+	private void submit(ExecutorService executor, final Semaphore chunksInFlight, final Chunk chunk) throws InterruptedException {
+		
+		chunksInFlight.acquire();
+		
+		executor.execute(new Runnable() {
+			@Override
+			public void run() {
+				try {
+					chunk.process();
+				}finally {
+					chunksInFlight.release();
+				}
+			}
+		});
+	}
+	
+	private CustomizableThreadFactory newThreadFactory() {
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("crate-ingestion-");
+		threadFactory.setDaemon(true);
+		return threadFactory;
+	}
+	
+	/**
+	 * Lines of the file parsed, mapped and inserted together.
+	 */
+	private class Chunk {
+		
+		private final String[] header;
+		private final List<String> lines;
+		private final List<Long> lineNumbers;
+		private final Progress progress;
+		
+		public Chunk(String[] header, Progress progress) {
+			this.header = header;
+			this.lines = new ArrayList<>(chunkSize);
+			this.lineNumbers = new ArrayList<>(chunkSize);
+			this.progress = progress;
+		}
+		
+		void add(long lineNumber, String line) {
+			lines.add(line);
+			lineNumbers.add(lineNumber);
+		}
+		
+		int size() {
+			return lines.size();
+		}
+		
+		void process() {
+			
+			List<T> entities = new ArrayList<>(lines.size());
+			Map<T, Long> entityLines = new IdentityHashMap<>(lines.size());
+			
+			for(int index = 0; index < lines.size(); index++) {
+				try {
+					
+					T entity = recordMapper.map(format.parse(lines.get(index), header));
+					
+					notNull(entity, "record mapped to null");
+					
+					entities.add(entity);
+					entityLines.put(entity, lineNumbers.get(index));
+					
+				}catch(IOException | RuntimeException e) {
+					progress.failed(lineNumbers.get(index), e.getMessage());
+				}
+			}
+			
+			long rows = 0;
+			
+			if(!entities.isEmpty()) {
+				try {
+					
+					BulkOperartionResult<T> result = operations.bulkInsert(entities);
+					
+					for(ActionResult<T> actionResult : result.getResults()) {
+						if(actionResult.isSuccess()) {
+							rows++;
+						}else {
+							progress.failed(entityLines.get(actionResult.getSource()), actionResult.getResult().errorMessage());
+						}
+					}
+					
+				}catch(RuntimeException e) {
+					
+					logger.warn("bulk insert of {} records failed: {}", entities.size(), e.getMessage());
+					
+					for(T entity : entities) {
+						progress.failed(entityLines.get(entity), e.getMessage());
+					}
+				}
+			}
+			
+			progress.processed(lines.size(), rows);
+			
+			if(listener != null) {
+				listener.onProgress(progress.report());
+			}
+		}
+	}
+	
+	/**
+	 * Counts of an ingestion updated concurrently by the worker threads.
+	 */
+	private class Progress {
+		
+		private final long start;
+		private final List<RecordFailure> failures;
+		
+		private long records;
+		private long rows;
+		private long failureCount;
+		
+		public Progress() {
+			this.start = System.currentTimeMillis();
+			this.failures = new ArrayList<>();
+		}
+		
+		synchronized void processed(long records, long rows) {
+			this.records += records;
+			this.rows += rows;
+		}
+		
+		synchronized void failed(Long lineNumber, String message) {
+			
+			failureCount++;
+			
+			if(failures.size() < maxRecordedFailures) {
+				failures.add(new RecordFailure(lineNumber != null ? lineNumber : -1, message));
+			}
+		}
+		
+		synchronized IngestionReport report() {
+			return new IngestionReport(records, rows, failureCount, System.currentTimeMillis() - start, failures);
+		}
+	}
+}
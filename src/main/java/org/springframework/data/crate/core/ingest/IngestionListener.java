@@ -0,0 +1,28 @@
+/*
+ * Copyright 2002-2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.crate.core.ingest;
+
+/**
+ * Receives the progress of a {@link FileIngester} after each chunk of records has been processed. Called by the
+ * ingestion worker threads, implementations must be thread safe.
+ * 
+ * @author Hasnain Javed
+ * @since 1.0.0
+ */
+public interface IngestionListener {
+	
+	void onProgress(IngestionReport progress);
+}
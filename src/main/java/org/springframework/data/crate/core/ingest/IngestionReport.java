@@ -0,0 +1,89 @@
+/*
+ * Copyright 2002-2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.crate.core.ingest;
+
+import static java.util.Collections.unmodifiableList;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Counts of an ingestion, either in progress or completed.
+ * 
+ * @author Hasnain Javed
+ * @since 1.0.0
+ */
+public class IngestionReport {
+	
+	private final long records;
+	private final long rows;
+	private final long failureCount;
+	private final long elapsedMillis;
+	private final List<RecordFailure> failures;
+	
+	public IngestionReport(long records, long rows, long failureCount, long elapsedMillis, List<RecordFailure> failures) {
+		this.records = records;
+		this.rows = rows;
+		this.failureCount = failureCount;
+		this.elapsedMillis = elapsedMillis;
+		this.failures = unmodifiableList(new ArrayList<>(failures));
+	}
+	
+	/**
+	 * @return the number of records processed
+	 */
+	public long getRecords() {
+		return records;
+	}
+	
+	/**
+	 * @return the number of rows inserted
+	 */
+	public long getRows() {
+		return rows;
+	}
+	
+	/**
+	 * @return the number of records that could not be parsed, mapped or inserted
+	 */
+	public long getFailureCount() {
+		return failureCount;
+	}
+	
+	/**
+	 * @return the failed records, at most {@link FileIngester#setMaxRecordedFailures(int) maxRecordedFailures}
+	 */
+	public List<RecordFailure> getFailures() {
+		return failures;
+	}
+	
+	public long getElapsedMillis() {
+		return elapsedMillis;
+	}
+	
+	/**
+	 * @return the number of records processed per second
+	 */
+	public double getRecordsPerSecond() {
+		return elapsedMillis > 0 ? records * 1000d / elapsedMillis : 0;
+	}
+	
+	@Override
+	public String toString() {
+		return String.format("records=%d, rows=%d, failures=%d, elapsed=%dms, records/s=%.1f", records, rows, failureCount, 
+							 elapsedMillis, getRecordsPerSecond());
+	}
+}
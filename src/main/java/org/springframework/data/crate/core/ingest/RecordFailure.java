@@ -0,0 +1,49 @@
+/*
+ * Copyright 2002-2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.crate.core.ingest;
+
+/**
+ * A record that could not be parsed, mapped or inserted.
+ * 
+ * @author Hasnain Javed
+ * @since 1.0.0
+ */
+public class RecordFailure {
+	
+	private final long lineNumber;
+	private final String message;
+	
+	public RecordFailure(long lineNumber, String message) {
+		this.lineNumber = lineNumber;
+		this.message = message;
+	}
+	
+	/**
+	 * @return the line number of the record in the file, starting at {@literal 1}
+	 */
+	public long getLineNumber() {
+		return lineNumber;
+	}
+	
+	public String getMessage() {
+		return message;
+	}
+	
+	@Override
+	public String toString() {
+		return String.format("line %d: %s", lineNumber, message);
+	}
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2002-2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.crate.core.ingest;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.springframework.data.crate.core.mapping.CrateArray;
+import org.springframework.data.crate.core.mapping.CrateDocument;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Formats of the files read by the {@link FileIngester}. Every line holds a single record.
+ * 
+ * @author Hasnain Javed
+ * @since 1.0.0
+ */
+public enum RecordFormat {
+	
+	/**
+	 * One JSON object per line. Nested objects and arrays are parsed into {@link CrateDocument}s and
+	 * {@link CrateArray}s.
+	 */
+	NDJSON {
+		
+		@Override
+		boolean hasHeader() {
+			return false;
+		}
+		
+		@Override
+		CrateDocument parse(String line, String[] header) throws IOException {
+			return toDocument(MAPPER.readValue(line, Map.class));
+		}
+	},
+	
+	/**
+	 * Comma separated values with a header line of the column names. Quoted values may contain separators and 
+	 * escaped quotes but no line breaks. Values are parsed as strings, empty values are omitted.
+	 */
+	CSV {
+		
+		@Override
+		boolean hasHeader() {
+			return true;
+		}
+		
+		@Override
+		CrateDocument parse(String line, String[] header) {
+			
+			List<String> values = split(line);
+			
+			if(values.size() != header.length) {
+				throw new IllegalArgumentException(String.format("expected %d values but found %d", header.length, 
+																  values.size()));
+			}
+			
+			CrateDocument document = new CrateDocument();
+			
+			for(int index = 0; index < header.length; index++) {
+				if(!values.get(index).isEmpty()) {
+					document.put(header[index], values.get(index));
+				}
+			}
+			
+			return document;
+		}
+	};
+	
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+	
+	/**
+	 * @return {@literal true} if the first line holds the column names instead of a record
+	 */
+	abstract boolean hasHeader();
+	
+	/**
+	 * @param line a line of the file
+	 * @param header the column names, {@literal null} if the format has no header
+	 */
+	abstract CrateDocument parse(String line, String[] header) throws IOException;
+	
+	String[] parseHeader(String line) {
+		List<String> columns = split(line);
+		return columns.toArray(new String[columns.size()]);
+	}
+	
+	private static List<String> split(String line) {
+		
+		List<String> values = new ArrayList<>();
+		StringBuilder value = new StringBuilder();
+		
+		boolean quoted = false;
+		
+		for(int index = 0; index < line.length(); index++) {
+			
+			char c = line.charAt(index);
+			
+			if(quoted) {
+				if(c == '"' && index + 1 < line.length() && line.charAt(index + 1) == '"') {
+					value.append(c);
+					index++;
+				}else if(c == '"') {
+					quoted = false;
+				}else {
+					value.append(c);
+				}
+			}else if(c == '"') {
+				quoted = true;
+			}else if(c == ',') {
+				values.add(value.toString());
+				value.setLength(0);
+			}else {
+				value.append(c);
+			}
+		}
+		
+		if(quoted) {
+			throw new IllegalArgumentException("unterminated quoted value");
+		}
+		
+		values.add(value.toString());
+		
+		return values;
+	}
+	
+	private static CrateDocument toDocument(Map<?, ?> map) {
+		
+		CrateDocument document = new CrateDocument();
+		
+		for(Entry<?, ?> entry : map.entrySet()) {
+			document.put(String.valueOf(entry.getKey()), toCrateValue(entry.getValue()));
+		}
+		
+		return document;
+	}
+	
+	private static Object toCrateValue(Object value) {
+		
+		if(value instanceof Map) {
+			return toDocument((Map<?, ?>)value);
+		}
+		
+		if(value instanceof Collection) {
+			
+			CrateArray array = new CrateArray();
+			
+			for(Object element : (Collection<?>)value) {
+				array.add(toCrateValue(element));
+			}
+			
+			return array;
+		}
+		
+		return value;
+	}
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2002-2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.crate.core.ingest;
+
+import org.springframework.data.crate.core.mapping.CrateDocument;
+
+/**
+ * Maps a parsed record to an entity.
+ * 
+ * @author Hasnain Javed
+ * @since 1.0.0
+ */
+public interface RecordMapper<T> {
+	
+	/**
+	 * @param record the record parsed by the {@link RecordFormat}
+	 * @return the entity to insert, must not be {@literal null}.
+	 * @throws RuntimeException if the record can not be mapped, the record is reported as failed
+	 */
+	T map(CrateDocument record);
+}
@@ -31,6 +31,16 @@ public interface CratePersistentEntity<T> extends PersistentEntity<T, CratePersi
 	
 	String getTableName();
 	TableParameters getTableParameters();
+	
+	/**
+	 * @return the number of days partitions are kept or {@literal 0} if partitions are kept forever
+	 */
+	int getRetentionDays();
+	
+	/**
+	 * @return the partition column the age of a partition is derived from or {@literal null} if no retention is defined
+	 */
+	String getRetentionColumn();
 	Set<String> getPropertyNames(String... exclude);
 	Set<CratePersistentProperty> getPersistentProperties();
 	Set<CratePersistentProperty> getPrimitiveProperties();
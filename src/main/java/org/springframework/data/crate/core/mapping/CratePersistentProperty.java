@@ -16,6 +16,8 @@
 package org.springframework.data.crate.core.mapping;
 
 import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.crate.core.mapping.schema.IndexType;
+import org.springframework.data.crate.core.mapping.schema.ObjectColumnPolicy;
 import org.springframework.data.mapping.PersistentProperty;
 
 /**
@@ -32,6 +34,23 @@ public interface CratePersistentProperty extends PersistentProperty<CratePersist
 	long INITIAL_VERSION_VALUE = 1;
 	
 	String getFieldName();
+	
+	/**
+	 * @return the index of the column, {@link IndexType#PLAIN} unless defined otherwise by 
+	 * {@link org.springframework.data.crate.core.mapping.annotations.Column}
+	 */
+	IndexType getIndexType();
+	
+	/**
+	 * @return the analyzer of a {@link IndexType#FULLTEXT} index or {@literal null} for the default analyzer
+	 */
+	String getAnalyzer();
+	
+	/**
+	 * @return the policy of an object column, {@link ObjectColumnPolicy#DYNAMIC} unless defined otherwise by 
+	 * {@link org.springframework.data.crate.core.mapping.annotations.Column}
+	 */
+	ObjectColumnPolicy getObjectColumnPolicy();
 
 	public enum PropertyToFieldNameConverter implements Converter<CratePersistentProperty, String> {
 
@@ -30,7 +30,9 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.context.expression.BeanFactoryAccessor;
 import org.springframework.context.expression.BeanFactoryResolver;
+import org.springframework.data.crate.core.mapping.annotations.PartitionRetention;
 import org.springframework.data.crate.core.mapping.annotations.Table;
+import org.springframework.data.crate.core.mapping.schema.IndexType;
 import org.springframework.data.crate.core.mapping.schema.TableParameters;
 import org.springframework.data.mapping.PropertyHandler;
 import org.springframework.data.mapping.model.BasicPersistentEntity;
@@ -50,17 +52,22 @@ public class SimpleCratePersistentEntity<T> extends BasicPersistentEntity<T, Cra
 		implements CratePersistentEntity<T>, ApplicationContextAware {
 
 	private final static String VERSION_TYPE = "Version property '%s' must be of type java.lang.Long";
+	private final static String TABLE_COLUMN = "%s column '%s' of '%s' must be a primitive property";
+	private final static String TABLE_INDEX = "%s column '%s' of '%s' must use a plain index";
+	private final static String RETENTION = "Partition retention of '%s' %s";
 	
 	private final StandardEvaluationContext context;
 	
 	private final String tableName;
 	private final TableParameters parameters;
+	private final PartitionRetention retention;
 
 	public SimpleCratePersistentEntity(TypeInformation<T> typeInformation) {
 		super(typeInformation);
 		this.context = new StandardEvaluationContext();
 		this.tableName = resolveTableName(typeInformation);
 		this.parameters = resolveTableParameters();
+		this.retention = findAnnotation(PartitionRetention.class);
  	}
 	
 	@Override
@@ -80,6 +87,31 @@ public class SimpleCratePersistentEntity<T> extends BasicPersistentEntity<T, Cra
 		}
 	}
 	
+	/**
+	 * Verifies that routing and partition columns refer to primitive properties and that a partition retention 
+	 * refers to a partition column.
+	 */
+	@Override
+	public void verify() {
+		
+		super.verify();
+		
+		if(parameters != null) {
+			
+			if(parameters.getClusteredBy() != null) {
+				verifyTableColumn("Clustered by", parameters.getClusteredBy());
+			}
+			
+			for(String column : parameters.getPartitionedBy()) {
+				verifyTableColumn("Partitioned by", column);
+			}
+		}
+		
+		if(retention != null) {
+			verifyRetention();
+		}
+	}
+	
 	@Override
 	public String getTableName() {
 		return tableName;
@@ -90,6 +122,29 @@ public class SimpleCratePersistentEntity<T> extends BasicPersistentEntity<T, Cra
 		return parameters;
 	}
 
+	@Override
+	public int getRetentionDays() {
+		return retention == null ? 0 : retention.days();
+	}
+	
+	@Override
+	public String getRetentionColumn() {
+		
+		if(retention == null) {
+			return null;
+		}
+		
+		if(hasText(retention.column())) {
+			return retention.column();
+		}
+		
+		if(parameters != null && parameters.getPartitionedBy().size() == 1) {
+			return parameters.getPartitionedBy().get(0);
+		}
+		
+		return null;
+	}
+
 	@Override
 	public Set<String> getPropertyNames(String... exclude) {
 		
@@ -258,12 +313,54 @@ public class SimpleCratePersistentEntity<T> extends BasicPersistentEntity<T, Cra
 		if(annotation != null) {
 			parameters = new TableParameters(annotation.numberOfReplicas(), 
 											 annotation.refreshInterval(), 
-											 annotation.columnPolicy());
+											 annotation.columnPolicy(),
+											 annotation.numberOfShards(),
+											 annotation.clusteredBy(),
+											 asList(annotation.partitionedBy()));
 		}
 		
 		return parameters;
 	}
 	
+	private void verifyRetention() {
+		
+		if(retention.days() <= 0) {
+			throw new MappingException(format(RETENTION, getType().getName(), "must be greater than zero days"));
+		}
+		
+		if(parameters == null || !parameters.isPartitioned()) {
+			throw new MappingException(format(RETENTION, getType().getName(), "requires a partitioned table"));
+		}
+		
+		String column = getRetentionColumn();
+		
+		if(column == null) {
+			throw new MappingException(format(RETENTION, getType().getName(), 
+											  "must name the column as the table is partitioned by several columns"));
+		}
+		
+		if(!parameters.getPartitionedBy().contains(column)) {
+			throw new MappingException(format(RETENTION, getType().getName(), 
+											  format("column '%s' is not a partition column", column)));
+		}
+	}
+	
+	private void verifyTableColumn(String clause, String column) {
+		
+		for(CratePersistentProperty property : getPrimitiveProperties()) {
+			if(property.getFieldName().equals(column)) {
+				
+				if(property.getIndexType() != IndexType.PLAIN) {
+					throw new MappingException(format(TABLE_INDEX, clause, column, getType().getName()));
+				}
+				
+				return;
+			}
+		}
+		
+		throw new MappingException(format(TABLE_COLUMN, clause, column, getType().getName()));
+	}
+	
 	private boolean isLongType(Class<?> clazz) {
 		return Long.class.equals(clazz) || Long.TYPE.equals(clazz);
 	}
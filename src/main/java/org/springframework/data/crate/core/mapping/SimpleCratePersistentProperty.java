@@ -23,8 +23,12 @@ import static org.springframework.util.StringUtils.startsWithIgnoreCase;
 import java.beans.PropertyDescriptor;
 import java.lang.reflect.Field;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
+import org.springframework.data.crate.core.mapping.annotations.Column;
+import org.springframework.data.crate.core.mapping.schema.IndexType;
+import org.springframework.data.crate.core.mapping.schema.ObjectColumnPolicy;
 import org.springframework.data.mapping.Association;
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.model.AnnotationBasedPersistentProperty;
@@ -44,9 +48,14 @@ public class SimpleCratePersistentProperty extends AnnotationBasedPersistentProp
 	
 	private final FieldNamingStrategy fieldNamingStrategy;
 	
+	private final IndexType indexType;
+	private final String analyzer;
+	private final ObjectColumnPolicy objectColumnPolicy;
+	
 	private final static String RESERVED_ID = "'_id' is reserved in crate db and cannot be used as user-defined column name for '%s' in class '%s'";
 	private final static String RESERVED_VERSION = "'_version' is reserved in crate db and cannot be used as user-defined column name for '%s' in class '%s'";
 	private final static String STARTS_WITH_UNDERSCORE = "Column identity '%s' must not start with '_' in class '%s'";
+	private final static String INVALID_COLUMN = "Column '%s' in class '%s' %s";
 	
 	static {
 		SUPPORTED_ID_PROPERTY_NAMES.add("id");
@@ -71,6 +80,19 @@ public class SimpleCratePersistentProperty extends AnnotationBasedPersistentProp
 		if(startsWithIgnoreCase(fieldName, "_")) {
 			throw new MappingException(format(STARTS_WITH_UNDERSCORE, fieldName, owner.getType()));
 		}
+		
+		Column column = findAnnotation(Column.class);
+		
+		if(column != null) {
+			validateColumn(column, fieldName, owner.getType());
+		}
+		
+		boolean storageOnly = column != null && column.storageOnly();
+		
+		this.indexType = column == null ? IndexType.PLAIN : storageOnly && !isObject() ? IndexType.OFF : column.index();
+		this.analyzer = column != null && hasText(column.analyzer()) ? column.analyzer() : null;
+		this.objectColumnPolicy = column == null ? ObjectColumnPolicy.DYNAMIC : 
+										  storageOnly && isObject() ? ObjectColumnPolicy.IGNORED : column.policy();
 	}
 	
 	/**
@@ -91,11 +113,56 @@ public class SimpleCratePersistentProperty extends AnnotationBasedPersistentProp
 		return fieldName;
 	}
 
+	@Override
+	public IndexType getIndexType() {
+		return indexType;
+	}
+	
+	@Override
+	public String getAnalyzer() {
+		return analyzer;
+	}
+	
+	@Override
+	public ObjectColumnPolicy getObjectColumnPolicy() {
+		return objectColumnPolicy;
+	}
+
 	@Override
 	public boolean isIdProperty() {
 		return super.isIdProperty() || SUPPORTED_ID_PROPERTY_NAMES.contains(getName());
 	}
 	
+	/**
+	 * @return {@literal true} if the property is mapped to an object column or an array of object columns 
+	 */
+	private boolean isObject() {
+		return isEntity() || isMap() || (isCollectionLike() && getComponentType() != null && Map.class.isAssignableFrom(getComponentType()));
+	}
+	
+	private void validateColumn(Column column, String fieldName, Class<?> owner) {
+		
+		if(hasText(column.analyzer()) && column.index() != IndexType.FULLTEXT) {
+			throw new MappingException(format(INVALID_COLUMN, fieldName, owner, "must use a fulltext index to define an analyzer"));
+		}
+		
+		if(column.storageOnly() && column.index() != IndexType.PLAIN) {
+			throw new MappingException(format(INVALID_COLUMN, fieldName, owner, "is storage only and can not define an index"));
+		}
+		
+		if(isObject() && column.index() != IndexType.PLAIN) {
+			throw new MappingException(format(INVALID_COLUMN, fieldName, owner, "is an object column and can not define an index"));
+		}
+		
+		if(!isObject() && column.policy() != ObjectColumnPolicy.DYNAMIC) {
+			throw new MappingException(format(INVALID_COLUMN, fieldName, owner, "is not an object column and can not define a policy"));
+		}
+		
+		if(column.index() == IndexType.FULLTEXT && getActualType() != String.class) {
+			throw new MappingException(format(INVALID_COLUMN, fieldName, owner, "must be of type string to use a fulltext index"));
+		}
+	}
+	
 	@Override
 	protected Association<CratePersistentProperty> createAssociation() {
 		throw new UnsupportedOperationException("@Reference is not supported!");
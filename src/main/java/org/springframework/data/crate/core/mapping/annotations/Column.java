@@ -16,9 +16,17 @@
 
 package org.springframework.data.crate.core.mapping.annotations;
 
+import static org.springframework.data.crate.core.mapping.schema.IndexType.PLAIN;
+import static org.springframework.data.crate.core.mapping.schema.ObjectColumnPolicy.DYNAMIC;
+
 import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.data.crate.core.mapping.schema.IndexType;
+import org.springframework.data.crate.core.mapping.schema.ObjectColumnPolicy;
 
 /**
  * Annotation to define custom metadata for model fields
@@ -29,7 +37,27 @@ import java.lang.annotation.RetentionPolicy;
  */
 @Documented
 @Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.FIELD })
 public @interface Column {
 
-
+	/**
+	 * Index of a primitive column. Defaults to {@link IndexType#PLAIN}.
+	 */
+	IndexType index() default PLAIN;
+	
+	/**
+	 * Analyzer of a {@link IndexType#FULLTEXT} index. Defaults to the crate standard analyzer.
+	 */
+	String analyzer() default "";
+	
+	/**
+	 * Column policy of an object column. Defaults to {@link ObjectColumnPolicy#DYNAMIC}.
+	 */
+	ObjectColumnPolicy policy() default DYNAMIC;
+	
+	/**
+	 * The column is only stored and never searched. Primitive columns are not indexed and object columns 
+	 * are {@link ObjectColumnPolicy#IGNORED}.
+	 */
+	boolean storageOnly() default false;
 }
\ No newline at end of file
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.crate.core.mapping.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Defines how long the partitions of a partitioned {@link Table} are kept. Expired partitions are dropped as a whole
+ * by the {@link org.springframework.data.crate.core.mapping.schema.CratePartitionRetentionManager} instead of
+ * deleting their rows one by one.
+ *
+ * @author Hasnain Javed
+ * @since 1.0.0
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE })
+public @interface PartitionRetention {
+
+	/**
+	 * Number of days a partition is kept, must be greater than zero.
+	 */
+	int days();
+
+	/**
+	 * Timestamp partition column the age of a partition is derived from. May be omitted if the table is partitioned
+	 * by a single column.
+	 */
+	String column() default "";
+}
@@ -43,4 +43,19 @@ public @interface Table {
 	String numberOfReplicas() default "1";
 	int refreshInterval() default 1000;
 	ColumnPloicy columnPolicy() default DYNAMIC;
+	
+	/**
+	 * Number of shards of the table. Defaults to {@literal 0}, i.e. the crate default is used.
+	 */
+	int numberOfShards() default 0;
+	
+	/**
+	 * Column used to route rows to shards. Defaults to the primary key.
+	 */
+	String clusteredBy() default "";
+	
+	/**
+	 * Columns the table is partitioned by.
+	 */
+	String[] partitionedBy() default {};
 }
\ No newline at end of file
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2002-2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.crate.core.mapping.event;
+
+import static java.util.Collections.unmodifiableList;
+import static org.springframework.util.Assert.notNull;
+
+import java.util.List;
+
+import org.springframework.data.crate.core.mapping.CrateDocument;
+
+/**
+ * Base class for events published once per bulk insert or update. The event carries the entities and the
+ * {@link CrateDocument}s they have been converted to in the same order.
+ * 
+ * @author Hasnain Javed
+ * @since 1.0.0
+ */
+public abstract class AbstractBulkSaveEvent<T> extends CrateMappingEvent<List<T>> {
+
+	private static final long serialVersionUID = 2937011489406744516L;
+	
+	private final List<CrateDocument> documents;
+	private final Class<T> type;
+
+	/**
+	 * Creates a new {@link AbstractBulkSaveEvent} for the given entities, documents and type.
+	 * 
+	 * @param entities must not be {@literal null}.
+	 * @param documents must not be {@literal null}.
+	 * @param type the entities' type. must not be {@literal null}.
+	 */
+	public AbstractBulkSaveEvent(List<T> entities, List<CrateDocument> documents, Class<T> type) {
+		super(unmodifiableList(entities), null);
+		notNull(documents, "Documents must not be null!");
+		notNull(type, "Type must not be null!");
+		this.documents = unmodifiableList(documents);
+		this.type = type;
+	}
+	
+	/**
+	 * @return the entities of the bulk operation
+	 */
+	public List<T> getEntities() {
+		return getSource();
+	}
+	
+	/**
+	 * @return the documents the entities have been converted to
+	 */
+	public List<CrateDocument> getDocuments() {
+		return documents;
+	}
+
+	/**
+	 * Returns the type for which the event shall be invoked for.
+	 * 
+	 * @return
+	 */
+	public Class<T> getType() {
+		return type;
+	}
+}
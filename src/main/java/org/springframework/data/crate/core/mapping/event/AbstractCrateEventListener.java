@@ -16,11 +16,18 @@
 package org.springframework.data.crate.core.mapping.event;
 
 import static org.springframework.core.GenericTypeResolver.resolveTypeArgument;
+import static org.springframework.util.ReflectionUtils.findMethod;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationListener;
 import org.springframework.data.crate.core.mapping.CrateDocument;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
 
 /**
  * Base class to implement domain class specific {@link ApplicationListener}s.
@@ -36,14 +43,73 @@ public abstract class AbstractCrateEventListener<E> implements ApplicationListen
 
 	private static final Logger LOG = LoggerFactory.getLogger(AbstractCrateEventListener.class);
 	
+	private static final MultiValueMap<Class<?>, Method> CALLBACKS;
+	
+	static {
+		CALLBACKS = new LinkedMultiValueMap<>();
+		CALLBACKS.add(BeforeConvertEvent.class, findMethod(AbstractCrateEventListener.class, "onBeforeConvert", Object.class));
+		CALLBACKS.add(AfterConvertEvent.class, findMethod(AbstractCrateEventListener.class, "onAfterConvert", CrateDocument.class, Object.class));
+		CALLBACKS.add(BeforeSaveEvent.class, findMethod(AbstractCrateEventListener.class, "onBeforeSave", Object.class, CrateDocument.class));
+		CALLBACKS.add(AfterSaveEvent.class, findMethod(AbstractCrateEventListener.class, "onAfterSave", Object.class, CrateDocument.class));
+		CALLBACKS.add(BeforeDeleteEvent.class, findMethod(AbstractCrateEventListener.class, "onBeforeDelete", Object.class));
+		CALLBACKS.add(AfterDeleteEvent.class, findMethod(AbstractCrateEventListener.class, "onAfterDelete", Object.class));
+		CALLBACKS.add(AfterLoadEvent.class, findMethod(AbstractCrateEventListener.class, "onAfterLoad", CrateDocument.class));
+		CALLBACKS.add(BeforeBulkConvertEvent.class, findMethod(AbstractCrateEventListener.class, "onBeforeBulkConvert", BeforeBulkConvertEvent.class));
+		CALLBACKS.add(BeforeBulkSaveEvent.class, findMethod(AbstractCrateEventListener.class, "onBeforeBulkSave", BeforeBulkSaveEvent.class));
+		CALLBACKS.add(BeforeBulkSaveEvent.class, findMethod(AbstractCrateEventListener.class, "onBeforeBulkSave", List.class, List.class));
+		CALLBACKS.add(AfterBulkSaveEvent.class, findMethod(AbstractCrateEventListener.class, "onAfterBulkSave", List.class, List.class));
+	}
+	
 	private final Class<?> domainClass;
 
 	/**
 	 * Creates a new {@link AbstractCrateEventListener}.
 	 */
 	public AbstractCrateEventListener() {
-		Class<?> typeArgument = resolveTypeArgument(this.getClass(), AbstractCrateEventListener.class);
-		this.domainClass = typeArgument == null ? Object.class : typeArgument;
+		this.domainClass = getDomainClass(this.getClass());
+	}
+	
+	/**
+	 * Determines whether a listener of the given type would do more than logging for the given event and domain type.
+	 * A callback is considered to be implemented if a sub class overrides it.
+	 * 
+	 * @param listenerType the type of the listener
+	 * @param eventType the type of the event
+	 * @param domainType the type of the entity, id or document the event is published for
+	 * @return {@literal false} if the listener does not handle the event
+	 */
+	static boolean supports(Class<?> listenerType, Class<?> eventType, Class<?> domainType) {
+		
+		if(overridesDispatch(listenerType)) {
+			return true;
+		}
+		
+		if(!getDomainClass(listenerType).isAssignableFrom(domainType)) {
+			return false;
+		}
+		
+		for(Map.Entry<Class<?>, List<Method>> callback : CALLBACKS.entrySet()) {
+			if(callback.getKey().isAssignableFrom(eventType)) {
+				for(Method method : callback.getValue()) {
+					Method implementation = findMethod(listenerType, method.getName(), method.getParameterTypes());
+					if(implementation != null && implementation.getDeclaringClass() != AbstractCrateEventListener.class) {
+						return true;
+					}
+				}
+			}
+		}
+		
+		return false;
+	}
+	
+	private static boolean overridesDispatch(Class<?> listenerType) {
+		Method onApplicationEvent = findMethod(listenerType, "onApplicationEvent", CrateMappingEvent.class);
+		return onApplicationEvent != null && onApplicationEvent.getDeclaringClass() != AbstractCrateEventListener.class;
+	}
+	
+	private static Class<?> getDomainClass(Class<?> listenerType) {
+		Class<?> typeArgument = resolveTypeArgument(listenerType, AbstractCrateEventListener.class);
+		return typeArgument == null ? Object.class : typeArgument;
 	}
 
 	/*
@@ -64,6 +130,32 @@ public abstract class AbstractCrateEventListener<E> implements ApplicationListen
 			return;
 		}
 		
+		if (event instanceof BeforeBulkConvertEvent) {
+			
+			BeforeBulkConvertEvent<E> bulkConvertEvent = (BeforeBulkConvertEvent<E>) event;
+			
+			if (domainClass.isAssignableFrom(bulkConvertEvent.getType())) {
+				onBeforeBulkConvert(bulkConvertEvent);
+			}
+			
+			return;
+		}
+		
+		if (event instanceof AbstractBulkSaveEvent) {
+			
+			AbstractBulkSaveEvent<?> bulkSaveEvent = (AbstractBulkSaveEvent<?>) event;
+			
+			if (domainClass.isAssignableFrom(bulkSaveEvent.getType())) {
+				if (event instanceof BeforeBulkSaveEvent) {
+					onBeforeBulkSave((BeforeBulkSaveEvent<E>) event);
+				} else if (event instanceof AfterBulkSaveEvent) {
+					onAfterBulkSave((List<E>) bulkSaveEvent.getEntities(), bulkSaveEvent.getDocuments());
+				}
+			}
+			
+			return;
+		}
+		
 		E source = (E) event.getSource();
 
 		// Check for matching domain type and invoke callbacks
@@ -79,6 +171,11 @@ public abstract class AbstractCrateEventListener<E> implements ApplicationListen
 			return;
 		}
 
+		if (event.isPartOfBulk() && isBulkAware()) {
+			// rows of bulk operations are handled in onBeforeBulkConvert or onBeforeBulkSave
+			return;
+		}
+
 		if (event instanceof BeforeConvertEvent) {
 			onBeforeConvert(source);
 		} else if (event instanceof BeforeSaveEvent) {
@@ -117,4 +214,60 @@ public abstract class AbstractCrateEventListener<E> implements ApplicationListen
 	public void onAfterLoad(CrateDocument document) {
 		LOG.debug("onAfterLoad({})", document);
 	}
+	
+	/**
+	 * Invoked once before the entities of a bulk operation are converted. Entities may be excluded from the bulk
+	 * operation using {@link BeforeBulkConvertEvent#reject(int, String)}.
+	 */
+	public void onBeforeBulkConvert(BeforeBulkConvertEvent<E> event) {
+		LOG.debug("onBeforeBulkConvert({} entities)", event.getEntities().size());
+	}
+	
+	/**
+	 * Invoked once after the entities of a bulk operation have been converted. Entities may be excluded from the bulk
+	 * operation using {@link BeforeBulkSaveEvent#reject(int, String)}. Delegates to
+	 * {@link #onBeforeBulkSave(List, List)} by default.
+	 */
+	public void onBeforeBulkSave(BeforeBulkSaveEvent<E> event) {
+		onBeforeBulkSave(event.getEntities(), event.getDocuments());
+	}
+	
+	public void onBeforeBulkSave(List<E> sources, List<CrateDocument> documents) {
+		LOG.debug("onBeforeBulkSave({} entities)", sources.size());
+	}
+	
+	public void onAfterBulkSave(List<E> sources, List<CrateDocument> documents) {
+		LOG.debug("onAfterBulkSave({} entities)", sources.size());
+	}
+	
+	/**
+	 * Determines whether this listener handles the given event, taking its configuration into account. Listeners which
+	 * are {@link #isBulkAware() bulk aware} do not handle the events of single rows of bulk operations. Sub classes
+	 * may narrow the events handled further, e.g. not handle bulk events while their bulk callback is disabled.
+	 * 
+	 * @param eventType the type of the event
+	 * @param domainType the type of the entity, id or document the event is published for
+	 * @param partOfBulk whether the event is published for a single row of a bulk operation
+	 * @return {@literal false} if the listener does not handle the event
+	 */
+	protected boolean handles(Class<?> eventType, Class<?> domainType, boolean partOfBulk) {
+		
+		if(partOfBulk && isBulkAware() && !overridesDispatch(getClass())) {
+			return false;
+		}
+		
+		return supports(getClass(), eventType, domainType);
+	}
+	
+	/**
+	 * Listeners handling the rows of bulk operations in {@link #onBeforeBulkConvert(BeforeBulkConvertEvent)} or
+	 * {@link #onBeforeBulkSave(BeforeBulkSaveEvent)} return {@literal true} to not be called back for every single row
+	 * of a bulk operation in {@link #onBeforeConvert(Object)} and {@link #onBeforeSave(Object, CrateDocument)}.
+	 * Defaults to {@literal false}.
+	 * 
+	 * @return {@literal true} if per row callbacks of bulk operations should be skipped
+	 */
+	protected boolean isBulkAware() {
+		return false;
+	}
 }
\ No newline at end of file
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2002-2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.crate.core.mapping.event;
+
+import java.util.List;
+
+import org.springframework.data.crate.core.mapping.CrateDocument;
+
+/**
+ * Event published once after a bulk insert or update. Only the entities that have been saved successfully are
+ * contained.
+ * 
+ * @author Hasnain Javed
+ * @since 1.0.0
+ */
+public class AfterBulkSaveEvent<T> extends AbstractBulkSaveEvent<T> {
+
+	private static final long serialVersionUID = 6146983107726214733L;
+
+	/**
+	 * Creates a new {@link AfterBulkSaveEvent} for the given entities, documents and type.
+	 */
+	public AfterBulkSaveEvent(List<T> entities, List<CrateDocument> documents, Class<T> type) {
+		super(entities, documents, type);
+	}
+}
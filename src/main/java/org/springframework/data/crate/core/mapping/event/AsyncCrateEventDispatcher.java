@@ -0,0 +1,286 @@
+/*
+ * Copyright 2002-2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.crate.core.mapping.event;
+
+import static java.lang.String.format;
+import static java.util.Arrays.asList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.slf4j.LoggerFactory.getLogger;
+import static org.springframework.util.Assert.isTrue;
+import static org.springframework.util.Assert.notNull;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * Publishes post operation {@link CrateMappingEvent}s on a bounded set of background threads so that listener latency
+ * does not add to the latency of the operation. Events are assigned to a single threaded lane by their ordering key
+ * (usually the entity id), hence events for the same key are delivered in the order they have been published.
+ * <p/>
+ * Only events published after an operation can be dispatched asynchronously. {@code Before*} events may be used to
+ * modify the entity or document and are always published on the calling thread. By default {@link AfterSaveEvent},
+ * {@link AfterDeleteEvent} and {@link AfterLoadEvent} are dispatched asynchronously.
+ *
+ * @author Hasnain Javed
+ * @since 1.0.0
+ */
+public class AsyncCrateEventDispatcher implements DisposableBean {
+
+	/**
+	 * Strategy applied when the queue of a lane is full.
+	 */
+	public enum OverflowPolicy {
+		/**
+		 * Wait until the lane has capacity. Keeps events for the same key in order.
+		 */
+		BLOCK,
+		/**
+		 * Publish the event on the calling thread. Gives up ordering: the event may be delivered before events for the
+		 * same key still pending in the lane.
+		 */
+		CALLER_RUNS,
+		/**
+		 * Drop the event and log a warning.
+		 */
+		DISCARD
+	}
+
+	private static final Collection<Class<?>> ASYNC_CAPABLE_EVENTS = asList(new Class<?>[] { AfterSaveEvent.class,
+			AfterDeleteEvent.class, AfterLoadEvent.class, AfterConvertEvent.class, AfterBulkSaveEvent.class });
+
+	private final Logger logger = getLogger(getClass());
+
+	private final ThreadPoolExecutor[] lanes;
+	private final OverflowPolicy overflowPolicy;
+	private final AtomicInteger nextLane;
+	private final AtomicLong discarded;
+
+	private volatile Set<Class<?>> asyncEventTypes;
+	private long shutdownTimeout;
+
+	/**
+	 * Creates a new {@link AsyncCrateEventDispatcher} with one lane per available processor, a queue capacity of 10000
+	 * events per lane and the {@link OverflowPolicy#BLOCK} policy.
+	 */
+	public AsyncCrateEventDispatcher() {
+		this(Runtime.getRuntime().availableProcessors(), 10000, OverflowPolicy.BLOCK);
+	}
+
+	/**
+	 * Creates a new {@link AsyncCrateEventDispatcher}.
+	 *
+	 * @param lanes number of threads, must be greater than zero.
+	 * @param queueCapacity maximum number of pending events per lane, must be greater than zero.
+	 * @param overflowPolicy must not be {@literal null}.
+	 */
+	public AsyncCrateEventDispatcher(int lanes, int queueCapacity, OverflowPolicy overflowPolicy) {
+
+		isTrue(lanes > 0, "lanes must be greater than zero");
+		isTrue(queueCapacity > 0, "queueCapacity must be greater than zero");
+		notNull(overflowPolicy);
+
+		this.overflowPolicy = overflowPolicy;
+		this.nextLane = new AtomicInteger();
+		this.discarded = new AtomicLong();
+		this.shutdownTimeout = SECONDS.toMillis(30);
+		this.asyncEventTypes = new HashSet<Class<?>>(asList(AfterSaveEvent.class, AfterDeleteEvent.class, AfterLoadEvent.class));
+		this.lanes = new ThreadPoolExecutor[lanes];
+
+		for(int index = 0; index < lanes; index++) {
+			this.lanes[index] = new ThreadPoolExecutor(1, 1, 0L, MILLISECONDS, new LinkedBlockingQueue<Runnable>(queueCapacity),
+													   new LaneThreadFactory(index), new OverflowHandler());
+		}
+	}
+
+	/**
+	 * Configures the event types to dispatch asynchronously. Only {@code After*} events are allowed.
+	 *
+	 * @param eventTypes must not be {@literal null}.
+	 */
+	public void setAsyncEventTypes(Collection<Class<?>> eventTypes) {
+
+		notNull(eventTypes);
+
+		for(Class<?> eventType : eventTypes) {
+			if(!isAsyncCapable(eventType)) {
+				throw new IllegalArgumentException(format("event type '%s' can not be dispatched asynchronously. valid types are %s",
+																					eventType.getName(), ASYNC_CAPABLE_EVENTS));
+			}
+		}
+
+		this.asyncEventTypes = new HashSet<>(eventTypes);
+	}
+
+	/**
+	 * Maximum time to wait for pending events to be published on shutdown. Defaults to 30 seconds.
+	 *
+	 * @param shutdownTimeout timeout in milliseconds
+	 */
+	public void setShutdownTimeout(long shutdownTimeout) {
+		this.shutdownTimeout = shutdownTimeout;
+	}
+
+	/**
+	 * @param eventType the type of the event
+	 * @return {@literal true} if events of the given type are dispatched asynchronously
+	 */
+	public boolean isAsync(Class<?> eventType) {
+
+		for(Class<?> asyncType : asyncEventTypes) {
+			if(asyncType.isAssignableFrom(eventType)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Publishes the given event with the given publisher on the lane assigned to the ordering key. Events that are not
+	 * configured to be dispatched asynchronously are published on the calling thread.
+	 *
+	 * @param publisher must not be {@literal null}.
+	 * @param event must not be {@literal null}.
+	 * @param orderingKey the key to order events by, e.g. the entity id. {@literal null} if order does not matter.
+	 */
+	public void dispatch(final ApplicationEventPublisher publisher, final CrateMappingEvent<?> event, Object orderingKey) {
+
+		notNull(publisher);
+		notNull(event);
+
+		if(!isAsync(event.getClass())) {
+			publisher.publishEvent(event);
+			return;
+		}
+
+		laneFor(orderingKey).execute(new Runnable() {
+			@Override
+			public void run() {
+				try {
+					publisher.publishEvent(event);
+				}catch(RuntimeException e) {
+					logger.error(format("listener failed on asynchronously dispatched event '%s'", event.getClass().getSimpleName()), e);
+				}
+			}
+		});
+	}
+
+	/**
+	 * @return the number of events dropped due to {@link OverflowPolicy#DISCARD}
+	 */
+	public long getDiscardedEvents() {
+		return discarded.get();
+	}
+
+	@Override
+	public void destroy() throws Exception {
+
+		for(ExecutorService lane : lanes) {
+			lane.shutdown();
+		}
+
+		long deadline = System.currentTimeMillis() + shutdownTimeout;
+
+		for(ExecutorService lane : lanes) {
+			if(!lane.awaitTermination(Math.max(0, deadline - System.currentTimeMillis()), MILLISECONDS)) {
+				logger.warn("dropping {} pending events on shutdown", lane.shutdownNow().size());
+			}
+		}
+	}
+
+	private static boolean isAsyncCapable(Class<?> eventType) {
+
+		for(Class<?> capable : ASYNC_CAPABLE_EVENTS) {
+			if(capable.isAssignableFrom(eventType)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private ThreadPoolExecutor laneFor(Object orderingKey) {
+
+		int hash = orderingKey == null ? nextLane.getAndIncrement() : orderingKey.hashCode();
+
+		return lanes[(hash & Integer.MAX_VALUE) % lanes.length];
+	}
+
+	/**
+	 * Applies the configured {@link OverflowPolicy} to events rejected by a full lane.
+	 */
+	private class OverflowHandler implements RejectedExecutionHandler {
+
+		@Override
+		public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+
+			if(executor.isShutdown()) {
+				throw new RejectedExecutionException("event dispatcher has been shut down");
+			}
+
+			switch(overflowPolicy) {
+			case BLOCK:
+				try {
+					executor.getQueue().put(task);
+				}catch(InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new RejectedExecutionException("interrupted while waiting for event dispatcher capacity", e);
+				}
+				break;
+			case CALLER_RUNS:
+				task.run();
+				break;
+			case DISCARD:
+				if(discarded.incrementAndGet() % 1000 == 1) {
+					logger.warn("event queue is full. {} events discarded so far", discarded.get());
+				}
+				break;
+			default:
+				throw new IllegalStateException(format("unknown overflow policy '%s'", overflowPolicy));
+			}
+		}
+	}
+
+	private static class LaneThreadFactory implements ThreadFactory {
+
+		private final int lane;
+
+		public LaneThreadFactory(int lane) {
+			this.lane = lane;
+		}
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, format("crate-event-dispatcher-%d", lane));
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+}
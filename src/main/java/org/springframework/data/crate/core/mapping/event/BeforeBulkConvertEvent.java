@@ -0,0 +1,92 @@
+/*
+ * Copyright 2002-2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.crate.core.mapping.event;
+
+import static java.util.Collections.unmodifiableList;
+import static org.springframework.util.Assert.notNull;
+
+import java.util.List;
+import java.util.SortedMap;
+
+/**
+ * Event published once before the entities of a bulk insert or update are converted. Listeners may reject single
+ * rows by index, e.g. on validation failures. Rejected rows are neither converted nor sent to Crate and are reported
+ * as failures of the bulk operation. Rejecting rows is thread safe.
+ * 
+ * @author Hasnain Javed
+ * @since 1.0.0
+ */
+public class BeforeBulkConvertEvent<T> extends CrateMappingEvent<List<T>> {
+
+	private static final long serialVersionUID = -2180956468563513618L;
+	
+	private final Class<T> type;
+	private final transient BulkRejections rejections;
+
+	/**
+	 * Creates a new {@link BeforeBulkConvertEvent} for the given entities and type.
+	 * 
+	 * @param entities must not be {@literal null}.
+	 * @param type the entities' type. must not be {@literal null}.
+	 */
+	public BeforeBulkConvertEvent(List<T> entities, Class<T> type) {
+		super(unmodifiableList(entities), null);
+		notNull(type, "Type must not be null!");
+		this.type = type;
+		this.rejections = new BulkRejections(entities.size());
+	}
+	
+	/**
+	 * @return the entities of the bulk operation
+	 */
+	public List<T> getEntities() {
+		return getSource();
+	}
+
+	/**
+	 * Returns the type for which the event shall be invoked for.
+	 * 
+	 * @return
+	 */
+	public Class<T> getType() {
+		return type;
+	}
+	
+	/**
+	 * Excludes the entity at the given index from the bulk operation. The first reason given for an index is kept.
+	 * 
+	 * @param index the index of the entity
+	 * @param reason must not be {@literal null}.
+	 */
+	public void reject(int index, String reason) {
+		rejections.reject(index, reason);
+	}
+	
+	/**
+	 * @param index the index of the entity
+	 * @return {@literal true} if the entity at the given index has been rejected
+	 */
+	public boolean isRejected(int index) {
+		return rejections.isRejected(index);
+	}
+	
+	/**
+	 * @return the reasons of all rejected entities keyed by index
+	 */
+	public SortedMap<Integer, String> getRejections() {
+		return rejections.getRejections();
+	}
+}
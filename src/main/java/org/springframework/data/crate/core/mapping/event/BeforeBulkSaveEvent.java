@@ -0,0 +1,69 @@
+/*
+ * Copyright 2002-2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.crate.core.mapping.event;
+
+import java.util.List;
+import java.util.SortedMap;
+
+import org.springframework.data.crate.core.mapping.CrateDocument;
+
+/**
+ * Event published once before a bulk insert or update is sent to Crate, after all entities have been converted to
+ * {@link CrateDocument}s. Listeners may reject single rows by index, e.g. on validation failures. Rejected rows are not
+ * sent to Crate and are reported as failures of the bulk operation. Rejecting rows is thread safe.
+ * 
+ * @author Hasnain Javed
+ * @since 1.0.0
+ */
+public class BeforeBulkSaveEvent<T> extends AbstractBulkSaveEvent<T> {
+
+	private static final long serialVersionUID = -4457185232781497402L;
+	
+	private final transient BulkRejections rejections;
+
+	/**
+	 * Creates a new {@link BeforeBulkSaveEvent} for the given entities, documents and type.
+	 */
+	public BeforeBulkSaveEvent(List<T> entities, List<CrateDocument> documents, Class<T> type) {
+		super(entities, documents, type);
+		this.rejections = new BulkRejections(entities.size());
+	}
+	
+	/**
+	 * Excludes the entity at the given index from the bulk operation. The first reason given for an index is kept.
+	 * 
+	 * @param index the index of the entity
+	 * @param reason must not be {@literal null}.
+	 */
+	public void reject(int index, String reason) {
+		rejections.reject(index, reason);
+	}
+	
+	/**
+	 * @param index the index of the entity
+	 * @return {@literal true} if the entity at the given index has been rejected
+	 */
+	public boolean isRejected(int index) {
+		return rejections.isRejected(index);
+	}
+	
+	/**
+	 * @return the reasons of all rejected entities keyed by index
+	 */
+	public SortedMap<Integer, String> getRejections() {
+		return rejections.getRejections();
+	}
+}
@@ -30,4 +30,8 @@ public class BeforeConvertEvent<T> extends CrateMappingEvent<T> {
 	public BeforeConvertEvent(T source) {
 		super(source, null);
 	}
+	
+	public BeforeConvertEvent(T source, boolean partOfBulk) {
+		super(source, null, partOfBulk);
+	}
 }
\ No newline at end of file
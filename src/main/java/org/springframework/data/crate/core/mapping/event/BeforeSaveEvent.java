@@ -29,4 +29,8 @@ public class BeforeSaveEvent<E> extends CrateMappingEvent<E> {
 	public BeforeSaveEvent(E source, CrateDocument document) {
 		super(source, document);
 	}
+	
+	public BeforeSaveEvent(E source, CrateDocument document, boolean partOfBulk) {
+		super(source, document, partOfBulk);
+	}
 }
\ No newline at end of file
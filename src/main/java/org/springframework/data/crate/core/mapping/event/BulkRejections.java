@@ -0,0 +1,65 @@
+/*
+ * Copyright 2002-2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.crate.core.mapping.event;
+
+import static org.springframework.util.Assert.isTrue;
+import static org.springframework.util.Assert.notNull;
+
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Rows rejected by listeners of a bulk event, keyed by index. Rejecting rows is thread safe.
+ * 
+ * @author Hasnain Javed
+ * @since 1.0.0
+ */
+class BulkRejections {
+	
+	private final AtomicReferenceArray<String> rejections;
+	
+	BulkRejections(int size) {
+		this.rejections = new AtomicReferenceArray<>(size);
+	}
+	
+	/**
+	 * Rejects the row at the given index. The first reason given for an index is kept.
+	 */
+	void reject(int index, String reason) {
+		isTrue(index >= 0 && index < rejections.length(), "index out of range");
+		notNull(reason);
+		rejections.compareAndSet(index, null, reason);
+	}
+	
+	boolean isRejected(int index) {
+		return rejections.get(index) != null;
+	}
+	
+	SortedMap<Integer, String> getRejections() {
+		
+		SortedMap<Integer, String> rejected = new TreeMap<>();
+		
+		for(int index = 0; index < rejections.length(); index++) {
+			String reason = rejections.get(index);
+			if(reason != null) {
+				rejected.put(index, reason);
+			}
+		}
+		
+		return rejected;
+	}
+}
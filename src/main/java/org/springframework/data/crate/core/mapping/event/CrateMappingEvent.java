@@ -28,15 +28,33 @@ public class CrateMappingEvent<T> extends ApplicationEvent {
 	private static final long serialVersionUID = -8253586660680352433L;
 	
 	private final CrateDocument document;
+	private final boolean partOfBulk;
 	
 	public CrateMappingEvent(T source, CrateDocument document) {
+		this(source, document, false);
+	}
+	
+	/**
+	 * @param source the source of the event
+	 * @param document the document, may be {@literal null}
+	 * @param partOfBulk whether the event is published for a single row of a bulk operation
+	 */
+	public CrateMappingEvent(T source, CrateDocument document, boolean partOfBulk) {
 		super(source);
 		this.document = document;
+		this.partOfBulk = partOfBulk;
 	}
 
 	public CrateDocument getDocument() {
 		return document;
 	}
+	
+	/**
+	 * @return {@literal true} if the event is published for a single row of a bulk operation
+	 */
+	public boolean isPartOfBulk() {
+		return partOfBulk;
+	}
 
 	@SuppressWarnings({ "unchecked" })
 	@Override
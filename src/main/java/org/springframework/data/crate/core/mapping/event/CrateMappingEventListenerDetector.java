@@ -0,0 +1,214 @@
+/*
+ * Copyright 2002-2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.crate.core.mapping.event;
+
+import static org.springframework.core.GenericTypeResolver.resolveTypeArgument;
+import static org.springframework.util.Assert.notNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.SmartApplicationListener;
+import org.springframework.context.support.AbstractApplicationContext;
+
+/**
+ * Detects whether any {@link ApplicationListener} of an {@link ApplicationContext} hierarchy handles a given
+ * {@link CrateMappingEvent} type for a given domain type, allowing to skip the creation and publication of events
+ * nobody listens to. Listeners are inspected by type without being instantiated and the result is cached per
+ * (event type, domain type). The cache is cleared on every {@link ContextRefreshedEvent}, so that listeners registered
+ * after the detector has been used for the first time, e.g. while beans are created, are detected once the context has
+ * been refreshed.
+ * <p/>
+ * {@link AbstractCrateEventListener}s handle an event only if they override the corresponding callback method, and
+ * once they have been created only if their configuration lets them handle it. Any other listener accepting
+ * {@link CrateMappingEvent}s or listeners whose type can not be determined are considered to handle every event.
+ *
+ * @author Hasnain Javed
+ * @since 1.0.0
+ */
+public class CrateMappingEventListenerDetector implements ApplicationListener<ContextRefreshedEvent> {
+
+	private final ApplicationContext applicationContext;
+	private final ConcurrentMap<Class<?>, ConcurrentMap<Class<?>, Boolean>> cache;
+	private final ConcurrentMap<Class<?>, ConcurrentMap<Class<?>, Boolean>> bulkRowCache;
+
+	private volatile List<DetectedListener> listeners;
+
+	/**
+	 * Creates a new {@link CrateMappingEventListenerDetector} for the given {@link ApplicationContext}.
+	 *
+	 * @param applicationContext must not be {@literal null}.
+	 */
+	public CrateMappingEventListenerDetector(ApplicationContext applicationContext) {
+		notNull(applicationContext);
+		this.applicationContext = applicationContext;
+		this.cache = new ConcurrentHashMap<>();
+		this.bulkRowCache = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * @param eventType the type of the event
+	 * @param domainType the type of the entity, id or document the event is published for
+	 * @return {@literal true} if at least one listener handles the event
+	 */
+	public boolean hasListeners(Class<?> eventType, Class<?> domainType) {
+		return hasListeners(eventType, domainType, false);
+	}
+
+	/**
+	 * Created {@link AbstractCrateEventListener}s are asked whether they handle the event, so that listeners which are
+	 * {@link AbstractCrateEventListener#isBulkAware() bulk aware} are not considered for the events of single rows of
+	 * bulk operations.
+	 *
+	 * @param eventType the type of the event
+	 * @param domainType the type of the entity, id or document the event is published for
+	 * @param partOfBulk whether the event is published for a single row of a bulk operation
+	 * @return {@literal true} if at least one listener handles the event
+	 */
+	public boolean hasListeners(Class<?> eventType, Class<?> domainType, boolean partOfBulk) {
+
+		ConcurrentMap<Class<?>, ConcurrentMap<Class<?>, Boolean>> eventTypes = partOfBulk ? bulkRowCache : cache;
+		ConcurrentMap<Class<?>, Boolean> domainTypes = eventTypes.get(eventType);
+
+		if(domainTypes == null) {
+			ConcurrentMap<Class<?>, Boolean> created = new ConcurrentHashMap<>();
+			domainTypes = eventTypes.putIfAbsent(eventType, created);
+			if(domainTypes == null) {
+				domainTypes = created;
+			}
+		}
+
+		Boolean hasListeners = domainTypes.get(domainType);
+
+		if(hasListeners == null) {
+			hasListeners = detect(eventType, domainType, partOfBulk);
+			domainTypes.putIfAbsent(domainType, hasListeners);
+		}
+
+		return hasListeners;
+	}
+
+	/**
+	 * Clears the cached results, e.g. after listeners have been added to the context.
+	 */
+	public void reset() {
+		this.listeners = null;
+		this.cache.clear();
+		this.bulkRowCache.clear();
+	}
+
+	@Override
+	public void onApplicationEvent(ContextRefreshedEvent event) {
+		reset();
+	}
+
+	private boolean detect(Class<?> eventType, Class<?> domainType, boolean partOfBulk) {
+
+		for(DetectedListener listener : getListeners()) {
+
+			if(listener.type == null) {
+				return true;
+			}
+
+			if(listener.instance != null ? listener.instance.handles(eventType, domainType, partOfBulk) :
+										   supports(listener.type, eventType, domainType)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private boolean supports(Class<?> listenerType, Class<?> eventType, Class<?> domainType) {
+
+		if(AbstractCrateEventListener.class.isAssignableFrom(listenerType)) {
+			return AbstractCrateEventListener.supports(listenerType, eventType, domainType);
+		}
+
+		if(SmartApplicationListener.class.isAssignableFrom(listenerType)) {
+			// event type support is decided on the instance
+			return true;
+		}
+
+		Class<?> acceptedType = resolveTypeArgument(listenerType, ApplicationListener.class);
+
+		return acceptedType == null || acceptedType.isAssignableFrom(eventType);
+	}
+
+	private List<DetectedListener> getListeners() {
+
+		List<DetectedListener> detected = listeners;
+
+		if(detected == null) {
+
+			detected = new ArrayList<>();
+
+			for(ApplicationContext context = applicationContext; context != null; context = context.getParent()) {
+
+				for(String beanName : context.getBeanNamesForType(ApplicationListener.class, true, false)) {
+					detected.add(new DetectedListener(context.getType(beanName), getCreatedListener(context, beanName)));
+				}
+
+				if(context instanceof AbstractApplicationContext) {
+					for(ApplicationListener<?> listener : ((AbstractApplicationContext)context).getApplicationListeners()) {
+						detected.add(new DetectedListener(listener.getClass(), listener));
+					}
+				}
+			}
+
+			listeners = detected;
+		}
+
+		return detected;
+	}
+
+	/**
+	 * @return the listener bean if it has been created already, listeners are not created to be inspected
+	 */
+	private Object getCreatedListener(ApplicationContext context, String beanName) {
+
+		if(!(context instanceof ConfigurableApplicationContext)) {
+			return null;
+		}
+
+		try {
+			return ((ConfigurableApplicationContext)context).getBeanFactory().getSingleton(beanName);
+		}catch(IllegalStateException e) {
+			// the bean factory of the context is not available before it has been refreshed
+			return null;
+		}
+	}
+
+	/**
+	 * A listener known by its type and, once it has been created, by its instance.
+	 */
+	private static class DetectedListener {
+
+		private final Class<?> type;
+		private final AbstractCrateEventListener<?> instance;
+
+		public DetectedListener(Class<?> type, Object instance) {
+			this.type = type;
+			this.instance = instance instanceof AbstractCrateEventListener ? (AbstractCrateEventListener<?>)instance : null;
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2014 the original author or authors.
+ * Copyright 2012 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,13 +15,18 @@
  */
 package org.springframework.data.crate.core.mapping.event;
 
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
+import javax.validation.ConstraintViolation;
 import javax.validation.ConstraintViolationException;
 import javax.validation.Validator;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.data.crate.core.mapping.CrateDocument;
 import org.springframework.util.Assert;
 
@@ -29,25 +34,70 @@ import org.springframework.util.Assert;
 /**
  * javax.validation dependant entities validator. When it is registered as Spring component its automatically invoked
  * before entities are saved in database.
- * 
+ * <p/>
+ * With bulk validation enabled the entities of bulk operations are validated in parallel on a {@link ForkJoinPool}
+ * once all of them have been converted, i.e. after their {@link BeforeConvertEvent}s like single entities. Entities
+ * violating constraints are rejected and reported as failures of the bulk operation instead of aborting it.
+ *
  * @author Maciej Walkowiak
  * @author Hasnain Javed
  * @since 1.0.0
  */
-public class ValidatingCrateEventListener extends AbstractCrateEventListener<Object> {
+public class ValidatingCrateEventListener extends AbstractCrateEventListener<Object> implements DisposableBean {
 
 	private static final Logger LOG = LoggerFactory.getLogger(ValidatingCrateEventListener.class);
 
+	private static final int DEFAULT_THRESHOLD = 256;
+
 	private final Validator validator;
 
+	private boolean bulkValidation;
+	private int threshold;
+	private ForkJoinPool pool;
+	private boolean ownPool;
+
 	/**
 	 * Creates a new {@link ValidatingCrateEventListener} using the given {@link Validator}.
-	 * 
+	 *
 	 * @param validator must not be {@literal null}.
 	 */
 	public ValidatingCrateEventListener(Validator validator) {
 		Assert.notNull(validator);
 		this.validator = validator;
+		this.threshold = DEFAULT_THRESHOLD;
+	}
+
+	/**
+	 * Enables validating bulk operations as a whole. Defaults to {@literal false}, in which case every entity of a bulk
+	 * operation is validated on its own and the first violation aborts the operation.
+	 *
+	 * @param bulkValidation {@literal true} to validate bulk operations in parallel and reject invalid entities
+	 */
+	public void setBulkValidation(boolean bulkValidation) {
+		this.bulkValidation = bulkValidation;
+	}
+
+	/**
+	 * Number of entities validated by a single task. Defaults to 256.
+	 * @param threshold must be greater than zero
+	 */
+	public void setThreshold(int threshold) {
+		Assert.isTrue(threshold > 0, "threshold must be greater than zero");
+		this.threshold = threshold;
+	}
+
+	/**
+	 * The pool used for bulk validation. A pool with a parallelism equal to the number of available processors is
+	 * created if none is set. A pool set here is not shut down by {@link #destroy()}.
+	 * @param pool must not be {@literal null}.
+	 */
+	public synchronized void setPool(ForkJoinPool pool) {
+		Assert.notNull(pool);
+		if (ownPool) {
+			this.pool.shutdown();
+			this.ownPool = false;
+		}
+		this.pool = pool;
 	}
 
 	/*
@@ -67,4 +117,109 @@ public class ValidatingCrateEventListener extends AbstractCrateEventListener<Obj
 			throw new ConstraintViolationException(violations);
 		}
 	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.crate.core.mapping.event.AbstractCrateEventListener#onBeforeBulkSave(org.springframework.data.crate.core.mapping.event.BeforeBulkSaveEvent)
+	 */
+	@Override
+	public void onBeforeBulkSave(BeforeBulkSaveEvent<Object> event) {
+
+		if (!bulkValidation) {
+			return;
+		}
+
+		LOG.debug("Validating {} objects", event.getEntities().size());
+
+		getPool().invoke(new BulkValidation(event, 0, event.getEntities().size()));
+	}
+
+	@Override
+	protected boolean isBulkAware() {
+		return bulkValidation;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.crate.core.mapping.event.AbstractCrateEventListener#handles(java.lang.Class, java.lang.Class, boolean)
+	 */
+	@Override
+	protected boolean handles(Class<?> eventType, Class<?> domainType, boolean partOfBulk) {
+
+		if (BeforeBulkSaveEvent.class.isAssignableFrom(eventType)) {
+			// the bulk callback validates with bulk validation enabled only
+			return bulkValidation;
+		}
+
+		return super.handles(eventType, domainType, partOfBulk);
+	}
+
+	@Override
+	public synchronized void destroy() throws Exception {
+		if (ownPool) {
+			pool.shutdown();
+		}
+	}
+
+	private synchronized ForkJoinPool getPool() {
+		if (pool == null) {
+			pool = new ForkJoinPool();
+			ownPool = true;
+		}
+		return pool;
+	}
+
+	private static String toMessage(Set<ConstraintViolation<Object>> violations) {
+
+		StringBuilder message = new StringBuilder();
+
+		for (ConstraintViolation<Object> violation : violations) {
+			if (message.length() > 0) {
+				message.append(", ");
+			}
+			message.append(violation.getPropertyPath()).append(' ').append(violation.getMessage());
+		}
+
+		return message.toString();
+	}
+
+	/**
+	 * Validates a range of the entities of a bulk operation, splitting it while it is larger than the threshold.
+	 */
+	private class BulkValidation extends RecursiveAction {
+
+		private static final long serialVersionUID = 4310949591390476135L;
+
+		private final BeforeBulkSaveEvent<Object> event;
+		private final int from;
+		private final int to;
+
+		public BulkValidation(BeforeBulkSaveEvent<Object> event, int from, int to) {
+			this.event = event;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+
+			if (to - from > threshold) {
+				int middle = (from + to) >>> 1;
+				invokeAll(new BulkValidation(event, from, middle), new BulkValidation(event, middle, to));
+				return;
+			}
+
+			List<Object> entities = event.getEntities();
+
+			for (int index = from; index < to; index++) {
+
+				Set<ConstraintViolation<Object>> violations = validator.validate(entities.get(index));
+
+				if (!violations.isEmpty()) {
+					LOG.info("During object: {} validation violations found: {}", entities.get(index), violations);
+					event.reject(index, toMessage(violations));
+				}
+			}
+		}
+	}
 }
\ No newline at end of file
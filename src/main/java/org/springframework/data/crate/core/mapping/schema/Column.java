@@ -43,6 +43,10 @@ public class Column {
 	
 	private boolean primaryKey;
 	
+	private IndexType indexType = IndexType.PLAIN;
+	private String analyzer;
+	private ObjectColumnPolicy objectColumnPolicy = ObjectColumnPolicy.DYNAMIC;
+	
 	private List<Column> subColumns;
 	
 	public Column(String name, Class<?> rawType) {
@@ -102,6 +106,43 @@ public class Column {
 		this.primaryKey = primaryKey;
 	}
 
+	public IndexType getIndexType() {
+		return indexType;
+	}
+
+	public void setIndexType(IndexType indexType) {
+		notNull(indexType);
+		this.indexType = indexType;
+	}
+
+	public String getAnalyzer() {
+		return analyzer;
+	}
+
+	public void setAnalyzer(String analyzer) {
+		this.analyzer = analyzer;
+	}
+
+	public ObjectColumnPolicy getObjectColumnPolicy() {
+		return objectColumnPolicy;
+	}
+
+	public void setObjectColumnPolicy(ObjectColumnPolicy objectColumnPolicy) {
+		notNull(objectColumnPolicy);
+		this.objectColumnPolicy = objectColumnPolicy;
+	}
+	
+	/**
+	 * Copies the index and object column policy of the given column.
+	 * @param column must not be {@literal null}.
+	 */
+	public void copyConstraints(Column column) {
+		notNull(column);
+		this.indexType = column.getIndexType();
+		this.analyzer = column.getAnalyzer();
+		this.objectColumnPolicy = column.getObjectColumnPolicy();
+	}
+
 	public List<Column> getSubColumns() {
 		
 		if(subColumns == null) {
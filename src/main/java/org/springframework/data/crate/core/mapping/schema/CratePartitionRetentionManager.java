@@ -0,0 +1,151 @@
+/*
+ * Copyright 2002-2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.crate.core.mapping.schema;
+
+import static java.util.concurrent.TimeUnit.DAYS;
+import static java.util.concurrent.TimeUnit.HOURS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.slf4j.LoggerFactory.getLogger;
+import static org.springframework.util.Assert.isTrue;
+import static org.springframework.util.Assert.notNull;
+
+import java.util.Date;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.slf4j.Logger;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.data.crate.core.CrateOperations;
+import org.springframework.data.crate.core.mapping.CrateMappingContext;
+import org.springframework.data.crate.core.mapping.CratePersistentEntity;
+import org.springframework.data.crate.core.mapping.CratePersistentProperty;
+import org.springframework.data.crate.core.mapping.annotations.PartitionRetention;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Component that periodically drops expired partitions of the {@link CratePersistentEntity} instances contained in
+ * the given {@link CrateMappingContext} which define a {@link PartitionRetention}. Partitions are dropped as a whole
+ * with a single statement per table.
+ *
+ * @author Hasnain Javed
+ * @since 1.0.0
+ */
+public class CratePartitionRetentionManager implements InitializingBean, DisposableBean, Runnable {
+
+	private final Logger logger = getLogger(getClass());
+
+	private final MappingContext<? extends CratePersistentEntity<?>, CratePersistentProperty> mappingContext;
+	private final CrateOperations crateOperations;
+
+	private ScheduledExecutorService scheduler;
+
+	private long interval;
+	private long initialDelay;
+	private boolean enabled;
+
+	/**
+	 * Creates a new {@link CratePartitionRetentionManager} for the given {@link CrateOperations}
+	 *
+	 * @param crateOperations must not be {@literal null}.
+	 */
+	public CratePartitionRetentionManager(CrateOperations crateOperations) {
+		super();
+		notNull(crateOperations);
+		this.crateOperations = crateOperations;
+		this.mappingContext = crateOperations.getConverter().getMappingContext();
+		this.interval = HOURS.toMillis(1);
+		this.initialDelay = 0;
+		this.enabled = true;
+	}
+
+	/**
+	 * Time between two runs. Defaults to one hour.
+	 * @param interval interval in milliseconds, must be greater than zero
+	 */
+	public void setInterval(long interval) {
+		isTrue(interval > 0, "interval must be greater than zero");
+		this.interval = interval;
+	}
+
+	/**
+	 * Time to wait before the first run. Defaults to {@literal 0}.
+	 * @param initialDelay delay in milliseconds
+	 */
+	public void setInitialDelay(long initialDelay) {
+		isTrue(initialDelay >= 0, "initialDelay must not be negative");
+		this.initialDelay = initialDelay;
+	}
+
+	/**
+	 * Flag to explicitly enable or disable dropping expired partitions.
+	 * @param enabled {@code true} if expired partitions should be dropped
+	 */
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	@Override
+	public void afterPropertiesSet() throws Exception {
+
+		if(enabled) {
+			scheduler = Executors.newSingleThreadScheduledExecutor(newThreadFactory());
+			scheduler.scheduleWithFixedDelay(this, initialDelay, interval, MILLISECONDS);
+		}else {
+			logger.debug("skipping partition retention as the retention manager is disabled");
+		}
+	}
+
+	@Override
+	public void destroy() throws Exception {
+		if(scheduler != null) {
+			scheduler.shutdownNow();
+		}
+	}
+
+	/**
+	 * Drops the expired partitions of all entities with a {@link PartitionRetention}. Failures are logged and do not
+	 * prevent the partitions of the remaining entities from being dropped.
+	 */
+	@Override
+	public void run() {
+
+		long now = System.currentTimeMillis();
+
+		for(CratePersistentEntity<?> entity : mappingContext.getPersistentEntities()) {
+
+			if(entity.getRetentionDays() > 0) {
+
+				Date cutoff = new Date(now - DAYS.toMillis(entity.getRetentionDays()));
+
+				try {
+					crateOperations.dropPartitionsOlderThan(entity.getType(), cutoff);
+				}catch(RuntimeException e) {
+					logger.warn("failed to drop partitions of table '{}' older than '{}': {}", new Object[]{entity.getTableName(),
+																									  cutoff, e.getMessage()});
+				}
+			}
+		}
+	}
+
+	private static CustomizableThreadFactory newThreadFactory() {
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("crate-partition-retention-");
+		threadFactory.setDaemon(true);
+		return threadFactory;
+	}
+}
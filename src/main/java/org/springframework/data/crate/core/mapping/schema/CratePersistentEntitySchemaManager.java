@@ -33,6 +33,7 @@ import org.slf4j.Logger;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.dao.DataAccessException;
+import org.springframework.data.crate.IncompatibleTableException;
 import org.springframework.data.crate.NoSuchTableException;
 import org.springframework.data.crate.core.CrateAction;
 import org.springframework.data.crate.core.CrateOperations;
@@ -189,6 +190,13 @@ public class CratePersistentEntitySchemaManager implements InitializingBean, Dis
 		
 		TableMetadata tableMetadata = getTableMetadata(entity);
 		
+		List<String> mismatches = tableManager.validateDefinition(entity, tableMetadata);
+		
+		if(!mismatches.isEmpty()) {
+			throw new IncompatibleTableException(format("table '%s' does not match '%s' and must be recreated: %s", 
+														tableMetadata.getName(), entity.getType().getName(), mismatches));
+		}
+		
 		AlterTableDefinition def = tableManager.alterDefinition(entity, tableMetadata);
 		
 		if(def.hasAlteredParameters()) {
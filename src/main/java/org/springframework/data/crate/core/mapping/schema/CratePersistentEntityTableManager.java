@@ -15,6 +15,7 @@
  */
 package org.springframework.data.crate.core.mapping.schema;
 
+import static java.lang.String.format;
 import static org.slf4j.LoggerFactory.getLogger;
 import static org.springframework.data.crate.core.sql.CrateSQLStatement.COLUMN_POLICY;
 import static org.springframework.data.crate.core.sql.CrateSQLStatement.NO_OF_REPLICAS;
@@ -94,6 +95,45 @@ public class CratePersistentEntityTableManager {
 		return new AlterTableDefinition(entity.getTableName(), alteredColumns, alteredParameters);
 	}
 
+	/**
+	 * Compares the number of shards, the routing column and the partition columns of the {@link CratePersistentEntity}
+	 * with the {@link TableMetadata}. These can not be altered for an existing table.
+	 * @param entity instance used to compare table parameters
+	 * @param tableMetadata metadata associated to the {@link CratePersistentEntity} from the database
+	 * @return descriptions of the differences or an empty list if the table matches the entity
+	 */
+	public List<String> validateDefinition(CratePersistentEntity<?> entity, TableMetadata tableMetadata) {
+		
+		notNull(entity);
+		notNull(tableMetadata);
+		
+		List<String> mismatches = new ArrayList<>(3);
+		
+		TableParameters dbParams = tableMetadata.getParameters();
+		TableParameters entityParams = entity.getTableParameters();
+		
+		if(entityParams == null) {
+			return mismatches;
+		}
+		
+		if(entityParams.getNumberOfShards() > 0 && entityParams.getNumberOfShards() != dbParams.getNumberOfShards()) {
+			mismatches.add(format("number of shards is %d but must be %d", dbParams.getNumberOfShards(), 
+																			entityParams.getNumberOfShards()));
+		}
+		
+		if(entityParams.getClusteredBy() != null && !entityParams.getClusteredBy().equals(dbParams.getClusteredBy())) {
+			mismatches.add(format("clustered by '%s' but must be clustered by '%s'", dbParams.getClusteredBy(), 
+																					  entityParams.getClusteredBy()));
+		}
+		
+		if(!entityParams.getPartitionedBy().equals(dbParams.getPartitionedBy())) {
+			mismatches.add(format("partitioned by %s but must be partitioned by %s", dbParams.getPartitionedBy(), 
+																					  entityParams.getPartitionedBy()));
+		}
+		
+		return mismatches;
+	}
+
 	/**
 	 * Finds columns and subcolumns which are newly added 
 	 * @author Hasnain Javed
@@ -130,6 +170,7 @@ public class CratePersistentEntityTableManager {
 													columnPath.getValue().getRawType(), 
 													columnPath.getValue().getElementRawType());
 					addedColumn.setSubColumns(columnPath.getValue().getSubColumns());
+					addedColumn.copyConstraints(columnPath.getValue());
 					
 					
 					alteredColumns.add(addedColumn);
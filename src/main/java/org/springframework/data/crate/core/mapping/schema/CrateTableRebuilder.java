@@ -0,0 +1,222 @@
+/*
+ * Copyright 2002-2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.crate.core.mapping.schema;
+
+import static java.lang.String.format;
+import static org.slf4j.LoggerFactory.getLogger;
+import static org.springframework.util.Assert.hasText;
+import static org.springframework.util.Assert.isTrue;
+import static org.springframework.util.Assert.notNull;
+import io.crate.action.sql.SQLRequest;
+
+import org.slf4j.Logger;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.crate.core.CopyTableOptions;
+import org.springframework.data.crate.core.CrateAction;
+import org.springframework.data.crate.core.CrateOperations;
+import org.springframework.data.crate.core.TableCopyListener;
+import org.springframework.data.crate.core.mapping.CratePersistentEntity;
+import org.springframework.data.crate.core.mapping.CratePersistentProperty;
+import org.springframework.data.crate.core.sql.CrateSQLStatement;
+import org.springframework.data.crate.core.sql.CreateTable;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.mapping.model.MappingException;
+
+/**
+ * Rebuilds the table of a {@link CratePersistentEntity} with new table parameters, e.g. a different number of shards,
+ * while the table stays in use. The rebuilt table is created from the table definition of the entity, the rows are
+ * copied on the server in batches of primary key ranges while writes are mirrored to the rebuilt table, and the table
+ * name of the entity is finally switched to the rebuilt table.
+ * <p>
+ * The source table is refreshed before each batch, and rows deleted while the table was copied are deleted from the
+ * rebuilt table once more after the copy, as a batch may have read a row before its delete became visible. A
+ * {@code deleteAll} of the table during the rebuild is not applied again. The table is not switched if any write
+ * failed to be mirrored to the rebuilt table, which is left in place.
+ * <p>
+ * Writes are still mirrored once the table is switched, so that writes already in flight on the former table are not
+ * lost. Mirroring has to be stopped with {@link CrateOperations#stopMirroringWrites(String)} before the former table
+ * is dropped.
+ *
+ * @author Hasnain Javed
+ * @since 1.0.0
+ */
+public class CrateTableRebuilder {
+
+	private final Logger logger = getLogger(getClass());
+
+	private final MappingContext<? extends CratePersistentEntity<?>, CratePersistentProperty> mappingContext;
+	private final CrateOperations crateOperations;
+	private final CratePersistentEntityTableManager tableManager;
+
+	private int batchSize;
+	private long throttle;
+
+	/**
+	 * Creates a new {@link CrateTableRebuilder} for the given {@link CrateOperations}
+	 *
+	 * @param crateOperations must not be {@literal null}.
+	 */
+	public CrateTableRebuilder(CrateOperations crateOperations) {
+		super();
+		notNull(crateOperations);
+		this.crateOperations = crateOperations;
+		this.mappingContext = crateOperations.getConverter().getMappingContext();
+		this.tableManager = new CratePersistentEntityTableManager(mappingContext);
+		this.batchSize = 10000;
+		this.throttle = 0;
+	}
+
+	/**
+	 * Number of rows copied by a single statement. Defaults to {@literal 10000}.
+	 * @param batchSize must be greater than zero
+	 */
+	public void setBatchSize(int batchSize) {
+		isTrue(batchSize > 0, "batchSize must be greater than zero");
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Time to pause between two batches to limit the load of the copy on the cluster. Defaults to {@literal 0}.
+	 * @param throttle pause in milliseconds
+	 */
+	public void setThrottle(long throttle) {
+		isTrue(throttle >= 0, "throttle must not be negative");
+		this.throttle = throttle;
+	}
+
+	/**
+	 * Rebuilds the table of the given entity.
+	 *
+	 * @param entityClass the entity whose table is rebuilt, must define a simple id
+	 * @param tableName name of the rebuilt table, must not exist
+	 * @param tableParameters parameters of the rebuilt table, must not be {@literal null}.
+	 * @return the number of rows copied
+	 */
+	public long rebuild(Class<?> entityClass, String tableName, TableParameters tableParameters) {
+
+		notNull(entityClass);
+		hasText(tableName);
+		notNull(tableParameters);
+
+		CratePersistentEntity<?> entity = mappingContext.getPersistentEntity(entityClass);
+
+		if(!entity.hasIdProperty()) {
+			throw new MappingException(format("Entity '%s' has no id property defined", entityClass.getName()));
+		}
+
+		if(entity.getIdProperty().isEntity()) {
+			// rows are copied in batches ordered by the id which a composite id can not be ordered by
+			throw new MappingException(format("Table of entity '%s' with a composite id can not be rebuilt", 
+											  entityClass.getName()));
+		}
+
+		String sourceTable = crateOperations.resolveTableName(entity.getTableName());
+
+		isTrue(!sourceTable.equals(tableName), format("table '%s' can not be rebuilt into itself", sourceTable));
+
+		TableDefinition definition = tableManager.createDefinition(entity);
+
+		crateOperations.execute(new CreateTableAction(new TableDefinition(tableName, definition.getColumns(),
+																		  tableParameters)));
+
+		logger.info("rebuilding table '{}' into '{}'", sourceTable, tableName);
+
+		crateOperations.mirrorWrites(sourceTable, tableName);
+
+		long copied;
+
+		try {
+			crateOperations.refreshTable(sourceTable);
+			copied = crateOperations.copyTable(sourceTable, tableName, createCopyOptions(entity, sourceTable));
+			crateOperations.reapplyMirroredDeletes(entityClass, sourceTable);
+			crateOperations.refreshTable(tableName);
+			
+			int failures = crateOperations.getMirrorFailures(sourceTable);
+			
+			if(failures > 0) {
+				throw new DataIntegrityViolationException(format("%d writes of table '%s' failed to be mirrored to '%s'. " + 
+																 "Table is not switched", failures, sourceTable, tableName));
+			}
+		}catch(RuntimeException e) {
+			crateOperations.stopMirroringWrites(sourceTable);
+			throw e;
+		}
+
+		crateOperations.switchTable(entity.getTableName(), tableName);
+
+		logger.info("rebuilt table '{}' into '{}' with {} rows", new Object[]{sourceTable, tableName, copied});
+
+		return copied;
+	}
+
+	private CopyTableOptions createCopyOptions(CratePersistentEntity<?> entity, final String sourceTable) {
+
+		CopyTableOptions options = new CopyTableOptions();
+		options.setKeyColumn(entity.getIdProperty().getFieldName());
+		options.setBatchSize(batchSize);
+		options.setListener(new TableCopyListener() {
+			@Override
+			public void onBatchCopied(Object lastKey, long rows) {
+				if(lastKey != null) {
+					if(throttle > 0) {
+						pause();
+					}
+					// makes the deletes mirrored so far visible to the next batch
+					crateOperations.refreshTable(sourceTable);
+				}
+			}
+		});
+
+		return options;
+	}
+
+	private void pause() {
+		try {
+			Thread.sleep(throttle);
+		}catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new DataAccessResourceFailureException("interrupted while rebuilding table", e);
+		}
+	}
+
+	/**
+	 * {@link CreateTableAction} implementation of {@link CrateAction} to execute create table command.
+	 *
+	 * @author Hasnain Javed
+	 * @since 1.0.0
+	 */
+	private class CreateTableAction implements CrateAction {
+
+		private CrateSQLStatement createTable;
+
+		public CreateTableAction(TableDefinition tableDefinition) {
+			super();
+			this.createTable = new CreateTable(tableDefinition);
+		}
+
+		@Override
+		public SQLRequest getSQLRequest() {
+			return new SQLRequest(getSQLStatement());
+		}
+
+		@Override
+		public String getSQLStatement() {
+			return createTable.createStatement();
+		}
+	}
+}
@@ -136,6 +136,10 @@ class EntityColumnMapper {
 			column.setPrimaryKey(TRUE);
 		}
 		
+		column.setIndexType(property.getIndexType());
+		column.setAnalyzer(property.getAnalyzer());
+		column.setObjectColumnPolicy(property.getObjectColumnPolicy());
+		
 		logger.debug("mapped field '{}' of type '{}' to crate type '{}'", new Object[]{property.getFieldName(),
 																					   property.getRawType(),
 																					   column.getCrateType()});
@@ -235,6 +239,10 @@ class EntityColumnMapper {
 			throw new InvalidCrateApiUsageException(format(PK_CONSTRAINT, property.getFieldName()));
 		}
 		
+		if(property.getIndexType() != IndexType.PLAIN) {
+			throw new InvalidCrateApiUsageException(format("Primary key '%s' must use a plain index", property.getFieldName()));
+		}
+		
 		if(property.isEntity()) {
 			
 			CratePersistentEntity<?> primaryKey = mappingContext.getPersistentEntity(property);
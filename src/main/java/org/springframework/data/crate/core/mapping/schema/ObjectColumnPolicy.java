@@ -0,0 +1,48 @@
+/*
+ * Copyright 2002-2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.crate.core.mapping.schema;
+
+/**
+ * Behaviour of an object column for columns that are not defined in its schema.
+ * 
+ * @author Hasnain Javed
+ * @since 1.0.0
+ */
+public enum ObjectColumnPolicy {
+	
+	/**
+	 * New columns are added to the schema and indexed. This is the crate default.
+	 */
+	DYNAMIC("dynamic"),
+	/**
+	 * Rows with new columns are rejected.
+	 */
+	STRICT("strict"),
+	/**
+	 * New columns are stored but neither added to the schema nor indexed.
+	 */
+	IGNORED("ignored");
+	
+	private String policy;
+	
+	private ObjectColumnPolicy(String policy) {
+		this.policy = policy;
+	}
+	
+	public String toString() {
+		return policy;
+	};
+}
@@ -63,4 +63,47 @@ public class TableDefinition {
 	public boolean hasTableParameters() {
 		return tableParameters != null;
 	}
+	
+	public boolean isClustered() {
+		return hasTableParameters() && tableParameters.isClustered();
+	}
+	
+	public boolean isPartitioned() {
+		return hasTableParameters() && tableParameters.isPartitioned();
+	}
+	
+	/**
+	 * @return {@literal true} if a column of the table is marked as primary key
+	 */
+	public boolean hasPrimaryKey() {
+		
+		for(Column column : columns) {
+			if(column.isPrimaryKey()) {
+				return true;
+			}
+		}
+		
+		return false;
+	}
+	
+	/**
+	 * Crate requires the routing and partition columns of a table with a primary key to be part of it, hence they make
+	 * up a composite primary key along with the columns marked as primary key.
+	 * 
+	 * @param column a top level column of the table
+	 * @return {@literal true} if the column is part of the primary key
+	 */
+	public boolean isPrimaryKey(Column column) {
+		
+		if(column.isPrimaryKey()) {
+			return true;
+		}
+		
+		if(!hasTableParameters() || !hasPrimaryKey()) {
+			return false;
+		}
+		
+		return column.getName().equals(tableParameters.getClusteredBy()) || 
+			   tableParameters.getPartitionedBy().contains(column.getName());
+	}
 }
\ No newline at end of file
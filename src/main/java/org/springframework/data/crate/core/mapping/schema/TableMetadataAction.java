@@ -22,6 +22,8 @@ import static org.springframework.util.Assert.notEmpty;
 import io.crate.action.sql.SQLRequest;
 import io.crate.action.sql.SQLResponse;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.crate.core.CrateAction;
@@ -35,7 +37,7 @@ import org.springframework.data.crate.core.mapping.CratePersistentEntity;
  */
 class TableMetadataAction implements CrateAction, CrateActionResponseHandler<TableMetadata> {
 
-	private static final String SELECT_TEMPLATE = "select table_name, number_of_replicas from information_schema.tables where table_name = '%s'";
+	private static final String SELECT_TEMPLATE = "select table_name, number_of_replicas, number_of_shards, clustered_by, partitioned_by from information_schema.tables where table_name = '%s'";
 	
 	private String tableName;
 	private TableParameters parameters;
@@ -77,8 +79,29 @@ class TableMetadataAction implements CrateAction, CrateActionResponseHandler<Tab
 		String numberOfReplicas = valueOf(rows[0][1]);
 		int refreshInterval = parameters.getRefreshInterval();
 		ColumnPloicy policy = parameters.getColumnPloicy();
+		int numberOfShards = rows[0][2] == null ? 0 : ((Number)rows[0][2]).intValue();
+		String clusteredBy = rows[0][3] == null ? null : valueOf(rows[0][3]);
+		List<String> partitionedBy = toColumnNames(rows[0][4]);
 		
-		return new TableMetadata(tableName, columns, new TableParameters(numberOfReplicas, refreshInterval, policy));
+		return new TableMetadata(tableName, columns, new TableParameters(numberOfReplicas, refreshInterval, policy, 
+																		 numberOfShards, clusteredBy, partitionedBy));
+	}
+	
+	private List<String> toColumnNames(Object value) {
+		
+		List<String> names = new ArrayList<>();
+		
+		if(value instanceof Object[]) {
+			for(Object name : (Object[])value) {
+				names.add(valueOf(name));
+			}
+		}else if(value instanceof Collection) {
+			for(Object name : (Collection<?>)value) {
+				names.add(valueOf(name));
+			}
+		}
+		
+		return names;
 	}
 
 	@Override
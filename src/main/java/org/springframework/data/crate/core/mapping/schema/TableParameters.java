@@ -17,8 +17,15 @@
 package org.springframework.data.crate.core.mapping.schema;
 
 import static org.springframework.util.Assert.hasText;
+import static org.springframework.util.Assert.isTrue;
 import static org.springframework.util.Assert.notNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.util.StringUtils;
+
 /**
  * {@link TableParameters} holds a table's parameters.
  * 
@@ -30,15 +37,36 @@ public class TableParameters {
 	private final String numberOfReplicas;
 	private final int refreshInterval;
 	private final ColumnPloicy columnPloicy;
+	private final int numberOfShards;
+	private final String clusteredBy;
+	private final List<String> partitionedBy;
 	
 	public TableParameters(String numberOfReplicas, int refreshInterval, ColumnPloicy columnPloicy) {
+		this(numberOfReplicas, refreshInterval, columnPloicy, 0, null, Collections.<String>emptyList());
+	}
+	
+	/**
+	 * @param numberOfReplicas must not be {@literal null} or empty.
+	 * @param refreshInterval refresh interval in milliseconds
+	 * @param columnPloicy must not be {@literal null}.
+	 * @param numberOfShards number of shards or {@literal 0} for the crate default
+	 * @param clusteredBy the routing column or {@literal null} to route by primary key
+	 * @param partitionedBy the partition columns, must not be {@literal null}.
+	 */
+	public TableParameters(String numberOfReplicas, int refreshInterval, ColumnPloicy columnPloicy, int numberOfShards,
+						   String clusteredBy, List<String> partitionedBy) {
 		
 		hasText(numberOfReplicas);
 		notNull(columnPloicy);
+		isTrue(numberOfShards >= 0, "numberOfShards must not be negative");
+		notNull(partitionedBy);
 		
 		this.numberOfReplicas = numberOfReplicas;
 		this.refreshInterval = refreshInterval;
 		this.columnPloicy = columnPloicy;
+		this.numberOfShards = numberOfShards;
+		this.clusteredBy = StringUtils.hasText(clusteredBy) ? clusteredBy : null;
+		this.partitionedBy = new ArrayList<>(partitionedBy);
 	}
 	
 	public String getNumberOfReplicas() {
@@ -52,4 +80,33 @@ public class TableParameters {
 	public ColumnPloicy getColumnPloicy() {
 		return columnPloicy;
 	}
+	
+	/**
+	 * @return the number of shards or {@literal 0} if the crate default applies
+	 */
+	public int getNumberOfShards() {
+		return numberOfShards;
+	}
+	
+	/**
+	 * @return the routing column or {@literal null} if rows are routed by primary key
+	 */
+	public String getClusteredBy() {
+		return clusteredBy;
+	}
+	
+	public List<String> getPartitionedBy() {
+		return partitionedBy;
+	}
+	
+	/**
+	 * @return {@literal true} if a routing column or number of shards has been defined
+	 */
+	public boolean isClustered() {
+		return clusteredBy != null || numberOfShards > 0;
+	}
+	
+	public boolean isPartitioned() {
+		return !partitionedBy.isEmpty();
+	}
 }
\ No newline at end of file
@@ -15,11 +15,14 @@
  */
 package org.springframework.data.crate.core.sql;
 
+import static org.springframework.data.crate.core.mapping.CrateDataType.OBJECT;
 import static org.springframework.data.crate.core.sql.CrateSQLUtil.dotToSqlPath;
 import static org.springframework.util.Assert.hasText;
 import static org.springframework.util.Assert.notNull;
 
 import org.springframework.data.crate.core.mapping.schema.Column;
+import org.springframework.data.crate.core.mapping.schema.IndexType;
+import org.springframework.data.crate.core.mapping.schema.ObjectColumnPolicy;
 
 /**
  * 
@@ -48,4 +51,44 @@ public abstract class AbstractStatement implements CrateSQLStatement {
 		notNull(column);
 		return dotToSqlPath(column.getName());
 	}
+	
+	/**
+	 * Appends the object type including the column policy if it is not the default one, e.g. {@code object(strict)}.
+	 */
+	protected void appendObjectType(Column column, StringBuilder builder) {
+		
+		builder.append(OBJECT);
+		
+		if(column.getObjectColumnPolicy() != ObjectColumnPolicy.DYNAMIC) {
+			builder.append(OPEN_BRACE)
+				   .append(column.getObjectColumnPolicy())
+				   .append(CLOSE_BRACE);
+		}
+	}
+	
+	/**
+	 * Appends the index constraint if the column does not use the default plain index.
+	 */
+	protected void appendIndex(Column column, StringBuilder builder) {
+		
+		if(column.getIndexType() == IndexType.OFF) {
+			builder.append(SPACE)
+				   .append(INDEX_OFF);
+		}else if(column.getIndexType() == IndexType.FULLTEXT) {
+			
+			builder.append(SPACE)
+				   .append(INDEX_USING_FULLTEXT);
+			
+			if(column.getAnalyzer() != null) {
+				builder.append(SPACE)
+					   .append(WITH)
+					   .append(SPACE)
+					   .append(OPEN_BRACE)
+					   .append(ANALYZER)
+					   .append(" = ")
+					   .append(singleQuote(column.getAnalyzer()))
+					   .append(CLOSE_BRACE);
+			}
+		}
+	}
 }
\ No newline at end of file
@@ -15,7 +15,6 @@
  */
 package org.springframework.data.crate.core.sql;
 
-import static org.springframework.data.crate.core.mapping.CrateDataType.OBJECT;
 import static org.springframework.util.Assert.hasText;
 import static org.springframework.util.Assert.notNull;
 
@@ -77,6 +76,8 @@ public class AlterTable extends AbstractStatement {
 			builder.append(CLOSE_BRACE);
 		}else if(column.isObjectColumn()) {
 			createObjectColumnStatement(column, builder);
+		}else if(column.isMapColumn()) {
+			appendObjectType(column, builder);
 		}else {
 			builder.append(column.getCrateType());
 		}
@@ -86,12 +87,14 @@ public class AlterTable extends AbstractStatement {
 				   .append(PRIMARY_KEY);
 		}
 		
+		appendIndex(column, builder);
+		
 		return builder.toString();
 	}
 	
 	private void createObjectColumnStatement(Column column, StringBuilder builder) {
 		
-		builder.append(OBJECT);
+		appendObjectType(column, builder);
 		
 		if(!column.getSubColumns().isEmpty()) {
 			
@@ -132,6 +135,8 @@ public class AlterTable extends AbstractStatement {
 			builder.append(CLOSE_BRACE);
 		}else if(column.isObjectColumn()) {
 			createObjectColumnStatement(column, builder);
+		}else if(column.isMapColumn()) {
+			appendObjectType(column, builder);
 		}else {
 			builder.append(column.getCrateType());
 		}
@@ -140,5 +145,7 @@ public class AlterTable extends AbstractStatement {
 			builder.append(SPACE)
 				   .append(PRIMARY_KEY);
 		}
+		
+		appendIndex(column, builder);
 	}
 }
\ No newline at end of file
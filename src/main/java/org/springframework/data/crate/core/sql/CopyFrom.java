@@ -0,0 +1,113 @@
+/*
+ * Copyright 2002-2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.crate.core.sql;
+
+import static org.springframework.util.Assert.hasText;
+import static org.springframework.util.Assert.notNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.springframework.util.StringUtils;
+
+/**
+ * {@code COPY table FROM uri} statement importing JSON files, one object per line, directly on the crate nodes.
+ * 
+ * @author Hasnain Javed
+ * @since 1.0.0
+ */
+public class CopyFrom extends AbstractStatement {
+	
+	private final String tableName;
+	private final String uri;
+	private final Map<String, Object> parameters;
+	
+	/**
+	 * @param tableName must not be {@literal null} or empty.
+	 * @param uri the uri of the files to import, may contain wildcards. Must not be {@literal null} or empty.
+	 * @param parameters the parameters of the {@code WITH} clause, must not be {@literal null}.
+	 */
+	public CopyFrom(String tableName, String uri, Map<String, Object> parameters) {
+		
+		hasText(tableName);
+		hasText(uri);
+		notNull(parameters);
+		
+		this.tableName = tableName;
+		this.uri = uri;
+		this.parameters = new LinkedHashMap<>(parameters);
+	}
+	
+	@Override
+	public String createStatement() {
+		
+		if(!StringUtils.hasText(statement)) {
+			
+			StringBuilder builder = new StringBuilder(COPY).append(SPACE)
+														   .append(tableName)
+														   .append(SPACE)
+														   .append(FROM)
+														   .append(SPACE)
+														   .append(singleQuote(escape(uri)));
+			
+			appendParameters(parameters, builder);
+			
+			statement = builder.toString();
+		}
+		
+		return statement;
+	}
+	
+	/**
+	 * Appends the {@code WITH} clause of a copy statement, string values are quoted.
+	 */
+	static void appendParameters(Map<String, Object> parameters, StringBuilder builder) {
+		
+		if(parameters.isEmpty()) {
+			return;
+		}
+		
+		builder.append(SPACE)
+			   .append(WITH)
+			   .append(SPACE)
+			   .append(OPEN_BRACE);
+		
+		boolean first = true;
+		
+		for(Entry<String, Object> parameter : parameters.entrySet()) {
+			
+			if(!first) {
+				builder.append(COMMA)
+					   .append(SPACE);
+			}
+			
+			Object value = parameter.getValue();
+			
+			builder.append(parameter.getKey())
+				   .append(" = ")
+				   .append(value instanceof String ? CrateSQLUtil.singleQuote(escape((String)value)) : value);
+			
+			first = false;
+		}
+		
+		builder.append(CLOSE_BRACE);
+	}
+	
+	static String escape(String literal) {
+		return literal.replace("'", "''");
+	}
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2002-2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.crate.core.sql;
+
+import static org.springframework.data.crate.core.sql.CopyFrom.appendParameters;
+import static org.springframework.data.crate.core.sql.CopyFrom.escape;
+import static org.springframework.data.crate.core.sql.CrateSQLUtil.dotToSqlPath;
+import static org.springframework.util.Assert.hasText;
+import static org.springframework.util.Assert.notNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.util.StringUtils;
+
+/**
+ * {@code COPY table TO DIRECTORY uri} statement exporting the rows of a table, or a single partition of it, as JSON
+ * files written by the crate nodes holding the shards. Partition values are bound as parameters.
+ * 
+ * @author Hasnain Javed
+ * @since 1.0.0
+ */
+public class CopyTo extends AbstractStatement {
+	
+	private final String tableName;
+	private final String directoryUri;
+	private final List<String> partitionColumns;
+	private final List<String> columns;
+	private final Map<String, Object> parameters;
+	
+	/**
+	 * @param tableName must not be {@literal null} or empty.
+	 * @param directoryUri the uri of the directory to write the files to, must not be {@literal null} or empty.
+	 * @param partitionColumns the partition columns identifying the partition to export, must not be {@literal null}.
+	 * @param columns the columns to export, all columns are exported if empty. Must not be {@literal null}.
+	 * @param parameters the parameters of the {@code WITH} clause, must not be {@literal null}.
+	 */
+	public CopyTo(String tableName, String directoryUri, List<String> partitionColumns, List<String> columns, 
+				  Map<String, Object> parameters) {
+		
+		hasText(tableName);
+		hasText(directoryUri);
+		notNull(partitionColumns);
+		notNull(columns);
+		notNull(parameters);
+		
+		this.tableName = tableName;
+		this.directoryUri = directoryUri;
+		this.partitionColumns = new ArrayList<>(partitionColumns);
+		this.columns = new ArrayList<>(columns);
+		this.parameters = new LinkedHashMap<>(parameters);
+	}
+	
+	@Override
+	public String createStatement() {
+		
+		if(!StringUtils.hasText(statement)) {
+			
+			StringBuilder builder = new StringBuilder(COPY).append(SPACE)
+														   .append(tableName);
+			
+			if(!partitionColumns.isEmpty()) {
+				
+				builder.append(SPACE)
+					   .append(PARTITION)
+					   .append(SPACE)
+					   .append(OPEN_BRACE);
+				
+				for(int index = 0; index < partitionColumns.size(); index++) {
+					
+					if(index > 0) {
+						builder.append(COMMA)
+							   .append(SPACE);
+					}
+					
+					builder.append(doubleQuote(partitionColumns.get(index)))
+						   .append(" = ?");
+				}
+				
+				builder.append(CLOSE_BRACE);
+			}
+			
+			if(!columns.isEmpty()) {
+				
+				builder.append(SPACE)
+					   .append(OPEN_BRACE);
+				
+				for(int index = 0; index < columns.size(); index++) {
+					
+					if(index > 0) {
+						builder.append(COMMA)
+							   .append(SPACE);
+					}
+					
+					builder.append(dotToSqlPath(columns.get(index)));
+				}
+				
+				builder.append(CLOSE_BRACE);
+			}
+			
+			builder.append(SPACE)
+				   .append(TO_DIRECTORY)
+				   .append(SPACE)
+				   .append(singleQuote(escape(directoryUri)));
+			
+			appendParameters(parameters, builder);
+			
+			statement = builder.toString();
+		}
+		
+		return statement;
+	}
+}
@@ -41,6 +41,22 @@ public interface CrateSQLStatement {
 	String NO_OF_REPLICAS = "number_of_replicas";
 	String REFRESH_INTERVAL = "refresh_interval";
 	String COLUMN_POLICY = "column_policy";
+	String CLUSTERED = "CLUSTERED";
+	String BY = "BY";
+	String INTO = "INTO";
+	String SHARDS = "SHARDS";
+	String PARTITIONED_BY = "PARTITIONED BY";
+	String INDEX_OFF = "INDEX OFF";
+	String INDEX_USING_FULLTEXT = "INDEX USING FULLTEXT";
+	String ANALYZER = "analyzer";
+	String COPY = "COPY";
+	String FROM = "FROM";
+	String TO_DIRECTORY = "TO DIRECTORY";
+	String PARTITION = "PARTITION";
+	String SELECT = "SELECT";
+	String AND = "AND";
+	String KILL = "KILL";
+	String ON_DUPLICATE_KEY_UPDATE = "ON DUPLICATE KEY UPDATE";
 	
 	String createStatement();
 }
\ No newline at end of file
@@ -17,7 +17,6 @@ package org.springframework.data.crate.core.sql;
 
 import static java.lang.String.valueOf;
 import static org.springframework.data.crate.core.convert.CrateTypeMapper.DEFAULT_TYPE_KEY;
-import static org.springframework.data.crate.core.mapping.CrateDataType.OBJECT;
 import static org.springframework.data.crate.core.mapping.CrateDataType.STRING;
 import static org.springframework.util.Assert.notNull;
 import static org.springframework.util.StringUtils.hasText;
@@ -64,7 +63,8 @@ public class CreateTable extends AbstractStatement {
 			
 			while(iterator.hasNext()) {
 				
-				createStatement(iterator.next(), builder);
+				Column column = iterator.next();
+				createStatement(column, tableDefinition.isPrimaryKey(column), builder);
 				if(iterator.hasNext()) {
 					builder.append(COMMA)
 						   .append(SPACE);
@@ -73,6 +73,16 @@ public class CreateTable extends AbstractStatement {
 			
 			builder.append(CLOSE_BRACE);
 			
+			if(tableDefinition.isClustered()) {
+				builder.append(SPACE)
+					   .append(new ClusteredClause(tableDefinition.getTableParameters()).createClause());
+			}
+			
+			if(tableDefinition.isPartitioned()) {
+				builder.append(SPACE)
+					   .append(new PartitionedByClause(tableDefinition.getTableParameters()).createClause());
+			}
+			
 			if(tableDefinition.hasTableParameters()) {
 				
 				WithClause clause = new WithClause(tableDefinition.getTableParameters());
@@ -87,7 +97,7 @@ public class CreateTable extends AbstractStatement {
 		return statement;
 	}
 	
-	private void createStatement(Column column, StringBuilder builder) {
+	private void createStatement(Column column, boolean primaryKey, StringBuilder builder) {
 		
 		// double quotes to preserve case in crate db
 		builder.append(doubleQuote(column.getName()));
@@ -105,19 +115,23 @@ public class CreateTable extends AbstractStatement {
 			builder.append(CLOSE_BRACE);
 		}else if(column.isObjectColumn()) {
 			createObjectColumn(column, builder);
+		}else if(column.isMapColumn()) {
+			appendObjectType(column, builder);
 		}else {
 			builder.append(column.getCrateType());
 		}
 		
-		if(column.isPrimaryKey() && !column.isObjectColumn()) {
+		if(primaryKey && !column.isObjectColumn()) {
 			builder.append(SPACE)
 				   .append(PRIMARY_KEY);
 		}
+		
+		appendIndex(column, builder);
 	}
 	
 	private void createObjectColumn(Column column, StringBuilder builder) {
 		
-		builder.append(OBJECT);
+		appendObjectType(column, builder);
 		
 		if(!column.getSubColumns().isEmpty()) {
 			
@@ -129,7 +143,8 @@ public class CreateTable extends AbstractStatement {
 			Iterator<Column> subColumns = column.getSubColumns().iterator();
 			
 			while(subColumns.hasNext()) {
-				createStatement(subColumns.next(), builder);
+				Column subColumn = subColumns.next();
+				createStatement(subColumn, subColumn.isPrimaryKey(), builder);
 				if(column.isPrimaryKey()) {
 					builder.append(SPACE)
 					   	   .append(PRIMARY_KEY);
@@ -144,6 +159,72 @@ public class CreateTable extends AbstractStatement {
 		}
 	}
 	
+	public static class ClusteredClause {
+		
+		private TableParameters parameters;
+		
+		public ClusteredClause(TableParameters parameters) {
+			notNull(parameters);
+			this.parameters = parameters;
+		}
+		
+		public String createClause() {
+			
+			StringBuilder builder = new StringBuilder(CLUSTERED);
+			
+			if(parameters.getClusteredBy() != null) {
+				builder.append(SPACE)
+					   .append(BY)
+					   .append(SPACE)
+					   .append(OPEN_BRACE)
+					   .append(CrateSQLUtil.doubleQuote(parameters.getClusteredBy()))
+					   .append(CLOSE_BRACE);
+			}
+			
+			if(parameters.getNumberOfShards() > 0) {
+				builder.append(SPACE)
+					   .append(INTO)
+					   .append(SPACE)
+					   .append(parameters.getNumberOfShards())
+					   .append(SPACE)
+					   .append(SHARDS);
+			}
+			
+			return builder.toString();
+		}
+	}
+	
+	public static class PartitionedByClause {
+		
+		private TableParameters parameters;
+		
+		public PartitionedByClause(TableParameters parameters) {
+			notNull(parameters);
+			this.parameters = parameters;
+		}
+		
+		public String createClause() {
+			
+			StringBuilder builder = new StringBuilder(PARTITIONED_BY);
+			builder.append(SPACE)
+				   .append(OPEN_BRACE);
+			
+			Iterator<String> columns = parameters.getPartitionedBy().iterator();
+			
+			while(columns.hasNext()) {
+				builder.append(CrateSQLUtil.doubleQuote(columns.next()));
+				if(columns.hasNext()) {
+					builder.append(COMMA)
+						   .append(SPACE);
+				}
+			}
+			
+			builder.append(CLOSE_BRACE);
+			
+			return builder.toString();
+		}
+	}
+	
 	public static class WithClause {
 		
 		private TableParameters parameters;
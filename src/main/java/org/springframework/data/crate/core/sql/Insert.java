@@ -18,6 +18,7 @@ package org.springframework.data.crate.core.sql;
 import static org.springframework.util.Assert.notEmpty;
 import static org.springframework.util.StringUtils.hasText;
 
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.Set;
 
@@ -30,13 +31,24 @@ public class Insert extends AbstractStatement {
 	
 	private String tableName;
 	private Set<String> columns;
+	private Set<String> updateColumns;
 	
 	public Insert(String tableName, Set<String> columns) {
+		this(tableName, columns, Collections.<String>emptySet());
+	}
+	
+	/**
+	 * Creates an upsert, i.e. an insert updating the given columns of an existing row with the same primary key
+	 * 
+	 * @param updateColumns the columns set to the inserted values on a duplicate key, none for a plain insert
+	 */
+	public Insert(String tableName, Set<String> columns, Set<String> updateColumns) {
 		hasText(tableName);
 		notEmpty(columns);
 		
 		this.tableName = tableName;
 		this.columns = columns;
+		this.updateColumns = updateColumns;
 	}
 	
 	@Override
@@ -72,6 +84,29 @@ public class Insert extends AbstractStatement {
 			builder.append(SPACE);
 			builder.append(placeholders);
 			
+			if(!updateColumns.isEmpty()) {
+				
+				builder.append(SPACE)
+					   .append(ON_DUPLICATE_KEY_UPDATE)
+					   .append(SPACE);
+				
+				Iterator<String> updates = updateColumns.iterator();
+				
+				while(updates.hasNext()) {
+					String column = doubleQuote(updates.next());
+					builder.append(column)
+						   .append(" = ")
+						   .append(VALUES)
+						   .append(OPEN_BRACE)
+						   .append(column)
+						   .append(CLOSE_BRACE);
+					if(updates.hasNext()) {
+						builder.append(COMMA)
+							   .append(SPACE);
+					}
+				}
+			}
+			
 			statement = builder.toString();
 		}
 		
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2002-2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.crate.core.sql;
+
+import static org.springframework.data.crate.core.sql.CrateSQLUtil.dotToSqlPath;
+import static org.springframework.util.Assert.hasText;
+import static org.springframework.util.Assert.notNull;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.springframework.util.StringUtils;
+
+/**
+ * Generates an {@code INSERT INTO target (columns) SELECT columns FROM source WHERE conditions} statement copying rows
+ * between tables on the server.
+ * 
+ * @author Hasnain Javed
+ * @since 1.0.0
+ */
+public class InsertFromSelect extends AbstractStatement {
+	
+	private final String targetTable;
+	private final String sourceTable;
+	private final Map<String, String> columnMapping;
+	private final List<String> conditions;
+	
+	/**
+	 * @param targetTable must not be {@literal null} or empty.
+	 * @param sourceTable must not be {@literal null} or empty.
+	 * @param columnMapping target columns mapped to the source columns they are copied from. All columns are copied
+	 * if empty. Must not be {@literal null}.
+	 * @param conditions conditions combined with {@code AND}, must not be {@literal null}.
+	 */
+	public InsertFromSelect(String targetTable, String sourceTable, Map<String, String> columnMapping, List<String> conditions) {
+		
+		hasText(targetTable);
+		hasText(sourceTable);
+		notNull(columnMapping);
+		notNull(conditions);
+		
+		this.targetTable = targetTable;
+		this.sourceTable = sourceTable;
+		this.columnMapping = new LinkedHashMap<>(columnMapping);
+		this.conditions = new ArrayList<>(conditions);
+	}
+	
+	@Override
+	public String createStatement() {
+		
+		if(!StringUtils.hasText(statement)) {
+			
+			StringBuilder builder = new StringBuilder(INSERT_INTO).append(SPACE)
+																  .append(targetTable)
+																  .append(SPACE);
+			
+			if(columnMapping.isEmpty()) {
+				builder.append(SELECT)
+					   .append(" * ");
+			}else {
+				
+				StringBuilder targets = new StringBuilder(OPEN_BRACE);
+				StringBuilder sources = new StringBuilder(SELECT).append(SPACE);
+				
+				Iterator<Entry<String, String>> iterator = columnMapping.entrySet().iterator();
+				
+				while(iterator.hasNext()) {
+					
+					Entry<String, String> mapping = iterator.next();
+					
+					targets.append(doubleQuote(mapping.getKey()));
+					sources.append(dotToSqlPath(mapping.getValue()));
+					
+					if(iterator.hasNext()) {
+						targets.append(COMMA);
+						sources.append(COMMA)
+							   .append(SPACE);
+					}
+				}
+				
+				targets.append(CLOSE_BRACE);
+				
+				builder.append(targets)
+					   .append(SPACE)
+					   .append(sources)
+					   .append(SPACE);
+			}
+			
+			builder.append(FROM)
+				   .append(SPACE)
+				   .append(sourceTable);
+			
+			for(int index = 0; index < conditions.size(); index++) {
+				builder.append(SPACE)
+					   .append(index == 0 ? WHERE : AND)
+					   .append(SPACE)
+					   .append(conditions.get(index));
+			}
+			
+			statement = builder.toString();
+		}
+		
+		return statement;
+	}
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2002-2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.crate.core.sql;
+
+import static org.springframework.data.crate.core.sql.CrateSQLUtil.singleQuote;
+import static org.springframework.util.Assert.hasText;
+
+/**
+ * Cancels a running job, e.g. a statement whose caller stopped waiting for it.
+ * 
+ * @author Hasnain Javed
+ * @since 1.0.0
+ */
+public class KillJob extends AbstractStatement {
+
+	private final String jobId;
+	
+	/**
+	 * @param jobId the id of the job as listed in {@code sys.jobs}, must not be {@literal null} or empty.
+	 */
+	public KillJob(String jobId) {
+		super();
+		hasText(jobId);
+		this.jobId = jobId;
+	}
+
+	@Override
+	public String createStatement() {
+		return KILL.concat(SPACE).concat(singleQuote(jobId));
+	}
+}
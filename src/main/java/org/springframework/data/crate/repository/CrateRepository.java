@@ -19,6 +19,8 @@ import java.io.Serializable;
 import java.util.List;
 
 import org.springframework.data.crate.core.BulkOperartionResult;
+import org.springframework.data.crate.core.SearchHit;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.NoRepositoryBean;
 
@@ -52,6 +54,33 @@ public interface CrateRepository<T, ID extends Serializable> extends CrudReposit
 	 */
 	List<T> findAll(Iterable<ID> ids);
 	
+	/**
+	 * Returns all instances of the type stored in a single partition.
+	 * 
+	 * @param partitionValues the values of the partition columns in the order they are declared
+	 * @return all entities of the partition
+	 */
+	List<T> findAllInPartition(Object... partitionValues);
+	
+	/**
+	 * Retrieves an entity by its id from a single partition instead of every partition of the table.
+	 * 
+	 * @param id must not be {@literal null}.
+	 * @param partitionValues the values of the partition columns in the order they are declared
+	 * @return the entity with the given id or {@literal null} if none found
+	 */
+	T findOneInPartition(ID id, Object... partitionValues);
+	
+	/**
+	 * Full text search ordered by relevance. Only the requested page of hits is read.
+	 * 
+	 * @param column the fulltext indexed column to search
+	 * @param term the search term
+	 * @param pageable the page of hits to read, must not be {@literal null}.
+	 * @return the matching entities with their score
+	 */
+	List<SearchHit<T>> findMatching(String column, String term, Pageable pageable);
+	
 	/**
      * Insert the given list of objects. If the object defines an id (primary key), it must not be null.
      * All life cycle callback methods will be invoked for entities succeeding the insert operation.
@@ -15,6 +15,8 @@
  */
 package org.springframework.data.crate.repository.config;
 
+import static org.springframework.util.StringUtils.hasText;
+
 import org.springframework.beans.factory.support.BeanDefinitionBuilder;
 import org.springframework.core.annotation.AnnotationAttributes;
 import org.springframework.data.crate.repository.support.CrateRepositoryFactoryBean;
@@ -59,6 +61,7 @@ public class CrateRepositoryConfigExtension extends RepositoryConfigurationExten
 
 		AnnotationAttributes attributes = config.getAttributes();
 		builder.addPropertyReference("crateOperations", attributes.getString("crateTemplateRef"));
+		builder.addPropertyValue("warmUp", attributes.getBoolean("warmUp"));
 	}
 
 	/* 
@@ -70,5 +73,11 @@ public class CrateRepositoryConfigExtension extends RepositoryConfigurationExten
 
 		Element element = config.getElement();
 		builder.addPropertyReference("crateOperations", element.getAttribute("crate-template-ref"));
+		
+		String warmUp = element.getAttribute("warm-up");
+		
+		if(hasText(warmUp)) {
+			builder.addPropertyValue("warmUp", warmUp);
+		}
 	}
 }
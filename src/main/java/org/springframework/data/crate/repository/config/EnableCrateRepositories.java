@@ -115,4 +115,12 @@ public @interface EnableCrateRepositories {
 	 * @return
 	 */
 	String crateTemplateRef() default "crateTemplate";
+
+	/**
+	 * Configures whether the mapping metadata and statements of the repositories' domain types should be warmed up
+	 * when the repositories are created. Defaults to {@literal false}.
+	 *
+	 * @return
+	 */
+	boolean warmUp() default false;
 }
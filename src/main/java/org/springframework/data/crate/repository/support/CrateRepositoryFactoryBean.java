@@ -16,8 +16,11 @@
 package org.springframework.data.crate.repository.support;
 
 import java.io.Serializable;
+import java.util.Collections;
+import java.util.Set;
 
 import org.springframework.data.crate.core.CrateOperations;
+import org.springframework.data.crate.core.CrateTemplateWarmer;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
 import org.springframework.data.repository.core.support.RepositoryFactorySupport;
@@ -33,6 +36,7 @@ public class CrateRepositoryFactoryBean<T extends Repository<S, ID>, S, ID exten
 		RepositoryFactoryBeanSupport<T, S, ID> {
 
 	private CrateOperations operations;
+	private boolean warmUp;
 
 	/**
 	 * Configures the {@link CrateOperations} to be used to create Crate repositories.
@@ -44,6 +48,16 @@ public class CrateRepositoryFactoryBean<T extends Repository<S, ID>, S, ID exten
 		this.operations = operations;
 	}
 
+	/**
+	 * Flag to warm up the mapping metadata and statements of the repository's domain type on startup.
+	 * Defaults to {@code false}.
+	 *
+	 * @param warmUp {@code true} to warm up the domain type
+	 */
+	public void setWarmUp(boolean warmUp) {
+		this.warmUp = warmUp;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport#afterPropertiesSet()
@@ -52,6 +66,11 @@ public class CrateRepositoryFactoryBean<T extends Repository<S, ID>, S, ID exten
 	public void afterPropertiesSet() {
 		super.afterPropertiesSet();
 		Assert.notNull(operations, "CrateOperations must be configured!");
+		
+		if(warmUp) {
+			Set<Class<?>> types = Collections.<Class<?>>singleton(getEntityInformation().getJavaType());
+			new CrateTemplateWarmer(operations).warmUp(types);
+		}
 	}
 
 	@Override
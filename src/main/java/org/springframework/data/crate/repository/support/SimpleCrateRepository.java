@@ -15,10 +15,7 @@
  */
 package org.springframework.data.crate.repository.support;
 
-import static java.lang.String.format;
 import static org.springframework.util.Assert.notNull;
-import io.crate.action.sql.SQLRequest;
-import io.crate.action.sql.SQLResponse;
 
 import java.io.Serializable;
 import java.util.ArrayList;
@@ -28,10 +25,12 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
 
+import org.springframework.data.crate.core.BoundCrateOperations;
 import org.springframework.data.crate.core.BulkOperartionResult;
-import org.springframework.data.crate.core.CrateAction;
 import org.springframework.data.crate.core.CrateOperations;
+import org.springframework.data.crate.core.SearchHit;
 import org.springframework.data.crate.repository.CrateRepository;
+import org.springframework.data.domain.Pageable;
 
 /**
  * Crate specific repository implementation. Likely to be used as target within
@@ -46,9 +45,7 @@ public class SimpleCrateRepository<T, ID extends Serializable> implements CrateR
     private CrateOperations crateOperations;
     private CrateEntityInformation<T, ID> entityInformation;
     
-    private Class<T> entityClass;
-    
-    private String tableName;
+    private BoundCrateOperations<T> boundOperations;
 
     public SimpleCrateRepository(CrateEntityInformation<T, ID> entityInformation, CrateOperations crateOperations) {
     	
@@ -57,8 +54,7 @@ public class SimpleCrateRepository<T, ID extends Serializable> implements CrateR
         
         this.crateOperations = crateOperations;
         this.entityInformation = entityInformation;
-        this.entityClass = entityInformation.getJavaType();
-        this.tableName = entityInformation.getTableName();
+        this.boundOperations = crateOperations.forEntity(entityInformation.getJavaType(), entityInformation.getTableName());
     }
 
     @Override
@@ -69,9 +65,9 @@ public class SimpleCrateRepository<T, ID extends Serializable> implements CrateR
     	ID id = entityInformation.getId(entity);
     	
     	if(id != null && exists(id)) {
-    		crateOperations.update(entity, tableName);
+    		boundOperations.update(entity);
     	}else {
-    		crateOperations.insert(entity, tableName);
+    		boundOperations.insert(entity);
     	}
     	
         return entity;
@@ -96,7 +92,7 @@ public class SimpleCrateRepository<T, ID extends Serializable> implements CrateR
     public T findOne(ID id) {
     	
     	notNull(id, "Id must not be null");
-        return crateOperations.findById(id, entityClass, tableName);
+        return boundOperations.findById(id);
     }
 
     @Override
@@ -109,7 +105,7 @@ public class SimpleCrateRepository<T, ID extends Serializable> implements CrateR
     @Override
     public List<T> findAll() {
     	
-        return crateOperations.findAll(entityClass, tableName);
+        return boundOperations.findAll();
     }
     
     // TODO: re factor when the Criteria API is in place and use the IN clause for ids
@@ -136,37 +132,36 @@ public class SimpleCrateRepository<T, ID extends Serializable> implements CrateR
     	return entities;
     }
     
-    // TODO: re factor when the Criteria API is in place
+    @Override
+    public List<T> findAllInPartition(Object... partitionValues) {
+    	
+    	return boundOperations.findAllInPartition(partitionValues);
+    }
+    
+    @Override
+    public T findOneInPartition(ID id, Object... partitionValues) {
+    	
+    	notNull(id, "Id must not be null");
+    	return boundOperations.findByIdInPartition(id, partitionValues);
+    }
+    
+    @Override
+    public List<SearchHit<T>> findMatching(String column, String term, Pageable pageable) {
+    	
+    	return boundOperations.match(column, term, pageable);
+    }
+    
     @Override
     public long count() {
         
-    	SQLResponse response = crateOperations.execute(new CrateAction() {
-			
-			@Override
-			public String getSQLStatement() {
-				return format("SELECT count(*) from %s", tableName);
-			}
-			
-			@Override
-			public SQLRequest getSQLRequest() {
-				return new SQLRequest(getSQLStatement());
-			}
-    	});
-    	
-    	Long total = 0L;
-    	
-    	if(response.hasRowCount()) {
-    		total = (Long)response.rows()[0][0];
-    	}
-    	
-    	return total;
+    	return boundOperations.count();
     }
     
     @Override
     public void delete(ID id) {
     	
     	notNull(id, "The given id must not be null");
-    	crateOperations.delete(id, entityClass, tableName);
+    	boundOperations.delete(id);
     }
 
     @Override
@@ -189,33 +184,33 @@ public class SimpleCrateRepository<T, ID extends Serializable> implements CrateR
 
     @Override
     public void deleteAll() {    	
-    	crateOperations.deleteAll(tableName);
+    	boundOperations.deleteAll();
     }
     
     @Override
 	public BulkOperartionResult<T> bulkInsert(List<T> entities) {
 		
     	notNull(entities, "The given List of entities must not be null");
-		return crateOperations.bulkInsert(entities, entityClass, tableName);
+		return boundOperations.bulkInsert(entities);
 	}
     
 	@Override
 	public BulkOperartionResult<T> bulkUpdate(List<T> entities) {
 		
     	notNull(entities, "The given List of entities must not be null");
-		return crateOperations.bulkUpdate(entities, entityClass, tableName);
+		return boundOperations.bulkUpdate(entities);
 	}
 	
 	@Override
 	public BulkOperartionResult<Object> bulkDelete(List<Object> ids) {
 		
     	notNull(ids, "The given List of Ids must not be null");
-		return crateOperations.bulkDelete(ids, entityClass, tableName);
+		return boundOperations.bulkDelete(ids);
 	}
 	
 	@Override
 	public void refreshTable() {
-		crateOperations.refreshTable(tableName);
+		boundOperations.refreshTable();
 	}
 	
     /**
@@ -227,6 +222,15 @@ public class SimpleCrateRepository<T, ID extends Serializable> implements CrateR
 		return this.crateOperations;
 	}
 
+	/**
+	 * Returns the {@link BoundCrateOperations} bound to the repository's entity and table.
+	 * 
+	 * @return
+	 */
+	protected BoundCrateOperations<T> getBoundOperations() {
+		return this.boundOperations;
+	}
+
 	/**
 	 * @return the entityInformation
 	 */
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2002-2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.crate.client;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import io.crate.action.sql.SQLRequest;
+import io.crate.action.sql.SQLResponse;
+import io.crate.client.CrateClient;
+import io.crate.shade.org.elasticsearch.action.ActionFuture;
+import io.crate.shade.org.elasticsearch.action.ActionListener;
+import io.crate.shade.org.elasticsearch.client.transport.NoNodeAvailableException;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+/**
+ * @author Hasnain Javed
+ * @since 1.0.0
+ */
+public class CrateClientPoolTest {
+	
+	private CrateClient first;
+	private CrateClient second;
+	private CrateClientPool pool;
+	
+	@Before
+	public void setup() {
+		first = mock(CrateClient.class);
+		second = mock(CrateClient.class);
+		pool = new CrateClientPool(first, second);
+	}
+	
+	@Test
+	@SuppressWarnings("unchecked")
+	public void shouldSendByClientWithLeastOutstandingRequests() {
+		
+		pool.sql(new SQLRequest("SELECT 1"));
+		pool.sql(new SQLRequest("SELECT 2"));
+		
+		ArgumentCaptor<ActionListener> listener = ArgumentCaptor.forClass(ActionListener.class);
+		verify(first).sql(any(SQLRequest.class), any(ActionListener.class));
+		verify(second).sql(any(SQLRequest.class), listener.capture());
+		
+		assertThat(pool.getOutstanding(), is(2));
+		
+		listener.getValue().onResponse(mock(SQLResponse.class));
+		
+		pool.sql(new SQLRequest("SELECT 3"));
+		
+		verify(first, times(1)).sql(any(SQLRequest.class), any(ActionListener.class));
+		verify(second, times(2)).sql(any(SQLRequest.class), any(ActionListener.class));
+		assertThat(pool.getHealth().get(1).getRequests(), is(1L));
+		assertThat(pool.getHealth().get(1).getOutstanding(), is(1));
+	}
+	
+	@Test
+	@SuppressWarnings("unchecked")
+	public void shouldCompleteFutureWithResponseOfClient() throws Exception {
+		
+		ActionFuture<SQLResponse> future = pool.sql(new SQLRequest("SELECT 1"));
+		
+		ArgumentCaptor<ActionListener> listener = ArgumentCaptor.forClass(ActionListener.class);
+		verify(first).sql(any(SQLRequest.class), listener.capture());
+		
+		SQLResponse response = mock(SQLResponse.class);
+		listener.getValue().onResponse(response);
+		
+		assertThat(future.actionGet(), is(response));
+		assertThat(pool.getOutstanding(), is(0));
+	}
+	
+	@Test
+	@SuppressWarnings("unchecked")
+	public void shouldSkipUnhealthyClient() {
+		
+		pool.setUnhealthyThreshold(1);
+		
+		pool.sql(new SQLRequest("SELECT 1"), mock(ActionListener.class));
+		
+		ArgumentCaptor<ActionListener> listener = ArgumentCaptor.forClass(ActionListener.class);
+		verify(first).sql(any(SQLRequest.class), listener.capture());
+		listener.getValue().onFailure(new NoNodeAvailableException("no node"));
+		
+		assertThat(pool.getHealth().get(0).isHealthy(), is(false));
+		assertThat(pool.getHealth().get(0).getFailures(), is(1L));
+		
+		for(int i = 0; i < 3; i++) {
+			pool.sql(new SQLRequest("SELECT 1"), mock(ActionListener.class));
+		}
+		
+		verify(first, times(1)).sql(any(SQLRequest.class), any(ActionListener.class));
+		verify(second, times(3)).sql(any(SQLRequest.class), any(ActionListener.class));
+	}
+	
+	@Test
+	@SuppressWarnings("unchecked")
+	public void shouldProbeUnhealthyClientAfterRecoveryInterval() {
+		
+		pool.setUnhealthyThreshold(1);
+		pool.setRecoveryInterval(0);
+		
+		pool.sql(new SQLRequest("SELECT 1"), mock(ActionListener.class));
+		
+		ArgumentCaptor<ActionListener> listener = ArgumentCaptor.forClass(ActionListener.class);
+		verify(first).sql(any(SQLRequest.class), listener.capture());
+		listener.getValue().onFailure(new NoNodeAvailableException("no node"));
+		
+		assertThat(pool.getHealth().get(0).isHealthy(), is(false));
+		
+		pool.sql(new SQLRequest("SELECT 2"), mock(ActionListener.class));
+		pool.sql(new SQLRequest("SELECT 3"), mock(ActionListener.class));
+		
+		verify(first, times(2)).sql(any(SQLRequest.class), listener.capture());
+		verify(second, times(1)).sql(any(SQLRequest.class), any(ActionListener.class));
+		
+		listener.getValue().onResponse(mock(SQLResponse.class));
+		
+		assertThat(pool.getHealth().get(0).isHealthy(), is(true));
+		
+		pool.sql(new SQLRequest("SELECT 4"), mock(ActionListener.class));
+		
+		verify(first, times(3)).sql(any(SQLRequest.class), any(ActionListener.class));
+	}
+	
+	@Test
+	@SuppressWarnings("unchecked")
+	public void shouldHandRequestToSingleClient() {
+		
+		CrateClientPool single = new CrateClientPool(first);
+		SQLRequest request = new SQLRequest("SELECT 1");
+		
+		single.sql(request);
+		
+		verify(first).sql(request);
+		verify(first, never()).sql(any(SQLRequest.class), any(ActionListener.class));
+	}
+}
@@ -20,6 +20,7 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertThat;
 import static org.springframework.data.crate.core.mapping.schema.SchemaExportOption.CREATE_DROP;
+import io.crate.client.CrateClient;
 
 import org.junit.Test;
 import org.springframework.context.annotation.Bean;
@@ -42,6 +43,38 @@ public class AbstractCrateConfigurationTest {
 		assertThat(configuration.getInitialEntitySet(), hasItem(Entity.class));
 	}
 	
+	@Test
+	public void scansMappingBasePackageWithEntityIndexDisabled() throws ClassNotFoundException {
+
+		AbstractCrateConfiguration configuration = new SampleCrateConfiguration() {
+			@Override
+			protected boolean isEntityIndexEnabled() {
+				return false;
+			}
+		};
+		
+		assertThat(configuration.getInitialEntitySet(), hasSize(1));
+		assertThat(configuration.getInitialEntitySet(), hasItem(Entity.class));
+	}
+	
+	@Test(expected=IllegalStateException.class)
+	public void rejectsPoolOfClientsNotConfiguredLikeCrateClient() {
+
+		AbstractCrateConfiguration configuration = new SampleCrateConfiguration() {
+			@Override
+			public CrateClient crateClient() {
+				return new CrateClient("crate.acme.com:4300");
+			}
+			
+			@Override
+			protected int getClientPoolSize() {
+				return 2;
+			}
+		};
+		
+		configuration.crateClientPool();
+	}
+	
 	class SampleCrateConfiguration extends AbstractCrateConfiguration {
 		@Bean
 		public CratePersistentEntitySchemaManager cratePersistentEntitySchemaManager() throws Exception {
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2002-2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.crate.config;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.util.Set;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * @author Hasnain Javed
+ * @since 1.0.0
+ */
+public class CrateEntityIndexTest {
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	@Test
+	public void shouldReadClassNamesIgnoringCommentsAndBlankLines() throws IOException {
+
+		String content = "# generated\ncom.acme.Book\n\n  com.acme.library.Author  \ncom.acme.Book\n";
+
+		Set<String> classNames = CrateEntityIndex.read(new ByteArrayInputStream(content.getBytes(CrateEntityIndex.UTF_8)));
+
+		assertThat(classNames, contains("com.acme.Book", "com.acme.library.Author"));
+	}
+
+	@Test
+	public void shouldCoverPackageOnlyIfAllRootsHoldingItAreIndexed() throws IOException {
+
+		File indexed = temporaryFolder.newFolder("indexed");
+		new File(indexed, "com/acme").mkdirs();
+		new File(indexed, "META-INF").mkdirs();
+		Files.write(new File(indexed, CrateEntityIndex.INDEX_LOCATION).toPath(), "com.acme.Book\n".getBytes(CrateEntityIndex.UTF_8));
+
+		File unindexed = temporaryFolder.newFolder("unindexed");
+		new File(unindexed, "com/acme").mkdirs();
+
+		URLClassLoader indexedOnly = new URLClassLoader(new URL[]{indexed.toURI().toURL()}, null);
+		URLClassLoader shared = new URLClassLoader(new URL[]{indexed.toURI().toURL(), unindexed.toURI().toURL()}, null);
+
+		assertThat(CrateEntityIndex.load(indexedOnly).covers("com.acme", indexedOnly), is(true));
+		assertThat(CrateEntityIndex.load(shared).covers("com.acme", shared), is(false));
+	}
+
+	@Test
+	public void shouldFilterClassNamesByBasePackage() throws IOException {
+
+		String content = "com.acme.Book\ncom.acme.library.Author\ncom.acmeother.Person\norg.sample.Entity$Nested\n";
+
+		CrateEntityIndex index = new CrateEntityIndex(CrateEntityIndex.read(new ByteArrayInputStream(content.getBytes(CrateEntityIndex.UTF_8))));
+
+		assertThat(index.getClassNames(), hasSize(4));
+		assertThat(index.getClassNames("com.acme"), contains("com.acme.Book", "com.acme.library.Author"));
+		assertThat(index.getClassNames("org.sample"), contains("org.sample.Entity$Nested"));
+	}
+}
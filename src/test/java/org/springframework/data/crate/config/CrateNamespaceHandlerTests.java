@@ -20,6 +20,7 @@ import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertThat;
+import static org.springframework.data.crate.config.BeanNames.PARTITION_RETENTION_MANAGER;
 import static org.springframework.data.crate.config.BeanNames.SCHEMA_EXPORT_MANAGER;
 
 import org.junit.Test;
@@ -27,6 +28,8 @@ import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
 import org.springframework.data.crate.client.CrateClientFactoryBean;
+import org.springframework.data.crate.client.CrateClientPool;
+import org.springframework.data.crate.core.mapping.schema.CratePartitionRetentionManager;
 import org.springframework.data.crate.core.mapping.schema.CratePersistentEntitySchemaManager;
 import org.springframework.data.sample.repositories.SampleCrateRepository;
 import org.springframework.test.context.ContextConfiguration;
@@ -49,6 +52,11 @@ public class CrateNamespaceHandlerTests {
         assertThat(context.getBean(CrateClientFactoryBean.class), is(instanceOf(CrateClientFactoryBean.class)));
     }
 
+    @Test
+    public void shouldCreateClientPool() {
+        assertThat(context.getBean("clientPool", CrateClientPool.class).size(), is(2));
+    }
+
     @Test
     public void shouldCreateRepository() {
         assertThat(context.getBean(CrateClientFactoryBean.class), is(notNullValue()));
@@ -60,4 +68,9 @@ public class CrateNamespaceHandlerTests {
     public void shouldCreateSchemaExportManager() {
     	assertThat(context.getBean(SCHEMA_EXPORT_MANAGER, CratePersistentEntitySchemaManager.class), is(notNullValue()));
     }
+    
+    @Test
+    public void shouldCreatePartitionRetentionManager() {
+    	assertThat(context.getBean(PARTITION_RETENTION_MANAGER, CratePartitionRetentionManager.class), is(notNullValue()));
+    }
 }
\ No newline at end of file
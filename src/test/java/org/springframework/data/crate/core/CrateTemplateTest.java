@@ -15,25 +15,75 @@
  */
 package org.springframework.data.crate.core;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.Matchers.startsWith;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import io.crate.action.sql.SQLActionException;
+import io.crate.action.sql.SQLBulkRequest;
+import io.crate.action.sql.SQLBulkResponse;
+import io.crate.action.sql.SQLBulkResponse.Result;
 import io.crate.action.sql.SQLRequest;
+import io.crate.action.sql.SQLResponse;
 import io.crate.client.CrateClient;
+import io.crate.types.DataType;
+import io.crate.types.DataTypes;
 
+import io.crate.shade.org.elasticsearch.ElasticsearchTimeoutException;
+import io.crate.shade.org.elasticsearch.action.ActionFuture;
 import io.crate.shade.org.elasticsearch.action.ActionListener;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.crate.AdmissionRejectedException;
+import org.springframework.data.crate.client.CrateClientPool;
+import org.springframework.data.crate.core.admission.AdmissionControl;
+import org.springframework.data.crate.core.admission.AdmissionControl.Admission;
+import org.springframework.data.crate.core.admission.Bulkhead;
+import org.springframework.data.crate.core.admission.OperationClass;
 import org.springframework.data.crate.core.convert.CrateConverter;
 import org.springframework.data.crate.core.convert.MappingCrateConverter;
 import org.springframework.data.crate.core.mapping.CrateMappingContext;
 import org.springframework.data.crate.core.mapping.annotations.Table;
+import org.springframework.data.crate.core.mapping.event.BeforeBulkSaveEvent;
+import org.springframework.data.crate.core.mapping.event.BeforeConvertEvent;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.mapping.model.MappingException;
 
 /**
@@ -107,6 +157,1146 @@ public class CrateTemplateTest {
 		crateOperations.update(new ClassWithSimpleId());
 	}
 	
+	@Test
+	public void shouldReuseBoundOperations() {
+		
+		BoundCrateOperations<ClassWithSimpleId> bound = crateOperations.forEntity(ClassWithSimpleId.class);
+		
+		assertThat(bound.getTableName(), is("entity"));
+		assertThat(crateOperations.forEntity(ClassWithSimpleId.class, "entity"), is(sameInstance(bound)));
+		assertThat(crateOperations.forEntity(ClassWithSimpleId.class, "other"), is(not(sameInstance(bound))));
+	}
+	
+	@Test
+	public void shouldSendLargeBulkInsertsInChunksInOrder() {
+		
+		CrateTemplate template = new CrateTemplate(client, crateConverter);
+		template.setBulkConversionParallelism(4);
+		template.setBulkConversionThreshold(10);
+		template.setBulkChunkSize(10);
+		
+		stubBulkResponses();
+		
+		List<ClassWithNoId> entities = new ArrayList<>();
+		
+		for(int index = 0; index < 35; index++) {
+			ClassWithNoId entity = new ClassWithNoId();
+			entity.field = String.valueOf(index);
+			entities.add(entity);
+		}
+		
+		BulkOperartionResult<ClassWithNoId> result = template.bulkInsert(entities, ClassWithNoId.class);
+		
+		ArgumentCaptor<SQLBulkRequest> requests = ArgumentCaptor.forClass(SQLBulkRequest.class);
+		verify(client, times(4)).bulkSql(requests.capture());
+		
+		int row = 0;
+		
+		for(SQLBulkRequest request : requests.getAllValues()) {
+			for(Object[] args : request.bulkArgs()) {
+				assertThat(asList(args).contains(String.valueOf(row++)), is(true));
+			}
+		}
+		
+		assertThat(row, is(35));
+		assertThat(result.getSuccesses().size(), is(35));
+		
+		for(int index = 0; index < 35; index++) {
+			assertThat(result.getResults().get(index).getSource(), is(sameInstance(entities.get(index))));
+		}
+	}
+	
+	@Test
+	@SuppressWarnings("unchecked")
+	public void shouldConvertLargeResultsInParallelInOrder() {
+		
+		CrateTemplate template = new CrateTemplate(client, crateConverter);
+		template.setReadConversionParallelism(4);
+		template.setReadConversionThreshold(100);
+		
+		Object[][] rows = new Object[5000][];
+		
+		for(int index = 0; index < rows.length; index++) {
+			rows[index] = new Object[]{ String.valueOf(index) };
+		}
+		
+		SQLResponse response = mock(SQLResponse.class);
+		when(response.hasRowCount()).thenReturn(true);
+		when(response.rowCount()).thenReturn((long)rows.length);
+		when(response.cols()).thenReturn(new String[]{ "field" });
+		when(response.columnTypes()).thenReturn(new DataType<?>[]{ DataTypes.STRING });
+		when(response.rows()).thenReturn(rows);
+		
+		ActionFuture<SQLResponse> future = mock(ActionFuture.class);
+		when(future.actionGet()).thenReturn(response);
+		when(client.sql(any(SQLRequest.class))).thenReturn(future);
+		
+		List<ClassWithNoId> entities = template.findAll(ClassWithNoId.class);
+		
+		assertThat(entities.size(), is(rows.length));
+		
+		for(int index = 0; index < rows.length; index++) {
+			assertThat(entities.get(index).field, is(String.valueOf(index)));
+		}
+	}
+	
+	@Test
+	@SuppressWarnings("unchecked")
+	public void shouldSearchPageOrderedByScore() {
+		
+		SQLResponse response = mock(SQLResponse.class);
+		when(response.hasRowCount()).thenReturn(true);
+		when(response.rowCount()).thenReturn(2L);
+		when(response.cols()).thenReturn(new String[]{ "field", "_score" });
+		when(response.columnTypes()).thenReturn(new DataType<?>[]{ DataTypes.STRING, DataTypes.FLOAT });
+		when(response.rows()).thenReturn(new Object[][]{ { "crate", 1.5f }, { "crate db", 0.5f } });
+		
+		ActionFuture<SQLResponse> future = mock(ActionFuture.class);
+		when(future.actionGet()).thenReturn(response);
+		when(client.sql(any(SQLRequest.class))).thenReturn(future);
+		
+		List<SearchHit<ClassWithNoId>> hits = crateOperations.match(ClassWithNoId.class, "field", "crate", new PageRequest(2, 10));
+		
+		ArgumentCaptor<SQLRequest> request = ArgumentCaptor.forClass(SQLRequest.class);
+		verify(client).sql(request.capture());
+		
+		assertThat(request.getValue().stmt(), is("SELECT \"field\", \"_version\", \"_score\" FROM entity WHERE match(\"field\", ?) " +
+												  "ORDER BY \"_score\" DESC LIMIT 10 OFFSET 20"));
+		assertThat(request.getValue().args(), is(new Object[]{ "crate" }));
+		
+		assertThat(hits.size(), is(2));
+		assertThat(hits.get(0).getEntity().field, is("crate"));
+		assertThat(hits.get(0).getScore(), is(1.5f));
+		assertThat(hits.get(1).getScore(), is(0.5f));
+	}
+	
+	@Test
+	public void shouldGroupBulkInsertsByPartition() {
+		
+		stubBulkResponses();
+		
+		List<PartitionedEntity> entities = new ArrayList<>();
+		
+		for(int index = 0; index < 10; index++) {
+			entities.add(new PartitionedEntity(String.valueOf(index), (long)index % 2));
+		}
+		
+		BulkOperartionResult<PartitionedEntity> result = crateOperations.bulkInsert(entities, PartitionedEntity.class);
+		
+		ArgumentCaptor<SQLBulkRequest> requests = ArgumentCaptor.forClass(SQLBulkRequest.class);
+		verify(client, times(2)).bulkSql(requests.capture());
+		
+		for(int partition = 0; partition < 2; partition++) {
+			
+			SQLBulkRequest request = requests.getAllValues().get(partition);
+			
+			assertThat(request.bulkArgs().length, is(5));
+			
+			for(Object[] args : request.bulkArgs()) {
+				assertThat(asList(args).contains((Object)(long)partition), is(true));
+			}
+		}
+		
+		assertThat(result.getSuccesses().size(), is(10));
+		
+		for(int index = 0; index < 10; index++) {
+			assertThat(result.getResults().get(index).getSource(), is(sameInstance(entities.get(index))));
+		}
+	}
+	
+	@Test
+	@SuppressWarnings("unchecked")
+	public void shouldRestrictSelectToPartition() {
+		
+		SQLResponse response = mock(SQLResponse.class);
+		
+		ActionFuture<SQLResponse> future = mock(ActionFuture.class);
+		when(future.actionGet()).thenReturn(response);
+		when(client.sql(any(SQLRequest.class))).thenReturn(future);
+		
+		crateOperations.findAllInPartition(PartitionedEntity.class, 1L);
+		
+		ArgumentCaptor<SQLRequest> request = ArgumentCaptor.forClass(SQLRequest.class);
+		verify(client).sql(request.capture());
+		
+		assertThat(request.getValue().stmt(), endsWith("FROM partitioned WHERE \"day\" = ?"));
+		assertThat(request.getValue().args(), is(new Object[]{ 1L }));
+	}
+	
+	@Test
+	@SuppressWarnings("unchecked")
+	public void shouldSelectByIdInPartition() {
+		
+		SQLResponse response = mock(SQLResponse.class);
+		when(response.rows()).thenReturn(new Object[0][]);
+		
+		ActionFuture<SQLResponse> future = mock(ActionFuture.class);
+		when(future.actionGet()).thenReturn(response);
+		when(client.sql(any(SQLRequest.class))).thenReturn(future);
+		
+		crateOperations.forEntity(PartitionedEntityWithId.class).findByIdInPartition("1", 2L);
+		
+		ArgumentCaptor<SQLRequest> request = ArgumentCaptor.forClass(SQLRequest.class);
+		verify(client).sql(request.capture());
+		
+		assertThat(request.getValue().stmt(), endsWith("FROM partitioned WHERE \"id\" = ? AND \"day\" = ?"));
+		assertThat(request.getValue().args(), is(new Object[]{ "1", 2L }));
+	}
+	
+	@Test
+	@SuppressWarnings("unchecked")
+	public void shouldUpdateByIdInPartition() {
+		
+		ActionFuture<SQLResponse> future = mock(ActionFuture.class);
+		when(future.actionGet()).thenReturn(mock(SQLResponse.class));
+		when(client.sql(any(SQLRequest.class))).thenReturn(future);
+		
+		PartitionedEntityWithId entity = new PartitionedEntityWithId();
+		entity.id = "1";
+		entity.day = 2L;
+		entity.name = "crate";
+		
+		crateOperations.update(entity);
+		
+		ArgumentCaptor<SQLRequest> request = ArgumentCaptor.forClass(SQLRequest.class);
+		verify(client).sql(request.capture());
+		
+		assertThat(request.getValue().stmt(), is("UPDATE partitioned set \"name\" = ? WHERE \"id\" = ? AND \"day\" = ?"));
+		assertThat(request.getValue().args(), is(new Object[]{ "crate", "1", 2L }));
+	}
+	
+	@Test(expected=MappingException.class)
+	public void shouldNotSelectPartitionOfUnpartitionedEntity() {
+		crateOperations.findAllInPartition(ClassWithNoId.class, 1L);
+	}
+	
+	@Test
+	@SuppressWarnings("unchecked")
+	public void shouldDropPartitionsWithConditionOnPartitionColumnOnly() {
+		
+		SQLResponse response = mock(SQLResponse.class);
+		when(response.rowCount()).thenReturn(-1L);
+		
+		ActionFuture<SQLResponse> future = mock(ActionFuture.class);
+		when(future.actionGet()).thenReturn(response);
+		when(client.sql(any(SQLRequest.class))).thenReturn(future);
+		
+		long rows = crateOperations.dropPartitionsOlderThan(PartitionedEntity.class, new Date(1000L));
+		
+		ArgumentCaptor<SQLRequest> request = ArgumentCaptor.forClass(SQLRequest.class);
+		verify(client).sql(request.capture());
+		
+		assertThat(request.getValue().stmt(), is("DELETE FROM partitioned WHERE \"day\" < ?"));
+		assertThat(request.getValue().args(), is(new Object[]{ 1000L }));
+		assertThat(rows, is(-1L));
+	}
+	
+	@Test(expected=MappingException.class)
+	public void shouldNotDropPartitionsOfUnpartitionedEntity() {
+		crateOperations.dropPartitionsOlderThan(ClassWithNoId.class, new Date());
+	}
+	
+	@Test
+	@SuppressWarnings("unchecked")
+	public void shouldCopyPartitionToDirectory() {
+		
+		SQLResponse response = mock(SQLResponse.class);
+		when(response.rowCount()).thenReturn(42L);
+		
+		ActionFuture<SQLResponse> future = mock(ActionFuture.class);
+		when(future.actionGet()).thenReturn(response);
+		when(client.sql(any(SQLRequest.class))).thenReturn(future);
+		
+		CopyToOptions options = new CopyToOptions();
+		options.setColumns(asList("name"));
+		options.setPartition(Collections.<String, Object>singletonMap("day", new Date(1000L)));
+		options.setCompressed(true);
+		
+		long rows = crateOperations.copyTo(PartitionedEntity.class, "file:///tmp/export", options);
+		
+		ArgumentCaptor<SQLRequest> request = ArgumentCaptor.forClass(SQLRequest.class);
+		verify(client).sql(request.capture());
+		
+		assertThat(request.getValue().stmt(), is("COPY partitioned PARTITION (\"day\" = ?) (\"name\") " + 
+												 "TO DIRECTORY 'file:///tmp/export' WITH (compression = 'gzip')"));
+		assertThat(request.getValue().args(), is(new Object[]{ 1000L }));
+		assertThat(rows, is(42L));
+	}
+	
+	@Test(expected=MappingException.class)
+	public void shouldNotCopyPartitionOfNonPartitionColumn() {
+		
+		CopyToOptions options = new CopyToOptions();
+		options.setPartition(Collections.<String, Object>singletonMap("name", "crate"));
+		
+		crateOperations.copyTo(PartitionedEntity.class, "file:///tmp/export", options);
+	}
+	
+	@Test
+	@SuppressWarnings("unchecked")
+	public void shouldCopyTableWithSingleStatement() {
+		
+		SQLResponse response = mock(SQLResponse.class);
+		when(response.rowCount()).thenReturn(7L);
+		
+		ActionFuture<SQLResponse> future = mock(ActionFuture.class);
+		when(future.actionGet()).thenReturn(response);
+		when(client.sql(any(SQLRequest.class))).thenReturn(future);
+		
+		long rows = crateOperations.copyTable("source", "target", Collections.singletonMap("id", "id"), "age > ?", 18);
+		
+		ArgumentCaptor<SQLRequest> request = ArgumentCaptor.forClass(SQLRequest.class);
+		verify(client).sql(request.capture());
+		
+		assertThat(request.getValue().stmt(), is("INSERT INTO target (\"id\") SELECT \"id\" FROM source WHERE (age > ?)"));
+		assertThat(request.getValue().args(), is(new Object[]{ 18 }));
+		assertThat(rows, is(7L));
+	}
+	
+	@Test
+	@SuppressWarnings("unchecked")
+	public void shouldCopySwitchedTable() {
+		
+		SQLResponse response = mock(SQLResponse.class);
+		when(response.rowCount()).thenReturn(7L);
+		
+		ActionFuture<SQLResponse> future = mock(ActionFuture.class);
+		when(future.actionGet()).thenReturn(response);
+		when(client.sql(any(SQLRequest.class))).thenReturn(future);
+		
+		crateOperations.switchTable("source", "source_v2");
+		crateOperations.copyTable("source", "target", Collections.<String, String>emptyMap(), null);
+		
+		assertThat(capturedStatements(1).get(0), is("INSERT INTO target SELECT * FROM source_v2"));
+	}
+	
+	@Test
+	@SuppressWarnings("unchecked")
+	public void shouldCopyTableInBatchesOfKeyRanges() {
+		
+		SQLResponse firstKey = mock(SQLResponse.class);
+		when(firstKey.rows()).thenReturn(new Object[][]{{"b"}});
+		SQLResponse firstCopy = mock(SQLResponse.class);
+		when(firstCopy.rowCount()).thenReturn(2L);
+		SQLResponse lastKey = mock(SQLResponse.class);
+		when(lastKey.rows()).thenReturn(new Object[0][]);
+		SQLResponse lastCopy = mock(SQLResponse.class);
+		when(lastCopy.rowCount()).thenReturn(1L);
+		
+		List<ActionFuture<SQLResponse>> futures = new ArrayList<>();
+		
+		for(SQLResponse response : asList(firstKey, firstCopy, lastKey, lastCopy)) {
+			ActionFuture<SQLResponse> future = mock(ActionFuture.class);
+			when(future.actionGet()).thenReturn(response);
+			futures.add(future);
+		}
+		
+		when(client.sql(any(SQLRequest.class))).thenReturn(futures.get(0), futures.get(1), futures.get(2), futures.get(3));
+		
+		final List<Object> checkpoints = new ArrayList<>();
+		
+		CopyTableOptions options = new CopyTableOptions();
+		options.setKeyColumn("id");
+		options.setBatchSize(2);
+		options.setResumeAfter("a");
+		options.setListener(new TableCopyListener() {
+			@Override
+			public void onBatchCopied(Object lastKey, long rows) {
+				checkpoints.add(lastKey);
+			}
+		});
+		
+		long rows = crateOperations.copyTable("source", "target", options);
+		
+		assertThat(rows, is(3L));
+		assertThat(checkpoints, is(asList((Object)"b", null)));
+		assertThat(capturedStatements(4), is(asList("SELECT \"id\" FROM source WHERE \"id\" > ? ORDER BY \"id\" LIMIT 1 OFFSET 1", 
+												   "INSERT INTO target SELECT * FROM source WHERE \"id\" > ? AND \"id\" <= ?",
+												   "SELECT \"id\" FROM source WHERE \"id\" > ? ORDER BY \"id\" LIMIT 1 OFFSET 1",
+												   "INSERT INTO target SELECT * FROM source WHERE \"id\" > ?")));
+	}
+	
+	@Test
+	@SuppressWarnings("unchecked")
+	public void shouldExportRowsOfTablePageByPageAsCsv() {
+		
+		SQLResponse first = mock(SQLResponse.class);
+		when(first.cols()).thenReturn(new String[]{"name", "tags"});
+		when(first.rows()).thenReturn(new Object[][]{{"crate", asList("a", "b")}, {"spring, data", null}});
+		
+		SQLResponse second = mock(SQLResponse.class);
+		when(second.cols()).thenReturn(new String[]{"name", "tags"});
+		when(second.rows()).thenReturn(new Object[][]{{"say \"hi\"", new Object[0]}});
+		
+		ActionFuture<SQLResponse> firstFuture = mock(ActionFuture.class);
+		when(firstFuture.actionGet()).thenReturn(first);
+		ActionFuture<SQLResponse> secondFuture = mock(ActionFuture.class);
+		when(secondFuture.actionGet()).thenReturn(second);
+		when(client.sql(any(SQLRequest.class))).thenReturn(firstFuture, secondFuture);
+		
+		((CrateTemplate)crateOperations).setExportPageSize(2);
+		
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		
+		long rows = crateOperations.exportTable("entity", "name", "age > ?", new Object[]{ 18 }, out, ExportFormat.CSV);
+		
+		assertThat(rows, is(3L));
+		assertThat(capturedStatements(2), is(asList("SELECT * FROM entity WHERE (age > ?) ORDER BY \"name\" LIMIT 2", 
+												   "SELECT * FROM entity WHERE (age > ?) AND \"name\" > ? ORDER BY \"name\" LIMIT 2")));
+		
+		ArgumentCaptor<SQLRequest> requests = ArgumentCaptor.forClass(SQLRequest.class);
+		verify(client, times(2)).sql(requests.capture());
+		assertThat(requests.getAllValues().get(1).args(), is(new Object[]{18, "spring, data"}));
+		assertThat(new String(out.toByteArray(), UTF_8), is("name,tags\ncrate,\"[\"\"a\"\",\"\"b\"\"]\"\n" + 
+															"\"spring, data\",\n\"say \"\"hi\"\"\",[]\n"));
+	}
+	
+	@Test
+	@SuppressWarnings("unchecked")
+	public void shouldExportRowsOfStatementPagedByKey() {
+		
+		SQLResponse first = mock(SQLResponse.class);
+		when(first.cols()).thenReturn(new String[]{"id", "name"});
+		when(first.rows()).thenReturn(new Object[][]{{1, "crate"}, {2, "spring"}});
+		
+		SQLResponse second = mock(SQLResponse.class);
+		when(second.cols()).thenReturn(new String[]{"id", "name"});
+		when(second.rows()).thenReturn(new Object[][]{});
+		
+		ActionFuture<SQLResponse> firstFuture = mock(ActionFuture.class);
+		when(firstFuture.actionGet()).thenReturn(first);
+		ActionFuture<SQLResponse> secondFuture = mock(ActionFuture.class);
+		when(secondFuture.actionGet()).thenReturn(second);
+		when(client.sql(any(SQLRequest.class))).thenReturn(firstFuture, secondFuture);
+		
+		((CrateTemplate)crateOperations).setExportPageSize(2);
+		
+		long rows = crateOperations.exportTo("SELECT id, name FROM entity where name = ? or age > ?", 
+											 "id", new Object[]{ "crate", 18 }, new ByteArrayOutputStream(), ExportFormat.CSV);
+		
+		assertThat(rows, is(2L));
+		assertThat(capturedStatements(2), is(asList("SELECT id, name FROM entity WHERE (name = ? or age > ?) ORDER BY \"id\" LIMIT 2", 
+												   "SELECT id, name FROM entity WHERE (name = ? or age > ?) AND \"id\" > ? ORDER BY \"id\" LIMIT 2")));
+	}
+	
+	@Test(expected=InvalidDataAccessApiUsageException.class)
+	public void shouldNotExportStatementPagedByKeyWithLimit() {
+		crateOperations.exportTo("SELECT * FROM entity LIMIT 10", "id", new Object[0], new ByteArrayOutputStream(), 
+								 ExportFormat.CSV);
+	}
+	
+	@Test(expected=InvalidDataAccessApiUsageException.class)
+	@SuppressWarnings("unchecked")
+	public void shouldNotExportTablePagedByKeyWithDuplicateValues() {
+		
+		SQLResponse response = mock(SQLResponse.class);
+		when(response.cols()).thenReturn(new String[]{"name"});
+		when(response.rows()).thenReturn(new Object[][]{{"crate"}, {"crate"}});
+		
+		ActionFuture<SQLResponse> future = mock(ActionFuture.class);
+		when(future.actionGet()).thenReturn(response);
+		when(client.sql(any(SQLRequest.class))).thenReturn(future);
+		
+		((CrateTemplate)crateOperations).setExportPageSize(2);
+		
+		crateOperations.exportTable("entity", "name", null, new Object[0], new ByteArrayOutputStream(), ExportFormat.CSV);
+	}
+	
+	@Test
+	@SuppressWarnings("unchecked")
+	public void shouldExportRowsAsNdjson() {
+		
+		SQLResponse response = mock(SQLResponse.class);
+		when(response.cols()).thenReturn(new String[]{"name", "age", "address"});
+		when(response.rows()).thenReturn(new Object[][]{{"line\nbreak", 34, Collections.singletonMap("city", "Z\u00fcrich")}});
+		
+		ActionFuture<SQLResponse> future = mock(ActionFuture.class);
+		when(future.actionGet()).thenReturn(response);
+		when(client.sql(any(SQLRequest.class))).thenReturn(future);
+		
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		
+		crateOperations.exportTo("SELECT name, age, address FROM entity", new Object[0], out, ExportFormat.NDJSON);
+		
+		assertThat(capturedStatements(1).get(0), is("SELECT name, age, address FROM entity"));
+		assertThat(new String(out.toByteArray(), UTF_8), is("{\"name\":\"line\\nbreak\",\"age\":34,\"address\":{\"city\":\"Z\u00fcrich\"}}\n"));
+	}
+	
+	@Test
+	@SuppressWarnings("unchecked")
+	public void shouldSuspendRefreshAndReplicasDuringBulkLoad() {
+		
+		SQLResponse response = mock(SQLResponse.class);
+		when(response.rows()).thenReturn(new Object[][]{{"0-1"}});
+		
+		ActionFuture<SQLResponse> future = mock(ActionFuture.class);
+		when(future.actionGet()).thenReturn(response);
+		when(client.sql(any(SQLRequest.class))).thenReturn(future);
+		
+		String result = crateOperations.bulkLoad(ClassWithNoId.class, new BulkLoadCallback<ClassWithNoId, String>() {
+			@Override
+			public String doInBulkLoad(BoundCrateOperations<ClassWithNoId> operations) {
+				return operations.getTableName();
+			}
+		});
+		
+		assertThat(result, is("entity"));
+		assertThat(capturedStatements(6), is(asList("SELECT number_of_replicas FROM information_schema.tables WHERE table_schema = ? AND table_name = ?",
+												   "ALTER TABLE entity SET (refresh_interval = '0')",
+												   "ALTER TABLE entity SET (number_of_replicas = '0')",
+												   "ALTER TABLE entity SET (number_of_replicas = '0-1')",
+												   "ALTER TABLE entity SET (refresh_interval = '1000')",
+												   "REFRESH TABLE entity")));
+	}
+	
+	@Test
+	@SuppressWarnings("unchecked")
+	public void shouldRestoreTableParametersAfterLastOverlappingBulkLoad() {
+		
+		SQLResponse response = mock(SQLResponse.class);
+		when(response.rows()).thenReturn(new Object[][]{{"0-1"}});
+		
+		ActionFuture<SQLResponse> future = mock(ActionFuture.class);
+		when(future.actionGet()).thenReturn(response);
+		when(client.sql(any(SQLRequest.class))).thenReturn(future);
+		
+		crateOperations.bulkLoad(ClassWithNoId.class, new BulkLoadCallback<ClassWithNoId, Void>() {
+			@Override
+			public Void doInBulkLoad(BoundCrateOperations<ClassWithNoId> operations) {
+				return operations.bulkLoad(new BulkLoadCallback<ClassWithNoId, Void>() {
+					@Override
+					public Void doInBulkLoad(BoundCrateOperations<ClassWithNoId> operations) {
+						return null;
+					}
+				});
+			}
+		});
+		
+		assertThat(capturedStatements(7), is(asList("SELECT number_of_replicas FROM information_schema.tables WHERE table_schema = ? AND table_name = ?",
+												   "ALTER TABLE entity SET (refresh_interval = '0')",
+												   "ALTER TABLE entity SET (number_of_replicas = '0')",
+												   "REFRESH TABLE entity",
+												   "ALTER TABLE entity SET (number_of_replicas = '0-1')",
+												   "ALTER TABLE entity SET (refresh_interval = '1000')",
+												   "REFRESH TABLE entity")));
+	}
+	
+	@Test
+	@SuppressWarnings("unchecked")
+	public void shouldRefreshOnceAfterBulkLoadOfSeveralBulkInserts() {
+		
+		SQLResponse response = mock(SQLResponse.class);
+		when(response.rows()).thenReturn(new Object[][]{{"1"}});
+		
+		ActionFuture<SQLResponse> future = mock(ActionFuture.class);
+		when(future.actionGet()).thenReturn(response);
+		when(client.sql(any(SQLRequest.class))).thenReturn(future);
+		
+		stubBulkResponses();
+		
+		crateOperations.bulkLoad(ClassWithSimpleId.class, new BulkLoadCallback<ClassWithSimpleId, Void>() {
+			@Override
+			public Void doInBulkLoad(BoundCrateOperations<ClassWithSimpleId> operations) {
+				for(int chunk = 0; chunk < 2; chunk++) {
+					ClassWithSimpleId entity = new ClassWithSimpleId();
+					entity.id = String.valueOf(chunk);
+					operations.bulkInsert(asList(entity));
+				}
+				return null;
+			}
+		});
+		
+		List<String> statements = capturedStatements(6);
+		int refreshes = 0;
+		
+		for(String statement : statements) {
+			if(statement.startsWith("REFRESH")) {
+				refreshes++;
+			}
+		}
+		
+		assertThat(refreshes, is(1));
+		assertThat(statements.get(5), is("REFRESH TABLE entity"));
+	}
+	
+	@Test
+	@SuppressWarnings("unchecked")
+	public void shouldRestoreTableParametersWhenBulkLoadFails() {
+		
+		SQLResponse response = mock(SQLResponse.class);
+		when(response.rows()).thenReturn(new Object[][]{{"2"}});
+		
+		ActionFuture<SQLResponse> future = mock(ActionFuture.class);
+		when(future.actionGet()).thenReturn(response);
+		when(client.sql(any(SQLRequest.class))).thenReturn(future);
+		
+		try {
+			crateOperations.bulkLoad(ClassWithNoId.class, new BulkLoadCallback<ClassWithNoId, Void>() {
+				@Override
+				public Void doInBulkLoad(BoundCrateOperations<ClassWithNoId> operations) {
+					throw new IllegalStateException("load failed");
+				}
+			});
+			fail("bulk load failure must be rethrown");
+		}catch(IllegalStateException e) {
+			assertThat(e.getMessage(), is("load failed"));
+		}
+		
+		List<String> statements = capturedStatements(5);
+		
+		assertThat(statements.get(3), is("ALTER TABLE entity SET (number_of_replicas = '2')"));
+		assertThat(statements.get(4), is("ALTER TABLE entity SET (refresh_interval = '1000')"));
+	}
+	
+	@Test
+	@SuppressWarnings("unchecked")
+	public void shouldUseSwitchedTableInBoundOperationsObtainedBeforeSwitch() {
+		
+		ActionFuture<SQLResponse> future = mock(ActionFuture.class);
+		when(future.actionGet()).thenReturn(mock(SQLResponse.class));
+		when(client.sql(any(SQLRequest.class))).thenReturn(future);
+		
+		BoundCrateOperations<ClassWithSimpleId> operations = crateOperations.forEntity(ClassWithSimpleId.class);
+		
+		crateOperations.switchTable("entity", "entity_v2");
+		
+		operations.count();
+		
+		assertThat(operations.getTableName(), is("entity_v2"));
+		assertThat(crateOperations.resolveTableName("entity"), is("entity_v2"));
+		assertThat(crateOperations.forEntity(ClassWithSimpleId.class), is(sameInstance(operations)));
+		assertThat(capturedStatements(1).get(0), endsWith("FROM entity_v2"));
+	}
+	
+	@Test
+	@SuppressWarnings("unchecked")
+	public void shouldMirrorWritesUntilMirroringIsStopped() {
+		
+		ActionFuture<SQLResponse> future = mock(ActionFuture.class);
+		when(future.actionGet()).thenReturn(mock(SQLResponse.class));
+		when(client.sql(any(SQLRequest.class))).thenReturn(future);
+		
+		ClassWithSimpleId entity = new ClassWithSimpleId();
+		entity.id = "1";
+		
+		crateOperations.mirrorWrites("entity", "entity_v2");
+		crateOperations.insert(entity);
+		crateOperations.delete("1", ClassWithSimpleId.class);
+		
+		crateOperations.stopMirroringWrites("entity");
+		crateOperations.insert(entity);
+		
+		List<String> statements = capturedStatements(5);
+		
+		assertThat(statements.get(0), startsWith("INSERT INTO entity "));
+		assertThat(statements.get(1), startsWith("INSERT INTO entity_v2 "));
+		assertThat(statements.get(1), containsString(" ON DUPLICATE KEY UPDATE "));
+		assertThat(statements.get(2), startsWith("DELETE FROM entity "));
+		assertThat(statements.get(3), startsWith("DELETE FROM entity_v2 "));
+		assertThat(statements.get(4), startsWith("INSERT INTO entity "));
+	}
+	
+	@Test
+	@SuppressWarnings("unchecked")
+	public void shouldCountWritesFailedToBeMirrored() {
+		
+		ActionFuture<SQLResponse> future = mock(ActionFuture.class);
+		when(future.actionGet()).thenReturn(mock(SQLResponse.class))
+								.thenThrow(new RuntimeException("Error!!"));
+		when(client.sql(any(SQLRequest.class))).thenReturn(future);
+		
+		ClassWithSimpleId entity = new ClassWithSimpleId();
+		entity.id = "1";
+		
+		crateOperations.mirrorWrites("entity", "entity_v2");
+		crateOperations.insert(entity);
+		
+		assertThat(crateOperations.getMirrorFailures("entity"), is(1));
+		
+		crateOperations.stopMirroringWrites("entity");
+		
+		assertThat(crateOperations.getMirrorFailures("entity"), is(0));
+	}
+	
+	@Test
+	@SuppressWarnings("unchecked")
+	public void shouldKillJobOfStatementWhichTimedOut() {
+		
+		ActionFuture<SQLResponse> future = mock(ActionFuture.class);
+		when(future.actionGet(anyLong(), any(TimeUnit.class))).thenThrow(new ElasticsearchTimeoutException("timeout"));
+		when(client.sql(any(SQLRequest.class))).thenReturn(future);
+		
+		CrateTemplate template = new CrateTemplate(client, crateConverter);
+		template.setDefaultTimeout(100);
+		template.setKillOnTimeout(true);
+		
+		try {
+			template.forEntity(ClassWithSimpleId.class).count();
+			fail("statement must time out");
+		}catch(QueryTimeoutException e) {
+			verify(future).actionGet(100L, TimeUnit.MILLISECONDS);
+		}
+		
+		ArgumentCaptor<SQLRequest> sent = ArgumentCaptor.forClass(SQLRequest.class);
+		verify(client).sql(sent.capture());
+		
+		assertThat(sent.getValue().stmt(), startsWith("/* "));
+		assertThat(sent.getValue().stmt(), endsWith(" */ SELECT count(*) FROM entity"));
+		
+		ArgumentCaptor<SQLRequest> lookup = ArgumentCaptor.forClass(SQLRequest.class);
+		ArgumentCaptor<ActionListener> listener = ArgumentCaptor.forClass(ActionListener.class);
+		verify(client).sql(lookup.capture(), listener.capture());
+		
+		assertThat(lookup.getValue().stmt(), is("SELECT id FROM sys.jobs WHERE stmt = ?"));
+		assertThat(lookup.getValue().args(), is(new Object[]{sent.getValue().stmt()}));
+		
+		SQLResponse jobs = mock(SQLResponse.class);
+		when(jobs.rows()).thenReturn(new Object[][]{{"job-1"}});
+		listener.getValue().onResponse(jobs);
+		
+		ArgumentCaptor<SQLRequest> kill = ArgumentCaptor.forClass(SQLRequest.class);
+		verify(client, times(2)).sql(kill.capture(), any(ActionListener.class));
+		
+		assertThat(kill.getAllValues().get(1).stmt(), is("KILL 'job-1'"));
+	}
+	
+	@Test
+	@SuppressWarnings("unchecked")
+	public void shouldNotSendStatementAfterDeadlinePassed() {
+		
+		try {
+			crateOperations.withTimeout(1, TimeUnit.MILLISECONDS, new DeadlineCallback<Long>() {
+				@Override
+				public Long doWithinDeadline(CrateOperations operations) {
+					try {
+						Thread.sleep(10);
+					}catch(InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+					return operations.forEntity(ClassWithSimpleId.class).count();
+				}
+			});
+			fail("deadline must have passed");
+		}catch(QueryTimeoutException e) {
+			verify(client, never()).sql(any(SQLRequest.class));
+		}
+	}
+	
+	@Test
+	@SuppressWarnings("unchecked")
+	public void shouldWaitForTimeLeftUntilDeadline() {
+		
+		ActionFuture<SQLResponse> future = mock(ActionFuture.class);
+		when(future.actionGet(anyLong(), any(TimeUnit.class))).thenReturn(mock(SQLResponse.class));
+		when(client.sql(any(SQLRequest.class))).thenReturn(future);
+		
+		crateOperations.withTimeout(1, TimeUnit.MINUTES, new DeadlineCallback<Long>() {
+			@Override
+			public Long doWithinDeadline(CrateOperations operations) {
+				return operations.forEntity(ClassWithSimpleId.class).count();
+			}
+		});
+		
+		ArgumentCaptor<Long> timeout = ArgumentCaptor.forClass(Long.class);
+		verify(future).actionGet(timeout.capture(), any(TimeUnit.class));
+		verify(future, never()).actionGet();
+		
+		assertThat(timeout.getValue() > 0 && timeout.getValue() <= 60000, is(true));
+	}
+	
+	@Test
+	@SuppressWarnings("unchecked")
+	public void shouldRetryReadAfterTransientFailure() {
+		
+		ActionFuture<SQLResponse> future = mock(ActionFuture.class);
+		when(future.actionGet()).thenThrow(shardsNotAvailable()).thenReturn(mock(SQLResponse.class));
+		when(client.sql(any(SQLRequest.class))).thenReturn(future);
+		
+		CrateTemplate template = new CrateTemplate(client, crateConverter);
+		template.setRetryPolicy(newRetryPolicy());
+		
+		template.forEntity(ClassWithSimpleId.class).count();
+		
+		verify(client, times(2)).sql(any(SQLRequest.class));
+	}
+	
+	@Test
+	@SuppressWarnings("unchecked")
+	public void shouldNotRetryPlainInsert() {
+		
+		ActionFuture<SQLResponse> future = mock(ActionFuture.class);
+		when(future.actionGet()).thenThrow(shardsNotAvailable());
+		when(client.sql(any(SQLRequest.class))).thenReturn(future);
+		
+		CrateTemplate template = new CrateTemplate(client, crateConverter);
+		template.setRetryPolicy(newRetryPolicy());
+		
+		ClassWithSimpleId entity = new ClassWithSimpleId();
+		entity.id = "1";
+		
+		try {
+			template.insert(entity);
+			fail("insert must not be retried");
+		}catch(DataAccessResourceFailureException e) {
+			verify(client, times(1)).sql(any(SQLRequest.class));
+		}
+	}
+	
+	@Test
+	@SuppressWarnings("unchecked")
+	public void shouldRetryOnlyFailedRowsOfBulkInsert() throws Exception {
+		
+		SQLBulkResponse first = mock(SQLBulkResponse.class);
+		when(first.results()).thenReturn(new Result[]{new Result(null, 1L), new Result("UnavailableShardsException[[entity][1] primary shard is not active]", -1L), 
+													  new Result(null, 1L)});
+		SQLBulkResponse retry = mock(SQLBulkResponse.class);
+		when(retry.results()).thenReturn(new Result[]{new Result(null, 1L)});
+		
+		ActionFuture<SQLBulkResponse> firstFuture = mock(ActionFuture.class);
+		when(firstFuture.get()).thenReturn(first);
+		ActionFuture<SQLBulkResponse> retryFuture = mock(ActionFuture.class);
+		when(retryFuture.get()).thenReturn(retry);
+		
+		when(client.bulkSql(any(SQLBulkRequest.class))).thenReturn(firstFuture, retryFuture);
+		
+		CrateTemplate template = new CrateTemplate(client, crateConverter);
+		template.setRetryPolicy(newRetryPolicy());
+		
+		List<ClassWithNoId> entities = new ArrayList<>();
+		
+		for(int index = 0; index < 3; index++) {
+			ClassWithNoId entity = new ClassWithNoId();
+			entity.field = String.valueOf(index);
+			entities.add(entity);
+		}
+		
+		BulkOperartionResult<ClassWithNoId> result = template.bulkInsert(entities, ClassWithNoId.class);
+		
+		ArgumentCaptor<SQLBulkRequest> requests = ArgumentCaptor.forClass(SQLBulkRequest.class);
+		verify(client, times(2)).bulkSql(requests.capture());
+		
+		Object[][] retriedRows = requests.getAllValues().get(1).bulkArgs();
+		
+		assertThat(retriedRows.length, is(1));
+		assertThat(asList(retriedRows[0]).contains("1"), is(true));
+		assertThat(result.getSuccesses().size(), is(3));
+	}
+	
+	@Test
+	@SuppressWarnings("unchecked")
+	public void shouldNotRetryRowsOfBulkInsertWhichMayHaveBeenWritten() throws Exception {
+		
+		SQLBulkResponse response = mock(SQLBulkResponse.class);
+		when(response.results()).thenReturn(new Result[]{new Result(null, 1L), 
+														 new Result("NodeDisconnectedException[[node1] disconnected]", -1L)});
+		
+		ActionFuture<SQLBulkResponse> future = mock(ActionFuture.class);
+		when(future.get()).thenReturn(response);
+		
+		when(client.bulkSql(any(SQLBulkRequest.class))).thenReturn(future);
+		
+		CrateTemplate template = new CrateTemplate(client, crateConverter);
+		template.setRetryPolicy(newRetryPolicy());
+		
+		List<ClassWithNoId> entities = new ArrayList<>();
+		
+		for(int index = 0; index < 2; index++) {
+			ClassWithNoId entity = new ClassWithNoId();
+			entity.field = String.valueOf(index);
+			entities.add(entity);
+		}
+		
+		BulkOperartionResult<ClassWithNoId> result = template.bulkInsert(entities, ClassWithNoId.class);
+		
+		verify(client, times(1)).bulkSql(any(SQLBulkRequest.class));
+		assertThat(result.getSuccesses().size(), is(1));
+		assertThat(result.getFailures().size(), is(1));
+	}
+	
+	@Test
+	@SuppressWarnings("unchecked")
+	public void shouldNotRetryRowsOfBulkInsertWithPermanentErrors() throws Exception {
+		
+		SQLBulkResponse response = mock(SQLBulkResponse.class);
+		when(response.results()).thenReturn(new Result[]{new Result(null, 1L), 
+														 new Result("Validation failed for field: Invalid string", -1L)});
+		
+		ActionFuture<SQLBulkResponse> future = mock(ActionFuture.class);
+		when(future.get()).thenReturn(response);
+		
+		when(client.bulkSql(any(SQLBulkRequest.class))).thenReturn(future);
+		
+		CrateTemplate template = new CrateTemplate(client, crateConverter);
+		template.setRetryPolicy(newRetryPolicy());
+		
+		List<ClassWithNoId> entities = new ArrayList<>();
+		
+		for(int index = 0; index < 2; index++) {
+			ClassWithNoId entity = new ClassWithNoId();
+			entity.field = String.valueOf(index);
+			entities.add(entity);
+		}
+		
+		BulkOperartionResult<ClassWithNoId> result = template.bulkInsert(entities, ClassWithNoId.class);
+		
+		verify(client, times(1)).bulkSql(any(SQLBulkRequest.class));
+		assertThat(result.getSuccesses().size(), is(1));
+		assertThat(result.getFailures().size(), is(1));
+	}
+	
+	@Test
+	@SuppressWarnings("unchecked")
+	public void shouldReapplyMirroredDeletesOfRowsNotWrittenAgain() {
+		
+		ActionFuture<SQLResponse> future = mock(ActionFuture.class);
+		when(future.actionGet()).thenReturn(mock(SQLResponse.class));
+		when(client.sql(any(SQLRequest.class))).thenReturn(future);
+		
+		stubBulkResponses();
+		
+		ClassWithSimpleId entity = new ClassWithSimpleId();
+		entity.id = "2";
+		
+		crateOperations.mirrorWrites("entity", "entity_v2");
+		crateOperations.delete("1", ClassWithSimpleId.class);
+		crateOperations.delete("2", ClassWithSimpleId.class);
+		crateOperations.insert(entity);
+		
+		assertThat(crateOperations.reapplyMirroredDeletes(ClassWithSimpleId.class, "entity"), is(1));
+		
+		ArgumentCaptor<SQLBulkRequest> request = ArgumentCaptor.forClass(SQLBulkRequest.class);
+		verify(client).bulkSql(request.capture());
+		
+		assertThat(request.getValue().stmt(), startsWith("DELETE FROM entity_v2 "));
+		assertThat(request.getValue().bulkArgs().length, is(1));
+		assertThat(request.getValue().bulkArgs()[0][0], is((Object)"1"));
+		assertThat(crateOperations.reapplyMirroredDeletes(ClassWithSimpleId.class, "entity"), is(0));
+	}
+	
+	@Test
+	@SuppressWarnings("unchecked")
+	public void shouldNotPublishEventsOfMirroredWrites() {
+		
+		ActionFuture<SQLResponse> future = mock(ActionFuture.class);
+		when(future.actionGet()).thenReturn(mock(SQLResponse.class));
+		when(client.sql(any(SQLRequest.class))).thenReturn(future);
+		
+		ApplicationContext context = mock(ApplicationContext.class);
+		when(context.getBeanNamesForType(ApplicationListener.class, true, false)).thenReturn(new String[]{"listener"});
+		doReturn(ApplicationListener.class).when(context).getType("listener");
+		
+		CrateTemplate template = new CrateTemplate(client, crateConverter);
+		template.setApplicationContext(context);
+		
+		ClassWithSimpleId entity = new ClassWithSimpleId();
+		entity.id = "1";
+		
+		template.mirrorWrites("entity", "entity_v2");
+		template.insert(entity);
+		
+		capturedStatements(2);
+		// before convert, before save and after save of the write to the source table only
+		verify(context, times(3)).publishEvent(any(ApplicationEvent.class));
+	}
+	
+	@Test
+	@SuppressWarnings("unchecked")
+	public void shouldNotSendRowsRejectedAfterConversion() {
+		
+		ApplicationContext context = mock(ApplicationContext.class);
+		when(context.getBeanNamesForType(ApplicationListener.class, true, false)).thenReturn(new String[]{"listener"});
+		doReturn(ApplicationListener.class).when(context).getType("listener");
+		
+		doAnswer(new Answer<Void>() {
+			@Override
+			public Void answer(InvocationOnMock invocation) throws Throwable {
+				
+				Object event = invocation.getArguments()[0];
+				
+				if(event instanceof BeforeConvertEvent) {
+					ClassWithNoId entity = (ClassWithNoId)((BeforeConvertEvent<?>)event).getSource();
+					entity.field = entity.field.trim();
+				}
+				
+				if(event instanceof BeforeBulkSaveEvent) {
+					BeforeBulkSaveEvent<ClassWithNoId> bulkSave = (BeforeBulkSaveEvent<ClassWithNoId>)event;
+					for(int index = 0; index < bulkSave.getEntities().size(); index++) {
+						// rows are rejected by the value set before conversion
+						if(bulkSave.getEntities().get(index).field.isEmpty()) {
+							bulkSave.reject(index, "field must not be empty");
+						}
+					}
+				}
+				
+				return null;
+			}
+		}).when(context).publishEvent(any(ApplicationEvent.class));
+		
+		CrateTemplate template = new CrateTemplate(client, crateConverter);
+		template.setApplicationContext(context);
+		
+		stubBulkResponses();
+		
+		List<ClassWithNoId> entities = new ArrayList<>();
+		
+		for(String field : asList("a", " ", "b", " ")) {
+			ClassWithNoId entity = new ClassWithNoId();
+			entity.field = field;
+			entities.add(entity);
+		}
+		
+		BulkOperartionResult<ClassWithNoId> result = template.bulkInsert(entities, ClassWithNoId.class);
+		
+		ArgumentCaptor<SQLBulkRequest> request = ArgumentCaptor.forClass(SQLBulkRequest.class);
+		verify(client).bulkSql(request.capture());
+		
+		assertThat(request.getValue().bulkArgs().length, is(2));
+		assertThat(asList(request.getValue().bulkArgs()[0]).contains("a"), is(true));
+		assertThat(asList(request.getValue().bulkArgs()[1]).contains("b"), is(true));
+		
+		assertThat(result.getSuccesses().size(), is(2));
+		assertThat(result.getFailures().size(), is(2));
+		assertThat(result.getResults().get(0).isSuccess(), is(true));
+		assertThat(result.getResults().get(1).getSource(), is(sameInstance(entities.get(1))));
+		assertThat(result.getResults().get(1).isFailure(), is(true));
+		assertThat(result.getResults().get(2).getSource(), is(sameInstance(entities.get(2))));
+		assertThat(result.getResults().get(2).isSuccess(), is(true));
+	}
+	
+	@Test
+	public void shouldNotSendStatementRejectedByAdmissionControl() {
+		
+		AdmissionControl admissionControl = new AdmissionControl();
+		admissionControl.setOperationBulkhead(OperationClass.READ, new Bulkhead(1));
+		
+		CrateTemplate template = new CrateTemplate(client, crateConverter);
+		template.setAdmissionControl(admissionControl);
+		
+		Admission inFlight = admissionControl.admit("SELECT * FROM entity", 1, false);
+		
+		try {
+			template.forEntity(ClassWithSimpleId.class).count();
+			fail("statement must be rejected");
+		}catch(AdmissionRejectedException e) {
+			verify(client, never()).sql(any(SQLRequest.class));
+		}finally {
+			inFlight.complete(null);
+		}
+	}
+	
+	@Test
+	@SuppressWarnings("unchecked")
+	public void shouldUseResponseOfHedgeWhenReadIsSlow() {
+		
+		CrateClient slow = mock(CrateClient.class);
+		
+		final SQLResponse response = mock(SQLResponse.class);
+		when(response.hasRowCount()).thenReturn(true);
+		when(response.rows()).thenReturn(new Object[][]{{5L}});
+		
+		doAnswer(new Answer<Void>() {
+			@Override
+			public Void answer(InvocationOnMock invocation) throws Throwable {
+				((ActionListener<SQLResponse>)invocation.getArguments()[1]).onResponse(response);
+				return null;
+			}
+		}).when(client).sql(any(SQLRequest.class), any(ActionListener.class));
+		
+		HedgingPolicy hedgingPolicy = new HedgingPolicy();
+		hedgingPolicy.setMinSamples(1);
+		hedgingPolicy.setMaxHedgeRatio(1);
+		hedgingPolicy.recordLatency(1);
+		
+		CrateTemplate template = new CrateTemplate(new CrateClientPool(slow, client), crateConverter);
+		template.setHedgingPolicy(hedgingPolicy);
+		
+		assertThat(template.forEntity(ClassWithSimpleId.class).count(), is(5L));
+		
+		ArgumentCaptor<ActionListener> primary = ArgumentCaptor.forClass(ActionListener.class);
+		verify(slow).sql(any(SQLRequest.class), primary.capture());
+		verify(client).sql(any(SQLRequest.class), any(ActionListener.class));
+		assertThat(hedgingPolicy.getHedges(), is(1L));
+		assertThat(hedgingPolicy.getHedgeWins(), is(1L));
+		assertThat(hedgingPolicy.getRecordedReads(), is(1L));
+		
+		// the latency of the slow read is recorded once it completes
+		primary.getValue().onResponse(response);
+		
+		assertThat(hedgingPolicy.getRecordedReads(), is(2L));
+	}
+	
+	private static SQLActionException shardsNotAvailable() {
+		SQLActionException failure = mock(SQLActionException.class);
+		when(failure.errorCode()).thenReturn(CrateErrorCodes.SHARDS_NOT_AVAILABLE);
+		return failure;
+	}
+	
+	private static RetryPolicy newRetryPolicy() {
+		ExponentialBackoffRetryPolicy retryPolicy = new ExponentialBackoffRetryPolicy();
+		retryPolicy.setInitialBackoff(1);
+		return retryPolicy;
+	}
+	
+	private List<String> capturedStatements(int count) {
+		
+		ArgumentCaptor<SQLRequest> request = ArgumentCaptor.forClass(SQLRequest.class);
+		verify(client, times(count)).sql(request.capture());
+		
+		List<String> statements = new ArrayList<>();
+		
+		for(SQLRequest sqlRequest : request.getAllValues()) {
+			statements.add(sqlRequest.stmt());
+		}
+		
+		return statements;
+	}
+	
+	@SuppressWarnings("unchecked")
+	private void stubBulkResponses() {
+		
+		when(client.bulkSql(any(SQLBulkRequest.class))).thenAnswer(new Answer<ActionFuture<SQLBulkResponse>>() {
+			@Override
+			public ActionFuture<SQLBulkResponse> answer(InvocationOnMock invocation) throws Throwable {
+				
+				SQLBulkRequest request = (SQLBulkRequest)invocation.getArguments()[0];
+				
+				Result[] results = new Result[request.bulkArgs().length];
+				
+				for(int index = 0; index < results.length; index++) {
+					results[index] = new Result(null, 1L);
+				}
+				
+				SQLBulkResponse response = mock(SQLBulkResponse.class);
+				when(response.results()).thenReturn(results);
+				
+				ActionFuture<SQLBulkResponse> future = mock(ActionFuture.class);
+				when(future.get()).thenReturn(response);
+				
+				return future;
+			}
+		});
+	}
+	
+	@Table(name="partitioned", partitionedBy="day")
+	static class PartitionedEntityWithId {
+		
+		String id;
+		String name;
+		Long day;
+	}
+	
+	@Table(name="partitioned", partitionedBy="day")
+	static class PartitionedEntity {
+		
+		String name;
+		Long day;
+		
+		public PartitionedEntity(String name, Long day) {
+			this.name = name;
+			this.day = day;
+		}
+	}
+	
 	@Table(name="entity")
 	static class ClassWithSimpleId {
 		@Id
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2002-2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.crate.core;
+
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import io.crate.client.CrateClient;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.crate.core.convert.MappingCrateConverter;
+import org.springframework.data.crate.core.mapping.CrateMappingContext;
+import org.springframework.data.crate.core.mapping.annotations.Table;
+
+/**
+ * @author Hasnain Javed
+ * @since 1.0.0
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class CrateTemplateWarmerTest {
+
+	@Mock
+	private CrateClient client;
+
+	private CrateMappingContext mappingContext;
+	private CrateOperations crateOperations;
+
+	@Before
+	public void setup() {
+		mappingContext = new CrateMappingContext();
+		crateOperations = new CrateTemplate(client, new MappingCrateConverter(mappingContext));
+	}
+
+	@Test
+	public void shouldWarmUpGivenEntities() {
+
+		CrateTemplateWarmer warmer = new CrateTemplateWarmer(crateOperations);
+
+		Map<Class<?>, Long> timings = warmer.warmUp(Arrays.<Class<?>>asList(Customer.class, Order.class));
+
+		assertThat(timings.size(), is(2));
+		assertThat(timings, hasKey((Class<?>)Customer.class));
+		assertThat(timings, hasKey((Class<?>)Order.class));
+		assertThat(mappingContext.hasPersistentEntityFor(Customer.class), is(true));
+		assertThat(mappingContext.hasPersistentEntityFor(Order.class), is(true));
+	}
+
+	@Test
+	public void shouldWarmUpGivenEntitiesOnGivenExecutor() {
+
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("warm-up-test-");
+		executor.setConcurrencyLimit(1);
+
+		CrateTemplateWarmer warmer = new CrateTemplateWarmer(crateOperations);
+		warmer.setTaskExecutor(executor);
+
+		Map<Class<?>, Long> timings = warmer.warmUp(Arrays.<Class<?>>asList(Customer.class, Order.class));
+
+		assertThat(timings.size(), is(2));
+		assertThat(timings, hasKey((Class<?>)Customer.class));
+		assertThat(timings, hasKey((Class<?>)Order.class));
+	}
+
+	@Test
+	public void shouldWarmUpAllEntitiesInMappingContext() {
+
+		mappingContext.getPersistentEntity(Customer.class);
+
+		Map<Class<?>, Long> timings = new CrateTemplateWarmer(crateOperations).warmUp();
+
+		assertThat(timings, hasKey((Class<?>)Customer.class));
+	}
+
+	@Table(name="customers")
+	static class Customer {
+		@Id
+		String email;
+		String name;
+	}
+
+	@Table(name="orders")
+	static class Order {
+		@Id
+		Long id;
+		Customer customer;
+		int quantity;
+	}
+}
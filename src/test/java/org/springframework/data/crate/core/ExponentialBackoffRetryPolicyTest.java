@@ -0,0 +1,90 @@
+/*
+ * Copyright 2002-2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.crate.core;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DuplicateKeyException;
+
+/**
+ * 
+ * @author Hasnain Javed
+ * @since 1.0.0
+ */
+public class ExponentialBackoffRetryPolicyTest {
+
+	@Test
+	public void shouldRetryIdempotentStatementsOnly() {
+		
+		ExponentialBackoffRetryPolicy retryPolicy = new ExponentialBackoffRetryPolicy();
+		
+		assertThat(retryPolicy.isIdempotent("SELECT * FROM entity"), is(true));
+		assertThat(retryPolicy.isIdempotent("DELETE FROM entity WHERE \"id\" = ?"), is(true));
+		assertThat(retryPolicy.isIdempotent("INSERT INTO entity (\"id\") VALUES (?) ON DUPLICATE KEY UPDATE \"id\" = ?"), is(true));
+		assertThat(retryPolicy.isIdempotent("INSERT INTO entity (\"id\") VALUES (?)"), is(false));
+		assertThat(retryPolicy.isIdempotent("UPDATE entity SET \"count\" = \"count\" + 1"), is(false));
+		
+		retryPolicy.setRetryInserts(true);
+		
+		assertThat(retryPolicy.isIdempotent("INSERT INTO entity (\"id\") VALUES (?)"), is(true));
+	}
+	
+	@Test
+	public void shouldRetryResourceFailuresOnly() {
+		
+		ExponentialBackoffRetryPolicy retryPolicy = new ExponentialBackoffRetryPolicy();
+		
+		assertThat(retryPolicy.isTransient(new DataAccessResourceFailureException("shards not available")), is(true));
+		assertThat(retryPolicy.isTransient(new DuplicateKeyException("duplicate")), is(false));
+		assertThat(retryPolicy.isTransient("UnavailableShardsException[[entity][1] not available]"), is(true));
+		assertThat(retryPolicy.isTransient("DocumentAlreadyExistsException[[entity][1] document already exists]"), is(false));
+		assertThat(retryPolicy.isTransient("Validation failed for age: Invalid long"), is(false));
+		assertThat(retryPolicy.isTransient("StrictDynamicMappingException[mapping set to strict]"), is(false));
+	}
+	
+	@Test
+	public void shouldGrowBackoffWithJitterUpToMaxAttempts() {
+		
+		ExponentialBackoffRetryPolicy retryPolicy = new ExponentialBackoffRetryPolicy();
+		retryPolicy.setMaxAttempts(4);
+		retryPolicy.setInitialBackoff(100);
+		retryPolicy.setMaxBackoff(300);
+		
+		long first = retryPolicy.getBackoff(1);
+		long second = retryPolicy.getBackoff(2);
+		long third = retryPolicy.getBackoff(3);
+		
+		assertThat(first >= 50 && first <= 100, is(true));
+		assertThat(second >= 100 && second <= 200, is(true));
+		assertThat(third >= 150 && third <= 300, is(true));
+		assertThat(retryPolicy.getBackoff(4), is(-1L));
+	}
+	
+	@Test
+	public void shouldGiveUpWhenBudgetIsExhausted() {
+		
+		ExponentialBackoffRetryPolicy retryPolicy = new ExponentialBackoffRetryPolicy();
+		retryPolicy.setBudget(2);
+		retryPolicy.setBudgetWindow(60000);
+		
+		assertThat(retryPolicy.getBackoff(1) >= 0, is(true));
+		assertThat(retryPolicy.getBackoff(1) >= 0, is(true));
+		assertThat(retryPolicy.getBackoff(1), is(-1L));
+	}
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2002-2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.crate.core;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+/**
+ * 
+ * @author Hasnain Javed
+ * @since 1.0.0
+ */
+public class HedgingPolicyTest {
+	
+	@Test
+	public void shouldNotHedgeBeforeEnoughLatenciesAreRecorded() {
+		
+		HedgingPolicy policy = new HedgingPolicy();
+		policy.setMinSamples(10);
+		
+		for(int i = 0; i < 9; i++) {
+			policy.recordLatency(20);
+		}
+		
+		assertThat(policy.readStarted(), is(-1L));
+		
+		policy.recordLatency(20);
+		
+		assertThat(policy.readStarted(), is(20L));
+	}
+	
+	@Test
+	public void shouldDelayHedgeByPercentileOfLatencies() {
+		
+		HedgingPolicy policy = new HedgingPolicy(100);
+		policy.setMinSamples(100);
+		policy.setPercentile(90);
+		
+		for(int latency = 1; latency <= 100; latency++) {
+			policy.recordLatency(latency);
+		}
+		
+		assertThat(policy.getDelay(), is(90L));
+	}
+	
+	@Test
+	public void shouldNotDelayHedgeLessThanMinDelay() {
+		
+		HedgingPolicy policy = new HedgingPolicy();
+		policy.setMinSamples(1);
+		policy.setMinDelay(10);
+		policy.recordLatency(1);
+		
+		assertThat(policy.getDelay(), is(10L));
+	}
+	
+	@Test
+	public void shouldLimitHedgesToRatioOfReads() {
+		
+		HedgingPolicy policy = new HedgingPolicy();
+		policy.setMaxHedgeRatio(0.25);
+		
+		int hedges = 0;
+		
+		for(int i = 0; i < 100; i++) {
+			policy.readStarted();
+			if(policy.tryHedge()) {
+				hedges++;
+				policy.hedgeCompleted(false);
+			}
+		}
+		
+		assertThat(hedges, is(25));
+		assertThat(policy.getHedges(), is(25L));
+	}
+	
+	@Test
+	public void shouldLimitHedgesInFlight() {
+		
+		HedgingPolicy policy = new HedgingPolicy();
+		policy.setMaxHedgeRatio(1);
+		policy.setMaxConcurrentHedges(1);
+		
+		policy.readStarted();
+		policy.readStarted();
+		
+		assertThat(policy.tryHedge(), is(true));
+		assertThat(policy.tryHedge(), is(false));
+		
+		policy.hedgeCompleted(true);
+		
+		assertThat(policy.tryHedge(), is(true));
+		assertThat(policy.getHedgeWins(), is(1L));
+	}
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2002-2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.crate.core;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.crate.core.convert.CrateConverter;
+import org.springframework.data.crate.core.convert.MappingCrateConverter;
+import org.springframework.data.crate.core.mapping.CrateDocument;
+import org.springframework.data.crate.core.mapping.CrateMappingContext;
+
+/**
+ * @author Hasnain Javed
+ * @since 1.0.0
+ */
+public class NdjsonFileStagerTest {
+	
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+	
+	@Test
+	public void shouldStageEntitiesIntoCompressedFiles() throws IOException {
+		
+		NdjsonFileStager stager = new NdjsonFileStager(new MappingCrateConverter(new CrateMappingContext()), 
+													   folder.getRoot(), "import");
+		stager.setMaxRowsPerFile(2);
+		stager.setBufferSize(16);
+		
+		List<StagedFile> files = stager.stage(asList(new Entity("1", "crate"), new Entity("2", "spring"), 
+													 new Entity("3", "data")));
+		
+		assertThat(files.size(), is(2));
+		assertThat(files.get(0).getRows(), is(2L));
+		assertThat(files.get(0).getErrors(), is(0L));
+		assertThat(files.get(0).getUri(), startsWith("file:///"));
+		assertThat(files.get(0).getUri(), endsWith("import-00000.json.gz"));
+		assertThat(files.get(1).getRows(), is(1L));
+		
+		List<String> lines = readLines(files.get(1).getFile());
+		
+		assertThat(lines.size(), is(1));
+		assertThat(lines.get(0), startsWith("{"));
+		assertThat(lines.get(0).contains("\"id\":\"3\""), is(true));
+		assertThat(lines.get(0).contains("\"name\":\"data\""), is(true));
+	}
+	
+	@Test
+	public void shouldCountEntitiesFailingConversion() throws IOException {
+		
+		CrateConverter converter = mock(CrateConverter.class);
+		
+		doAnswer(new Answer<Void>() {
+			@Override
+			public Void answer(InvocationOnMock invocation) throws Throwable {
+				
+				Entity entity = (Entity)invocation.getArguments()[0];
+				
+				if(entity.name == null) {
+					throw new IllegalArgumentException("name must not be null");
+				}
+				
+				((CrateDocument)invocation.getArguments()[1]).put("id", entity.id);
+				
+				return null;
+			}
+		}).when(converter).write(any(), any(CrateDocument.class));
+		
+		NdjsonFileStager stager = new NdjsonFileStager(converter, folder.getRoot(), "import");
+		
+		List<StagedFile> files = stager.stage(asList(new Entity("1", "crate"), new Entity("2", null)));
+		
+		assertThat(files.size(), is(1));
+		assertThat(files.get(0).getRows(), is(1L));
+		assertThat(files.get(0).getErrors(), is(1L));
+		assertThat(readLines(files.get(0).getFile()), is(asList("{\"id\":\"1\"}")));
+	}
+	
+	private List<String> readLines(File file) throws IOException {
+		
+		List<String> lines = new ArrayList<>();
+		
+		try(BufferedReader reader = new BufferedReader(new InputStreamReader(new GZIPInputStream(new FileInputStream(file)), UTF_8))) {
+			
+			String line;
+			
+			while((line = reader.readLine()) != null) {
+				lines.add(line);
+			}
+		}
+		
+		return lines;
+	}
+	
+	static class Entity {
+		
+		@Id
+		String id;
+		String name;
+		
+		public Entity(String id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2002-2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.crate.core.admission;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.crate.AdmissionRejectedException;
+import org.springframework.data.crate.core.admission.AdmissionControl.Admission;
+import org.springframework.data.crate.core.admission.CircuitBreaker.State;
+
+/**
+ * 
+ * @author Hasnain Javed
+ * @since 1.0.0
+ */
+public class AdmissionControlTest {
+
+	@Test
+	public void shouldResolveTableOfStatement() {
+		
+		assertThat(AdmissionControl.getTableName("SELECT \"id\" FROM entity WHERE \"id\" = ?"), is("entity"));
+		assertThat(AdmissionControl.getTableName("INSERT INTO doc.Entity (\"id\") VALUES (?)"), is("doc.entity"));
+		assertThat(AdmissionControl.getTableName("UPDATE entity SET \"name\" = ?"), is("entity"));
+		assertThat(AdmissionControl.getTableName("REFRESH TABLE entity"), is("entity"));
+		assertThat(AdmissionControl.getTableName("SELECT 1"), is(nullValue()));
+	}
+	
+	@Test
+	public void shouldRejectStatementsExceedingBulkheadOfTable() {
+		
+		Bulkhead bulkhead = new Bulkhead(1);
+		
+		AdmissionControl control = new AdmissionControl();
+		control.setTableBulkhead("entity", bulkhead);
+		
+		Admission admission = control.admit("SELECT * FROM entity", 1, false);
+		
+		try {
+			control.admit("SELECT * FROM entity", 1, false);
+			fail("second statement must be rejected");
+		}catch(AdmissionRejectedException e) {
+			assertThat(bulkhead.getRejected(), is(1L));
+		}
+		
+		// other tables are not limited
+		control.admit("SELECT * FROM other", 1, false).complete(null);
+		
+		admission.complete(null);
+		control.admit("SELECT * FROM entity", 1, false).complete(null);
+		
+		assertThat(bulkhead.getAdmitted(), is(2L));
+		assertThat(bulkhead.getActive(), is(0));
+	}
+	
+	@Test
+	public void shouldReleaseTableBulkheadWhenOperationBulkheadRejects() {
+		
+		Bulkhead tableBulkhead = new Bulkhead(2);
+		Bulkhead bulkBulkhead = new Bulkhead(1);
+		
+		AdmissionControl control = new AdmissionControl();
+		control.setTableBulkhead("entity", tableBulkhead);
+		control.setOperationBulkhead(OperationClass.BULK, bulkBulkhead);
+		
+		control.admit("INSERT INTO entity (\"id\") VALUES (?)", 10, true);
+		
+		try {
+			control.admit("INSERT INTO entity (\"id\") VALUES (?)", 10, true);
+			fail("second bulk statement must be rejected");
+		}catch(AdmissionRejectedException e) {
+			assertThat(tableBulkhead.getActive(), is(1));
+		}
+	}
+	
+	@Test
+	public void shouldRejectBulkStatementsExceedingRateLimit() {
+		
+		RowRateLimiter rateLimiter = new RowRateLimiter(100);
+		rateLimiter.setMaxWait(0);
+		
+		AdmissionControl control = new AdmissionControl();
+		control.setBulkRateLimiter(rateLimiter);
+		
+		control.admit("INSERT INTO entity (\"id\") VALUES (?)", 100, true).complete(null);
+		
+		try {
+			control.admit("INSERT INTO entity (\"id\") VALUES (?)", 100, true);
+			fail("rows exceeding the rate must be rejected");
+		}catch(AdmissionRejectedException e) {
+			assertThat(rateLimiter.getRejected(), is(1L));
+		}
+		
+		// single row statements are not rate limited
+		control.admit("INSERT INTO entity (\"id\") VALUES (?)", 1, false).complete(null);
+	}
+	
+	@Test
+	public void shouldOpenCircuitBreakerOnConsecutiveResourceFailures() throws Exception {
+		
+		CircuitBreaker breaker = new CircuitBreaker();
+		breaker.setFailureThreshold(2);
+		breaker.setOpenDuration(20);
+		
+		AdmissionControl control = new AdmissionControl();
+		control.setCircuitBreaker(breaker);
+		
+		control.admit("SELECT * FROM entity", 1, false).complete(new DuplicateKeyException("duplicate"));
+		control.admit("SELECT * FROM entity", 1, false).complete(new DataAccessResourceFailureException("unavailable"));
+		
+		assertThat(breaker.getState(), is(State.CLOSED));
+		
+		control.admit("SELECT * FROM entity", 1, false).complete(new DataAccessResourceFailureException("unavailable"));
+		
+		assertThat(breaker.getState(), is(State.OPEN));
+		
+		try {
+			control.admit("SELECT * FROM entity", 1, false);
+			fail("statement must be rejected while the breaker is open");
+		}catch(AdmissionRejectedException e) {
+			assertThat(breaker.getRejected(), is(1L));
+		}
+		
+		Thread.sleep(30);
+		
+		Admission trial = control.admit("SELECT * FROM entity", 1, false);
+		
+		assertThat(breaker.getState(), is(State.HALF_OPEN));
+		
+		trial.complete(null);
+		
+		assertThat(breaker.getState(), is(State.CLOSED));
+	}
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2002-2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.crate.core.ingest;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.anyListOf;
+import static org.mockito.Mockito.when;
+import io.crate.action.sql.SQLBulkResponse.Result;
+
+import java.io.ByteArrayInputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.crate.core.BoundCrateOperations;
+import org.springframework.data.crate.core.BulkActionResult;
+import org.springframework.data.crate.core.BulkOperartionResult;
+import org.springframework.data.crate.core.CrateOperations;
+import org.springframework.data.crate.core.convert.MappingCrateConverter;
+import org.springframework.data.crate.core.mapping.CrateDocument;
+import org.springframework.data.crate.core.mapping.CrateMappingContext;
+
+/**
+ * @author Hasnain Javed
+ * @since 1.0.0
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class FileIngesterTest {
+	
+	@Mock
+	private CrateOperations crateOperations;
+	
+	@Mock
+	private BoundCrateOperations<Entity> boundOperations;
+	
+	private List<String> inserted;
+	
+	@Before
+	public void setup() {
+		
+		inserted = Collections.synchronizedList(new ArrayList<String>());
+		
+		when(crateOperations.getConverter()).thenReturn(new MappingCrateConverter(new CrateMappingContext()));
+		when(crateOperations.forEntity(Entity.class)).thenReturn(boundOperations);
+		when(boundOperations.bulkInsert(anyListOf(Entity.class))).thenAnswer(new Answer<BulkOperartionResult<Entity>>() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public BulkOperartionResult<Entity> answer(InvocationOnMock invocation) throws Throwable {
+				
+				BulkActionResult<Entity> result = new BulkActionResult<>();
+				
+				for(Entity entity : (List<Entity>)invocation.getArguments()[0]) {
+					if("duplicate".equals(entity.name)) {
+						result.addResult(new Result("DuplicateKeyException", -2L), entity);
+					}else {
+						inserted.add(entity.id);
+						result.addResult(new Result(null, 1L), entity);
+					}
+				}
+				
+				return result;
+			}
+		});
+	}
+	
+	@Test
+	public void shouldIngestNdjsonInChunksAndReportFailedLines() {
+		
+		FileIngester<Entity> ingester = new FileIngester<>(crateOperations, Entity.class);
+		ingester.setChunkSize(2);
+		ingester.setParallelism(2);
+		ingester.setMaxChunksInFlight(1);
+		
+		final AtomicInteger progressCalls = new AtomicInteger();
+		
+		ingester.setListener(new IngestionListener() {
+			@Override
+			public void onProgress(IngestionReport progress) {
+				progressCalls.incrementAndGet();
+			}
+		});
+		
+		IngestionReport report = ingester.ingest(channel("{\"id\":\"1\",\"name\":\"crate\"}\n" + 
+														 "{\"id\":\"2\",\"name\":\n" +
+														 "\n" +
+														 "{\"id\":\"3\",\"name\":\"duplicate\"}\n" +
+														 "{\"id\":\"4\",\"name\":\"spring\"}\n" +
+														 "{\"id\":\"5\",\"name\":\"data\"}\n"));
+		
+		assertThat(report.getRecords(), is(5L));
+		assertThat(report.getRows(), is(3L));
+		assertThat(report.getFailureCount(), is(2L));
+		assertThat(inserted, containsInAnyOrder("1", "4", "5"));
+		assertThat(progressCalls.get(), is(3));
+		
+		List<Long> failedLines = new ArrayList<>();
+		
+		for(RecordFailure failure : report.getFailures()) {
+			failedLines.add(failure.getLineNumber());
+		}
+		
+		assertThat(failedLines, containsInAnyOrder(2L, 4L));
+	}
+	
+	@Test
+	public void shouldIngestCsvWithRecordMapper() {
+		
+		FileIngester<Entity> ingester = new FileIngester<>(crateOperations, Entity.class);
+		ingester.setFormat(RecordFormat.CSV);
+		ingester.setRecordMapper(new RecordMapper<Entity>() {
+			@Override
+			public Entity map(CrateDocument record) {
+				
+				Entity entity = new Entity();
+				entity.id = (String)record.get("id");
+				entity.name = (String)record.get("name");
+				
+				return entity;
+			}
+		});
+		
+		IngestionReport report = ingester.ingest(channel("id,name\n1,\"crate, \"\"db\"\"\"\n2,spring,data\n"));
+		
+		assertThat(report.getRecords(), is(2L));
+		assertThat(report.getRows(), is(1L));
+		assertThat(report.getFailures().get(0).getLineNumber(), is(3L));
+		assertThat(inserted, is(asList("1")));
+	}
+	
+	private ReadableByteChannel channel(String content) {
+		return Channels.newChannel(new ByteArrayInputStream(content.getBytes(UTF_8)));
+	}
+	
+	static class Entity {
+		
+		@Id
+		String id;
+		String name;
+	}
+}
@@ -16,6 +16,7 @@
 
 package org.springframework.data.crate.core.mapping;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.singleton;
 import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.is;
@@ -28,6 +29,7 @@ import java.util.Set;
 import org.junit.Test;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.Version;
+import org.springframework.data.crate.core.mapping.annotations.PartitionRetention;
 import org.springframework.data.crate.core.mapping.annotations.Table;
 import org.springframework.data.crate.core.mapping.schema.ColumnPloicy;
 import static org.springframework.data.crate.core.mapping.schema.ColumnPloicy.*;
@@ -226,6 +228,40 @@ public class SimpleCratePersistentEntityTest {
 		assertThat(parameters.getColumnPloicy(), is(policy));
 	}
 	
+	@Test
+	public void shouldHaveShardingAndPartitioningParameters() {
+		
+		TableParameters parameters = prepareMappingContext(PartitionedEntity.class).
+						             getPersistentEntity(PartitionedEntity.class).
+						             getTableParameters();
+		
+		assertThat(parameters.getNumberOfShards(), is(4));
+		assertThat(parameters.getClusteredBy(), is("id"));
+		assertThat(parameters.getPartitionedBy(), is(asList("day")));
+		assertThat(parameters.isClustered(), is(true));
+		assertThat(parameters.isPartitioned(), is(true));
+	}
+	
+	@Test(expected=MappingException.class)
+	public void shouldNotCreatePersistentEntityWithUnknownPartitionColumn() {
+		prepareMappingContext(EntityWithUnknownPartitionColumn.class);
+	}
+	
+	@Test
+	public void shouldDefaultRetentionColumnToPartitionColumn() {
+		
+		CratePersistentEntity<?> entity = prepareMappingContext(EntityWithRetention.class).
+										  getPersistentEntity(EntityWithRetention.class);
+		
+		assertThat(entity.getRetentionDays(), is(30));
+		assertThat(entity.getRetentionColumn(), is("day"));
+	}
+	
+	@Test(expected=MappingException.class)
+	public void shouldNotCreatePersistentEntityWithRetentionOnUnpartitionedTable() {
+		prepareMappingContext(UnpartitionedEntityWithRetention.class);
+	}
+	
 	private static CrateMappingContext prepareMappingContext(Class<?> type) {
 		
 		CrateMappingContext mappingContext = new CrateMappingContext();
@@ -235,6 +271,32 @@ public class SimpleCratePersistentEntityTest {
 		return mappingContext;
 	}
 	
+	@Table(numberOfShards=4, clusteredBy="id", partitionedBy="day")
+	static class PartitionedEntity {
+		String id;
+		long day;
+	}
+	
+	@Table(partitionedBy="day")
+	@PartitionRetention(days=30)
+	static class EntityWithRetention {
+		String id;
+		long day;
+	}
+	
+	@Table
+	@PartitionRetention(days=30, column="day")
+	static class UnpartitionedEntityWithRetention {
+		String id;
+		long day;
+	}
+	
+	@Table(partitionedBy="month")
+	static class EntityWithUnknownPartitionColumn {
+		String id;
+		long day;
+	}
+	
 	@Table
 	static class EntityWithInvalidColumnName {
 		String _stringColumn;
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2002-2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.crate.core.mapping.event;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertThat;
+import static org.springframework.data.crate.core.mapping.event.AsyncCrateEventDispatcher.OverflowPolicy.BLOCK;
+import static org.springframework.data.crate.core.mapping.event.AsyncCrateEventDispatcher.OverflowPolicy.CALLER_RUNS;
+import static org.springframework.data.crate.core.mapping.event.AsyncCrateEventDispatcher.OverflowPolicy.DISCARD;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * @author Hasnain Javed
+ * @since 1.0.0
+ */
+public class AsyncCrateEventDispatcherTest {
+
+	private AsyncCrateEventDispatcher dispatcher;
+
+	@After
+	public void teardown() throws Exception {
+		dispatcher.destroy();
+	}
+
+	@Test
+	public void shouldPublishBeforeEventsOnCallingThread() {
+
+		dispatcher = new AsyncCrateEventDispatcher(2, 10, CALLER_RUNS);
+
+		RecordingPublisher publisher = new RecordingPublisher();
+
+		dispatcher.dispatch(publisher, new BeforeSaveEvent<Object>("entity", null), "id");
+
+		assertThat(publisher.threads.get(0), is(Thread.currentThread()));
+	}
+
+	@Test
+	public void shouldPublishAfterEventsInOrderPerKey() throws Exception {
+
+		dispatcher = new AsyncCrateEventDispatcher(4, 2, BLOCK);
+
+		RecordingPublisher publisher = new RecordingPublisher();
+
+		for(int index = 0; index < 100; index++) {
+			dispatcher.dispatch(publisher, new AfterDeleteEvent<Object>(index), "id");
+		}
+
+		dispatcher.destroy();
+
+		assertThat(publisher.events.size(), is(100));
+		assertThat(publisher.threads.get(0), is(not(Thread.currentThread())));
+
+		for(int index = 0; index < 100; index++) {
+			assertThat((Integer)publisher.events.get(index).getSource(), is(index));
+		}
+	}
+
+	@Test
+	public void shouldDiscardEventsWhenLaneIsFull() throws Exception {
+
+		dispatcher = new AsyncCrateEventDispatcher(1, 1, DISCARD);
+
+		final CountDownLatch release = new CountDownLatch(1);
+
+		ApplicationEventPublisher blocking = new ApplicationEventPublisher() {
+			@Override
+			public void publishEvent(ApplicationEvent event) {
+				try {
+					release.await(5, TimeUnit.SECONDS);
+				}catch(InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		};
+
+		for(int index = 0; index < 10; index++) {
+			dispatcher.dispatch(blocking, new AfterDeleteEvent<Object>(index), null);
+		}
+
+		release.countDown();
+
+		assertThat(dispatcher.getDiscardedEvents(), is(greaterThan(0L)));
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void shouldNotAllowBeforeEventsToBeAsync() {
+
+		dispatcher = new AsyncCrateEventDispatcher();
+		dispatcher.setAsyncEventTypes(asList(new Class<?>[] { AfterSaveEvent.class, BeforeSaveEvent.class }));
+	}
+
+	static class RecordingPublisher implements ApplicationEventPublisher {
+
+		final List<ApplicationEvent> events = Collections.synchronizedList(new ArrayList<ApplicationEvent>());
+		final List<Thread> threads = Collections.synchronizedList(new ArrayList<Thread>());
+
+		@Override
+		public void publishEvent(ApplicationEvent event) {
+			events.add(event);
+			threads.add(Thread.currentThread());
+		}
+	}
+}
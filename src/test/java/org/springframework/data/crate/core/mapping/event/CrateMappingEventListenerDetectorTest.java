@@ -0,0 +1,159 @@
+/*
+ * Copyright 2002-2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.crate.core.mapping.event;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.List;
+
+import javax.validation.Validation;
+
+import org.junit.Test;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.data.crate.core.mapping.CrateDocument;
+
+/**
+ * @author Hasnain Javed
+ * @since 1.0.0
+ */
+public class CrateMappingEventListenerDetectorTest {
+
+	@Test
+	public void shouldNotDetectListenersInEmptyContext() {
+
+		CrateMappingEventListenerDetector detector = detectorFor();
+
+		assertThat(detector.hasListeners(BeforeSaveEvent.class, User.class), is(false));
+		assertThat(detector.hasListeners(AfterLoadEvent.class, User.class), is(false));
+	}
+
+	@Test
+	public void shouldDetectOverriddenCallbacksOnly() {
+
+		CrateMappingEventListenerDetector detector = detectorFor(AfterSaveUserListener.class, RefreshListener.class);
+
+		assertThat(detector.hasListeners(AfterSaveEvent.class, User.class), is(true));
+		assertThat(detector.hasListeners(BeforeSaveEvent.class, User.class), is(false));
+		assertThat(detector.hasListeners(BeforeConvertEvent.class, User.class), is(false));
+		assertThat(detector.hasListeners(AfterSaveEvent.class, String.class), is(false));
+	}
+
+	@Test
+	public void shouldDetectBulkCallbacks() {
+
+		CrateMappingEventListenerDetector detector = detectorFor(BulkUserListener.class);
+
+		assertThat(detector.hasListeners(BeforeBulkSaveEvent.class, User.class), is(true));
+		assertThat(detector.hasListeners(AfterBulkSaveEvent.class, User.class), is(false));
+		assertThat(detector.hasListeners(BeforeSaveEvent.class, User.class), is(false));
+	}
+
+	@Test
+	public void shouldNotDetectBulkAwareListenersForRowsOfBulkOperations() {
+
+		GenericApplicationContext context = new GenericApplicationContext();
+		ValidatingCrateEventListener listener = new ValidatingCrateEventListener(Validation.buildDefaultValidatorFactory().getValidator());
+		listener.setBulkValidation(true);
+		context.getBeanFactory().registerSingleton("validatingListener", listener);
+		context.refresh();
+
+		CrateMappingEventListenerDetector detector = new CrateMappingEventListenerDetector(context);
+
+		assertThat(detector.hasListeners(BeforeSaveEvent.class, User.class, true), is(false));
+		assertThat(detector.hasListeners(BeforeSaveEvent.class, User.class, false), is(true));
+		assertThat(detector.hasListeners(BeforeBulkSaveEvent.class, User.class), is(true));
+	}
+
+	@Test
+	public void shouldNotDetectBulkCallbackOfValidationWithoutBulkValidation() {
+
+		GenericApplicationContext context = new GenericApplicationContext();
+		ValidatingCrateEventListener listener = new ValidatingCrateEventListener(Validation.buildDefaultValidatorFactory().getValidator());
+		context.getBeanFactory().registerSingleton("validatingListener", listener);
+		context.refresh();
+
+		CrateMappingEventListenerDetector detector = new CrateMappingEventListenerDetector(context);
+
+		assertThat(detector.hasListeners(BeforeBulkSaveEvent.class, User.class), is(false));
+		assertThat(detector.hasListeners(BeforeSaveEvent.class, User.class, true), is(true));
+	}
+
+	@Test
+	public void shouldConsiderGenericListenersToHandleAllEvents() {
+
+		CrateMappingEventListenerDetector detector = detectorFor(AllEventsListener.class);
+
+		assertThat(detector.hasListeners(BeforeSaveEvent.class, User.class), is(true));
+		assertThat(detector.hasListeners(AfterDeleteEvent.class, String.class), is(true));
+	}
+
+	@Test
+	public void shouldDetectListenersRegisteredBeforeRefresh() {
+
+		GenericApplicationContext context = new GenericApplicationContext();
+		CrateMappingEventListenerDetector detector = new CrateMappingEventListenerDetector(context);
+		context.addApplicationListener(detector);
+
+		assertThat(detector.hasListeners(AfterSaveEvent.class, User.class), is(false));
+
+		context.registerBeanDefinition("listener", new RootBeanDefinition(AfterSaveUserListener.class));
+		context.refresh();
+
+		assertThat(detector.hasListeners(AfterSaveEvent.class, User.class), is(true));
+	}
+
+	private CrateMappingEventListenerDetector detectorFor(Class<?>... listenerTypes) {
+
+		GenericApplicationContext context = new GenericApplicationContext();
+
+		for(Class<?> listenerType : listenerTypes) {
+			context.registerBeanDefinition(listenerType.getSimpleName(), new RootBeanDefinition(listenerType));
+		}
+
+		context.refresh();
+
+		return new CrateMappingEventListenerDetector(context);
+	}
+
+	static class AfterSaveUserListener extends AbstractCrateEventListener<User> {
+		@Override
+		public void onAfterSave(User source, CrateDocument document) {
+		}
+	}
+
+	static class BulkUserListener extends AbstractCrateEventListener<User> {
+		@Override
+		public void onBeforeBulkSave(List<User> sources, List<CrateDocument> documents) {
+		}
+	}
+
+	static class AllEventsListener implements ApplicationListener<ApplicationEvent> {
+		@Override
+		public void onApplicationEvent(ApplicationEvent event) {
+		}
+	}
+
+	static class RefreshListener implements ApplicationListener<ContextRefreshedEvent> {
+		@Override
+		public void onApplicationEvent(ContextRefreshedEvent event) {
+		}
+	}
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2002-2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.crate.core.mapping.event;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import javax.validation.Validation;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.crate.core.mapping.CrateDocument;
+
+/**
+ * @author Hasnain Javed
+ * @since 1.0.0
+ */
+public class ValidatingCrateEventListenerBulkTest {
+
+	private ValidatingCrateEventListener listener;
+	private ForkJoinPool pool;
+
+	@Before
+	public void setup() {
+		pool = new ForkJoinPool(4);
+		listener = new ValidatingCrateEventListener(Validation.buildDefaultValidatorFactory().getValidator());
+		listener.setBulkValidation(true);
+		listener.setThreshold(8);
+		listener.setPool(pool);
+	}
+
+	@After
+	public void teardown() throws Exception {
+		listener.destroy();
+		pool.shutdown();
+	}
+
+	@Test
+	public void shouldRejectInvalidEntitiesByIndex() {
+
+		List<Object> users = new ArrayList<>();
+
+		for(int index = 0; index < 100; index++) {
+			users.add(index % 10 == 0 ? new User("id" + index, "hasnain", 10) : new User("id" + index, "hasnain javed", 34));
+		}
+
+		BeforeBulkSaveEvent<Object> event = new BeforeBulkSaveEvent<>(users, documentsOf(users), Object.class);
+
+		listener.onApplicationEvent(event);
+
+		assertThat(event.getRejections().size(), is(10));
+
+		for(int index = 0; index < 100; index++) {
+			assertThat(event.isRejected(index), is(index % 10 == 0));
+		}
+
+		assertThat(event.getRejections().get(0), containsString("age"));
+		assertThat(event.getRejections().get(0), containsString("name"));
+	}
+
+	@Test
+	public void shouldNotValidateBulkWhenDisabled() {
+
+		listener.setBulkValidation(false);
+
+		List<Object> users = new ArrayList<>();
+		users.add(new User("id", "hasnain", 10));
+
+		BeforeBulkSaveEvent<Object> event = new BeforeBulkSaveEvent<>(users, documentsOf(users), Object.class);
+
+		listener.onApplicationEvent(event);
+
+		assertThat(event.getRejections().isEmpty(), is(true));
+	}
+
+	@Test
+	public void shouldNotShutDownPoolSetFromOutside() throws Exception {
+
+		listener.destroy();
+
+		assertThat(pool.isShutdown(), is(false));
+	}
+
+	@Test
+	public void shouldSkipPerEntityValidationOfBulkRows() {
+
+		listener.onApplicationEvent(new BeforeSaveEvent<Object>(new User("id", "hasnain", 10), null, true));
+	}
+
+	@Test
+	public void shouldNotValidateBeforeBulkConvert() {
+
+		List<Object> users = new ArrayList<>();
+		users.add(new User("id", "hasnain", 10));
+
+		BeforeBulkConvertEvent<Object> event = new BeforeBulkConvertEvent<>(users, Object.class);
+
+		listener.onApplicationEvent(event);
+
+		assertThat(event.getRejections().isEmpty(), is(true));
+	}
+
+	private static List<CrateDocument> documentsOf(List<Object> entities) {
+
+		List<CrateDocument> documents = new ArrayList<>(entities.size());
+
+		for(int index = 0; index < entities.size(); index++) {
+			documents.add(new CrateDocument());
+		}
+
+		return documents;
+	}
+}
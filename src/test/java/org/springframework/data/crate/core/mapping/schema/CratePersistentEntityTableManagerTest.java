@@ -27,6 +27,7 @@ import static org.springframework.data.crate.core.mapping.CrateDataType.STRING;
 import static org.springframework.data.crate.core.mapping.schema.ColumnPloicy.DYNAMIC;
 import static org.springframework.data.crate.core.sql.CrateSQLStatement.NO_OF_REPLICAS;
 
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -138,6 +139,22 @@ public class CratePersistentEntityTableManagerTest {
 		assertThat(def.getColumns().get(0).getCrateType(), is(LONG));
 	}
 	
+	@Test
+	public void shouldPickUpColumnWithIndex() {
+		
+		TableMetadata tableMetadata = new TableMetadata("levelZeroWithIndex", asList(new ColumnMetadata("field1", STRING)), 
+														DEFAULT_PARAMS);
+		
+		initMappingContext(LevelZeroWithIndex.class);
+		
+		AlterTableDefinition def = tableManager.alterDefinition(mappingContext.getPersistentEntity(LevelZeroWithIndex.class),
+																tableMetadata);
+		assertThat(def.getColumns().size(), is(1));
+		assertThat(def.getColumns().get(0).getName(), is("field2"));
+		assertThat(def.getColumns().get(0).getIndexType(), is(IndexType.FULLTEXT));
+		assertThat(def.getColumns().get(0).getAnalyzer(), is("english"));
+	}
+	
 	@Test
 	public void shouldPickUpObjectColumn() {
 		
@@ -237,6 +254,34 @@ public class CratePersistentEntityTableManagerTest {
 		assertThat(paramDef.getParameterValue().toString(), is("2"));
 	}
 
+	@Test
+	public void shouldReportChangedShardingAndPartitioning() {
+		
+		initMappingContext(PartitionedTable.class);
+		
+		TableParameters dbParams = new TableParameters("1", 1000, DYNAMIC, 5, "_id", Collections.<String>emptyList());
+		TableMetadata tableMetadata = new TableMetadata("partitioned", asList(new ColumnMetadata("day", LONG)), dbParams);
+		
+		List<String> mismatches = tableManager.validateDefinition(mappingContext.getPersistentEntity(PartitionedTable.class), 
+																  tableMetadata);
+		
+		assertThat(mismatches.size(), is(3));
+	}
+	
+	@Test
+	public void shouldNotReportMatchingShardingAndPartitioning() {
+		
+		initMappingContext(PartitionedTable.class);
+		
+		TableParameters dbParams = new TableParameters("1", 1000, DYNAMIC, 4, "id", asList("day"));
+		TableMetadata tableMetadata = new TableMetadata("partitioned", asList(new ColumnMetadata("day", LONG)), dbParams);
+		
+		List<String> mismatches = tableManager.validateDefinition(mappingContext.getPersistentEntity(PartitionedTable.class), 
+																  tableMetadata);
+		
+		assertThat(mismatches.isEmpty(), is(true));
+	}
+	
 	private void initMappingContext(Class<?> clazz) {
 		mappingContext.setInitialEntitySet(singleton(clazz));
 		mappingContext.initialize();
@@ -282,6 +327,13 @@ public class CratePersistentEntityTableManagerTest {
 		Long field2;
 	}
 	
+	@Table(name="levelZeroWithIndex")
+	static class LevelZeroWithIndex {
+		String field1;
+		@org.springframework.data.crate.core.mapping.annotations.Column(index=IndexType.FULLTEXT, analyzer="english")
+		String field2;
+	}
+	
 	@Table(name="levelOne")
 	static class LevelOne {
 		LevelZero zero;
@@ -308,4 +360,10 @@ public class CratePersistentEntityTableManagerTest {
 	public class TableParams {
 		String field1;
 	}
+	
+	@Table(name="partitioned", numberOfShards=4, clusteredBy="id", partitionedBy="day")
+	static class PartitionedTable {
+		String id;
+		Long day;
+	}
 }
\ No newline at end of file
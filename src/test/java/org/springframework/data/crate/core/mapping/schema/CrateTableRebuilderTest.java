@@ -0,0 +1,179 @@
+package org.springframework.data.crate.core.mapping.schema;
+
+import static java.util.Collections.singleton;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.data.crate.core.mapping.schema.ColumnPloicy.DYNAMIC;
+
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.InvalidDataAccessResourceUsageException;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.crate.core.CopyTableOptions;
+import org.springframework.data.crate.core.CrateAction;
+import org.springframework.data.crate.core.CrateOperations;
+import org.springframework.data.crate.core.convert.CrateConverter;
+import org.springframework.data.crate.core.convert.MappingCrateConverter;
+import org.springframework.data.crate.core.mapping.CrateMappingContext;
+import org.springframework.data.crate.core.mapping.annotations.Table;
+import org.springframework.data.mapping.model.MappingException;
+
+/**
+ * @author Hasnain Javed
+ * @since 1.0.0
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class CrateTableRebuilderTest {
+
+	private static final TableParameters PARAMS = new TableParameters("1", 1000, DYNAMIC, 12, null,
+																	  Collections.<String>emptyList());
+
+	@Mock
+	private CrateOperations crateOperations;
+
+	private CrateMappingContext mappingContext;
+	private CrateConverter crateConverter;
+
+	@Before
+	public void setup() {
+		mappingContext = new CrateMappingContext();
+		crateConverter = new MappingCrateConverter(mappingContext);
+		when(crateOperations.getConverter()).thenReturn(crateConverter);
+		when(crateOperations.resolveTableName("person")).thenReturn("person");
+	}
+
+	@Test
+	public void shouldCopyIntoRebuiltTableBeforeSwitchingTable() {
+
+		initializeMappingContext(Person.class);
+
+		when(crateOperations.copyTable(eq("person"), eq("person_v2"), any(CopyTableOptions.class))).thenReturn(5L);
+
+		CrateTableRebuilder rebuilder = new CrateTableRebuilder(crateOperations);
+		rebuilder.setBatchSize(100);
+
+		long copied = rebuilder.rebuild(Person.class, "person_v2", PARAMS);
+
+		assertThat(copied, is(5L));
+
+		ArgumentCaptor<CrateAction> createTable = ArgumentCaptor.forClass(CrateAction.class);
+		ArgumentCaptor<CopyTableOptions> options = ArgumentCaptor.forClass(CopyTableOptions.class);
+
+		InOrder order = inOrder(crateOperations);
+		order.verify(crateOperations).execute(createTable.capture());
+		order.verify(crateOperations).mirrorWrites("person", "person_v2");
+		order.verify(crateOperations).refreshTable("person");
+		order.verify(crateOperations).copyTable(eq("person"), eq("person_v2"), options.capture());
+		order.verify(crateOperations).reapplyMirroredDeletes(Person.class, "person");
+		order.verify(crateOperations).refreshTable("person_v2");
+		order.verify(crateOperations).switchTable("person", "person_v2");
+
+		assertThat(createTable.getValue().getSQLStatement(), startsWith("CREATE TABLE person_v2"));
+		assertThat(createTable.getValue().getSQLStatement(), containsString("INTO 12 SHARDS"));
+		assertThat(options.getValue().getKeyColumn(), is("id"));
+		assertThat(options.getValue().getBatchSize(), is(100));
+		verify(crateOperations, never()).stopMirroringWrites(anyString());
+	}
+
+	@Test
+	public void shouldStopMirroringWritesWhenCopyFails() {
+
+		initializeMappingContext(Person.class);
+
+		when(crateOperations.copyTable(eq("person"), eq("person_v2"), any(CopyTableOptions.class)))
+			.thenThrow(new InvalidDataAccessResourceUsageException("Error!!"));
+
+		try {
+			new CrateTableRebuilder(crateOperations).rebuild(Person.class, "person_v2", PARAMS);
+			fail("copy failure must be rethrown");
+		}catch(InvalidDataAccessResourceUsageException e) {
+			verify(crateOperations).stopMirroringWrites("person");
+			verify(crateOperations, never()).switchTable(anyString(), anyString());
+		}
+	}
+
+	@Test
+	public void shouldNotSwitchTableWhenWritesFailedToBeMirrored() {
+
+		initializeMappingContext(Person.class);
+
+		when(crateOperations.getMirrorFailures("person")).thenReturn(2);
+
+		try {
+			new CrateTableRebuilder(crateOperations).rebuild(Person.class, "person_v2", PARAMS);
+			fail("mirror failures must fail the rebuild");
+		}catch(DataIntegrityViolationException e) {
+			verify(crateOperations).stopMirroringWrites("person");
+			verify(crateOperations, never()).switchTable(anyString(), anyString());
+		}
+	}
+
+	@Test(expected=MappingException.class)
+	public void shouldNotRebuildTableOfEntityWithoutId() {
+
+		initializeMappingContext(NoIdPerson.class);
+
+		new CrateTableRebuilder(crateOperations).rebuild(NoIdPerson.class, "person_v2", PARAMS);
+	}
+
+	@Test
+	public void shouldNotRebuildTableOfEntityWithCompositeId() {
+
+		initializeMappingContext(CompositeIdPerson.class);
+
+		try {
+			new CrateTableRebuilder(crateOperations).rebuild(CompositeIdPerson.class, "person_v2", PARAMS);
+			fail("composite id must be rejected");
+		}catch(MappingException e) {
+			verify(crateOperations, never()).execute(any(CrateAction.class));
+			verify(crateOperations, never()).mirrorWrites(anyString(), anyString());
+		}
+	}
+
+	private void initializeMappingContext(Class<?> type) {
+		mappingContext.setInitialEntitySet(singleton(type));
+		mappingContext.initialize();
+	}
+
+	@Table(name="person")
+	static class Person {
+		@Id
+		private String id;
+		private String name;
+	}
+
+	@Table(name="person")
+	static class NoIdPerson {
+		private String name;
+	}
+
+	@Table(name="person")
+	static class CompositeIdPerson {
+		@Id
+		private PersonKey id;
+		private String name;
+	}
+
+	static class PersonKey {
+		private String firstName;
+		private String lastName;
+	}
+}
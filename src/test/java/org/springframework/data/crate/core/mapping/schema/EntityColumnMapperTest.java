@@ -47,8 +47,10 @@ import org.junit.runners.Suite.SuiteClasses;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.crate.InvalidCrateApiUsageException;
 import org.springframework.data.crate.core.CyclicReferenceException;
+import org.springframework.data.mapping.model.MappingException;
 import org.springframework.data.crate.core.mapping.CrateMappingContext;
 import org.springframework.data.crate.core.mapping.schema.EntityColumnMapperTest.CollectionTypeColumnMappingTest;
+import org.springframework.data.crate.core.mapping.schema.EntityColumnMapperTest.ColumnAnnotationMappingTest;
 import org.springframework.data.crate.core.mapping.schema.EntityColumnMapperTest.EntityTypeColumnMappingTest;
 import org.springframework.data.crate.core.mapping.schema.EntityColumnMapperTest.MapTypeColumnMappingTest;
 import org.springframework.data.crate.core.mapping.schema.EntityColumnMapperTest.PrimaryKeyColumnMappingTest;
@@ -62,7 +64,7 @@ import org.springframework.data.crate.core.mapping.schema.EntityColumnMapperTest
 @RunWith(Suite.class)
 @SuiteClasses({ PrimitivesColumnMappingTest.class, CollectionTypeColumnMappingTest.class, 
 				MapTypeColumnMappingTest.class, EntityTypeColumnMappingTest.class,
-				PrimaryKeyColumnMappingTest.class})
+				PrimaryKeyColumnMappingTest.class, ColumnAnnotationMappingTest.class})
 public class EntityColumnMapperTest {
 
 	/**
@@ -662,6 +664,92 @@ public class EntityColumnMapperTest {
 		}
 	}
 	
+	/**
+	 * 
+	 * @author Hasnain Javed
+	 * @since 1.0.0 
+	 */
+	public static class ColumnAnnotationMappingTest {
+		
+		@Test
+		public void shouldMapIndexAndPolicyOfColumns() {
+			
+			List<Column> columns = initMappingContextAndGetColumns(EntityWithColumnAnnotations.class);
+			
+			assertThat(columns.size(), is(5));
+			
+			for(Column column : columns) {
+				switch(column.getName()) {
+				case "text":
+					assertThat(column.getIndexType(), is(IndexType.FULLTEXT));
+					assertThat(column.getAnalyzer(), is("english"));
+					break;
+				case "payload":
+					assertThat(column.getIndexType(), is(IndexType.OFF));
+					break;
+				case "notIndexed":
+					assertThat(column.getIndexType(), is(IndexType.OFF));
+					break;
+				case "attributes":
+					assertThat(column.getObjectColumnPolicy(), is(ObjectColumnPolicy.IGNORED));
+					break;
+				case "nested":
+					assertThat(column.getObjectColumnPolicy(), is(ObjectColumnPolicy.STRICT));
+					break;
+				default:
+					throw new AssertionError(column.getName());
+				}
+			}
+		}
+		
+		@Test(expected=MappingException.class)
+		public void shouldNotMapAnalyzerWithoutFulltextIndex() {
+			initMappingContextAndGetColumns(EntityWithAnalyzerOnly.class);
+		}
+		
+		@Test(expected=MappingException.class)
+		public void shouldNotMapFulltextIndexOfNonStringColumn() {
+			initMappingContextAndGetColumns(EntityWithFulltextLong.class);
+		}
+		
+		@Test(expected=MappingException.class)
+		public void shouldNotMapPolicyOfPrimitiveColumn() {
+			initMappingContextAndGetColumns(EntityWithPrimitivePolicy.class);
+		}
+		
+		static class EntityWithColumnAnnotations {
+			@org.springframework.data.crate.core.mapping.annotations.Column(index=IndexType.FULLTEXT, analyzer="english")
+			String text;
+			@org.springframework.data.crate.core.mapping.annotations.Column(storageOnly=true)
+			String payload;
+			@org.springframework.data.crate.core.mapping.annotations.Column(index=IndexType.OFF)
+			Long notIndexed;
+			@org.springframework.data.crate.core.mapping.annotations.Column(storageOnly=true)
+			Map<String, Object> attributes;
+			@org.springframework.data.crate.core.mapping.annotations.Column(policy=ObjectColumnPolicy.STRICT)
+			LevelOne nested;
+		}
+		
+		static class LevelOne {
+			String levelOneString;
+		}
+		
+		static class EntityWithAnalyzerOnly {
+			@org.springframework.data.crate.core.mapping.annotations.Column(analyzer="english")
+			String text;
+		}
+		
+		static class EntityWithFulltextLong {
+			@org.springframework.data.crate.core.mapping.annotations.Column(index=IndexType.FULLTEXT)
+			Long number;
+		}
+		
+		static class EntityWithPrimitivePolicy {
+			@org.springframework.data.crate.core.mapping.annotations.Column(policy=ObjectColumnPolicy.STRICT)
+			String text;
+		}
+	}
+	
 	private static List<Column> initMappingContextAndGetColumns(Class<?> type) {
 		CrateMappingContext mappingContext = prepareMappingContext(type);
 		return new EntityColumnMapper(mappingContext).toColumns(mappingContext.getPersistentEntity(type)); 
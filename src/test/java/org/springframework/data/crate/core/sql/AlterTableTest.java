@@ -26,6 +26,8 @@ import java.util.Set;
 
 import org.junit.Test;
 import org.springframework.data.crate.core.mapping.schema.Column;
+import org.springframework.data.crate.core.mapping.schema.IndexType;
+import org.springframework.data.crate.core.mapping.schema.ObjectColumnPolicy;
 
 /**
  * 
@@ -139,6 +141,34 @@ public class AlterTableTest {
 		assertThat(statement.createStatement(), is(sql.toString()));
 	}
 	
+	@Test
+	public void shouldAddColumnWithIndexOff() {
+		
+		Column column = createColumn("payload", String.class, null, false);
+		column.setIndexType(IndexType.OFF);
+		
+		CrateSQLStatement statement = new AlterTable("testTable", column);
+		
+		assertThat(statement.createStatement(), is("ALTER TABLE testTable ADD COLUMN \"payload\" string INDEX OFF"));
+	}
+	
+	@Test
+	public void shouldAddStrictObjectColumnWithFulltextSubColumn() {
+		
+		Column textCol = createColumn("text", String.class, null, false);
+		textCol.setIndexType(IndexType.FULLTEXT);
+		Column objectCol = createColumn("entity.nested", Object.class, null, false);
+		objectCol.setObjectColumnPolicy(ObjectColumnPolicy.STRICT);
+		objectCol.setSubColumns(asList(textCol));
+		
+		CrateSQLStatement statement = new AlterTable("testTable", objectCol);
+		
+		StringBuilder sql = new StringBuilder("ALTER TABLE testTable ADD COLUMN \"entity\"['nested'] ");
+		sql.append("object(strict) AS (\"text\" string INDEX USING FULLTEXT)");
+		
+		assertThat(statement.createStatement(), is(sql.toString()));
+	}
+	
 	private Column createColumn(String name, Class<?> type, Class<?> elementType, Boolean primaryKey) {
 		Column column = null;
 		if(elementType != null) {
@@ -0,0 +1,40 @@
+package org.springframework.data.crate.core.sql;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * 
+ * @author Hasnain Javed
+ * @since 1.0.0
+ */
+public class CopyFromTest {
+
+	@Test
+	public void shouldCreateCopyFromStatement() {
+		
+		CrateSQLStatement statement = new CopyFrom("entity", "file:///tmp/import-*.json", Collections.<String, Object>emptyMap());
+		
+		assertThat(statement.createStatement(), is("COPY entity FROM 'file:///tmp/import-*.json'"));
+	}
+	
+	@Test
+	public void shouldCreateCopyFromStatementWithParameters() {
+		
+		Map<String, Object> parameters = new LinkedHashMap<>();
+		parameters.put("bulk_size", 5000);
+		parameters.put("shared", true);
+		parameters.put("compression", "gzip");
+		
+		CrateSQLStatement statement = new CopyFrom("entity", "file:///tmp/import's/*.json.gz", parameters);
+		
+		assertThat(statement.createStatement(), is("COPY entity FROM 'file:///tmp/import''s/*.json.gz' " + 
+													"WITH (bulk_size = 5000, shared = true, compression = 'gzip')"));
+	}
+}
@@ -0,0 +1,38 @@
+package org.springframework.data.crate.core.sql;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.Collections;
+
+import org.junit.Test;
+
+/**
+ * 
+ * @author Hasnain Javed
+ * @since 1.0.0
+ */
+public class CopyToTest {
+
+	@Test
+	public void shouldCreateCopyToStatement() {
+		
+		CrateSQLStatement statement = new CopyTo("entity", "file:///tmp/export", Collections.<String>emptyList(), 
+												 Collections.<String>emptyList(), Collections.<String, Object>emptyMap());
+		
+		assertThat(statement.createStatement(), is("COPY entity TO DIRECTORY 'file:///tmp/export'"));
+	}
+	
+	@Test
+	public void shouldCreateCopyToStatementForPartitionAndColumns() {
+		
+		CrateSQLStatement statement = new CopyTo("entity", "file:///tmp/export", asList("day", "country"), 
+												 asList("name", "address.city"), 
+												 Collections.<String, Object>singletonMap("compression", "gzip"));
+		
+		assertThat(statement.createStatement(), is("COPY entity PARTITION (\"day\" = ?, \"country\" = ?) " + 
+													"(\"name\", \"address\"['city']) TO DIRECTORY 'file:///tmp/export' " + 
+													"WITH (compression = 'gzip')"));
+	}
+}
@@ -20,6 +20,7 @@ import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertThat;
 import static org.springframework.data.crate.core.mapping.schema.ColumnPloicy.STRICT;
 
+import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
 
@@ -27,6 +28,8 @@ import org.junit.Test;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.crate.core.mapping.annotations.Table;
 import org.springframework.data.crate.core.mapping.schema.Column;
+import org.springframework.data.crate.core.mapping.schema.IndexType;
+import org.springframework.data.crate.core.mapping.schema.ObjectColumnPolicy;
 import org.springframework.data.crate.core.mapping.schema.TableDefinition;
 import org.springframework.data.crate.core.mapping.schema.TableParameters;
 
@@ -179,6 +182,80 @@ public class CreateTableTest {
 		assertThat(statement.createStatement(), is(sql.toString()));
 	}
 	
+	@Test
+	public void shouldCreateStatementWithClusteredAndPartitionedBy() {
+		
+		Column idCol = createColumn("id", String.class, null, false);
+		Column dayCol = createColumn("day", Long.class, null, false);
+		TableParameters parameters = new TableParameters("1", 1000, STRICT, 6, "id", asList("day"));
+		TableDefinition tableDefinition = createTableDefinition("entity", parameters, idCol, dayCol);
+		
+		CrateSQLStatement statement = new CreateTable(tableDefinition);
+		
+		StringBuilder sql = new StringBuilder("CREATE TABLE entity (\"entity_class\" string, \"id\" string, \"day\" long) ");
+		sql.append("CLUSTERED BY (\"id\") INTO 6 SHARDS PARTITIONED BY (\"day\") ");
+		sql.append("WITH (number_of_replicas='1', refresh_interval='1000', column_policy='strict')");
+		assertThat(statement.createStatement(), is(sql.toString()));
+	}
+	
+	@Test
+	public void shouldCreateCompositePrimaryKeyWithPartitionColumn() {
+		
+		Column idCol = createColumn("id", String.class, null, true);
+		Column dayCol = createColumn("day", Long.class, null, false);
+		Column nameCol = createColumn("name", String.class, null, false);
+		TableParameters parameters = new TableParameters("1", 1000, STRICT, 6, "id", asList("day"));
+		TableDefinition tableDefinition = createTableDefinition("entity", parameters, idCol, dayCol, nameCol);
+		
+		CrateSQLStatement statement = new CreateTable(tableDefinition);
+		
+		StringBuilder sql = new StringBuilder("CREATE TABLE entity (\"entity_class\" string, \"id\" string PRIMARY KEY, ");
+		sql.append("\"day\" long PRIMARY KEY, \"name\" string) ");
+		sql.append("CLUSTERED BY (\"id\") INTO 6 SHARDS PARTITIONED BY (\"day\") ");
+		sql.append("WITH (number_of_replicas='1', refresh_interval='1000', column_policy='strict')");
+		assertThat(statement.createStatement(), is(sql.toString()));
+	}
+	
+	@Test
+	public void shouldCreateStatementWithNumberOfShardsOnly() {
+		
+		Column stringCol = createColumn("field", String.class, null, false);
+		TableParameters parameters = new TableParameters("1", 1000, STRICT, 3, null, Collections.<String>emptyList());
+		TableDefinition tableDefinition = createTableDefinition("entity", parameters, stringCol);
+		
+		CrateSQLStatement statement = new CreateTable(tableDefinition);
+		
+		StringBuilder sql = new StringBuilder("CREATE TABLE entity (\"entity_class\" string, \"field\" string) ");
+		sql.append("CLUSTERED INTO 3 SHARDS ");
+		sql.append("WITH (number_of_replicas='1', refresh_interval='1000', column_policy='strict')");
+		assertThat(statement.createStatement(), is(sql.toString()));
+	}
+	
+	@Test
+	public void shouldCreateStatementWithIndexAndObjectPolicy() {
+		
+		Column textCol = createColumn("text", String.class, null, false);
+		textCol.setIndexType(IndexType.FULLTEXT);
+		textCol.setAnalyzer("english");
+		Column payloadCol = createColumn("payload", String.class, null, false);
+		payloadCol.setIndexType(IndexType.OFF);
+		Column mapCol = createColumn("attributes", Map.class, null, false);
+		mapCol.setObjectColumnPolicy(ObjectColumnPolicy.IGNORED);
+		Column objectCol = createColumn("nested", Object.class, null, false);
+		objectCol.setObjectColumnPolicy(ObjectColumnPolicy.STRICT);
+		objectCol.setSubColumns(asList(createColumn("field", String.class, null, false)));
+		TableDefinition tableDefinition = createTableDefinition("entity", null, textCol, payloadCol, mapCol, objectCol);
+		
+		CrateSQLStatement statement = new CreateTable(tableDefinition);
+		
+		StringBuilder sql = new StringBuilder("CREATE TABLE entity (\"entity_class\" string, ");
+		sql.append("\"text\" string INDEX USING FULLTEXT WITH (analyzer = 'english'), ");
+		sql.append("\"payload\" string INDEX OFF, ");
+		sql.append("\"attributes\" object(ignored), ");
+		sql.append("\"nested\" object(strict) AS (\"field\" string))");
+		assertThat(statement.createStatement(), is(sql.toString()));
+	}
+	
 	private TableDefinition createTableDefinition(String name, TableParameters parameters, Column... columns) {
 		return new TableDefinition(name, asList(columns), parameters);
 	}
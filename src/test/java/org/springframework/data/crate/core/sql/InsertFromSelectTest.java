@@ -0,0 +1,41 @@
+package org.springframework.data.crate.core.sql;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * 
+ * @author Hasnain Javed
+ * @since 1.0.0
+ */
+public class InsertFromSelectTest {
+
+	@Test
+	public void shouldCopyAllColumns() {
+		
+		CrateSQLStatement statement = new InsertFromSelect("target", "source", Collections.<String, String>emptyMap(), 
+														   Collections.<String>emptyList());
+		
+		assertThat(statement.createStatement(), is("INSERT INTO target SELECT * FROM source"));
+	}
+	
+	@Test
+	public void shouldCopyMappedColumnsWithConditions() {
+		
+		Map<String, String> mapping = new LinkedHashMap<>();
+		mapping.put("id", "id");
+		mapping.put("city", "address.city");
+		
+		CrateSQLStatement statement = new InsertFromSelect("target", "source", mapping, asList("(age > ?)", "\"id\" > ?"));
+		
+		assertThat(statement.createStatement(), is("INSERT INTO target (\"id\",\"city\") SELECT \"id\", \"address\"['city'] " + 
+												   "FROM source WHERE (age > ?) AND \"id\" > ?"));
+	}
+}
@@ -6,6 +6,7 @@ import static org.junit.Assert.assertThat;
 
 import java.util.HashSet;
 import java.util.Set;
+import java.util.TreeSet;
 
 import org.junit.Test;
 
@@ -26,4 +27,17 @@ public class InsertTest {
 		
 		assertThat(statement.createStatement(), is("INSERT INTO entity (\"A\",\"B\") VALUES (?,?)"));
 	}
+	
+	@Test
+	public void shouldCreateUpsertStatement() {
+		
+		String tableName = "entity";
+		Set<String> columns = new TreeSet<String>(asList("A", "B", "C"));
+		Set<String> updateColumns = new TreeSet<String>(asList("B", "C"));
+		
+		CrateSQLStatement statement = new Insert(tableName, columns, updateColumns);
+		
+		assertThat(statement.createStatement(), is("INSERT INTO entity (\"A\",\"B\",\"C\") VALUES (?,?,?) " + 
+												   "ON DUPLICATE KEY UPDATE \"B\" = VALUES(\"B\"), \"C\" = VALUES(\"C\")"));
+	}
 }
\ No newline at end of file
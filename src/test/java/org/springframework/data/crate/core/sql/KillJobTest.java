@@ -0,0 +1,27 @@
+package org.springframework.data.crate.core.sql;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+/**
+ * 
+ * @author Hasnain Javed
+ * @since 1.0.0
+ */
+public class KillJobTest {
+
+	@Test
+	public void shouldCreateKillStatement() {
+		
+		CrateSQLStatement statement = new KillJob("8a7d4a0c-0c1e-4c4e-9a2e-5b7f0c1d2e3f");
+		
+		assertThat(statement.createStatement(), is("KILL '8a7d4a0c-0c1e-4c4e-9a2e-5b7f0c1d2e3f'"));
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void shouldNotCreateKillStatementWithoutJobId() {
+		new KillJob(" ");
+	}
+}
@@ -18,8 +18,6 @@ package org.springframework.data.crate.repository.support;
 
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyObject;
-import static org.mockito.Matchers.anyString;
-import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -30,8 +28,10 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.crate.core.BoundCrateOperations;
 import org.springframework.data.crate.core.CrateOperations;
 import org.springframework.data.crate.repository.CrateRepository;
+import org.springframework.data.domain.PageRequest;
 
 /**
  * @author Hasnain Javed
@@ -43,6 +43,12 @@ public class SimpleCrateRepositoryTest {
 	@Mock
 	private CrateOperations crateOperations;
 	
+	@Mock
+	private BoundCrateOperations<EntityWithId> entityWithIdOperations;
+	
+	@Mock
+	private BoundCrateOperations<EntityWithOutId> entityWithoutIdOperations;
+	
 	private CrateEntityInformation<EntityWithId, String> entityWithIdInformation = new EntityWithIdInformation();
 	private CrateEntityInformation<EntityWithOutId, String> entityWithoutIdInformation = new EntityWithoutIdInformation();
 	
@@ -51,6 +57,8 @@ public class SimpleCrateRepositoryTest {
 	
 	@Before
 	public void setup() {
+		when(crateOperations.forEntity(EntityWithId.class, "entitywithid")).thenReturn(entityWithIdOperations);
+		when(crateOperations.forEntity(EntityWithOutId.class, "entitywithoutid")).thenReturn(entityWithoutIdOperations);
 		entityWithIdRepository = new SimpleCrateRepository<EntityWithId, String>(entityWithIdInformation, crateOperations);
 		entityWithoutIdRepository = new SimpleCrateRepository<EntityWithOutId, String>(entityWithoutIdInformation, crateOperations);
 	}
@@ -60,13 +68,13 @@ public class SimpleCrateRepositoryTest {
 		
 		EntityWithId entity = new EntityWithId("hasnain@test.com", "Hasnain");
 		
-		when(crateOperations.findById(entity.getEmail(), EntityWithId.class,"entitywithid")).thenReturn(null);
+		when(entityWithIdOperations.findById(entity.getEmail())).thenReturn(null);
 		
 		entityWithIdRepository.save(entity);
 		
-		verify(crateOperations).findById(entity.getEmail(), EntityWithId.class, "entitywithid");
-		verify(crateOperations).insert(any(EntityWithId.class), eq("entitywithid"));
-		verify(crateOperations, never()).update(any(EntityWithId.class), anyString());
+		verify(entityWithIdOperations).findById(entity.getEmail());
+		verify(entityWithIdOperations).insert(any(EntityWithId.class));
+		verify(entityWithIdOperations, never()).update(any(EntityWithId.class));
 	}
 	
 	@Test
@@ -74,13 +82,13 @@ public class SimpleCrateRepositoryTest {
 			
 		EntityWithId entity = new EntityWithId("hasnain@test.com", "Hasnain");
 		
-		when(crateOperations.findById(entity.getEmail(), EntityWithId.class,"entitywithid")).thenReturn(entity);
+		when(entityWithIdOperations.findById(entity.getEmail())).thenReturn(entity);
 		
 		entityWithIdRepository.save(entity);
 		
-		verify(crateOperations).findById(entity.getEmail(), EntityWithId.class, "entitywithid");
-		verify(crateOperations).update(any(EntityWithId.class), eq("entitywithid"));
-		verify(crateOperations, never()).insert(any(EntityWithId.class), anyString());
+		verify(entityWithIdOperations).findById(entity.getEmail());
+		verify(entityWithIdOperations).update(any(EntityWithId.class));
+		verify(entityWithIdOperations, never()).insert(any(EntityWithId.class));
 	}
 	
 	@Test
@@ -90,9 +98,40 @@ public class SimpleCrateRepositoryTest {
 		
 		entityWithoutIdRepository.save(entity);
 		
-		verify(crateOperations).insert(any(EntityWithOutId.class), eq("entitywithoutid"));
-		verify(crateOperations, never()).findById(anyObject(), eq(EntityWithOutId.class), anyString());
-		verify(crateOperations, never()).update(any(EntityWithOutId.class), anyString());
+		verify(entityWithoutIdOperations).insert(any(EntityWithOutId.class));
+		verify(entityWithoutIdOperations, never()).findById(anyObject());
+		verify(entityWithoutIdOperations, never()).update(any(EntityWithOutId.class));
+	}
+	
+	@Test
+	public void shouldResolveBoundOperationsOnce() {
+		
+		entityWithIdRepository.count();
+		entityWithIdRepository.deleteAll();
+		
+		verify(crateOperations).forEntity(EntityWithId.class, "entitywithid");
+		verify(entityWithIdOperations).count();
+		verify(entityWithIdOperations).deleteAll();
+	}
+	
+	@Test
+	public void shouldDelegatePartitionReadsToBoundOperations() {
+		
+		entityWithIdRepository.findAllInPartition("2014-01-01");
+		entityWithIdRepository.findOneInPartition("hasnain@test.com", "2014-01-01");
+		
+		verify(entityWithIdOperations).findAllInPartition("2014-01-01");
+		verify(entityWithIdOperations).findByIdInPartition("hasnain@test.com", "2014-01-01");
+	}
+	
+	@Test
+	public void shouldDelegateFullTextSearchToBoundOperations() {
+		
+		PageRequest page = new PageRequest(0, 10);
+		
+		entityWithIdRepository.findMatching("name", "hasnain", page);
+		
+		verify(entityWithIdOperations).match("name", "hasnain", page);
 	}
 	
 	static class EntityWithId {